@@ -0,0 +1,72 @@
+package ru.progrm_jarvis.javacommons.random;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link WeightedSampler} compared to {@link RandomUtil#getRandom(Map)}
+ * on loot-table-like maps of chanced values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class WeightedSamplerBenchmark {
+
+    /**
+     * Amount of chanced values
+     */
+    @Param({"10", "100", "1000"}) int size;
+
+    Map<String, Integer> chancedValues;
+
+    WeightedSampler<String> sampler;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(WeightedSamplerBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        val random = ThreadLocalRandom.current();
+
+        chancedValues = new LinkedHashMap<>(size);
+        for (var i = 0; i < size; i++) chancedValues.put("item-" + i, 1 + random.nextInt(1000));
+
+        sampler = WeightedSampler.create(chancedValues);
+    }
+
+    @Benchmark
+    public void getRandom(final Blackhole blackhole) {
+        blackhole.consume(RandomUtil.getRandom(chancedValues));
+    }
+
+    @Benchmark
+    public void sample(final Blackhole blackhole) {
+        blackhole.consume(sampler.sample());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public void sampleBulk(final Blackhole blackhole) {
+        blackhole.consume(sampler.sample(64));
+    }
+}
@@ -0,0 +1,165 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.progrm_jarvis.reflector.wrapper.ConstructorWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link InvokeConstructorWrapper}
+ * compared to {@link Constructor reflection}, exact {@link MethodHandle method handles} and direct calls.
+ * <p>
+ * Method handles are spread over the arguments array so that they are invoked the same way as the wrappers are.
+ * Direct calls dispatch on the arity which adds a small constant overhead to them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ConstructorWrapperBenchmark {
+
+    /**
+     * Amount of parameters of the invoked constructor
+     */
+    @Param({"0", "1", "2", "3", "4", "5", "6"}) int arity;
+
+    int[] primitiveArguments;
+
+    Object[] arguments;
+
+    Constructor<Target> constructor;
+
+    MethodHandle constructorMethodHandle;
+
+    ConstructorWrapper<Target> wrapper;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConstructorWrapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException, IllegalAccessException {
+        primitiveArguments = new int[arity];
+        arguments = new Object[arity];
+        for (var i = 0; i < arity; i++) arguments[i] = primitiveArguments[i] = i + 1;
+
+        val parameterTypes = new Class<?>[arity];
+        Arrays.fill(parameterTypes, int.class);
+        constructor = Target.class.getDeclaredConstructor(parameterTypes);
+
+        constructorMethodHandle = MethodHandles.lookup().unreflectConstructor(constructor)
+                .asType(MethodType.genericMethodType(arity))
+                .asSpreader(Object[].class, arity);
+
+        wrapper = InvokeConstructorWrapper.from(constructor);
+    }
+
+    @Benchmark
+    public void direct(final Blackhole blackhole) {
+        val arguments = primitiveArguments;
+        switch (arity) {
+            case 0: {
+                blackhole.consume(new Target());
+                break;
+            }
+            case 1: {
+                blackhole.consume(new Target(arguments[0]));
+                break;
+            }
+            case 2: {
+                blackhole.consume(new Target(arguments[0], arguments[1]));
+                break;
+            }
+            case 3: {
+                blackhole.consume(new Target(arguments[0], arguments[1], arguments[2]));
+                break;
+            }
+            case 4: {
+                blackhole.consume(new Target(arguments[0], arguments[1], arguments[2], arguments[3]));
+                break;
+            }
+            case 5: {
+                blackhole.consume(new Target(arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]));
+                break;
+            }
+            case 6: {
+                blackhole.consume(new Target(
+                        arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]
+                ));
+                break;
+            }
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    @Benchmark
+    public void reflection(final Blackhole blackhole) throws ReflectiveOperationException {
+        blackhole.consume(constructor.newInstance(arguments));
+    }
+
+    @Benchmark
+    public void methodHandle(final Blackhole blackhole) throws Throwable {
+        blackhole.consume((Object) constructorMethodHandle.invokeExact(arguments));
+    }
+
+    @Benchmark
+    public void wrapper(final Blackhole blackhole) {
+        blackhole.consume(wrapper.invoke(arguments));
+    }
+
+    /**
+     * Class whose constructors get invoked.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class Target {
+
+        int sum;
+
+        public Target() {
+            sum = 0;
+        }
+
+        public Target(final int a) {
+            sum = a;
+        }
+
+        public Target(final int a, final int b) {
+            sum = a + b;
+        }
+
+        public Target(final int a, final int b, final int c) {
+            sum = a + b + c;
+        }
+
+        public Target(final int a, final int b, final int c, final int d) {
+            sum = a + b + c + d;
+        }
+
+        public Target(final int a, final int b, final int c, final int d, final int e) {
+            sum = a + b + c + d + e;
+        }
+
+        public Target(final int a, final int b, final int c, final int d, final int e, final int f) {
+            sum = a + b + c + d + e + f;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.progrm_jarvis.reflector.wrapper.DynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticFieldWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Benchmark of {@link InvokeStaticFieldWrapper} and {@link InvokeDynamicFieldWrapper}
+ * compared to {@link Field reflection}, exact {@link MethodHandle method handles} and direct access.
+ * <p>
+ * Method handles are of generic types so that they are invoked the same way as the wrappers are.
+ * {@code int}-specific benchmarks use the primitive accessors of the wrappers
+ * and always access the {@code int} field regardless of {@link #kind}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FieldWrapperBenchmark {
+
+    /**
+     * Kind of the accessed field
+     */
+    @Param({"PRIMITIVE", "REFERENCE"}) MethodWrapperBenchmark.ValueKind kind;
+
+    Target target;
+
+    Object value;
+
+    Field staticField, dynamicField;
+
+    MethodHandle staticGetter, staticSetter, dynamicGetter, dynamicSetter;
+
+    StaticFieldWrapper<Target, Object> staticWrapper;
+
+    DynamicFieldWrapper<Target, Object> dynamicWrapper, dynamicIntWrapper;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FieldWrapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+        target = new Target();
+
+        val primitive = kind == MethodWrapperBenchmark.ValueKind.PRIMITIVE;
+        value = primitive ? (Object) 42 : "42";
+        staticField = Target.class.getDeclaredField(primitive ? "staticPrimitive" : "staticReference");
+        dynamicField = Target.class.getDeclaredField(primitive ? "dynamicPrimitive" : "dynamicReference");
+
+        val lookup = MethodHandles.lookup();
+        staticGetter = lookup.unreflectGetter(staticField).asType(methodType(Object.class));
+        staticSetter = lookup.unreflectSetter(staticField).asType(methodType(void.class, Object.class));
+        dynamicGetter = lookup.unreflectGetter(dynamicField).asType(methodType(Object.class, Object.class));
+        dynamicSetter = lookup.unreflectSetter(dynamicField)
+                .asType(methodType(void.class, Object.class, Object.class));
+
+        staticWrapper = InvokeStaticFieldWrapper.from(staticField);
+        dynamicWrapper = InvokeDynamicFieldWrapper.from(dynamicField);
+        dynamicIntWrapper = InvokeDynamicFieldWrapper.from(Target.class.getDeclaredField("dynamicPrimitive"));
+    }
+
+    @Benchmark
+    public void directStaticGet(final Blackhole blackhole) {
+        if (kind == MethodWrapperBenchmark.ValueKind.PRIMITIVE) blackhole.consume(Target.staticPrimitive);
+        else blackhole.consume(Target.staticReference);
+    }
+
+    @Benchmark
+    public void directStaticSet() {
+        if (kind == MethodWrapperBenchmark.ValueKind.PRIMITIVE) Target.staticPrimitive = (Integer) value;
+        else Target.staticReference = (String) value;
+    }
+
+    @Benchmark
+    public void directDynamicGet(final Blackhole blackhole) {
+        if (kind == MethodWrapperBenchmark.ValueKind.PRIMITIVE) blackhole.consume(target.dynamicPrimitive);
+        else blackhole.consume(target.dynamicReference);
+    }
+
+    @Benchmark
+    public void directDynamicSet() {
+        if (kind == MethodWrapperBenchmark.ValueKind.PRIMITIVE) target.dynamicPrimitive = (Integer) value;
+        else target.dynamicReference = (String) value;
+    }
+
+    @Benchmark
+    public void reflectionStaticGet(final Blackhole blackhole) throws IllegalAccessException {
+        blackhole.consume(staticField.get(null));
+    }
+
+    @Benchmark
+    public void reflectionStaticSet() throws IllegalAccessException {
+        staticField.set(null, value);
+    }
+
+    @Benchmark
+    public void reflectionDynamicGet(final Blackhole blackhole) throws IllegalAccessException {
+        blackhole.consume(dynamicField.get(target));
+    }
+
+    @Benchmark
+    public void reflectionDynamicSet() throws IllegalAccessException {
+        dynamicField.set(target, value);
+    }
+
+    @Benchmark
+    public void methodHandleStaticGet(final Blackhole blackhole) throws Throwable {
+        blackhole.consume((Object) staticGetter.invokeExact());
+    }
+
+    @Benchmark
+    public void methodHandleStaticSet() throws Throwable {
+        staticSetter.invokeExact(value);
+    }
+
+    @Benchmark
+    public void methodHandleDynamicGet(final Blackhole blackhole) throws Throwable {
+        blackhole.consume((Object) dynamicGetter.invokeExact((Object) target));
+    }
+
+    @Benchmark
+    public void methodHandleDynamicSet() throws Throwable {
+        dynamicSetter.invokeExact((Object) target, value);
+    }
+
+    @Benchmark
+    public void wrapperStaticGet(final Blackhole blackhole) {
+        blackhole.consume(staticWrapper.get());
+    }
+
+    @Benchmark
+    public void wrapperStaticSet() {
+        staticWrapper.set(value);
+    }
+
+    @Benchmark
+    public void wrapperDynamicGet(final Blackhole blackhole) {
+        blackhole.consume(dynamicWrapper.get(target));
+    }
+
+    @Benchmark
+    public void wrapperDynamicSet() {
+        dynamicWrapper.set(target, value);
+    }
+
+    @Benchmark
+    public void wrapperDynamicGetInt(final Blackhole blackhole) {
+        blackhole.consume(dynamicIntWrapper.getInt(target));
+    }
+
+    @Benchmark
+    public void wrapperDynamicSetInt() {
+        dynamicIntWrapper.setInt(target, 42);
+    }
+
+    /**
+     * Class whose fields get accessed.
+     */
+    public static class Target {
+
+        public static int staticPrimitive;
+
+        public static String staticReference;
+
+        public int dynamicPrimitive;
+
+        public String dynamicReference;
+    }
+}
@@ -0,0 +1,360 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.progrm_jarvis.reflector.wrapper.DynamicMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.StaticMethodWrapper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link InvokeStaticMethodWrapper} and {@link InvokeDynamicMethodWrapper}
+ * compared to {@link Method reflection}, exact {@link MethodHandle method handles} and direct calls.
+ * <p>
+ * Method handles are spread over the arguments array so that they are invoked the same way as the wrappers are.
+ * Direct calls dispatch on the arity which adds a small constant overhead to them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class MethodWrapperBenchmark {
+
+    /**
+     * Amount of parameters of the invoked method
+     */
+    @Param({"0", "1", "2", "3", "4", "5", "6"}) int arity;
+
+    /**
+     * Kind of the parameters and the return-value of the invoked method
+     */
+    @Param({"PRIMITIVE", "REFERENCE"}) ValueKind kind;
+
+    Target target;
+
+    int[] primitiveArguments;
+
+    String[] referenceArguments;
+
+    Object[] arguments;
+
+    Method staticMethod, dynamicMethod;
+
+    MethodHandle staticMethodHandle, dynamicMethodHandle;
+
+    StaticMethodWrapper<Target, Object> staticWrapper;
+
+    DynamicMethodWrapper<Target, Object> dynamicWrapper;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MethodWrapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() throws NoSuchMethodException, IllegalAccessException {
+        target = new Target();
+
+        primitiveArguments = new int[arity];
+        referenceArguments = new String[arity];
+        arguments = new Object[arity];
+        for (var i = 0; i < arity; i++) {
+            primitiveArguments[i] = i + 1;
+            referenceArguments[i] = Integer.toString(i + 1);
+            arguments[i] = kind == ValueKind.PRIMITIVE ? primitiveArguments[i] : referenceArguments[i];
+        }
+
+        val parameterTypes = new Class<?>[arity];
+        Arrays.fill(parameterTypes, kind == ValueKind.PRIMITIVE ? int.class : String.class);
+        staticMethod = Target.class.getDeclaredMethod(
+                kind == ValueKind.PRIMITIVE ? "staticPrimitive" : "staticReference", parameterTypes
+        );
+        dynamicMethod = Target.class.getDeclaredMethod(
+                kind == ValueKind.PRIMITIVE ? "dynamicPrimitive" : "dynamicReference", parameterTypes
+        );
+
+        val lookup = MethodHandles.lookup();
+        staticMethodHandle = lookup.unreflect(staticMethod)
+                .asType(MethodType.genericMethodType(arity))
+                .asSpreader(Object[].class, arity);
+        dynamicMethodHandle = lookup.unreflect(dynamicMethod)
+                .asType(MethodType.genericMethodType(arity + 1))
+                .asSpreader(Object[].class, arity);
+
+        staticWrapper = InvokeStaticMethodWrapper.from(staticMethod);
+        dynamicWrapper = InvokeDynamicMethodWrapper.from(dynamicMethod);
+    }
+
+    @Benchmark
+    public void directStatic(final Blackhole blackhole) {
+        if (kind == ValueKind.PRIMITIVE) blackhole.consume(directStaticPrimitive());
+        else blackhole.consume(directStaticReference());
+    }
+
+    @Benchmark
+    public void directDynamic(final Blackhole blackhole) {
+        if (kind == ValueKind.PRIMITIVE) blackhole.consume(directDynamicPrimitive());
+        else blackhole.consume(directDynamicReference());
+    }
+
+    @Benchmark
+    public void reflectionStatic(final Blackhole blackhole) throws ReflectiveOperationException {
+        blackhole.consume(staticMethod.invoke(null, arguments));
+    }
+
+    @Benchmark
+    public void reflectionDynamic(final Blackhole blackhole) throws ReflectiveOperationException {
+        blackhole.consume(dynamicMethod.invoke(target, arguments));
+    }
+
+    @Benchmark
+    public void methodHandleStatic(final Blackhole blackhole) throws Throwable {
+        blackhole.consume((Object) staticMethodHandle.invokeExact(arguments));
+    }
+
+    @Benchmark
+    public void methodHandleDynamic(final Blackhole blackhole) throws Throwable {
+        blackhole.consume((Object) dynamicMethodHandle.invokeExact((Object) target, arguments));
+    }
+
+    @Benchmark
+    public void wrapperStatic(final Blackhole blackhole) {
+        blackhole.consume(staticWrapper.invoke(arguments));
+    }
+
+    @Benchmark
+    public void wrapperDynamic(final Blackhole blackhole) {
+        blackhole.consume(dynamicWrapper.invoke(target, arguments));
+    }
+
+    private int directStaticPrimitive() {
+        val arguments = primitiveArguments;
+        switch (arity) {
+            case 0: return Target.staticPrimitive();
+            case 1: return Target.staticPrimitive(arguments[0]);
+            case 2: return Target.staticPrimitive(arguments[0], arguments[1]);
+            case 3: return Target.staticPrimitive(arguments[0], arguments[1], arguments[2]);
+            case 4: return Target.staticPrimitive(arguments[0], arguments[1], arguments[2], arguments[3]);
+            case 5: return Target.staticPrimitive(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]
+            );
+            case 6: return Target.staticPrimitive(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]
+            );
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    private String directStaticReference() {
+        val arguments = referenceArguments;
+        switch (arity) {
+            case 0: return Target.staticReference();
+            case 1: return Target.staticReference(arguments[0]);
+            case 2: return Target.staticReference(arguments[0], arguments[1]);
+            case 3: return Target.staticReference(arguments[0], arguments[1], arguments[2]);
+            case 4: return Target.staticReference(arguments[0], arguments[1], arguments[2], arguments[3]);
+            case 5: return Target.staticReference(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]
+            );
+            case 6: return Target.staticReference(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]
+            );
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    private int directDynamicPrimitive() {
+        val target = this.target;
+        val arguments = primitiveArguments;
+        switch (arity) {
+            case 0: return target.dynamicPrimitive();
+            case 1: return target.dynamicPrimitive(arguments[0]);
+            case 2: return target.dynamicPrimitive(arguments[0], arguments[1]);
+            case 3: return target.dynamicPrimitive(arguments[0], arguments[1], arguments[2]);
+            case 4: return target.dynamicPrimitive(arguments[0], arguments[1], arguments[2], arguments[3]);
+            case 5: return target.dynamicPrimitive(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]
+            );
+            case 6: return target.dynamicPrimitive(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]
+            );
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    private String directDynamicReference() {
+        val target = this.target;
+        val arguments = referenceArguments;
+        switch (arity) {
+            case 0: return target.dynamicReference();
+            case 1: return target.dynamicReference(arguments[0]);
+            case 2: return target.dynamicReference(arguments[0], arguments[1]);
+            case 3: return target.dynamicReference(arguments[0], arguments[1], arguments[2]);
+            case 4: return target.dynamicReference(arguments[0], arguments[1], arguments[2], arguments[3]);
+            case 5: return target.dynamicReference(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4]
+            );
+            case 6: return target.dynamicReference(
+                    arguments[0], arguments[1], arguments[2], arguments[3], arguments[4], arguments[5]
+            );
+            default: throw new IllegalStateException("Unsupported arity: " + arity);
+        }
+    }
+
+    /**
+     * Kind of values passed to and returned by the invoked methods.
+     */
+    public enum ValueKind {
+        /**
+         * {@code int} values
+         */
+        PRIMITIVE,
+        /**
+         * {@link String} values
+         */
+        REFERENCE
+    }
+
+    /**
+     * Class whose methods get invoked.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Target {
+
+        int counter;
+
+        public static int staticPrimitive() {
+            return 0;
+        }
+
+        public static int staticPrimitive(final int a) {
+            return a;
+        }
+
+        public static int staticPrimitive(final int a, final int b) {
+            return a + b;
+        }
+
+        public static int staticPrimitive(final int a, final int b, final int c) {
+            return a + b + c;
+        }
+
+        public static int staticPrimitive(final int a, final int b, final int c, final int d) {
+            return a + b + c + d;
+        }
+
+        public static int staticPrimitive(final int a, final int b, final int c, final int d, final int e) {
+            return a + b + c + d + e;
+        }
+
+        public static int staticPrimitive(final int a, final int b, final int c,
+                                          final int d, final int e, final int f) {
+            return a + b + c + d + e + f;
+        }
+
+        public static String staticReference() {
+            return "";
+        }
+
+        public static String staticReference(final String a) {
+            return a;
+        }
+
+        public static String staticReference(final String a, final String b) {
+            return b;
+        }
+
+        public static String staticReference(final String a, final String b, final String c) {
+            return c;
+        }
+
+        public static String staticReference(final String a, final String b, final String c, final String d) {
+            return d;
+        }
+
+        public static String staticReference(final String a, final String b, final String c,
+                                             final String d, final String e) {
+            return e;
+        }
+
+        public static String staticReference(final String a, final String b, final String c,
+                                             final String d, final String e, final String f) {
+            return f;
+        }
+
+        public int dynamicPrimitive() {
+            return counter;
+        }
+
+        public int dynamicPrimitive(final int a) {
+            return counter + a;
+        }
+
+        public int dynamicPrimitive(final int a, final int b) {
+            return counter + a + b;
+        }
+
+        public int dynamicPrimitive(final int a, final int b, final int c) {
+            return counter + a + b + c;
+        }
+
+        public int dynamicPrimitive(final int a, final int b, final int c, final int d) {
+            return counter + a + b + c + d;
+        }
+
+        public int dynamicPrimitive(final int a, final int b, final int c, final int d, final int e) {
+            return counter + a + b + c + d + e;
+        }
+
+        public int dynamicPrimitive(final int a, final int b, final int c, final int d, final int e, final int f) {
+            return counter + a + b + c + d + e + f;
+        }
+
+        public String dynamicReference() {
+            return counter == 0 ? "" : null;
+        }
+
+        public String dynamicReference(final String a) {
+            return counter == 0 ? a : null;
+        }
+
+        public String dynamicReference(final String a, final String b) {
+            return counter == 0 ? b : a;
+        }
+
+        public String dynamicReference(final String a, final String b, final String c) {
+            return counter == 0 ? c : a;
+        }
+
+        public String dynamicReference(final String a, final String b, final String c, final String d) {
+            return counter == 0 ? d : a;
+        }
+
+        public String dynamicReference(final String a, final String b, final String c,
+                                       final String d, final String e) {
+            return counter == 0 ? e : a;
+        }
+
+        public String dynamicReference(final String a, final String b, final String c,
+                                       final String d, final String e, final String f) {
+            return counter == 0 ? f : a;
+        }
+    }
+}
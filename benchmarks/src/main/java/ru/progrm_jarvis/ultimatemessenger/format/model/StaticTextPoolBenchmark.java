@@ -0,0 +1,132 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.progrm_jarvis.ultimatemessenger.format.placeholder.Placeholders;
+import ru.progrm_jarvis.ultimatemessenger.format.placeholder.SimplePlaceholders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link StaticTextPool} usage on a bundle of chat-like message templates
+ * sharing lots of static fragments (colour codes, separators and prefixes).
+ * <p>
+ * Running {@link #main(String[])} also reports the heap retained by the bundle with and without the pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StaticTextPoolBenchmark {
+
+    private static final String[] PREFIXES = {
+            "§8[§7Player§8] §7", "§8[§6VIP§8] §e",
+            "§8[§bModerator§8] §b", "§8[§cAdmin§8] §c"
+    }, SEPARATORS = {"§8 » §f", "§7: §f", "§8 | §7"}, MESSAGES = {
+            "joined the game", "left the game", "has been muted for {duration}", "was kicked: {reason}",
+            "earned the achievement §a[{achievement}]", "is now AFK", "is no longer AFK",
+            "teleported to §e{world}§f at {x}, {y}, {z}", "has {balance} coins", "whispers to you"
+    };
+
+    /**
+     * Amount of templates in the bundle
+     */
+    @Param({"1000", "10000"}) int templates;
+
+    /**
+     * Marker indicating whether the static text pool should be used
+     */
+    @Param({"false", "true"}) boolean pooled;
+
+    List<String> sources;
+
+    public static void main(final String[] args) throws RunnerException {
+        for (val templates : new int[]{1000, 10000}) {
+            val sources = createSources(templates);
+            val unpooledHeap = measureRetainedHeap(sources, null);
+            val pooledHeap = measureRetainedHeap(sources, StaticTextPool.create());
+
+            System.out.printf(
+                    "Bundle of %d templates retains %d bytes without pool and %d bytes with pool (%.1f%% saved)%n",
+                    templates, unpooledHeap, pooledHeap, 100.0 * (unpooledHeap - pooledHeap) / unpooledHeap
+            );
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(StaticTextPoolBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        sources = createSources(templates);
+    }
+
+    @Benchmark
+    public List<TextModel<String>> createBundle() {
+        return createBundle(sources, pooled ? StaticTextPool.create() : null);
+    }
+
+    private static @NotNull List<String> createSources(final int templates) {
+        final List<String> sources = new ArrayList<>(templates);
+        for (var i = 0; i < templates; i++) sources.add(
+                PREFIXES[i % PREFIXES.length] + "{player}" + SEPARATORS[(i / PREFIXES.length) % SEPARATORS.length]
+                        + MESSAGES[(i / 7) % MESSAGES.length] + " §8(#" + (i % 100) + ')'
+        );
+
+        return sources;
+    }
+
+    private static @NotNull List<TextModel<String>> createBundle(@NotNull final List<String> sources,
+                                                                 @Nullable final StaticTextPool staticTextPool) {
+        final Placeholders<String> placeholders = SimplePlaceholders.<String>builder().build();
+        final TextModelFactory<String> factory = new SimpleTextModelFactory<>(staticTextPool);
+
+        final List<TextModel<String>> bundle = new ArrayList<>(sources.size());
+        for (val source : sources) bundle.add(placeholders.parse(factory, source));
+
+        return bundle;
+    }
+
+    private static long measureRetainedHeap(@NotNull final List<String> sources,
+                                            @Nullable final StaticTextPool staticTextPool) {
+        val runtime = Runtime.getRuntime();
+
+        collectGarbage();
+        val usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        val bundle = createBundle(sources, staticTextPool);
+        collectGarbage();
+        val usedAfter = runtime.totalMemory() - runtime.freeMemory();
+
+        // keep the bundle reachable until the measurement ends
+        if (bundle.size() != sources.size()) throw new AssertionError("Bundle was not fully created");
+
+        return usedAfter - usedBefore;
+    }
+
+    private static void collectGarbage() {
+        for (var i = 0; i < 4; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package ru.progrm_jarvis.ultimatemessenger.format.placeholder;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.progrm_jarvis.ultimatemessenger.format.model.SimpleTextModelFactory;
+import ru.progrm_jarvis.ultimatemessenger.format.model.TextModelFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@link SimplePlaceholders} scanning long mostly-static texts (such as MOTD-style messages).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SimplePlaceholdersBenchmark {
+
+    /**
+     * Fragment of static text which gets repeated in generated texts
+     */
+    private static final String STATIC_FRAGMENT = "Welcome to our server, have fun and respect the rules! ";
+
+    /**
+     * Approximate length of the generated text
+     */
+    @Param({"64", "1024", "16384"}) int length;
+
+    /**
+     * Amount of placeholders in the generated text per {@code 1024} characters
+     */
+    @Param({"0", "2", "16"}) int placeholdersPerKilobyte;
+
+    Placeholders<String> placeholders;
+
+    TextModelFactory<String> modelFactory;
+
+    String text;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SimplePlaceholdersBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    @Setup
+    public void setUp() {
+        placeholders = SimplePlaceholders.<String>builder().build();
+        placeholders.add("player", (value, target) -> target);
+        placeholders.add("online", (value, target) -> "42");
+
+        modelFactory = SimpleTextModelFactory.get();
+
+        val text = new StringBuilder(length + STATIC_FRAGMENT.length());
+        val placeholderStep = placeholdersPerKilobyte == 0 ? Integer.MAX_VALUE : 1024 / placeholdersPerKilobyte;
+        var nextPlaceholderIndex = placeholderStep;
+        var placeholderCount = 0;
+        while (text.length() < length) {
+            text.append(STATIC_FRAGMENT);
+            if (text.length() >= nextPlaceholderIndex) {
+                text.append((placeholderCount++ & 1) == 0 ? "{player} " : "{online:count} ");
+                nextPlaceholderIndex += placeholderStep;
+            }
+        }
+        this.text = text.toString();
+    }
+
+    @Benchmark
+    public void format(final Blackhole blackhole) {
+        blackhole.consume(placeholders.format(text, "Steve"));
+    }
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        blackhole.consume(placeholders.parse(modelFactory, text));
+    }
+}
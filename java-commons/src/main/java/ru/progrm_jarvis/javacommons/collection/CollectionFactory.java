@@ -2,27 +2,35 @@ package ru.progrm_jarvis.javacommons.collection;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import javassist.*;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.val;
 import lombok.var;
-import org.intellij.lang.annotations.Language;
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import ru.progrm_jarvis.javacommons.annotation.Internal;
 import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
 import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
 import ru.progrm_jarvis.javacommons.classload.GcClassDefiners;
-import ru.progrm_jarvis.javacommons.lazy.Lazy;
 import ru.progrm_jarvis.javacommons.pair.SimplePair;
 import ru.progrm_jarvis.javacommons.util.ClassNamingStrategy;
+import ru.progrm_jarvis.javacommons.util.valuestorage.ArrayValueStorage;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 
 import static java.lang.Integer.getInteger;
-import static java.util.Collections.unmodifiableSet;
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.*;
+import static ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil.*;
 
 /**
  * Factory used for creation of special {@link java.util.Collection collections} at classload.
@@ -33,12 +41,12 @@ public class CollectionFactory {
     /**
      * {@link Lookup lookup} of this class.
      */
-    private static Lookup LOOKUP = MethodHandles.lookup();
+    private final Lookup LOOKUP = MethodHandles.lookup();
 
     /**
      * Class naming strategy used to allocate names for generated immutable enum set classes
      */
-    @NonNull private static final ClassNamingStrategy IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY = ClassNamingStrategy
+    @NonNull private final ClassNamingStrategy IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY = ClassNamingStrategy
             .createPaginated(CollectionFactory.class.getName() + "$$Generated$$ImmutableEnumSet$$");
 
     /**
@@ -48,15 +56,10 @@ public class CollectionFactory {
             = CollectionFactory.class.getCanonicalName() + ".immutable-enum-set-instance-cache-concurrency-level";
 
     /**
-     * Default javassist class pool
+     * Cache of instances of generated enum sets using the enum type and the bit mask of its elements as the key
      */
-    @NonNull private final Lazy<ClassPool> CLASS_POOL = Lazy.createThreadSafe(ClassPool::getDefault);
-
-    /**
-     * Cache of instances of generated enum sets using naturally sorted array of its elements as the key
-     */
-    @SuppressWarnings("UnstableApiUsage") @NonNull private final Cache<Enum<?>[], Set<Enum<?>>> IMMUTABLE_ENUM_SETS
-            = CacheBuilder
+    @SuppressWarnings("UnstableApiUsage")
+    @NonNull private final Cache<SimplePair<Class<?>, Long>, Set<Enum<?>>> IMMUTABLE_ENUM_SETS = CacheBuilder
             .newBuilder()
             .concurrencyLevel(
                     Math.max(4, getInteger(IMMUTABLE_ENUM_SET_INSTANCE_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4))
@@ -65,277 +68,405 @@ public class CollectionFactory {
             .build();
 
     /**
-     * {@link CtClass} representation of {@link AbstractImmutableSet} wrapped in {@link Lazy}
-     */
-    @NonNull private static final Lazy<CtClass> ABSTRACT_IMMUTABLE_SET_CT_CLASS = Lazy
-            .createThreadSafe(() -> toCtClass(AbstractImmutableSet.class));
-    /**
-     * Array storing single reference to {@link CtClass} representation of {@link Iterator} wrapped in {@link Lazy}
-     */
-    @NonNull private static final Lazy<CtClass[]> ITERATOR_CT_CLASS_ARRAY = Lazy
-            .createThreadSafe(() -> new CtClass[]{toCtClass(Iterator.class)});
-
-    /**
-     * Gets {@link CtClass} representation of the given class.
-     *
-     * @param clazz class whose {@link CtClass} representation is needed
-     * @return {@link CtClass} representation of the given class
-     *
-     * @throws IllegalStateException if it is impossible to find {@link CtClass} representation of the given class
+     * Flags indicating whether classes of immutable enum sets of the enum types can be generated
      */
-    private CtClass toCtClass(@NonNull final Class<?> clazz) {
-        val className = clazz.getCanonicalName();
-        try {
-            return CLASS_POOL.get().get(className);
-        } catch (final NotFoundException e) {
-            throw new IllegalStateException("Unable to get CtClass by name " + className);
+    @NonNull private final ClassValue<Boolean> IMMUTABLE_ENUM_SET_GENERATION_SUPPORT = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            // bits of all the enum constants should fit into a single mask
+            // and generated classes should be able to access the enum type
+            if (type.getEnumConstants().length > Long.SIZE || !Modifier.isPublic(type.getModifiers())) return false;
+
+            // generated classes resolve the enum type using the class loader of this class
+            try {
+                return Class.forName(type.getName(), false, CollectionFactory.class.getClassLoader()) == type;
+            } catch (final ClassNotFoundException e) {
+                return false;
+            }
         }
-    }
+    };
 
     /**
-     * Adds an empty constructor to given {@link CtClass}.
-     *
-     * @param targetClass class to which to add an empty constructor
-     *
-     * @throws CannotCompileException if a javassist compilation exception occurs
+     * Internal storage of method handles creating iterators passed to {@code static final} fields of generated classes
      */
-    private void addEmptyConstructor(@NonNull final CtClass targetClass) throws CannotCompileException {
-        targetClass.addConstructor(CtNewConstructor.make(new CtClass[0], new CtClass[0], targetClass));
-    }
-
-    /**
-     * Adds a field based on given source code to given {@link CtClass}.
-     *
-     * @param src source code of the field
-     * @param targetClass class to which to add the field
-     *
-     * @throws CannotCompileException if a javassist compilation exception occurs
-     */
-    private void addCtField(
-            @NonNull @Language(value = "java", prefix = "public class Foo extends GeneratedImmutableEnumSetTemplate {",
-                               suffix = "}") final String src, @NonNull final CtClass targetClass)
-            throws CannotCompileException {
-        targetClass.addField(CtField.make(src, targetClass));
-    }
+    @NonNull private final ArrayValueStorage<MethodHandle> ITERATOR_FACTORIES = new ArrayValueStorage<>();
 
     /**
-     * Adds a method based on given source code to given {@link CtClass}.
+     * Retrieves (gets and removes) the iterator factory stored in {@link #ITERATOR_FACTORIES} by the given key.
      *
-     * @param src source code of the method
-     * @param targetClass class to which to add the method
+     * @param uniqueKey unique key by which the value should be retrieved
+     * @return method handle creating iterators stored by the given unique key
      *
-     * @throws CannotCompileException if a javassist compilation exception occurs
+     * @deprecated this method is internal
      */
-    private void addCtMethod(
-            @NonNull @Language(value = "java", prefix = "public class Foo extends GeneratedImmutableEnumSetTemplate {",
-                               suffix = "}") final String src, @NonNull final CtClass targetClass)
-            throws CannotCompileException {
-        targetClass.addMethod(CtNewMethod.make(src, targetClass));
+    @Deprecated
+    @Internal("This is expected to be invoked only by generated immutable enum sets to initialize their fields")
+    public MethodHandle internal$getIteratorFactory(final int uniqueKey) {
+        return ITERATOR_FACTORIES.retrieve(uniqueKey);
     }
 
     /**
      * Creates an immutable enum {@link Set set} from the given array of stored enum constants.
+     * <p>
+     * The set stores the ordinals of its elements as a bit set. If possible, its class gets generated
+     * so that containment checks of enums of at most 64 constants are an {@code instanceof} and a bit mask test
+     * and its iterator returns the constants directly.
      *
      * @param values enum constants to be stored in the given set
      * @param <E> type of enum
-     * @return runtime-compiled optimized immutable enum {@link Set set} for the given enum values
-     * or a pre-compiled n empty set if {@code values} is empty
+     * @return optimized immutable enum {@link Set set} for the given enum values
+     * or a pre-compiled empty set if {@code values} is empty
      *
-     * @apiNote at current, the instances are cached and not GC-ed (as their classes) so this should be used carefully
+     * @apiNote instances of generated classes are cached while they are reachable
      * @apiNote this implementation of immutable enum {@link Set}s is specific and should be used carefully
-     * {@code instanceof} and {@code switch} by {@link Enum#ordinal()} are used for containment-related checks
-     * and {@link}
+     * as it considers any {@link Collection} of the same elements equal to it
      */
     @SafeVarargs
     @SuppressWarnings("unchecked")
     @SneakyThrows(ExecutionException.class)
-    @UsesBytecodeModification(value = BytecodeLibrary.JAVASSIST, optional = true)
+    @UsesBytecodeModification(value = BytecodeLibrary.ASM, optional = true)
     public <E extends Enum<E>> Set<E> createImmutableEnumSet(@NonNull final E... values) {
         if (values.length == 0) return Collections.emptySet();
 
-        if (BytecodeLibrary.JAVASSIST.isAvailable()) {
-            // sort enum values so that the cache does not store different instances for different orders of same
-            // elements
-            //noinspection unchecked,SuspiciousToArrayCall
-            val enumValues = (E[]) Arrays.stream(values)
-                    .distinct()
-                    .sorted()
-                    .toArray(Enum[]::new);
-
-            //noinspection unchecked
-            return (Set<E>) IMMUTABLE_ENUM_SETS.get(enumValues, () -> {
-                //<editor-fold desc="Class generation" defaultstate="collapsed">
-                val enumType = values.getClass().getComponentType();
-                // name of the class of the enum
-                val enumTypeName = enumType.getCanonicalName();
-                // number of enum constants
-                val elementsCount = enumValues.length;
-                // class pool instance
-                val classPool = CLASS_POOL.get();
-                // generated class
-                val clazz = classPool.makeClass(IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY.get());
-                clazz.setSuperclass(ABSTRACT_IMMUTABLE_SET_CT_CLASS.get());
-                addEmptyConstructor(clazz);
-
-                /* Generated methods */
-
-                // `boolean contains(Object)` method
-                {
-                    val src = new StringBuilder("public boolean contains(Object element) {");
-                    // simply check type if any enum values is included
-                    if (Arrays.equals(enumValues, enumType.getEnumConstants())) src
-                            .append("return element instanceof ").append(enumTypeName).append(';');
-                        // use ordinal switch if not all enum values are included
-                    else {
-                        src
-                                .append("if (element instanceof ").append(enumTypeName).append(")")
-                                .append("switch (((Enum) element).ordinal()) {");
-
-                        for (val enumValue : enumValues)
-                            src
-                                    .append("case ").append(enumValue.ordinal()).append(": return true;");
-
-                        src.append("default: return false;").append("}").append("return false;");
-                    }
-                    addCtMethod(src.append('}').toString(), clazz);
-                }
+        val enumType = values[0].getDeclaringClass();
+        val bits = new long[(enumType.getEnumConstants().length + Long.SIZE - 1) / Long.SIZE];
+        for (val value : values) {
+            val ordinal = value.ordinal();
+            bits[ordinal >>> 6] |= 1L << ordinal;
+        }
 
-                // `boolean isEmpty()` method
-                addCtMethod(
-                        "public boolean isEmpty() {return false;}",
-                        clazz
-                );
+        if (BytecodeLibrary.ASM.isAvailable() && GcClassDefiners.getDefault().isPresent()
+                && IMMUTABLE_ENUM_SET_GENERATION_SUPPORT.get(enumType)) return (Set<E>) IMMUTABLE_ENUM_SETS.get(
+                SimplePair.<Class<?>, Long>of(enumType, bits[0]),
+                () -> ImmutableEnumSetGenerator.generate(enumType, bits)
+        );
 
-                // `int size()` method
-                addCtMethod(
-                        "public int size() {return " + elementsCount + ";}",
-                        clazz
+        return new ImmutableEnumBitSet<>(enumType, bits);
+    }
+
+    /**
+     * Generator of {@link ImmutableEnumBitSet immutable enum bit sets} specialized for their elements.
+     * <p>
+     * This is a separate class so that ASM does not get loaded unless it is used.
+     */
+    private static final class ImmutableEnumSetGenerator {
+
+        /**
+         * Internal name of {@link ImmutableEnumBitSet}
+         */
+        private static final String IMMUTABLE_ENUM_BIT_SET_INTERNAL_NAME = getInternalName(ImmutableEnumBitSet.class),
+        /**
+         * Internal name of {@link CollectionFactory}
+         */
+        COLLECTION_FACTORY_INTERNAL_NAME = getInternalName(CollectionFactory.class),
+        /**
+         * Internal name of {@link Enum}
+         */
+        ENUM_INTERNAL_NAME = getInternalName(Enum.class),
+        /**
+         * Internal name of {@link MethodHandle}
+         */
+        METHOD_HANDLE_INTERNAL_NAME = getInternalName(MethodHandle.class),
+        /**
+         * Internal name of {@link NoSuchElementException}
+         */
+        NO_SUCH_ELEMENT_EXCEPTION_INTERNAL_NAME = getInternalName(NoSuchElementException.class),
+        /**
+         * Descriptor of {@link MethodHandle}
+         */
+        METHOD_HANDLE_DESCRIPTOR = getDescriptor(MethodHandle.class),
+        /**
+         * Descriptor of {@link ImmutableEnumBitSet#ImmutableEnumBitSet(Class, long[])} constructor
+         */
+        CONSTRUCTOR_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, getType(Class.class), getType(long[].class)),
+        /**
+         * Descriptor of {@link Set#contains(Object)} method
+         */
+        CONTAINS_METHOD_DESCRIPTOR = getMethodDescriptor(BOOLEAN_TYPE, OBJECT_TYPE),
+        /**
+         * Descriptor of {@link Set#iterator()} method
+         */
+        ITERATOR_METHOD_DESCRIPTOR = getMethodDescriptor(getType(Iterator.class)),
+        /**
+         * Descriptor of {@link Iterator#next()} method
+         */
+        NEXT_METHOD_DESCRIPTOR = getMethodDescriptor(OBJECT_TYPE),
+        /**
+         * Name of {@link CollectionFactory#internal$getIteratorFactory(int)} method
+         */
+        INTERNAL_GET_ITERATOR_FACTORY_METHOD_NAME = "internal$getIteratorFactory",
+        /**
+         * Descriptor of {@link CollectionFactory#internal$getIteratorFactory(int)} method
+         */
+        INTERNAL_GET_ITERATOR_FACTORY_METHOD_DESCRIPTOR = getMethodDescriptor(
+                getType(MethodHandle.class), INT_TYPE
+        ),
+        /**
+         * Name of the generated field storing the method handle creating iterators
+         */
+        ITERATOR_FACTORY_FIELD_NAME = "ITERATOR_FACTORY",
+        /**
+         * Name of the generated field storing the index of the iterator's next element
+         */
+        INDEX_FIELD_NAME = "index";
+
+        /**
+         * Array whose only value is the internal name of {@link Iterator}.
+         */
+        private static final String[] ITERATOR_INTERNAL_NAME_ARRAY = new String[]{getInternalName(Iterator.class)};
+
+        /**
+         * Generates a class of the immutable enum set and creates its instance.
+         *
+         * @param enumType type of the enum with at most 64 constants
+         * @param bits bit set of the ordinals of the stored enum constants consisting of a single mask
+         * @return created immutable enum set
+         *
+         * @throws IllegalStateException if the generated classes could not be defined and instantiated
+         */
+        @SuppressWarnings("unchecked")
+        @NotNull private static Set<Enum<?>> generate(@NotNull final Class<?> enumType, @NotNull final long[] bits) {
+            val mask = bits[0];
+            val constants = (Enum<?>[]) enumType.getEnumConstants();
+            val elements = new ArrayList<Enum<?>>(Long.bitCount(mask));
+            for (val constant : constants) if ((mask & 1L << constant.ordinal()) != 0) elements.add(constant);
+
+            val classDefiner = GcClassDefiners.getDefault()
+                    .orElseThrow(() -> new IllegalStateException("GC-ClassDefiner is unavailable"));
+            val enumInternalName = getInternalName(enumType);
+            try {
+                // the iterator's class is not referenced by name so that it may be anonymous
+                val iteratorClassName = IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY.get();
+                val iteratorFactory = LOOKUP.findConstructor(
+                        classDefiner.defineClass(
+                                LOOKUP, iteratorClassName,
+                                generateIterator(iteratorClassName.replace('.', '/'), enumInternalName, elements)
+                        ), methodType(void.class)
+                ).asType(methodType(Iterator.class));
+
+                val className = IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY.get();
+                return (Set<Enum<?>>) classDefiner.defineClass(LOOKUP, className, generateSet(
+                        className.replace('.', '/'), enumInternalName, mask,
+                        elements.size() == constants.length, elements.size(), ITERATOR_FACTORIES.store(iteratorFactory)
+                )).getDeclaredConstructor(Class.class, long[].class).newInstance(enumType, bits);
+            } catch (final NoSuchMethodException | InstantiationException
+                    | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException(
+                        "Could not compile and instantiate immutable enum set of " + elements, e
                 );
+            }
+        }
 
+        /**
+         * Generates the bytecode of the immutable enum set class.
+         *
+         * @param internalClassName internal name of the generated class
+         * @param enumInternalName internal name of the enum type
+         * @param mask bit mask of the ordinals of the stored enum constants
+         * @param full {@code true} if all the enum constants are stored and {@code false} otherwise
+         * @param size amount of the stored enum constants
+         * @param iteratorFactoryKey key of the iterator factory in {@link CollectionFactory#ITERATOR_FACTORIES}
+         * @return bytecode of the generated class
+         */
+        @NotNull private static byte[] generateSet(@NotNull final String internalClassName,
+                                                   @NotNull final String enumInternalName,
+                                                   final long mask, final boolean full, final int size,
+                                                   final int iteratorFactoryKey) {
+            val clazz = new ClassWriter(0); // MAXs are computed manually
+            clazz.visit(
+                    V1_8 /* generate bytecode for JVM1.8 */, OPCODES_ACC_PUBLIC_FINAL_SUPER,
+                    internalClassName, null, IMMUTABLE_ENUM_BIT_SET_INTERNAL_NAME /* inherit the shared bit set */,
+                    null /* no interfaces */
+            );
+
+            { // `static final MethodHandle ITERATOR_FACTORY` field
+                clazz.visitField(
+                        OPCODES_ACC_PUBLIC_STATIC_FINAL /* less access checks & possible JIT folding */,
+                        ITERATOR_FACTORY_FIELD_NAME, METHOD_HANDLE_DESCRIPTOR, null, null /* no default value */
+                ).visitEnd();
+
+                val staticInitializer = visitStaticInitializer(clazz);
+                staticInitializer.visitCode();
+                pushInt(staticInitializer, iteratorFactoryKey);
+                staticInitializer.visitMethodInsn(
+                        INVOKESTATIC, COLLECTION_FACTORY_INTERNAL_NAME,
+                        INTERNAL_GET_ITERATOR_FACTORY_METHOD_NAME, INTERNAL_GET_ITERATOR_FACTORY_METHOD_DESCRIPTOR,
+                        false
+                );
+                staticInitializer.visitFieldInsn(
+                        PUTSTATIC, internalClassName, ITERATOR_FACTORY_FIELD_NAME, METHOD_HANDLE_DESCRIPTOR
+                );
+                staticInitializer.visitInsn(RETURN);
+                staticInitializer.visitMaxs(1, 0);
+                staticInitializer.visitEnd();
+            }
 
-                val enumNames = Arrays.stream(enumValues)
-                        .map(element -> enumTypeName + '.' + element.name())
-                        .toArray(String[]::new);
-                { // field for storing array of elements and `toArray` methods
-                    val newArrayStatement = "new " + enumTypeName + "[]{" + String.join(",", enumNames) + '}';
-
-                    // add field with maximal accessibility so that it can be JITed as much as possible
-                    addCtField(
-                            "public static final " + enumTypeName + "[] ARRAY_DATA = " + newArrayStatement + ';', clazz
-                    );
-
-                    // non-generic `toArray`
-                    addCtMethod(
-                            "public Object[] toArray() {return " + newArrayStatement + ";}",
-                            clazz
-                    );
-                /* Not following the contract
-                addCtMethod(""
-                                + "public <T> T[] toArray(final T[] target) {"
-                                + "if (!target.getClass().getComponentType()"
-                                + ".isAssignableFrom(" + enumClassName + ".class)) throw new ArrayStoreException("
-                                + "\"Attempt to call toArray(T[]) with wrong array type ("
-                                + enumClassName + " or its super-type was expected)\");"
-                                + "return (T[])" + newArrayStatement +";"
-                                + "}",
-                        clazz
+            { // constructor delegating to the super-class
+                val constructor = clazz.visitMethod(
+                        ACC_PUBLIC, CONSTRUCTOR_METHOD_NAME, CONSTRUCTOR_DESCRIPTOR, null, null
                 );
-                 */
-                    // generic `toArray`
-                    // don't forget that javassist is not friendly with those and so use manual type erasure
-                    addCtMethod(
-                            "public Object[] toArray(Object[] target) {"
-                                    + "if (target.length < " + elementsCount + ") return java.util.Arrays.copyOf("
-                                    + "ARRAY_DATA, " + elementsCount + ", target.getClass()"
-                                    + ");"
-                                    + "System.arraycopy(ARRAY_DATA, 0, target, 0, " + elementsCount + ");"
-                                    + "if (target.length > " + elementsCount + ") target[" + elementsCount + "] = null;"
-                                    + "return target;"
-                                    + "}",
-                            clazz
-                    );
-                }
+                constructor.visitCode();
+                constructor.visitVarInsn(ALOAD, 0);
+                constructor.visitVarInsn(ALOAD, 1);
+                constructor.visitVarInsn(ALOAD, 2);
+                constructor.visitMethodInsn(
+                        INVOKESPECIAL, IMMUTABLE_ENUM_BIT_SET_INTERNAL_NAME,
+                        CONSTRUCTOR_METHOD_NAME, CONSTRUCTOR_DESCRIPTOR, false
+                );
+                constructor.visitInsn(RETURN);
+                constructor.visitMaxs(3, 3 /* [this + enumType + bits] */);
+                constructor.visitEnd();
+            }
 
-                {// `void forEach(Consumer)`
-                    val src = new StringBuilder(
-                            "public void forEach(java.util.function.Consumer consumer) {"
-                                    + "if (consumer == null) throw new NullPointerException(\"consumer should not be empty\");"
-                    );
-                    for (val enumName : enumNames) src.append("consumer.accept(").append(enumName).append(')').append(';');
+            { // `int size()` method
+                val method = clazz.visitMethod(ACC_PUBLIC, "size", INT_METHOD_DESCRIPTOR, null, null);
+                method.visitCode();
+                pushInt(method, size);
+                method.visitInsn(IRETURN);
+                method.visitMaxs(1, 1 /* [this] */);
+                method.visitEnd();
+            }
 
-                    addCtMethod(src.append('}').toString(), clazz);
-                }
-                // `hashCode()`
-                addCtMethod("int hashCode() {return " + Arrays.hashCode(values) + ";}", clazz);
-                // `equals()`
-                {// `boolean equals(Object)`
-                    addCtMethod(
-                            "public boolean equals(Object object) {"
-                                    + "if (object == this) return true;"
-                                    + "if (!(object instanceof java.util.Collection)) return false;"
-                                    + "java.util.Collection set =  (java.util.Collection) object;"
-                                    + "if (set.size() != " + elementsCount + ") return false;"
-                                    + "return set.containsAll(this);"
-                                    + "}",
-                            clazz
-                    );
+            { // `boolean contains(Object)` method
+                val method = clazz.visitMethod(ACC_PUBLIC, "contains", CONTAINS_METHOD_DESCRIPTOR, null, null);
+                method.visitCode();
+
+                method.visitVarInsn(ALOAD, 1);
+                method.visitTypeInsn(INSTANCEOF, enumInternalName);
+                if (full) method.visitInsn(IRETURN); // any constant of the enum is stored
+                else {
+                    val notContained = new Label();
+                    method.visitJumpInsn(IFEQ, notContained);
+
+                    // (mask & 1L << element.ordinal()) != 0
+                    pushLong(method, mask);
+                    method.visitInsn(LCONST_1);
+                    method.visitVarInsn(ALOAD, 1);
+                    method.visitTypeInsn(CHECKCAST, ENUM_INTERNAL_NAME);
+                    method.visitMethodInsn(INVOKEVIRTUAL, ENUM_INTERNAL_NAME, "ordinal", INT_METHOD_DESCRIPTOR, false);
+                    method.visitInsn(LSHL);
+                    method.visitInsn(LAND);
+                    method.visitInsn(LCONST_0);
+                    method.visitInsn(LCMP);
+                    method.visitJumpInsn(IFEQ, notContained);
+                    method.visitInsn(ICONST_1);
+                    method.visitInsn(IRETURN);
+
+                    method.visitLabel(notContained);
+                    method.visitFrame(F_SAME, 0, null, 0, null);
+                    method.visitInsn(ICONST_0);
+                    method.visitInsn(IRETURN);
                 }
 
-            /*
-            Generate iterator
-             */
-                final CtClass iteratorClazz;
-                {
-                    iteratorClazz = clazz.makeNestedClass(IMMUTABLE_ENUM_SET_CLASS_NAMING_STRATEGY.get(), true);
-                    iteratorClazz.setInterfaces(ITERATOR_CT_CLASS_ARRAY.get());
-                    addEmptyConstructor(iteratorClazz);
-
-                    addCtField("public int index = 0;", iteratorClazz);
-                    addCtMethod(
-                            "public java.util.Iterator iterator() {"
-                                    + "return new " + iteratorClazz.getName() + "();"
-                                    + "}",
-                            clazz
-                    );
-
-                    // boolean hasNext()
-                    addCtMethod("public boolean hasNext() {return index < " + elementsCount + ";}", iteratorClazz);
-                    {
-                        // T next()
-                        final StringBuilder src = new StringBuilder("public Object next() {switch (index++) {");
-
-                        for (var i = 0; i < elementsCount; i++)
-                            src
-                                    .append("case ").append(i).append(':').append("return ").append(enumNames[i])
-                                    .append(';');
-
-                        addCtMethod(
-                                src.append("default: throw new java.util.NoSuchElementException();}}")
-                                        .toString(),
-                                iteratorClazz
-                        );
-                    }
+                method.visitMaxs(5 /* [mask + 1L + element] */, 2 /* [this + element] */);
+                method.visitEnd();
+            }
+
+            { // `Iterator iterator()` method
+                val method = clazz.visitMethod(ACC_PUBLIC, "iterator", ITERATOR_METHOD_DESCRIPTOR, null, null);
+                method.visitCode();
+                method.visitFieldInsn(
+                        GETSTATIC, internalClassName, ITERATOR_FACTORY_FIELD_NAME, METHOD_HANDLE_DESCRIPTOR
+                );
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact", ITERATOR_METHOD_DESCRIPTOR, false
+                );
+                method.visitInsn(ARETURN);
+                method.visitMaxs(1, 1 /* [this] */);
+                method.visitEnd();
+            }
+
+            clazz.visitEnd();
+
+            return clazz.toByteArray();
+        }
+
+        /**
+         * Generates the bytecode of the iterator class returning the given enum constants.
+         *
+         * @param internalClassName internal name of the generated class
+         * @param enumInternalName internal name of the enum type
+         * @param elements enum constants returned by the iterator in order
+         * @return bytecode of the generated class
+         */
+        @NotNull private static byte[] generateIterator(@NotNull final String internalClassName,
+                                                        @NotNull final String enumInternalName,
+                                                        @NotNull final List<Enum<?>> elements) {
+            val clazz = new ClassWriter(0); // MAXs are computed manually
+            clazz.visit(
+                    V1_8 /* generate bytecode for JVM1.8 */, OPCODES_ACC_PUBLIC_FINAL_SUPER,
+                    internalClassName, null, OBJECT_INTERNAL_NAME /* inherit Object */,
+                    ITERATOR_INTERNAL_NAME_ARRAY /* implement Iterator interface */
+            );
+            addEmptyConstructor(clazz);
+
+            // `int index` field
+            clazz.visitField(ACC_PRIVATE, INDEX_FIELD_NAME, INT_TYPE.getDescriptor(), null, null).visitEnd();
+
+            val size = elements.size();
+            { // `boolean hasNext()` method
+                val method = clazz.visitMethod(ACC_PUBLIC, "hasNext", BOOLEAN_METHOD_DESCRIPTOR, null, null);
+                method.visitCode();
+
+                val exhausted = new Label();
+                method.visitVarInsn(ALOAD, 0);
+                method.visitFieldInsn(GETFIELD, internalClassName, INDEX_FIELD_NAME, INT_TYPE.getDescriptor());
+                pushInt(method, size);
+                method.visitJumpInsn(IF_ICMPGE, exhausted);
+                method.visitInsn(ICONST_1);
+                method.visitInsn(IRETURN);
+
+                method.visitLabel(exhausted);
+                method.visitFrame(F_SAME, 0, null, 0, null);
+                method.visitInsn(ICONST_0);
+                method.visitInsn(IRETURN);
+
+                method.visitMaxs(2 /* [index + size] */, 1 /* [this] */);
+                method.visitEnd();
+            }
+
+            { // `Object next()` method
+                val method = clazz.visitMethod(ACC_PUBLIC, "next", NEXT_METHOD_DESCRIPTOR, null, null);
+                method.visitCode();
+
+                val elementLabels = new Label[size];
+                for (var i = 0; i < size; i++) elementLabels[i] = new Label();
+                val exhausted = new Label();
+
+                method.visitVarInsn(ALOAD, 0);
+                method.visitFieldInsn(GETFIELD, internalClassName, INDEX_FIELD_NAME, INT_TYPE.getDescriptor());
+                method.visitTableSwitchInsn(0, size - 1, exhausted, elementLabels);
+
+                val enumDescriptor = 'L' + enumInternalName + ';';
+                for (var i = 0; i < size; i++) {
+                    method.visitLabel(elementLabels[i]);
+                    // each branch starts with the locals of the method and an empty stack
+                    method.visitFrame(F_SAME, 0, null, 0, null);
+
+                    method.visitVarInsn(ALOAD, 0);
+                    pushInt(method, i + 1);
+                    method.visitFieldInsn(PUTFIELD, internalClassName, INDEX_FIELD_NAME, INT_TYPE.getDescriptor());
+                    method.visitFieldInsn(GETSTATIC, enumInternalName, elements.get(i).name(), enumDescriptor);
+                    method.visitInsn(ARETURN);
                 }
 
-                return (Set<Enum<?>>) GcClassDefiners.getDefault()
-                        .orElseThrow(() -> new IllegalStateException("GC-ClassDefiner is unavailable"))
-                        .defineClasses(
-                                LOOKUP,
-                                SimplePair.of(iteratorClazz.getName(), iteratorClazz.toBytecode()),
-                                SimplePair.of(clazz.getName(), clazz.toBytecode())
-                        )[1].getDeclaredConstructor().newInstance();
-                //</editor-fold>
-            });
-        } else {
-            val length = values.length;
-            switch (length) {
-                case 1: return unmodifiableSet(EnumSet.of(values[0]));
-                case 2: return unmodifiableSet(EnumSet.of(values[0], values[1]));
-                case 3: return unmodifiableSet(EnumSet.of(values[0], values[1], values[2]));
-                case 4: return unmodifiableSet(EnumSet.of(values[0], values[1], values[2], values[3]));
-                case 5: return unmodifiableSet(EnumSet.of(values[0], values[1], values[2], values[3], values[4]));
-                default: return unmodifiableSet(EnumSet.copyOf(Arrays.asList(values)));
+                method.visitLabel(exhausted);
+                method.visitFrame(F_SAME, 0, null, 0, null);
+                method.visitTypeInsn(NEW, NO_SUCH_ELEMENT_EXCEPTION_INTERNAL_NAME);
+                method.visitInsn(DUP);
+                method.visitMethodInsn(
+                        INVOKESPECIAL, NO_SUCH_ELEMENT_EXCEPTION_INTERNAL_NAME,
+                        CONSTRUCTOR_METHOD_NAME, VOID_METHOD_DESCRIPTOR, false
+                );
+                method.visitInsn(ATHROW);
+
+                method.visitMaxs(2 /* [this + index] or [exception + exception] */, 1 /* [this] */);
+                method.visitEnd();
             }
+
+            clazz.visitEnd();
+
+            return clazz.toByteArray();
         }
     }
 }
@@ -0,0 +1,184 @@
+package ru.progrm_jarvis.javacommons.collection;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Immutable {@link Set set} of enum constants storing the ordinals of its elements as a bit set.
+ * <p>
+ * This is the shared implementation of {@link CollectionFactory#createImmutableEnumSet(Enum[]) immutable enum sets}
+ * used when bytecode generation is unavailable and the base of the generated ones.
+ *
+ * @param <E> type of enum
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ImmutableEnumBitSet<E extends Enum<E>> extends AbstractImmutableSet<E> {
+
+    /**
+     * Type of the enum whose constants are stored
+     */
+    @NonNull Class<E> enumType;
+
+    /**
+     * Bit set of the ordinals of the stored enum constants
+     */
+    @NonNull long[] bits;
+
+    /**
+     * Stored enum constants in their natural order
+     */
+    @NonNull E[] elements;
+
+    /**
+     * Hash code of this set
+     */
+    int hashCode;
+
+    /**
+     * Creates a new immutable enum bit set.
+     *
+     * @param enumType type of the enum whose constants are stored
+     * @param bits bit set of the ordinals of the stored enum constants, should not be modified after the call
+     */
+    @SuppressWarnings("unchecked")
+    protected ImmutableEnumBitSet(@NonNull final Class<E> enumType, @NonNull final long[] bits) {
+        this.enumType = enumType;
+        this.bits = bits;
+
+        var size = 0;
+        for (val word : bits) size += Long.bitCount(word);
+
+        val constants = enumType.getEnumConstants();
+        val elements = (E[]) Array.newInstance(enumType, size);
+        var hashCode = 0;
+        var index = 0;
+        for (val constant : constants) if (containsOrdinal(bits, constant.ordinal())) {
+            elements[index++] = constant;
+            hashCode += constant.hashCode();
+        }
+
+        this.elements = elements;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Checks whether the bit set contains the given ordinal.
+     *
+     * @param bits bit set of ordinals
+     * @param ordinal ordinal to check
+     * @return {@code true} if the bit set contains the given ordinal and {@code false} otherwise
+     */
+    private static boolean containsOrdinal(@NotNull final long[] bits, final int ordinal) {
+        return (bits[ordinal >>> 6] & 1L << ordinal) != 0;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return enumType.isInstance(object) && containsOrdinal(bits, ((Enum<?>) object).ordinal());
+    }
+
+    @Override
+    @NotNull public Iterator<E> iterator() {
+        return new ElementIterator<>(elements);
+    }
+
+    @Override
+    public void forEach(@NonNull final Consumer<? super E> action) {
+        for (val element : elements) action.accept(element);
+    }
+
+    @Override
+    @NotNull public Object[] toArray() {
+        return Arrays.copyOf(elements, elements.length, Object[].class);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "SuspiciousSystemArraycopy"})
+    @NotNull public <T> T[] toArray(@NonNull final T[] target) {
+        val size = elements.length;
+        if (target.length < size) return (T[]) Arrays.copyOf(elements, size, target.getClass());
+
+        System.arraycopy(elements, 0, target, 0, size);
+        if (target.length > size) target[size] = null;
+
+        return target;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (object == this) return true;
+        if (object instanceof ImmutableEnumBitSet) {
+            val set = (ImmutableEnumBitSet<?>) object;
+
+            return enumType == set.enumType && Arrays.equals(bits, set.bits);
+        }
+        if (!(object instanceof Collection)) return false;
+
+        val collection = (Collection<?>) object;
+
+        return collection.size() == elements.length && collection.containsAll(this);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(elements);
+    }
+
+    /**
+     * Iterator over the array of elements.
+     *
+     * @param <E> type of elements
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class ElementIterator<E> implements Iterator<E> {
+
+        /**
+         * Elements iterated
+         */
+        @NonNull final E[] elements;
+
+        /**
+         * Index of the next element
+         */
+        int index;
+
+        private ElementIterator(@NonNull final E[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < elements.length;
+        }
+
+        @Override
+        public E next() {
+            if (index >= elements.length) throw new NoSuchElementException();
+
+            return elements[index++];
+        }
+    }
+}
@@ -163,15 +163,68 @@ public class InvokeUtil {
 
     /**
      * Converts the given field to a setter-{@link MethodHandle}.
+     * <p>
+     * Setters of final fields are created by making a copy of the field accessible
+     * so that the given field object (which may be shared) is not modified.
      *
      * @param field field to convert to setter-{@link MethodHandle}
      * @return setter-{@link MethodHandle} created from the given field
      */
-    @SneakyThrows(IllegalAccessException.class)
+    @SneakyThrows({IllegalAccessException.class, NoSuchFieldException.class})
     public MethodHandle toSetterMethodHandle(@NonNull final Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            // each call to Class#getDeclaredField(String) returns a new copy of the field
+            val fieldCopy = field.getDeclaringClass().getDeclaredField(field.getName());
+            fieldCopy.setAccessible(true);
+
+            return lookup(field.getDeclaringClass()).unreflectSetter(fieldCopy);
+        }
+
         return lookup(field.getDeclaringClass()).unreflectSetter(field);
     }
 
+    /**
+     * Converts the given {@link MethodHandle} to a generic spreader
+     * of type {@code (Object[])Object} suitable for {@link MethodHandle#invokeExact(Object...)}.
+     * <p>
+     * The arguments get unboxed and cast by the spreader itself,
+     * {@code void} return-value is converted to {@code null}.
+     *
+     * @param methodHandle method handle to convert
+     * @return generic spreader of the given method handle accepting all of its parameters as an array
+     *
+     * @see #toGenericSpreader(MethodHandle, int) spreader keeping leading parameters
+     */
+    public MethodHandle toGenericSpreader(@NonNull final MethodHandle methodHandle) {
+        return toGenericSpreader(methodHandle, 0);
+    }
+
+    /**
+     * Converts the given {@link MethodHandle} to a generic spreader
+     * of type {@code (Object, ..., Object[])Object} suitable for {@link MethodHandle#invokeExact(Object...)}.
+     * <p>
+     * The arguments get unboxed and cast by the spreader itself,
+     * {@code void} return-value is converted to {@code null}.
+     *
+     * @param methodHandle method handle to convert
+     * @param leadingParameterCount amount of leading parameters which should not be spread
+     * @return generic spreader of the given method handle accepting its trailing parameters as an array
+     * @throws IllegalArgumentException if the amount of leading parameters is negative
+     * or is greater than the amount of the method handle's parameters
+     */
+    public MethodHandle toGenericSpreader(@NonNull final MethodHandle methodHandle,
+                                          final int leadingParameterCount) {
+        val parameterCount = methodHandle.type().parameterCount();
+        checkArgument(
+                leadingParameterCount >= 0 && leadingParameterCount <= parameterCount,
+                "leadingParameterCount should be in range [0; %s]", parameterCount
+        );
+
+        return methodHandle
+                .asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount - leadingParameterCount);
+    }
+
     /**
      * Creates a {@link Runnable} to invoke the given static method.
      *
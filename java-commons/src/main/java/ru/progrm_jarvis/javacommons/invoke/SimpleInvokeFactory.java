@@ -2,13 +2,13 @@ package ru.progrm_jarvis.javacommons.invoke;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.javacommons.annotation.DontOverrideEqualsAndHashCode;
 
-import java.lang.invoke.LambdaMetafactory;
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import java.lang.invoke.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -16,6 +16,13 @@ import static com.google.common.base.Preconditions.checkState;
 
 /**
  * Simple implementation of {@link InvokeFactory}.
+ * <p>
+ * Factories of the functional interface implementations are cached by the implementation method,
+ * the implemented functional interface and the bound target's class
+ * so that repeated {@link #create() creations} only bind the target.
+ * They are associated with the classes of the lookups used for creating them
+ * and are only cached if all the classes they reference are visible from the lookup classes' class loaders
+ * so that the cache does not keep any class loader from being garbage-collected.
  *
  * @param <F> type of functional interface implemented
  * @param <T> type of target value
@@ -26,6 +33,18 @@ import static com.google.common.base.Preconditions.checkState;
 @FieldDefaults(level = AccessLevel.PROTECTED)
 public class SimpleInvokeFactory<F, T> implements InvokeFactory<F, T> {
 
+    /**
+     * Cached factories of functional interface implementations associated with the classes
+     * of the lookups used for creating them
+     */
+    private static final ClassValue<ConcurrentMap<CallSiteKey, MethodHandle>> IMPLEMENTATION_FACTORIES
+            = new ClassValue<ConcurrentMap<CallSiteKey, MethodHandle>>() {
+        @Override
+        protected ConcurrentMap<CallSiteKey, MethodHandle> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     /**
      * Used lookup factory
      */
@@ -110,14 +129,168 @@ public class SimpleInvokeFactory<F, T> implements InvokeFactory<F, T> {
         val methodHandle = methodHandleCreator.apply(lookup);
         val bound = target != null;
 
-        val targetMethodHandle = LambdaMetafactory.metafactory(
+        val implementationFactory = implementationFactory(lookup, methodHandle, bound ? target.getClass() : null);
+
+        //noinspection unchecked
+        return (F) (bound ? implementationFactory.invoke(target) : implementationFactory.invoke());
+    }
+
+    /**
+     * Gets the cached factory of the functional interface implementation creating it if needed.
+     *
+     * @param lookup lookup used for creating the implementation
+     * @param methodHandle method handle of the implementation method
+     * @param boundClass class of the bound target or {@code null} if the implementation is unbound
+     * @return factory of the functional interface implementation
+     *
+     * @throws LambdaConversionException if the implementation cannot be created
+     */
+    @NotNull protected MethodHandle implementationFactory(@NotNull final MethodHandles.Lookup lookup,
+                                                          @NotNull final MethodHandle methodHandle,
+                                                          @Nullable final Class<?> boundClass)
+            throws LambdaConversionException {
+        final MethodHandleInfo methodHandleInfo;
+        try {
+            methodHandleInfo = lookup.revealDirect(methodHandle);
+        } catch (final IllegalArgumentException | SecurityException e) {
+            // only direct method handles can be identified by their members
+            return createImplementationFactory(lookup, methodHandle, boundClass);
+        }
+
+        val key = new CallSiteKey(
+                methodHandleInfo.getDeclaringClass(), methodHandleInfo.getReferenceKind(),
+                methodHandleInfo.getName(), methodHandleInfo.getMethodType(),
+                functionalInterface, functionalMethodName, functionalMethodSignature, boundClass
+        );
+        val lookupClass = lookup.lookupClass();
+        val implementationFactories = IMPLEMENTATION_FACTORIES.get(lookupClass);
+
+        var implementationFactory = implementationFactories.get(key);
+        if (implementationFactory == null) {
+            implementationFactory = createImplementationFactory(lookup, methodHandle, boundClass);
+            // caching the implementation referencing classes of other class loaders would keep them from unloading
+            if (isVisible(lookupClass.getClassLoader(), key)) {
+                val existingImplementationFactory = implementationFactories.putIfAbsent(key, implementationFactory);
+                if (existingImplementationFactory != null) implementationFactory = existingImplementationFactory;
+            }
+        }
+
+        return implementationFactory;
+    }
+
+    /**
+     * Creates a new factory of the functional interface implementation.
+     *
+     * @param lookup lookup used for creating the implementation
+     * @param methodHandle method handle of the implementation method
+     * @param boundClass class of the bound target or {@code null} if the implementation is unbound
+     * @return created factory of the functional interface implementation
+     *
+     * @throws LambdaConversionException if the implementation cannot be created
+     */
+    @NotNull protected MethodHandle createImplementationFactory(@NotNull final MethodHandles.Lookup lookup,
+                                                                @NotNull final MethodHandle methodHandle,
+                                                                @Nullable final Class<?> boundClass)
+            throws LambdaConversionException {
+        val bound = boundClass != null;
+
+        return LambdaMetafactory.metafactory(
                 lookup, functionalMethodName,
-                bound ? functionalInterface.appendParameterTypes(target.getClass()) : functionalInterface,
+                bound ? functionalInterface.appendParameterTypes(boundClass) : functionalInterface,
                 functionalMethodSignature, methodHandle,
                 bound ? methodHandle.type().dropParameterTypes(0, 1) : methodHandle.type()
         ).getTarget();
+    }
 
-        //noinspection unchecked
-        return (F) (bound ? targetMethodHandle.invoke(target) : targetMethodHandle.invoke());
+    /**
+     * Checks whether all the classes referenced by the key are visible from the given class loader.
+     *
+     * @param classLoader class loader from which the classes should be visible
+     * @param key key whose classes should be checked
+     * @return {@code true} if all the classes referenced by the key are visible from the class loader
+     * and {@code false} otherwise
+     */
+    private static boolean isVisible(@Nullable final ClassLoader classLoader, @NotNull final CallSiteKey key) {
+        val boundClass = key.getBoundClass();
+
+        return isVisible(classLoader, key.getDeclaringClass())
+                && isVisible(classLoader, key.getMethodType())
+                && isVisible(classLoader, key.getFunctionalInterface())
+                && isVisible(classLoader, key.getFunctionalMethodSignature())
+                && (boundClass == null || isVisible(classLoader, boundClass));
+    }
+
+    /**
+     * Checks whether the return type and all the parameter types of the method type
+     * are visible from the given class loader.
+     *
+     * @param classLoader class loader from which the types should be visible
+     * @param methodType method type whose types should be checked
+     * @return {@code true} if all the types of the method type are visible from the class loader
+     * and {@code false} otherwise
+     */
+    private static boolean isVisible(@Nullable final ClassLoader classLoader, @NotNull final MethodType methodType) {
+        if (!isVisible(classLoader, methodType.returnType())) return false;
+        for (val parameterType : methodType.parameterArray()) if (!isVisible(classLoader, parameterType)) return false;
+
+        return true;
+    }
+
+    /**
+     * Checks whether the class is visible from the given class loader.
+     *
+     * @param classLoader class loader from which the class should be visible
+     * @param type class which should be checked
+     * @return {@code true} if the class loader resolves the name of the class to the class itself
+     * and {@code false} otherwise
+     */
+    private static boolean isVisible(@Nullable final ClassLoader classLoader, @NotNull final Class<?> type) {
+        if (type.isPrimitive()) return true;
+
+        try {
+            return Class.forName(type.getName(), false, classLoader) == type;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Key identifying the functional interface implementation.
+     */
+    @Value
+    private static class CallSiteKey {
+
+        /**
+         * Class declaring the implementation method
+         */
+        @NonNull Class<?> declaringClass;
+        /**
+         * Reference kind of the implementation method
+         */
+        int referenceKind;
+        /**
+         * Name of the implementation method
+         */
+        @NonNull String name;
+        /**
+         * Type of the implementation method
+         */
+        @NonNull MethodType methodType;
+        /**
+         * Implemented functional interface
+         */
+        @NonNull MethodType functionalInterface;
+        /**
+         * Name of the functional interface's functional method
+         */
+        @NonNull String functionalMethodName;
+        /**
+         * Signature of the functional interface's functional method
+         */
+        @NonNull MethodType functionalMethodSignature;
+        /**
+         * Class of the bound target or {@code null} if the implementation is unbound
+         */
+        @Nullable Class<?> boundClass;
     }
 }
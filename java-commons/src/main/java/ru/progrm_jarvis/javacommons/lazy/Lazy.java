@@ -2,15 +2,26 @@ package ru.progrm_jarvis.javacommons.lazy;
 
 import lombok.*;
 import lombok.experimental.FieldDefaults;
+import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.javacommons.util.ReferenceUtil;
 
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * A wrapper for a value initialized once needed.
  *
@@ -61,6 +72,72 @@ public interface Lazy<T> extends Supplier<T> {
         return new DoubleCheckedLazy<>(valueSupplier);
     }
 
+    /**
+     * Creates a new thread-safe lock-free lazy creating its value using the given supplier.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote value supplier may be called concurrently by multiple threads
+     * but only the value computed first is used by all of them
+     */
+    static <T> Lazy<T> createRacy(@NonNull final Supplier<T> valueSupplier) {
+        return new RacyLazy<>(valueSupplier);
+    }
+
+    /**
+     * Creates a new thread-safe lock-free lazy creating its value using the given supplier exactly once.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote threads requesting the value while it is being initialized spin until it gets initialized
+     * so this should only be used with fast value suppliers
+     */
+    static <T> Lazy<T> createLockFree(@NonNull final Supplier<T> valueSupplier) {
+        return new LockFreeLazy<>(valueSupplier);
+    }
+
+    /**
+     * Creates a new thread-safe lazy creating its value using the given supplier
+     * and recreating it once it expires.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param timeToLive time after which the value expires
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote concurrent requests of the expired value wait for a single call to the value supplier
+     */
+    static <T> RefreshingLazy<T> createExpiring(@NonNull final Supplier<T> valueSupplier,
+                                                @NonNull final Duration timeToLive) {
+        return new RefreshingLazy<>(valueSupplier, timeToLive.toNanos(), timeToLive.toNanos(), null);
+    }
+
+    /**
+     * Creates a new thread-safe lazy creating its value using the given supplier,
+     * refreshing it in background once it gets old and recreating it once it expires.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param timeToLive time after which the value expires
+     * @param refreshAfter time after which the value gets refreshed in background,
+     * should not be greater than {@code timeToLive}
+     * @param refreshExecutor executor used for refreshing the value in background
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote the old value is returned while it is being refreshed
+     * @apiNote concurrent requests of the expired value wait for a single call to the value supplier
+     */
+    static <T> RefreshingLazy<T> createRefreshing(@NonNull final Supplier<T> valueSupplier,
+                                                  @NonNull final Duration timeToLive,
+                                                  @NonNull final Duration refreshAfter,
+                                                  @NonNull final Executor refreshExecutor) {
+        return new RefreshingLazy<>(valueSupplier, timeToLive.toNanos(), refreshAfter.toNanos(), refreshExecutor);
+    }
+
     /**
      * Creates a new weak lazy creating its value using the given supplier.
      *
@@ -90,6 +167,55 @@ public interface Lazy<T> extends Supplier<T> {
         return new LockedWeakLazy<>(valueSupplier);
     }
 
+    /**
+     * Creates a new soft lazy creating its value using the given supplier.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote might be thread-unsafe
+     * @apiNote soft lazy stores the value wrapped in soft reference and so it may be GCed on memory pressure
+     * and so the new one might be recomputed using the value supplier
+     */
+    static <T> Lazy<T> createSoft(@NonNull final Supplier<@NotNull T> valueSupplier) {
+        return new SimpleSoftLazy<>(valueSupplier);
+    }
+
+    /**
+     * Creates a new soft thread-safe lazy creating its value using the given supplier.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote soft lazy stores the value wrapped in soft reference and so it may be GCed on memory pressure
+     * and so the new one might be recomputed using the value supplier
+     */
+    static <T> Lazy<T> createSoftThreadSafe(@NonNull final Supplier<@NotNull T> valueSupplier) {
+        return new DoubleCheckedSoftLazy<>(valueSupplier, null);
+    }
+
+    /**
+     * Creates a new soft thread-safe lazy creating its value using the given supplier
+     * and notifying the given handler whenever its value gets GCed.
+     *
+     * @param valueSupplier supplier of the value to be called once needed
+     * @param clearHandler handler to be run whenever the value gets GCed,
+     * it should not reference the value as it would never get GCed otherwise
+     * @param <T> type of value wrapped
+     * @return created lazy
+     *
+     * @apiNote soft lazy stores the value wrapped in soft reference and so it may be GCed on memory pressure
+     * and so the new one might be recomputed using the value supplier
+     *
+     * @see ReferenceUtil#softReference(Object, Runnable) how the handler gets run
+     */
+    static <T> Lazy<T> createSoftThreadSafe(@NonNull final Supplier<@NotNull T> valueSupplier,
+                                            @NonNull final Runnable clearHandler) {
+        return new DoubleCheckedSoftLazy<>(valueSupplier, clearHandler);
+    }
+
     /**
      * Non-thread-safe (using double-checked locking) lazy getting its value from the specified value supplier.
      *
@@ -177,12 +303,405 @@ public interface Lazy<T> extends Supplier<T> {
 
         @Override
         public boolean isInitialized() {
-            if (valueSupplier == null) return true;
+            // the supplier is only cleared after the value is set so no locking is needed
+            return valueSupplier == null;
+        }
+    }
+
+    /**
+     * Thread-safe (using compare-and-set) lazy getting its value from the specified value supplier
+     * which may be called by multiple threads concurrently while the value is not yet initialized.
+     *
+     * @param <T> type of wrapped value
+     *
+     * @apiNote only the value computed first is published and returned by all threads
+     */
+    @ToString
+    @FieldDefaults(level = AccessLevel.PROTECTED)
+    class RacyLazy<T> implements Lazy<T> {
+
+        /**
+         * Marker of the value which is not yet initialized
+         */
+        private static final Object UNINITIALIZED = new Object[0];
+
+        /**
+         * Updater of {@link #value} field
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RacyLazy, Object> VALUE_UPDATER
+                = AtomicReferenceFieldUpdater.newUpdater(RacyLazy.class, Object.class, "value");
+
+        /**
+         * Supplier used for creation of the value, cleared once the value is published
+         */
+        @Nullable volatile Supplier<T> valueSupplier;
+
+        /**
+         * The value stored or {@link #UNINITIALIZED} if it is not yet initialized
+         */
+        volatile Object value = UNINITIALIZED;
+
+        protected RacyLazy(@SuppressWarnings("NullableProblems") @NonNull final Supplier<T> valueSupplier) {
+            this.valueSupplier = valueSupplier;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get() {
+            var value = this.value;
+            if (value == UNINITIALIZED) {
+                val valueSupplier = this.valueSupplier;
+                // the supplier is only cleared after the value is published
+                if (valueSupplier == null) value = this.value;
+                else if (VALUE_UPDATER.compareAndSet(this, UNINITIALIZED, value = valueSupplier.get())) {
+                    this.valueSupplier = null;
+                } else value = this.value;
+            }
+
+            return (T) value;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return value != UNINITIALIZED;
+        }
+    }
+
+    /**
+     * Thread-safe (using compare-and-set) lazy getting its value from the specified value supplier
+     * which is called exactly once unless it fails.
+     *
+     * @param <T> type of wrapped value
+     *
+     * @apiNote threads requesting the value while it is being initialized spin until it gets initialized
+     */
+    @ToString
+    @FieldDefaults(level = AccessLevel.PROTECTED)
+    class LockFreeLazy<T> implements Lazy<T> {
+
+        /**
+         * Marker of the value which is not yet initialized
+         */
+        private static final Object UNINITIALIZED = new Object[0],
+        /**
+         * Marker of the value which is being initialized
+         */
+        INITIALIZING = new Object[0];
+
+        /**
+         * Updater of {@link #value} field
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<LockFreeLazy, Object> VALUE_UPDATER
+                = AtomicReferenceFieldUpdater.newUpdater(LockFreeLazy.class, Object.class, "value");
+
+        /**
+         * Supplier used for creation of the value, cleared once the value is initialized
+         */
+        @Nullable Supplier<T> valueSupplier;
+
+        /**
+         * The value stored, {@link #UNINITIALIZED} if it is not yet initialized
+         * or {@link #INITIALIZING} if it is being initialized
+         */
+        volatile Object value = UNINITIALIZED;
+
+        protected LockFreeLazy(@SuppressWarnings("NullableProblems") @NonNull final Supplier<T> valueSupplier) {
+            this.valueSupplier = valueSupplier;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "ConstantConditions"})
+        public T get() {
+            var value = this.value;
+            while (value == UNINITIALIZED || value == INITIALIZING) {
+                if (value == UNINITIALIZED && VALUE_UPDATER.compareAndSet(this, UNINITIALIZED, INITIALIZING)) {
+                    // only the thread which has won the race accesses the supplier
+                    final T computedValue;
+                    try {
+                        computedValue = valueSupplier.get();
+                    } catch (final RuntimeException | Error e) {
+                        this.value = UNINITIALIZED; // let the other threads retry
+
+                        throw e;
+                    }
+                    valueSupplier = null;
+                    this.value = computedValue;
+
+                    return computedValue;
+                }
+
+                Thread.yield();
+                value = this.value;
+            }
+
+            return (T) value;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            val value = this.value;
+
+            return value != UNINITIALIZED && value != INITIALIZING;
+        }
+    }
+
+    /**
+     * Thread-safe (using compare-and-set) lazy getting its value from the specified value supplier
+     * which gets called again once the value expires or needs to be refreshed.
+     *
+     * @param <T> type of wrapped value
+     *
+     * @apiNote only one call to the value supplier happens at a time, concurrent requests of the value
+     * either get the old value (if it is being refreshed) or wait for the new one (if the old one has expired)
+     */
+    @ToString
+    @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+    class RefreshingLazy<T> implements Lazy<T> {
+
+        /**
+         * Updater of {@link #loading} field
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RefreshingLazy, CompletableFuture> LOADING_UPDATER
+                = AtomicReferenceFieldUpdater.newUpdater(RefreshingLazy.class, CompletableFuture.class, "loading");
+
+        /**
+         * Updater of {@link #generation} field
+         */
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<RefreshingLazy> GENERATION_UPDATER
+                = AtomicIntegerFieldUpdater.newUpdater(RefreshingLazy.class, "generation");
+
+        /**
+         * Supplier used for creation of the value
+         */
+        @NonNull Supplier<T> valueSupplier;
+
+        /**
+         * Time in nanoseconds after which the value expires
+         */
+        long timeToLive;
+
+        /**
+         * Time in nanoseconds after which the value gets refreshed in background
+         */
+        long refreshAfter;
+
+        /**
+         * Executor used for refreshing the value in background or {@code null} if it should not be refreshed
+         */
+        @Nullable Executor refreshExecutor;
+
+        /**
+         * Source of the current time in nanoseconds
+         */
+        @ToString.Exclude @NonNull LongSupplier ticker;
+
+        /**
+         * The value stored along with its timestamps or {@code null} if there is no value
+         */
+        @NonFinal @Nullable volatile Entry<T> entry;
+
+        /**
+         * Future of the value being currently loaded or {@code null} if it is not being loaded
+         */
+        @NonFinal @Nullable volatile CompletableFuture<Entry<T>> loading;
+
+        /**
+         * Number of invalidations so that the values computed before the last one are not used
+         */
+        @NonFinal volatile int generation;
+
+        protected RefreshingLazy(@NonNull final Supplier<T> valueSupplier,
+                                 final long timeToLive, final long refreshAfter,
+                                 @Nullable final Executor refreshExecutor) {
+            this(valueSupplier, timeToLive, refreshAfter, refreshExecutor, System::nanoTime);
+        }
+
+        protected RefreshingLazy(@NonNull final Supplier<T> valueSupplier,
+                                 final long timeToLive, final long refreshAfter,
+                                 @Nullable final Executor refreshExecutor,
+                                 @NonNull final LongSupplier ticker) {
+            checkArgument(timeToLive > 0, "timeToLive should be positive");
+            checkArgument(
+                    refreshAfter > 0 && refreshAfter <= timeToLive,
+                    "refreshAfter should be positive and not greater than timeToLive"
+            );
+
+            this.valueSupplier = valueSupplier;
+            this.timeToLive = timeToLive;
+            this.refreshAfter = refreshAfter;
+            this.refreshExecutor = refreshExecutor;
+            this.ticker = ticker;
+        }
+
+        @Override
+        public T get() {
+            val entry = this.entry;
+            if (entry != null && entry.generation == generation) {
+                val now = ticker.getAsLong();
+                if (now - entry.expiresAt < 0) {
+                    if (refreshExecutor != null && now - entry.refreshesAt >= 0) refresh(refreshExecutor);
+
+                    return entry.value;
+                }
+            }
+
+            return load();
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return isValid(entry);
+        }
+
+        /**
+         * Makes the value expire so that it gets recreated on the next request.
+         * <p>
+         * Values which are being computed at the moment of invalidation are not used by the later requests.
+         */
+        public void invalidate() {
+            GENERATION_UPDATER.incrementAndGet(this);
+            entry = null;
+        }
+
+        /**
+         * Checks whether the given entry has been computed since the last invalidation and has not expired.
+         *
+         * @param entry entry to check
+         * @return {@code true} if the entry's value may be used and {@code false} otherwise
+         */
+        protected boolean isValid(@Nullable final Entry<T> entry) {
+            return entry != null && entry.generation == generation && ticker.getAsLong() - entry.expiresAt < 0;
+        }
+
+        /**
+         * Creates a new entry calling the value supplier and stores it unless this lazy has been invalidated.
+         *
+         * @param generation generation of this lazy at the moment at which the computation has been requested
+         * @return created entry
+         */
+        @NotNull protected Entry<T> computeEntry(final int generation) {
+            val value = valueSupplier.get();
+            val now = ticker.getAsLong();
+
+            val entry = new Entry<T>(value, generation, now + refreshAfter, now + timeToLive);
+            // the value computed before the invalidation should not replace the newer one
+            if (this.generation == generation) this.entry = entry;
+
+            return entry;
+        }
+
+        /**
+         * Loads the value in the current thread or waits for the value which is currently being loaded.
+         *
+         * @return loaded value
+         */
+        protected T load() {
+            while (true) {
+                val generation = this.generation;
+                val currentLoading = loading;
+                if (currentLoading != null) {
+                    final Entry<T> loaded;
+                    try {
+                        loaded = currentLoading.join();
+                    } catch (final CompletionException e) {
+                        val cause = e.getCause();
+                        if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                        if (cause instanceof Error) throw (Error) cause;
+
+                        throw e;
+                    }
+                    // the value computed before the invalidation which happened before this request is not used
+                    if (loaded.generation == generation) return loaded.value;
+
+                    continue;
+                }
+
+                val newLoading = new CompletableFuture<Entry<T>>();
+                if (LOADING_UPDATER.compareAndSet(this, null, newLoading)) {
+                    final Entry<T> entry;
+                    try {
+                        // the value might have been loaded since the last check
+                        val currentEntry = this.entry;
+                        entry = isValid(currentEntry) ? currentEntry : computeEntry(generation);
+                    } catch (final RuntimeException | Error e) {
+                        loading = null;
+                        newLoading.completeExceptionally(e);
+
+                        throw e;
+                    }
+                    // the loading is reset first so that the requests following the invalidation do not wait for it
+                    loading = null;
+                    newLoading.complete(entry);
+
+                    return entry.value;
+                }
+            }
+        }
+
+        /**
+         * Refreshes the value in background unless it is already being loaded.
+         *
+         * @param refreshExecutor executor used for refreshing the value
+         */
+        protected void refresh(@NotNull final Executor refreshExecutor) {
+            val newLoading = new CompletableFuture<Entry<T>>();
+            if (!LOADING_UPDATER.compareAndSet(this, null, newLoading)) return;
+
+            val generation = this.generation;
+            try {
+                refreshExecutor.execute(() -> {
+                    final Entry<T> entry;
+                    try {
+                        entry = computeEntry(generation);
+                    } catch (final Throwable e) {
+                        loading = null;
+                        newLoading.completeExceptionally(e);
 
-            synchronized (mutex) {
-                return valueSupplier == null;
+                        return;
+                    }
+                    loading = null;
+                    newLoading.complete(entry);
+                });
+            } catch (final RuntimeException e) {
+                // the executor has rejected the task so the value will be refreshed later
+                loading = null;
+                newLoading.completeExceptionally(e);
             }
         }
+
+        /**
+         * Value stored by {@link RefreshingLazy} along with its timestamps.
+         *
+         * @param <T> type of the value
+         */
+        @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+        @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+        protected static final class Entry<T> {
+
+            /**
+             * The value stored
+             */
+            T value;
+
+            /**
+             * Generation of the lazy at the moment at which the value's computation has been requested
+             */
+            int generation;
+
+            /**
+             * Time of the lazy's ticker after which the value should be refreshed
+             */
+            long refreshesAt;
+
+            /**
+             * Time of the lazy's ticker after which the value expires
+             */
+            long expiresAt;
+        }
     }
 
     /**
@@ -293,4 +812,101 @@ public interface Lazy<T> extends Supplier<T> {
             }
         }
     }
+
+    /**
+     * Non-thread-safe soft lazy getting its value from the specified value supplier.
+     *
+     * @param <T> type of wrapped value
+     *
+     * @apiNote soft lazy stores the value wrapped in soft reference and so it may be GCed on memory pressure
+     * and so the new one might be recomputed using the value supplier
+     */
+    @Data
+    @FieldDefaults(level = AccessLevel.PROTECTED)
+    @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+    class SimpleSoftLazy<@NotNull T> implements Lazy<T> {
+
+        /**
+         * Supplier used for creation of the value
+         */
+        @NonNull final Supplier<T> valueSupplier;
+
+        /**
+         * The value stored wrapped in {@link SoftReference}
+         */
+        @NonNull SoftReference<T> value = ReferenceUtil.softReferenceStub();
+
+        @Override
+        public T get() {
+            var value = this.value.get();
+            if (value == null) this.value = new SoftReference<>(value = valueSupplier.get());
+
+            return value;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return value.get() != null;
+        }
+    }
+
+    /**
+     * Thread-safe (using double-checked locking) soft lazy getting its value from the specified value supplier.
+     *
+     * @param <T> type of wrapped value
+     *
+     * @apiNote soft lazy stores the value wrapped in soft reference and so it may be GCed on memory pressure
+     * and so the new one might be recomputed using the value supplier
+     */
+    @Data
+    @FieldDefaults(level = AccessLevel.PROTECTED)
+    class DoubleCheckedSoftLazy<@NotNull T> implements Lazy<T> {
+
+        /**
+         * Mutex used for synchronizations
+         */
+        @NonNull final Object mutex;
+
+        /**
+         * Supplier used for creation of the value
+         */
+        @NonNull final Supplier<T> valueSupplier;
+
+        /**
+         * Handler to be run whenever the value gets GCed or {@code null} if there is none
+         */
+        @Nullable final Runnable clearHandler;
+
+        /**
+         * The value stored wrapped in {@link SoftReference}
+         */
+        @NonNull volatile SoftReference<T> value = ReferenceUtil.softReferenceStub();
+
+        protected DoubleCheckedSoftLazy(@NonNull final Supplier<T> valueSupplier,
+                                        @Nullable final Runnable clearHandler) {
+            mutex = new Object[0];
+            this.valueSupplier = valueSupplier;
+            this.clearHandler = clearHandler;
+        }
+
+        @Override
+        public T get() {
+            var value = this.value.get();
+            if (value == null) synchronized (mutex) {
+                value = this.value.get();
+                if (value == null) {
+                    value = valueSupplier.get();
+                    this.value = clearHandler == null
+                            ? new SoftReference<>(value) : ReferenceUtil.softReference(value, clearHandler);
+                }
+            }
+
+            return value;
+        }
+
+        @Override
+        public boolean isInitialized() {
+            return value.get() != null;
+        }
+    }
 }
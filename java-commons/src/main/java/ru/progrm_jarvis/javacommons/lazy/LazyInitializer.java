@@ -0,0 +1,205 @@
+package ru.progrm_jarvis.javacommons.lazy;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Initializer of {@link Lazy lazies} depending on each other
+ * which forces the ones independent of each other concurrently.
+ * <p>
+ * Lazies are identified by their identities rather than {@link Object#equals(Object) equality}.
+ *
+ * @apiNote registration of the lazies is not thread-safe
+ */
+@ToString
+@NoArgsConstructor(staticName = "create")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class LazyInitializer {
+
+    /**
+     * Registered lazies associated with their dependencies
+     */
+    @NonNull Map<Lazy<?>, Set<Lazy<?>>> dependencies = new IdentityHashMap<>();
+
+    /**
+     * Registers the lazy to be initialized after all the given ones.
+     * <p>
+     * Dependencies which are not registered themselves are considered to have no dependencies.
+     *
+     * @param lazy lazy to be initialized
+     * @param dependencies lazies which should be initialized before the given one
+     * @return this initializer for chaining
+     */
+    public LazyInitializer add(@NonNull final Lazy<?> lazy, @NonNull final Lazy<?>... dependencies) {
+        val lazyDependencies = this.dependencies.computeIfAbsent(
+                lazy, registeredLazy -> Collections.newSetFromMap(new IdentityHashMap<>())
+        );
+        for (val dependency : dependencies) lazyDependencies.add(dependency);
+
+        return this;
+    }
+
+    /**
+     * Initializes all the registered lazies using {@link ForkJoinPool#commonPool() the common pool}.
+     *
+     * @return result of the initialization
+     *
+     * @throws IllegalStateException if the lazies have cyclic dependencies
+     */
+    @NotNull public Result initialize() {
+        return initialize(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes all the registered lazies using the given pool
+     * so that each lazy is initialized once all its dependencies have been initialized.
+     * <p>
+     * Failure to initialize any lazy does not stop the initialization of the ones not depending on it.
+     *
+     * @param pool pool used for initializing the lazies
+     * @return result of the initialization
+     *
+     * @throws IllegalStateException if the lazies have cyclic dependencies
+     */
+    @NotNull public Result initialize(@NonNull final ForkJoinPool pool) {
+        val order = initializationOrder();
+        final Map<Lazy<?>, Duration> initializationTimes = Collections.synchronizedMap(new IdentityHashMap<>());
+        final Map<Lazy<?>, Throwable> failures = Collections.synchronizedMap(new IdentityHashMap<>());
+
+        val startTime = System.nanoTime();
+        final Map<Lazy<?>, CompletableFuture<Void>> futures = new IdentityHashMap<>(order.size());
+        for (val lazy : order) {
+            val lazyDependencies = dependencies.getOrDefault(lazy, Collections.emptySet());
+            val dependencyFutures = new CompletableFuture<?>[lazyDependencies.size()];
+            var i = 0;
+            for (val dependency : lazyDependencies) dependencyFutures[i++] = futures.get(dependency);
+
+            futures.put(lazy, CompletableFuture.allOf(dependencyFutures).thenRunAsync(() -> {
+                val lazyStartTime = System.nanoTime();
+                try {
+                    lazy.get();
+                } catch (final Throwable e) {
+                    failures.put(lazy, e);
+
+                    throw e;
+                } finally {
+                    initializationTimes.put(lazy, Duration.ofNanos(System.nanoTime() - lazyStartTime));
+                }
+            }, pool));
+        }
+
+        for (val entry : futures.entrySet()) try {
+            entry.getValue().join();
+        } catch (final CompletionException e) {
+            // lazies whose dependencies have failed are not initialized at all
+            val lazy = entry.getKey();
+            if (!failures.containsKey(lazy)) failures.put(
+                    lazy, new IllegalStateException("Dependency of " + lazy + " has failed", e.getCause())
+            );
+        }
+        val duration = Duration.ofNanos(System.nanoTime() - startTime);
+
+        return new Result(
+                duration,
+                Collections.unmodifiableMap(new IdentityHashMap<>(initializationTimes)),
+                Collections.unmodifiableMap(new IdentityHashMap<>(failures))
+        );
+    }
+
+    /**
+     * Orders the registered lazies and their dependencies so that each lazy follows all its dependencies.
+     *
+     * @return ordered lazies
+     *
+     * @throws IllegalStateException if the lazies have cyclic dependencies
+     */
+    @NotNull private List<Lazy<?>> initializationOrder() {
+        val order = new ArrayList<Lazy<?>>(dependencies.size());
+        final Set<Lazy<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        val path = new ArrayDeque<Lazy<?>>();
+        final Set<Lazy<?>> pathElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (val lazy : dependencies.keySet()) visit(lazy, order, visited, path, pathElements);
+
+        return order;
+    }
+
+    /**
+     * Adds the lazy to the order after all its dependencies (depth-first).
+     *
+     * @param lazy lazy to add to the order
+     * @param order lazies ordered so that each lazy follows all its dependencies
+     * @param visited lazies which have already been ordered
+     * @param path dependency path leading to the lazy
+     * @param pathElements lazies of the dependency path leading to the lazy
+     *
+     * @throws IllegalStateException if the lazies have cyclic dependencies
+     */
+    private void visit(@NotNull final Lazy<?> lazy, @NotNull final List<Lazy<?>> order,
+                       @NotNull final Set<Lazy<?>> visited,
+                       @NotNull final Deque<Lazy<?>> path, @NotNull final Set<Lazy<?>> pathElements) {
+        if (visited.contains(lazy)) return;
+        if (!pathElements.add(lazy)) {
+            val cycle = new StringBuilder();
+            val iterator = path.descendingIterator();
+            Lazy<?> element;
+            // skip the path leading to the cycle
+            do element = iterator.next(); while (element != lazy);
+            cycle.append(element);
+            while (iterator.hasNext()) cycle.append(" -> ").append(iterator.next());
+            cycle.append(" -> ").append(lazy);
+
+            throw new IllegalStateException("Lazies have cyclic dependencies: " + cycle);
+        }
+        path.push(lazy);
+
+        val lazyDependencies = dependencies.get(lazy);
+        if (lazyDependencies != null) for (val dependency : lazyDependencies) visit(
+                dependency, order, visited, path, pathElements
+        );
+
+        path.pop();
+        pathElements.remove(lazy);
+        visited.add(lazy);
+        order.add(lazy);
+    }
+
+    /**
+     * Result of the initialization.
+     */
+    @Value
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class Result {
+
+        /**
+         * Time spent on the whole initialization
+         */
+        @NonNull Duration duration;
+
+        /**
+         * Times spent on initialization of the lazies associated with them
+         */
+        @NonNull Map<Lazy<?>, Duration> initializationTimes;
+
+        /**
+         * Errors which occurred while initializing the lazies associated with them
+         */
+        @NonNull Map<Lazy<?>, Throwable> failures;
+
+        /**
+         * Checks whether all the lazies have been initialized successfully.
+         *
+         * @return {@code true} if no failures occurred and {@code false} otherwise
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+}
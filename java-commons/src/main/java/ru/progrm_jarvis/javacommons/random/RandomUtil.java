@@ -1,14 +1,21 @@
 package ru.progrm_jarvis.javacommons.random;
 
 import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
 import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
 
 /**
  * Utility for getting random values.
@@ -16,6 +23,11 @@ import java.util.concurrent.ThreadLocalRandom;
 @UtilityClass
 public class RandomUtil {
 
+    /**
+     * Maximal amount of values sampled by a single task of {@link #sampleParallel(List, int, SplittableRandom)}
+     */
+    private final int PARALLEL_SAMPLING_THRESHOLD = 1 << 13;
+
     /**
      * Provides {@code 1} or {@code -1} randomly.
      *
@@ -56,6 +68,21 @@ public class RandomUtil {
         throw new IllegalStateException("Could not get any chanced value");
     }
 
+    /**
+     * Creates a sampler of random values from the map specified considering chances
+     * which is more efficient than {@link #getRandom(Map)} when getting multiple values.
+     *
+     * @param chancedValues values from which to get random ones
+     * the keys of the map are the actual values, the values of the map are the chances
+     * @param <T> type of values randomly got
+     * @return created sampler
+     *
+     * @throws IllegalArgumentException if {@code values is empty} or any chance is not positive
+     */
+    public <T> WeightedSampler<T> createSampler(@NonNull final Map<? extends T, ? extends Number> chancedValues) {
+        return WeightedSampler.create(chancedValues);
+    }
+
     /**
      * Gets a random value from the list specified.
      *
@@ -96,4 +123,285 @@ public class RandomUtil {
 
         throw new IllegalStateException("Could not get any value");
     }
+
+    /**
+     * Gets the given amount of distinct random elements from the list specified.
+     * <p>
+     * This takes time proportional to {@code count} for {@link RandomAccess random access} lists
+     * and falls back to {@link #sample(Iterator, int) reservoir sampling} for the other ones.
+     *
+     * @param values values from which to get random ones
+     * @param count amount of values to get
+     * @param <T> type of values randomly got
+     * @return list of random values in random order
+     *
+     * @throws IllegalArgumentException if {@code count} is negative or greater than the amount of values
+     */
+    @NotNull public <T> List<T> sample(@NonNull final List<? extends T> values, final int count) {
+        val size = values.size();
+        Preconditions.checkArgument(count >= 0, "count should be non-negative");
+        Preconditions.checkArgument(count <= size, "count should not be greater than the amount of values");
+        if (!(values instanceof RandomAccess)) return sample(values.iterator(), count);
+
+        val random = ThreadLocalRandom.current();
+        // partial Fisher-Yates shuffle of the indices storing only the ones which were swapped
+        val swappedIndices = new HashMap<Integer, Integer>();
+        val samples = new ArrayList<T>(count);
+        for (var i = 0; i < count; i++) {
+            val swappedIndex = i + random.nextInt(size - i);
+            samples.add(values.get(swappedIndices.getOrDefault(swappedIndex, swappedIndex)));
+            swappedIndices.put(swappedIndex, swappedIndices.getOrDefault(i, i));
+        }
+
+        return samples;
+    }
+
+    /**
+     * Gets the given amount of distinct random elements from the iterator of unknown size
+     * using reservoir sampling (Li's algorithm L) which skips most of the elements without generating random values.
+     *
+     * @param values iterator of values from which to get random ones
+     * @param count amount of values to get
+     * @param <T> type of values randomly got
+     * @return list of random values in no particular order which is smaller than {@code count}
+     * only if the iterator has less elements
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    @NotNull public <T> List<T> sample(@NonNull final Iterator<? extends T> values, final int count) {
+        Preconditions.checkArgument(count >= 0, "count should be non-negative");
+
+        val reservoir = new ArrayList<T>(count);
+        while (reservoir.size() < count) {
+            if (!values.hasNext()) return reservoir;
+            reservoir.add(values.next());
+        }
+        if (count == 0) return reservoir;
+
+        val random = ThreadLocalRandom.current();
+        var weight = Math.exp(Math.log(nextPositiveDouble(random)) / count);
+        while (true) {
+            var skipped = (long) (Math.log(nextPositiveDouble(random)) / Math.log(1 - weight));
+            while (skipped-- > 0) {
+                if (!values.hasNext()) return reservoir;
+                values.next();
+            }
+            if (!values.hasNext()) return reservoir;
+
+            reservoir.set(random.nextInt(count), values.next());
+            weight *= Math.exp(Math.log(nextPositiveDouble(random)) / count);
+        }
+    }
+
+    /**
+     * Gets the given amount of distinct random elements from the stream of unknown size.
+     *
+     * @param values stream of values from which to get random ones
+     * @param count amount of values to get
+     * @param <T> type of values randomly got
+     * @return list of random values in no particular order which is smaller than {@code count}
+     * only if the stream has less elements
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     *
+     * @see #toSample(int) collector used for parallel streams
+     */
+    @NotNull public <T> List<T> sample(@NonNull final Stream<? extends T> values, final int count) {
+        if (values.isParallel()) return values.collect(toSample(count));
+
+        return sample(values.iterator(), count);
+    }
+
+    /**
+     * Creates a collector getting the given amount of distinct random elements
+     * which can be used with parallel streams.
+     *
+     * @param count amount of values to get
+     * @param <T> type of values randomly got
+     * @return collector of a list of random values in no particular order which is smaller than {@code count}
+     * only if there are less elements
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    @NotNull public <T> Collector<T, ?, List<T>> toSample(final int count) {
+        Preconditions.checkArgument(count >= 0, "count should be non-negative");
+
+        return Collector.<T, BottomKSample<T>, List<T>>of(
+                () -> new BottomKSample<>(count),
+                (sample, value) -> sample.add(ThreadLocalRandom.current().nextDouble(), value),
+                BottomKSample::merge, BottomKSample::toList,
+                Collector.Characteristics.UNORDERED
+        );
+    }
+
+    /**
+     * Gets the given amount of distinct random elements from the list specified
+     * processing its parts in parallel using {@link ForkJoinPool#commonPool() the common pool}.
+     * <p>
+     * Each part uses its own {@link SplittableRandom#split() split} of the given random
+     * so that the result is reproducible for the same seed.
+     *
+     * @param values values from which to get random ones, should be {@link RandomAccess random access}
+     * @param count amount of values to get
+     * @param random random used for sampling
+     * @param <T> type of values randomly got
+     * @return list of random values in no particular order
+     *
+     * @throws IllegalArgumentException if {@code count} is negative or greater than the amount of values
+     */
+    @NotNull public <T> List<T> sampleParallel(@NonNull final List<? extends T> values, final int count,
+                                               @NonNull final SplittableRandom random) {
+        val size = values.size();
+        Preconditions.checkArgument(count >= 0, "count should be non-negative");
+        Preconditions.checkArgument(count <= size, "count should not be greater than the amount of values");
+
+        return ForkJoinPool.commonPool().invoke(new SamplingTask<T>(values, 0, size, count, random.split())).toList();
+    }
+
+    /**
+     * Gets a random {@code double} which is greater than {@code 0} and not greater than {@code 1}.
+     *
+     * @param random random used for generating the value
+     * @return random value in range {@code (0; 1]}
+     */
+    private double nextPositiveDouble(@NotNull final Random random) {
+        return 1 - random.nextDouble();
+    }
+
+    /**
+     * Sample of the values associated with the smallest random keys.
+     *
+     * @param <T> type of sampled values
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class BottomKSample<T> {
+
+        /**
+         * Maximal amount of sampled values
+         */
+        int capacity;
+
+        /**
+         * Heap of sampled values whose head is the one with the largest key
+         */
+        @NonNull PriorityQueue<KeyedValue<T>> heap;
+
+        private BottomKSample(final int capacity) {
+            this.capacity = capacity;
+            heap = new PriorityQueue<>(
+                    Math.max(capacity, 1), (first, second) -> Double.compare(second.key, first.key)
+            );
+        }
+
+        /**
+         * Adds the value to the sample if its key is among the smallest ones.
+         *
+         * @param key random key of the value
+         * @param value value to add
+         */
+        private void add(final double key, final T value) {
+            if (heap.size() < capacity) heap.add(new KeyedValue<>(key, value));
+            else if (capacity != 0 && key < heap.peek().key) {
+                heap.poll();
+                heap.add(new KeyedValue<>(key, value));
+            }
+        }
+
+        /**
+         * Merges the other sample into this one.
+         *
+         * @param other sample to merge into this one
+         * @return this sample
+         */
+        @NotNull private BottomKSample<T> merge(@NotNull final BottomKSample<T> other) {
+            for (val keyedValue : other.heap) add(keyedValue.key, keyedValue.value);
+
+            return this;
+        }
+
+        /**
+         * Gets the sampled values.
+         *
+         * @return list of sampled values
+         */
+        @NotNull private List<T> toList() {
+            val values = new ArrayList<T>(heap.size());
+            for (val keyedValue : heap) values.add(keyedValue.value);
+
+            return values;
+        }
+    }
+
+    /**
+     * Value associated with its random key.
+     *
+     * @param <T> type of value
+     */
+    @RequiredArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class KeyedValue<T> {
+
+        /**
+         * Random key of the value
+         */
+        double key;
+
+        /**
+         * The value
+         */
+        T value;
+    }
+
+    /**
+     * Task sampling the range of the list.
+     *
+     * @param <T> type of sampled values
+     */
+    @RequiredArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class SamplingTask<T> extends RecursiveTask<BottomKSample<T>> {
+
+        private static final long serialVersionUID = 0L;
+
+        /**
+         * Values from which to get random ones
+         */
+        @NonNull List<? extends T> values;
+
+        /**
+         * Start index (inclusive) of the sampled range
+         */
+        int from;
+
+        /**
+         * End index (exclusive) of the sampled range
+         */
+        int to;
+
+        /**
+         * Amount of values to get
+         */
+        int count;
+
+        /**
+         * Random used exclusively by this task
+         */
+        @NonNull SplittableRandom random;
+
+        @Override
+        protected BottomKSample<T> compute() {
+            if (to - from <= PARALLEL_SAMPLING_THRESHOLD) {
+                val sample = new BottomKSample<T>(count);
+                for (var i = from; i < to; i++) sample.add(random.nextDouble(), values.get(i));
+
+                return sample;
+            }
+
+            val middle = (from + to) >>> 1;
+            val left = new SamplingTask<T>(values, from, middle, count, random.split());
+            left.fork();
+
+            return new SamplingTask<T>(values, middle, to, count, random.split()).compute().merge(left.join());
+        }
+    }
 }
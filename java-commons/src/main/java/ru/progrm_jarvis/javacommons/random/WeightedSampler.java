@@ -0,0 +1,169 @@
+package ru.progrm_jarvis.javacommons.random;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Immutable sampler of values considering their weights
+ * which gets a random value in constant time using Vose's alias method.
+ * <p>
+ * Unless a specific {@link Random} is given, {@link ThreadLocalRandom} is used so the sampler is thread-safe.
+ *
+ * @param <T> type of sampled values
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class WeightedSampler<T> {
+
+    /**
+     * Sampled values
+     */
+    @NonNull T[] values;
+
+    /**
+     * Probabilities of each column to pick its own value rather than its alias
+     */
+    @ToString.Exclude @NonNull double[] probabilities;
+
+    /**
+     * Indices of values picked by each column when it does not pick its own value
+     */
+    @ToString.Exclude @NonNull int[] aliases;
+
+    /**
+     * Creates a new weighted sampler of the given values.
+     *
+     * @param weightedValues values to sample associated with their weights
+     * @param <T> type of sampled values
+     * @return created weighted sampler
+     *
+     * @throws IllegalArgumentException if there are no values or any weight is not positive and finite
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public static <T> WeightedSampler<T> create(
+            @NonNull final Map<? extends T, ? extends Number> weightedValues
+    ) {
+        val size = weightedValues.size();
+        checkArgument(size > 0, "There should be at least one weighted value");
+
+        val values = (T[]) new Object[size];
+        // weights scaled so that their average is 1
+        val scaledWeights = new double[size];
+        {
+            var weightsSum = 0D;
+            var i = 0;
+            for (val entry : weightedValues.entrySet()) {
+                val weight = entry.getValue().doubleValue();
+                checkArgument(weight > 0 && weight < Double.POSITIVE_INFINITY, "Weights should all be positive");
+
+                values[i] = entry.getKey();
+                scaledWeights[i++] = weight;
+                weightsSum += weight;
+            }
+            checkArgument(weightsSum < Double.POSITIVE_INFINITY, "Sum of the weights should be finite");
+
+            // dividing first so that large weights do not overflow
+            for (i = 0; i < size; i++) scaledWeights[i] = scaledWeights[i] / weightsSum * size;
+        }
+
+        val probabilities = new double[size];
+        val aliases = new int[size];
+
+        // stacks of indices of the columns whose scaled weights are less than 1 and the other ones
+        val small = new int[size];
+        val large = new int[size];
+        var smallSize = 0;
+        var largeSize = 0;
+        for (var i = 0; i < size; i++) if (scaledWeights[i] < 1) small[smallSize++] = i;
+        else large[largeSize++] = i;
+
+        while (smallSize > 0 && largeSize > 0) {
+            val less = small[--smallSize];
+            val more = large[--largeSize];
+
+            probabilities[less] = scaledWeights[less];
+            aliases[less] = more;
+
+            // the larger column gives its excess to the smaller one
+            if ((scaledWeights[more] = scaledWeights[more] + scaledWeights[less] - 1) < 1) small[smallSize++] = more;
+            else large[largeSize++] = more;
+        }
+        // remaining columns are full (up to rounding errors)
+        while (largeSize > 0) probabilities[large[--largeSize]] = 1;
+        while (smallSize > 0) probabilities[small[--smallSize]] = 1;
+
+        return new WeightedSampler<>(values, probabilities, aliases);
+    }
+
+    /**
+     * Gets the amount of values sampled by this sampler.
+     *
+     * @return amount of sampled values
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Gets a random value considering its weight using {@link ThreadLocalRandom}.
+     *
+     * @return random value
+     */
+    public T sample() {
+        return sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Gets a random value considering its weight using the given random.
+     *
+     * @param random random used for sampling
+     * @return random value
+     */
+    public T sample(@NonNull final Random random) {
+        val column = random.nextInt(values.length);
+
+        return random.nextDouble() < probabilities[column] ? values[column] : values[aliases[column]];
+    }
+
+    /**
+     * Gets the given amount of random values (possibly repeating) considering their weights
+     * using {@link ThreadLocalRandom}.
+     *
+     * @param count amount of values to get
+     * @return list of random values
+     *
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    @NotNull public List<T> sample(final int count) {
+        checkArgument(count >= 0, "count should be non-negative");
+
+        val random = ThreadLocalRandom.current();
+        val values = this.values;
+        val probabilities = this.probabilities;
+        val aliases = this.aliases;
+        val size = values.length;
+
+        val samples = new ArrayList<T>(count);
+        for (var i = 0; i < count; i++) {
+            val column = random.nextInt(size);
+            samples.add(random.nextDouble() < probabilities[column] ? values[column] : values[aliases[column]]);
+        }
+
+        return samples;
+    }
+}
@@ -3,16 +3,50 @@ package ru.progrm_jarvis.javacommons.util;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import lombok.var;
 
+import java.nio.ByteBuffer;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
 /**
  * Utilities related to numbers.
  */
 @UtilityClass
 public class NumberUtil {
 
+    /**
+     * Maximal mantissa which is exactly representable by {@code double}
+     */
+    private final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    /**
+     * Maximal mantissa which is exactly representable by {@code float}
+     */
+    private final long MAX_EXACT_FLOAT_MANTISSA = 1L << 24;
+
+    /**
+     * Maximal amount of decimal digits which always fit into a {@code long} mantissa
+     */
+    private final int MAX_MANTISSA_DIGITS = 18;
+
+    /**
+     * Powers of {@code 10} which are exactly representable by {@code double}
+     */
+    private final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /**
+     * Powers of {@code 10} which are exactly representable by {@code float}
+     */
+    private final float[] EXACT_FLOAT_POWERS_OF_TEN = {
+            1e0F, 1e1F, 1e2F, 1e3F, 1e4F, 1e5F, 1e6F, 1e7F, 1e8F, 1e9F, 1e10F
+    };
+
     /**
      * Parses an {@code int} number.
      * <p>
@@ -185,4 +219,828 @@ public class NumberUtil {
     public OptionalLong parseLong(@NonNull final String possibleLong) {
         return parseLong(possibleLong, 10);
     }
+
+    /**
+     * Parses an {@code int} number from the range of the character sequence without allocating any objects.
+     *
+     * @param text character sequence which is expected to contain an {@code int} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the character sequence's bounds
+     */
+    public int parseInt(@NonNull final CharSequence text, final int fromIndex, final int toIndex,
+                        final int radix, final int defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, text.length());
+
+        return (int) parseInteger(
+                text, fromIndex, toIndex, radix, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue
+        );
+    }
+
+    /**
+     * Parses an {@code int} number from the range of the character array without allocating any objects.
+     *
+     * @param chars character array which is expected to contain an {@code int} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the array's bounds
+     */
+    public int parseInt(@NonNull final char[] chars, final int fromIndex, final int toIndex,
+                        final int radix, final int defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, chars.length);
+
+        return (int) parseInteger(
+                chars, fromIndex, toIndex, radix, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue
+        );
+    }
+
+    /**
+     * Parses an {@code int} number from the range of the buffer of ASCII characters without allocating any objects.
+     * The buffer's position is not changed.
+     *
+     * @param buffer buffer which is expected to contain an {@code int} number in the given range
+     * @param fromIndex absolute index of the first byte of the number (inclusive)
+     * @param toIndex absolute index of the last byte of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the buffer's limit
+     */
+    public int parseInt(@NonNull final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                        final int radix, final int defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, buffer.limit());
+
+        return (int) parseInteger(
+                buffer, fromIndex, toIndex, radix, Integer.MIN_VALUE, Integer.MAX_VALUE, defaultValue
+        );
+    }
+
+    /**
+     * Parses a {@code long} number from the range of the character sequence without allocating any objects.
+     *
+     * @param text character sequence which is expected to contain a {@code long} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the character sequence's bounds
+     */
+    public long parseLong(@NonNull final CharSequence text, final int fromIndex, final int toIndex,
+                          final int radix, final long defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, text.length());
+
+        return parseInteger(text, fromIndex, toIndex, radix, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses a {@code long} number from the range of the character array without allocating any objects.
+     *
+     * @param chars character array which is expected to contain a {@code long} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the array's bounds
+     */
+    public long parseLong(@NonNull final char[] chars, final int fromIndex, final int toIndex,
+                          final int radix, final long defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, chars.length);
+
+        return parseInteger(chars, fromIndex, toIndex, radix, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses a {@code long} number from the range of the buffer of ASCII characters without allocating any objects.
+     * The buffer's position is not changed.
+     *
+     * @param buffer buffer which is expected to contain a {@code long} number in the given range
+     * @param fromIndex absolute index of the first byte of the number (inclusive)
+     * @param toIndex absolute index of the last byte of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the buffer's limit
+     */
+    public long parseLong(@NonNull final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                          final int radix, final long defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, buffer.limit());
+
+        return parseInteger(buffer, fromIndex, toIndex, radix, Long.MIN_VALUE, Long.MAX_VALUE, defaultValue);
+    }
+
+    /**
+     * Parses a {@code double} number from the range of the character sequence.
+     * <p>
+     * The number should be written in decimal notation ({@code [+-]digits[.digits][(e|E)[+-]digits]},
+     * either the integer or the fractional part may be omitted) or be one of {@code [+-]NaN} and {@code [+-]Infinity}.
+     * Unlike {@link Double#parseDouble(String)} this does not allow whitespaces, type suffixes
+     * and hexadecimal notation.
+     * <p>
+     * Numbers whose significant digits form a mantissa of at most 2<sup>53</sup>
+     * (so all the numbers of at most 15 significant digits) and whose decimal exponent is small enough
+     * are parsed without allocating any objects, the other ones fall back to {@link Double#parseDouble(String)}.
+     *
+     * @param text character sequence which is expected to contain a {@code double} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the character sequence's bounds
+     */
+    public double parseDouble(@NonNull final CharSequence text, final int fromIndex, final int toIndex,
+                              final double defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, text.length());
+
+        return parseFloating(text, fromIndex, toIndex, false, defaultValue);
+    }
+
+    /**
+     * Parses a {@code double} number from the range of the character array
+     * following the rules of {@link #parseDouble(CharSequence, int, int, double)}.
+     *
+     * @param chars character array which is expected to contain a {@code double} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the array's bounds
+     */
+    public double parseDouble(@NonNull final char[] chars, final int fromIndex, final int toIndex,
+                              final double defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, chars.length);
+
+        return parseFloating(chars, fromIndex, toIndex, false, defaultValue);
+    }
+
+    /**
+     * Parses a {@code double} number from the range of the buffer of ASCII characters
+     * following the rules of {@link #parseDouble(CharSequence, int, int, double)}.
+     * The buffer's position is not changed.
+     *
+     * @param buffer buffer which is expected to contain a {@code double} number in the given range
+     * @param fromIndex absolute index of the first byte of the number (inclusive)
+     * @param toIndex absolute index of the last byte of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the buffer's limit
+     */
+    public double parseDouble(@NonNull final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                              final double defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, buffer.limit());
+
+        return parseFloating(buffer, fromIndex, toIndex, false, defaultValue);
+    }
+
+    /**
+     * Parses a {@code float} number from the range of the character sequence
+     * following the rules of {@link #parseDouble(CharSequence, int, int, double)}.
+     * <p>
+     * Numbers whose significant digits form a mantissa of at most 2<sup>24</sup>
+     * (so all the numbers of at most 7 significant digits) and whose decimal exponent is small enough
+     * are parsed without allocating any objects, the other ones fall back to {@link Float#parseFloat(String)}.
+     *
+     * @param text character sequence which is expected to contain a {@code float} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the character sequence's bounds
+     */
+    public float parseFloat(@NonNull final CharSequence text, final int fromIndex, final int toIndex,
+                            final float defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, text.length());
+
+        return (float) parseFloating(text, fromIndex, toIndex, true, defaultValue);
+    }
+
+    /**
+     * Parses a {@code float} number from the range of the character array
+     * following the rules of {@link #parseFloat(CharSequence, int, int, float)}.
+     *
+     * @param chars character array which is expected to contain a {@code float} number in the given range
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the array's bounds
+     */
+    public float parseFloat(@NonNull final char[] chars, final int fromIndex, final int toIndex,
+                            final float defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, chars.length);
+
+        return (float) parseFloating(chars, fromIndex, toIndex, true, defaultValue);
+    }
+
+    /**
+     * Parses a {@code float} number from the range of the buffer of ASCII characters
+     * following the rules of {@link #parseFloat(CharSequence, int, int, float)}.
+     * The buffer's position is not changed.
+     *
+     * @param buffer buffer which is expected to contain a {@code float} number in the given range
+     * @param fromIndex absolute index of the first byte of the number (inclusive)
+     * @param toIndex absolute index of the last byte of the number (exclusive)
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     *
+     * @throws IndexOutOfBoundsException if the range is out of the buffer's limit
+     */
+    public float parseFloat(@NonNull final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                            final float defaultValue) {
+        checkPositionIndexes(fromIndex, toIndex, buffer.limit());
+
+        return (float) parseFloating(buffer, fromIndex, toIndex, true, defaultValue);
+    }
+
+    /**
+     * Checks whether the range of the character sequence consists of the given characters.
+     *
+     * @param text {@link CharSequence character sequence}
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @param expected expected characters
+     * @return {@code true} if the range consists of the given characters and {@code false} otherwise
+     */
+    private boolean rangeEquals(final CharSequence text, final int fromIndex, final int toIndex,
+                                @NonNull final String expected) {
+        val length = expected.length();
+        if (toIndex - fromIndex != length) return false;
+        for (var i = 0; i < length; i++) if (text.charAt(fromIndex + i) != expected.charAt(i)) return false;
+
+        return true;
+    }
+
+    /**
+     * Checks whether the range of the character array consists of the given characters.
+     *
+     * @param chars character array
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @param expected expected characters
+     * @return {@code true} if the range consists of the given characters and {@code false} otherwise
+     */
+    private boolean rangeEquals(final char[] chars, final int fromIndex, final int toIndex,
+                                @NonNull final String expected) {
+        val length = expected.length();
+        if (toIndex - fromIndex != length) return false;
+        for (var i = 0; i < length; i++) if (chars[fromIndex + i] != expected.charAt(i)) return false;
+
+        return true;
+    }
+
+    /**
+     * Checks whether the range of the buffer consists of the given characters.
+     *
+     * @param buffer {@link ByteBuffer buffer} of ASCII characters
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @param expected expected characters
+     * @return {@code true} if the range consists of the given characters and {@code false} otherwise
+     */
+    private boolean rangeEquals(final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                                @NonNull final String expected) {
+        val length = expected.length();
+        if (toIndex - fromIndex != length) return false;
+        for (var i = 0; i < length; i++) {
+            if ((char) (buffer.get(fromIndex + i) & 0xFF) != expected.charAt(i)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Creates a string of the range of the character sequence.
+     *
+     * @param text {@link CharSequence character sequence}
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @return string of the range of the character sequence
+     */
+    private String rangeToString(final CharSequence text, final int fromIndex, final int toIndex) {
+        return text.subSequence(fromIndex, toIndex).toString();
+    }
+
+    /**
+     * Creates a string of the range of the character array.
+     *
+     * @param chars character array
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @return string of the range of the character array
+     */
+    private String rangeToString(final char[] chars, final int fromIndex, final int toIndex) {
+        return new String(chars, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Creates a string of the range of the buffer.
+     *
+     * @param buffer {@link ByteBuffer buffer} of ASCII characters
+     * @param fromIndex index of the first character of the range (inclusive)
+     * @param toIndex index of the last character of the range (exclusive)
+     * @return string of the range of the buffer
+     */
+    private String rangeToString(final ByteBuffer buffer, final int fromIndex, final int toIndex) {
+        val chars = new char[toIndex - fromIndex];
+        for (var i = 0; i < chars.length; i++) chars[i] = (char) (buffer.get(fromIndex + i) & 0xFF);
+
+        return new String(chars);
+    }
+
+    /**
+     * Parses an integer number in the given bounds from the range of the character sequence.
+     * <p>
+     * This uses the same algorithm as {@link #parseLong(String, int)}.
+     *
+     * @param text {@link CharSequence character sequence}
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param minValue minimal allowed value of the number
+     * @param maxValue maximal allowed value of the number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     */
+    private long parseInteger(final CharSequence text, final int fromIndex, final int toIndex, final int radix,
+                              final long minValue, final long maxValue, final long defaultValue) {
+        // check radix bounds and range length
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || fromIndex == toIndex) return defaultValue;
+
+        final boolean negative;
+        final long limit;
+        var currentIndex = fromIndex;
+        { // check sign by first char (may be implicit '+')
+            val firstChar = text.charAt(currentIndex);
+            if (firstChar < '0') { // first char is not a digit
+                switch (firstChar) {
+                    case '-': {
+                        negative = true;
+                        limit = minValue;
+                        break;
+                    }
+                    case '+': {
+                        negative = false;
+                        limit = -maxValue;
+                        break;
+                    }
+                    default: return defaultValue;
+                }
+
+                // it is not a number if there is only sign without digits
+                if (++currentIndex == toIndex) return defaultValue;
+            } else {
+                negative = false;
+                limit = -maxValue;
+            }
+        }
+
+        val bound = limit / radix;
+        var negativeResult = 0L;
+        do {
+            val digit = Character.digit(text.charAt(currentIndex), radix);
+            // check if it really is a digit and if corresponds to bound
+            if (digit < 0 || negativeResult < bound) return defaultValue;
+            // move the pre-number to the left leaving a last zero for a new sign
+            negativeResult *= radix;
+            // check if the number is OK with the limit
+            if (negativeResult < limit + digit) return defaultValue;
+            // update the result
+            negativeResult -= digit;
+        } while (++currentIndex < toIndex);
+
+        return negative ? negativeResult : -negativeResult;
+    }
+
+    /**
+     * Parses an integer number in the given bounds from the range of the character array.
+     * <p>
+     * This uses the same algorithm as {@link #parseLong(String, int)}.
+     *
+     * @param chars character array
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param minValue minimal allowed value of the number
+     * @param maxValue maximal allowed value of the number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     */
+    private long parseInteger(final char[] chars, final int fromIndex, final int toIndex, final int radix,
+                              final long minValue, final long maxValue, final long defaultValue) {
+        // check radix bounds and range length
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || fromIndex == toIndex) return defaultValue;
+
+        final boolean negative;
+        final long limit;
+        var currentIndex = fromIndex;
+        { // check sign by first char (may be implicit '+')
+            val firstChar = chars[currentIndex];
+            if (firstChar < '0') { // first char is not a digit
+                switch (firstChar) {
+                    case '-': {
+                        negative = true;
+                        limit = minValue;
+                        break;
+                    }
+                    case '+': {
+                        negative = false;
+                        limit = -maxValue;
+                        break;
+                    }
+                    default: return defaultValue;
+                }
+
+                // it is not a number if there is only sign without digits
+                if (++currentIndex == toIndex) return defaultValue;
+            } else {
+                negative = false;
+                limit = -maxValue;
+            }
+        }
+
+        val bound = limit / radix;
+        var negativeResult = 0L;
+        do {
+            val digit = Character.digit(chars[currentIndex], radix);
+            // check if it really is a digit and if corresponds to bound
+            if (digit < 0 || negativeResult < bound) return defaultValue;
+            // move the pre-number to the left leaving a last zero for a new sign
+            negativeResult *= radix;
+            // check if the number is OK with the limit
+            if (negativeResult < limit + digit) return defaultValue;
+            // update the result
+            negativeResult -= digit;
+        } while (++currentIndex < toIndex);
+
+        return negative ? negativeResult : -negativeResult;
+    }
+
+    /**
+     * Parses an integer number in the given bounds from the range of the buffer.
+     * <p>
+     * This uses the same algorithm as {@link #parseLong(String, int)}.
+     *
+     * @param buffer {@link ByteBuffer buffer} of ASCII characters
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param radix radix of the possible number
+     * @param minValue minimal allowed value of the number
+     * @param maxValue maximal allowed value of the number
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed
+     */
+    private long parseInteger(final ByteBuffer buffer, final int fromIndex, final int toIndex, final int radix,
+                              final long minValue, final long maxValue, final long defaultValue) {
+        // check radix bounds and range length
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX || fromIndex == toIndex) return defaultValue;
+
+        final boolean negative;
+        final long limit;
+        var currentIndex = fromIndex;
+        { // check sign by first char (may be implicit '+')
+            val firstChar = (char) (buffer.get(currentIndex) & 0xFF);
+            if (firstChar < '0') { // first char is not a digit
+                switch (firstChar) {
+                    case '-': {
+                        negative = true;
+                        limit = minValue;
+                        break;
+                    }
+                    case '+': {
+                        negative = false;
+                        limit = -maxValue;
+                        break;
+                    }
+                    default: return defaultValue;
+                }
+
+                // it is not a number if there is only sign without digits
+                if (++currentIndex == toIndex) return defaultValue;
+            } else {
+                negative = false;
+                limit = -maxValue;
+            }
+        }
+
+        val bound = limit / radix;
+        var negativeResult = 0L;
+        do {
+            val digit = Character.digit((char) (buffer.get(currentIndex) & 0xFF), radix);
+            // check if it really is a digit and if corresponds to bound
+            if (digit < 0 || negativeResult < bound) return defaultValue;
+            // move the pre-number to the left leaving a last zero for a new sign
+            negativeResult *= radix;
+            // check if the number is OK with the limit
+            if (negativeResult < limit + digit) return defaultValue;
+            // update the result
+            negativeResult -= digit;
+        } while (++currentIndex < toIndex);
+
+        return negative ? negativeResult : -negativeResult;
+    }
+
+    /**
+     * Parses a floating-point number from the range of the character sequence.
+     *
+     * @param text {@link CharSequence character sequence}
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param single {@code true} if the number should be parsed as {@code float}
+     * and {@code false} if it should be parsed as {@code double}
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed,
+     * the number is exactly representable by {@code float} if {@code single} is {@code true}
+     */
+    private double parseFloating(final CharSequence text, final int fromIndex, final int toIndex,
+                                 final boolean single, final double defaultValue) {
+        if (fromIndex == toIndex) return defaultValue;
+
+        var currentIndex = fromIndex;
+        final boolean negative;
+        {
+            val firstChar = text.charAt(currentIndex);
+            if ((negative = firstChar == '-') || firstChar == '+') currentIndex++;
+        }
+
+        if (rangeEquals(text, currentIndex, toIndex, "Infinity")) return negative
+                ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        if (rangeEquals(text, currentIndex, toIndex, "NaN")) return Double.NaN;
+
+        var mantissa = 0L;
+        // amount of significant digits (the ones following the leading zeroes) of the mantissa
+        var mantissaDigits = 0;
+        var exponent = 0;
+        var hasDigits = false;
+        var hasPoint = false;
+        char character = 0;
+        for (; currentIndex < toIndex; currentIndex++) {
+            character = text.charAt(currentIndex);
+            if (character >= '0' && character <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || character != '0') {
+                    if (mantissaDigits < MAX_MANTISSA_DIGITS) mantissa = mantissa * 10 + (character - '0');
+                    else exponent++; // the digit is dropped so it only affects the exponent
+                    mantissaDigits++;
+                }
+                if (hasPoint) exponent--;
+            } else if (character == '.' && !hasPoint) hasPoint = true;
+            else break;
+        }
+        if (!hasDigits) return defaultValue;
+
+        if (currentIndex < toIndex) { // exponent part
+            if (character != 'e' && character != 'E' || ++currentIndex == toIndex) return defaultValue;
+
+            character = text.charAt(currentIndex);
+            final boolean negativeExponent;
+            if ((negativeExponent = character == '-') || character == '+') {
+                if (++currentIndex == toIndex) return defaultValue;
+            }
+
+            var explicitExponent = 0;
+            do {
+                character = text.charAt(currentIndex);
+                if (character < '0' || character > '9') return defaultValue;
+                // values this large only mean that the number is either zero or infinite
+                if (explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + (character - '0');
+            } while (++currentIndex < toIndex);
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (mantissa == 0) return negative ? -0D : 0D;
+        if (isExactFloating(mantissa, mantissaDigits, exponent, single)) {
+            return exactFloating(negative, mantissa, exponent, single);
+        }
+
+        // the syntax has already been validated so parsing does not fail
+        val string = rangeToString(text, fromIndex, toIndex);
+
+        return single ? Float.parseFloat(string) : Double.parseDouble(string);
+    }
+
+    /**
+     * Parses a floating-point number from the range of the character array.
+     *
+     * @param chars character array
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param single {@code true} if the number should be parsed as {@code float}
+     * and {@code false} if it should be parsed as {@code double}
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed,
+     * the number is exactly representable by {@code float} if {@code single} is {@code true}
+     */
+    private double parseFloating(final char[] chars, final int fromIndex, final int toIndex,
+                                 final boolean single, final double defaultValue) {
+        if (fromIndex == toIndex) return defaultValue;
+
+        var currentIndex = fromIndex;
+        final boolean negative;
+        {
+            val firstChar = chars[currentIndex];
+            if ((negative = firstChar == '-') || firstChar == '+') currentIndex++;
+        }
+
+        if (rangeEquals(chars, currentIndex, toIndex, "Infinity")) return negative
+                ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        if (rangeEquals(chars, currentIndex, toIndex, "NaN")) return Double.NaN;
+
+        var mantissa = 0L;
+        // amount of significant digits (the ones following the leading zeroes) of the mantissa
+        var mantissaDigits = 0;
+        var exponent = 0;
+        var hasDigits = false;
+        var hasPoint = false;
+        char character = 0;
+        for (; currentIndex < toIndex; currentIndex++) {
+            character = chars[currentIndex];
+            if (character >= '0' && character <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || character != '0') {
+                    if (mantissaDigits < MAX_MANTISSA_DIGITS) mantissa = mantissa * 10 + (character - '0');
+                    else exponent++; // the digit is dropped so it only affects the exponent
+                    mantissaDigits++;
+                }
+                if (hasPoint) exponent--;
+            } else if (character == '.' && !hasPoint) hasPoint = true;
+            else break;
+        }
+        if (!hasDigits) return defaultValue;
+
+        if (currentIndex < toIndex) { // exponent part
+            if (character != 'e' && character != 'E' || ++currentIndex == toIndex) return defaultValue;
+
+            character = chars[currentIndex];
+            final boolean negativeExponent;
+            if ((negativeExponent = character == '-') || character == '+') {
+                if (++currentIndex == toIndex) return defaultValue;
+            }
+
+            var explicitExponent = 0;
+            do {
+                character = chars[currentIndex];
+                if (character < '0' || character > '9') return defaultValue;
+                // values this large only mean that the number is either zero or infinite
+                if (explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + (character - '0');
+            } while (++currentIndex < toIndex);
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (mantissa == 0) return negative ? -0D : 0D;
+        if (isExactFloating(mantissa, mantissaDigits, exponent, single)) {
+            return exactFloating(negative, mantissa, exponent, single);
+        }
+
+        // the syntax has already been validated so parsing does not fail
+        val string = rangeToString(chars, fromIndex, toIndex);
+
+        return single ? Float.parseFloat(string) : Double.parseDouble(string);
+    }
+
+    /**
+     * Parses a floating-point number from the range of the buffer.
+     *
+     * @param buffer {@link ByteBuffer buffer} of ASCII characters
+     * @param fromIndex index of the first character of the number (inclusive)
+     * @param toIndex index of the last character of the number (exclusive)
+     * @param single {@code true} if the number should be parsed as {@code float}
+     * and {@code false} if it should be parsed as {@code double}
+     * @param defaultValue value returned if the number could not be parsed
+     * @return parsed number or {@code defaultValue} if it could not be parsed,
+     * the number is exactly representable by {@code float} if {@code single} is {@code true}
+     */
+    private double parseFloating(final ByteBuffer buffer, final int fromIndex, final int toIndex,
+                                 final boolean single, final double defaultValue) {
+        if (fromIndex == toIndex) return defaultValue;
+
+        var currentIndex = fromIndex;
+        final boolean negative;
+        {
+            val firstChar = (char) (buffer.get(currentIndex) & 0xFF);
+            if ((negative = firstChar == '-') || firstChar == '+') currentIndex++;
+        }
+
+        if (rangeEquals(buffer, currentIndex, toIndex, "Infinity")) return negative
+                ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        if (rangeEquals(buffer, currentIndex, toIndex, "NaN")) return Double.NaN;
+
+        var mantissa = 0L;
+        // amount of significant digits (the ones following the leading zeroes) of the mantissa
+        var mantissaDigits = 0;
+        var exponent = 0;
+        var hasDigits = false;
+        var hasPoint = false;
+        char character = 0;
+        for (; currentIndex < toIndex; currentIndex++) {
+            character = (char) (buffer.get(currentIndex) & 0xFF);
+            if (character >= '0' && character <= '9') {
+                hasDigits = true;
+                if (mantissa != 0 || character != '0') {
+                    if (mantissaDigits < MAX_MANTISSA_DIGITS) mantissa = mantissa * 10 + (character - '0');
+                    else exponent++; // the digit is dropped so it only affects the exponent
+                    mantissaDigits++;
+                }
+                if (hasPoint) exponent--;
+            } else if (character == '.' && !hasPoint) hasPoint = true;
+            else break;
+        }
+        if (!hasDigits) return defaultValue;
+
+        if (currentIndex < toIndex) { // exponent part
+            if (character != 'e' && character != 'E' || ++currentIndex == toIndex) return defaultValue;
+
+            character = (char) (buffer.get(currentIndex) & 0xFF);
+            final boolean negativeExponent;
+            if ((negativeExponent = character == '-') || character == '+') {
+                if (++currentIndex == toIndex) return defaultValue;
+            }
+
+            var explicitExponent = 0;
+            do {
+                character = (char) (buffer.get(currentIndex) & 0xFF);
+                if (character < '0' || character > '9') return defaultValue;
+                // values this large only mean that the number is either zero or infinite
+                if (explicitExponent < 100_000) explicitExponent = explicitExponent * 10 + (character - '0');
+            } while (++currentIndex < toIndex);
+
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+
+        if (mantissa == 0) return negative ? -0D : 0D;
+        if (isExactFloating(mantissa, mantissaDigits, exponent, single)) {
+            return exactFloating(negative, mantissa, exponent, single);
+        }
+
+        // the syntax has already been validated so parsing does not fail
+        val string = rangeToString(buffer, fromIndex, toIndex);
+
+        return single ? Float.parseFloat(string) : Double.parseDouble(string);
+    }
+
+    /**
+     * Checks whether the floating-point number can be computed by {@link #exactFloating(boolean, long, int, boolean)}.
+     *
+     * @param mantissa non-zero mantissa of the number
+     * @param mantissaDigits amount of significant digits of the mantissa
+     * @param exponent decimal exponent of the number
+     * @param single {@code true} if the number is {@code float} and {@code false} if it is {@code double}
+     * @return {@code true} if both the mantissa and the power of ten are exactly representable
+     * so that the result of their operation is correctly rounded and {@code false} otherwise
+     */
+    private boolean isExactFloating(final long mantissa, final int mantissaDigits, final int exponent,
+                                    final boolean single) {
+        if (mantissaDigits > MAX_MANTISSA_DIGITS) return false; // some digits were dropped
+
+        return single
+                ? mantissa <= MAX_EXACT_FLOAT_MANTISSA && exponent >= -10 && exponent <= 10
+                : mantissa <= MAX_EXACT_DOUBLE_MANTISSA && exponent >= -22 && exponent <= 22;
+    }
+
+    /**
+     * Computes the floating-point number whose mantissa and power of ten are exactly representable.
+     *
+     * @param negative {@code true} if the number is negative and {@code false} otherwise
+     * @param mantissa mantissa of the number
+     * @param exponent decimal exponent of the number
+     * @param single {@code true} if the number is {@code float} and {@code false} if it is {@code double}
+     * @return computed number
+     *
+     * @see #isExactFloating(long, int, int, boolean) check whether this method can be used
+     */
+    private double exactFloating(final boolean negative, final long mantissa, final int exponent,
+                                 final boolean single) {
+        if (single) {
+            val value = exponent < 0
+                    ? (float) mantissa / EXACT_FLOAT_POWERS_OF_TEN[-exponent]
+                    : (float) mantissa * EXACT_FLOAT_POWERS_OF_TEN[exponent];
+
+            return negative ? -value : value;
+        }
+
+        val value = exponent < 0
+                ? (double) mantissa / EXACT_DOUBLE_POWERS_OF_TEN[-exponent]
+                : (double) mantissa * EXACT_DOUBLE_POWERS_OF_TEN[exponent];
+
+        return negative ? -value : value;
+    }
 }
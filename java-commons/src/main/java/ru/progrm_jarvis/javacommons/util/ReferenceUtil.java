@@ -1,8 +1,14 @@
 package ru.progrm_jarvis.javacommons.util;
 
+import lombok.AccessLevel;
 import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
 import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 
 /**
@@ -16,6 +22,11 @@ public class ReferenceUtil {
      */
     @NonNull private final WeakReference<?> WEAK_REFERENCE_STUB = new WeakReference<>(null);
 
+    /**
+     * Stub of a {@link SoftReference} actually referencing {@code null}
+     */
+    @NonNull private final SoftReference<?> SOFT_REFERENCE_STUB = new SoftReference<>(null);
+
     /**
      * Gets a {@link WeakReference} stub singleton.
      *
@@ -26,4 +37,109 @@ public class ReferenceUtil {
     public static <T> WeakReference<T> weakReferenceStub() {
         return (WeakReference<T>) WEAK_REFERENCE_STUB;
     }
+
+    /**
+     * Gets a {@link SoftReference} stub singleton.
+     *
+     * @param <T> type of value intended to be referenced
+     * @return {@link SoftReference} stub singleton
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SoftReference<T> softReferenceStub() {
+        return (SoftReference<T>) SOFT_REFERENCE_STUB;
+    }
+
+    /**
+     * Creates a new {@link SoftReference} to the given value
+     * which runs the given action once the value gets garbage-collected.
+     * <p>
+     * Cleanup actions are run by a single shared daemon thread polling the common {@link ReferenceQueue}
+     * so they should be fast and should not throw exceptions (which are ignored).
+     *
+     * @param value value to be referenced
+     * @param cleanupAction action to be run once the value gets garbage-collected,
+     * it should not reference the value as it would never get garbage-collected otherwise
+     * @param <T> type of value referenced
+     * @return created soft reference
+     *
+     * @apiNote the cleanup action is only run if the returned reference is still reachable
+     * when the value gets garbage-collected
+     */
+    @NotNull public <T> SoftReference<T> softReference(@NonNull final T value, @NonNull final Runnable cleanupAction) {
+        return new CleanableSoftReference<>(value, CleanupDaemon.QUEUE, cleanupAction);
+    }
+
+    /**
+     * Stops the daemon thread running the cleanup actions of the references
+     * created by {@link #softReference(Object, Runnable)}.
+     * <p>
+     * Cleanup actions of the references whose referents get garbage-collected after this are not run.
+     *
+     * @apiNote this is intended to be called when this library is being unloaded
+     * so that its daemon thread does not keep its class loader from being garbage-collected
+     */
+    public void stopCleanupDaemon() {
+        CleanupDaemon.THREAD.interrupt();
+    }
+
+    /**
+     * Soft reference running the cleanup action once its referent gets garbage-collected.
+     *
+     * @param <T> type of value referenced
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class CleanableSoftReference<T> extends SoftReference<T> {
+
+        /**
+         * Action to be run once the referent gets garbage-collected
+         */
+        @NonNull Runnable cleanupAction;
+
+        private CleanableSoftReference(@NonNull final T referent, @NonNull final ReferenceQueue<? super T> queue,
+                                       @NonNull final Runnable cleanupAction) {
+            super(referent, queue);
+            this.cleanupAction = cleanupAction;
+        }
+    }
+
+    /**
+     * Holder of the common reference queue whose daemon thread gets started on the first use of the queue.
+     */
+    private static final class CleanupDaemon {
+
+        /**
+         * Queue of the references whose referents have been garbage-collected
+         */
+        private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+        /**
+         * Daemon thread running the cleanup actions
+         */
+        private static final Thread THREAD = new Thread(CleanupDaemon::run, "PADLA Reference Cleanup Daemon");
+
+        static {
+            THREAD.setDaemon(true);
+            THREAD.start();
+        }
+
+        /**
+         * Runs the cleanup actions of the enqueued references until the thread gets interrupted.
+         */
+        private static void run() {
+            while (true) {
+                final Reference<?> reference;
+                try {
+                    reference = QUEUE.remove();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    return;
+                }
+
+                if (reference instanceof CleanableSoftReference) try {
+                    ((CleanableSoftReference<?>) reference).cleanupAction.run();
+                } catch (final Throwable ignored) {}
+            }
+        }
+    }
 }
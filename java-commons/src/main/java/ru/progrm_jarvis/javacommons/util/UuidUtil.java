@@ -3,18 +3,56 @@ package ru.progrm_jarvis.javacommons.util;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.val;
+import lombok.var;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * Utility for {@link UUID}-related functionality.
+ * <p>
+ * Binary form of a UUID is its most significant bits followed by its least significant bits
+ * both written in big-endian byte order.
  */
 @UtilityClass
 public class UuidUtil {
 
+    /**
+     * Amount of bytes in the binary form of a UUID
+     */
+    public final int UUID_BYTES = 16;
+
+    /**
+     * Length of the canonical string form of a UUID
+     */
+    public final int UUID_STRING_LENGTH = 36;
+
+    /**
+     * Lower-case hexadecimal digits associated with their values
+     */
+    private final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Values of hexadecimal digits associated with their characters, {@code -1} for non-digits
+     */
+    private final byte[] HEX_DIGIT_VALUES;
+
+    static {
+        val hexDigitValues = new byte[128];
+        Arrays.fill(hexDigitValues, (byte) -1);
+        for (var digit = 0; digit < 10; digit++) hexDigitValues['0' + digit] = (byte) digit;
+        for (var digit = 0; digit < 6; digit++) hexDigitValues['a' + digit] = hexDigitValues['A' + digit]
+                = (byte) (10 + digit);
+
+        HEX_DIGIT_VALUES = hexDigitValues;
+    }
+
     /**
      * Converts {@link UUID} into an array of 16 {@link byte}s.
      *
@@ -24,11 +62,10 @@ public class UuidUtil {
      * @see #uuidFromBytes(byte[]) for backward conversion
      */
     public byte[] uuidToBytes(@NonNull final UUID uuid) {
-        val buffer = ByteBuffer.wrap(new byte[16]);
-        buffer.putLong(uuid.getMostSignificantBits());
-        buffer.putLong(uuid.getLeastSignificantBits());
+        val bytes = new byte[UUID_BYTES];
+        writeUuid(uuid, bytes, 0);
 
-        return buffer.array();
+        return bytes;
     }
 
     /**
@@ -40,9 +77,285 @@ public class UuidUtil {
      * @see #uuidToBytes(UUID) for backward conversion
      */
     public UUID uuidFromBytes(@NonNull final byte[] bytes) {
-        checkArgument(bytes.length == 16, "bytes length should be 16");
+        checkArgument(bytes.length == UUID_BYTES, "bytes length should be 16");
+
+        return readUuid(bytes, 0);
+    }
+
+    /**
+     * Writes the binary form of the {@link UUID} into the array at the given offset.
+     *
+     * @param uuid UUID to write
+     * @param target array to which the UUID should be written
+     * @param offset index of the array from which the UUID should be written
+     *
+     * @throws IndexOutOfBoundsException if there are less than 16 bytes in the array starting from the offset
+     *
+     * @see #readUuid(byte[], int) for backward conversion
+     */
+    public void writeUuid(@NonNull final UUID uuid, @NonNull final byte[] target, final int offset) {
+        if (offset < 0 || offset > target.length - UUID_BYTES) throw new IndexOutOfBoundsException(
+                "There should be 16 bytes in the array starting from offset " + offset
+        );
+
+        writeLong(uuid.getMostSignificantBits(), target, offset);
+        writeLong(uuid.getLeastSignificantBits(), target, offset + 8);
+    }
+
+    /**
+     * Reads the binary form of a {@link UUID} from the array at the given offset.
+     *
+     * @param source array from which the UUID should be read
+     * @param offset index of the array from which the UUID should be read
+     * @return read UUID
+     *
+     * @throws IndexOutOfBoundsException if there are less than 16 bytes in the array starting from the offset
+     *
+     * @see #writeUuid(UUID, byte[], int) for backward conversion
+     */
+    public UUID readUuid(@NonNull final byte[] source, final int offset) {
+        if (offset < 0 || offset > source.length - UUID_BYTES) throw new IndexOutOfBoundsException(
+                "There should be 16 bytes in the array starting from offset " + offset
+        );
+
+        return new UUID(readLong(source, offset), readLong(source, offset + 8));
+    }
+
+    /**
+     * Writes the binary form of the {@link UUID} into the buffer at its current position
+     * regardless of the buffer's byte order.
+     *
+     * @param uuid UUID to write
+     * @param buffer buffer to which the UUID should be written
+     *
+     * @throws BufferOverflowException if there are less than 16 bytes remaining in the buffer
+     *
+     * @see #readUuid(ByteBuffer) for backward conversion
+     */
+    public void writeUuid(@NonNull final UUID uuid, @NonNull final ByteBuffer buffer) {
+        val position = buffer.position();
+        if (buffer.remaining() < UUID_BYTES) throw new BufferOverflowException();
+
+        writeUuid(uuid, buffer, position);
+        buffer.position(position + UUID_BYTES);
+    }
+
+    /**
+     * Writes the binary form of the {@link UUID} into the buffer at the given index
+     * regardless of the buffer's byte order without changing its position.
+     *
+     * @param uuid UUID to write
+     * @param buffer buffer to which the UUID should be written
+     * @param index index of the buffer from which the UUID should be written
+     *
+     * @throws IndexOutOfBoundsException if there are less than 16 bytes in the buffer starting from the index
+     *
+     * @see #readUuid(ByteBuffer, int) for backward conversion
+     */
+    public void writeUuid(@NonNull final UUID uuid, @NonNull final ByteBuffer buffer, final int index) {
+        if (index < 0 || index > buffer.limit() - UUID_BYTES) throw new IndexOutOfBoundsException(
+                "There should be 16 bytes in the buffer starting from index " + index
+        );
+
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+            buffer.putLong(index, uuid.getMostSignificantBits());
+            buffer.putLong(index + 8, uuid.getLeastSignificantBits());
+        } else {
+            buffer.putLong(index, Long.reverseBytes(uuid.getMostSignificantBits()));
+            buffer.putLong(index + 8, Long.reverseBytes(uuid.getLeastSignificantBits()));
+        }
+    }
+
+    /**
+     * Reads the binary form of a {@link UUID} from the buffer at its current position
+     * regardless of the buffer's byte order.
+     *
+     * @param buffer buffer from which the UUID should be read
+     * @return read UUID
+     *
+     * @throws BufferUnderflowException if there are less than 16 bytes remaining in the buffer
+     *
+     * @see #writeUuid(UUID, ByteBuffer) for backward conversion
+     */
+    public UUID readUuid(@NonNull final ByteBuffer buffer) {
+        val position = buffer.position();
+        if (buffer.remaining() < UUID_BYTES) throw new BufferUnderflowException();
+
+        val uuid = readUuid(buffer, position);
+        buffer.position(position + UUID_BYTES);
+
+        return uuid;
+    }
+
+    /**
+     * Reads the binary form of a {@link UUID} from the buffer at the given index
+     * regardless of the buffer's byte order without changing its position.
+     *
+     * @param buffer buffer from which the UUID should be read
+     * @param index index of the buffer from which the UUID should be read
+     * @return read UUID
+     *
+     * @throws IndexOutOfBoundsException if there are less than 16 bytes in the buffer starting from the index
+     *
+     * @see #writeUuid(UUID, ByteBuffer, int) for backward conversion
+     */
+    public UUID readUuid(@NonNull final ByteBuffer buffer, final int index) {
+        if (index < 0 || index > buffer.limit() - UUID_BYTES) throw new IndexOutOfBoundsException(
+                "There should be 16 bytes in the buffer starting from index " + index
+        );
+
+        return buffer.order() == ByteOrder.BIG_ENDIAN
+                ? new UUID(buffer.getLong(index), buffer.getLong(index + 8))
+                : new UUID(Long.reverseBytes(buffer.getLong(index)), Long.reverseBytes(buffer.getLong(index + 8)));
+    }
+
+    /**
+     * Converts the array of {@link UUID}s into an array of their binary forms following each other.
+     *
+     * @param uuids UUIDs to convert
+     * @return array of {@code 16 * uuids.length} bytes
+     *
+     * @see #uuidsFromBytes(byte[]) for backward conversion
+     */
+    public byte[] uuidsToBytes(@NonNull final UUID... uuids) {
+        val length = uuids.length;
+        val bytes = new byte[length * UUID_BYTES];
+        for (var i = 0; i < length; i++) writeUuid(uuids[i], bytes, i * UUID_BYTES);
+
+        return bytes;
+    }
+
+    /**
+     * Converts the array of binary forms of {@link UUID}s following each other into an array of UUIDs.
+     *
+     * @param bytes array of bytes whose length is a multiple of 16
+     * @return array of UUIDs
+     *
+     * @see #uuidsToBytes(UUID...) for backward conversion
+     */
+    public UUID[] uuidsFromBytes(@NonNull final byte[] bytes) {
+        checkArgument(bytes.length % UUID_BYTES == 0, "bytes length should be a multiple of 16");
+
+        val length = bytes.length / UUID_BYTES;
+        val uuids = new UUID[length];
+        for (var i = 0; i < length; i++) uuids[i] = readUuid(bytes, i * UUID_BYTES);
+
+        return uuids;
+    }
+
+    /**
+     * Converts {@link UUID} into its canonical string form
+     * ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx} of lower-case hexadecimal digits).
+     *
+     * @param uuid UUID to convert
+     * @return canonical string form of the UUID equal to {@link UUID#toString()}
+     *
+     * @see #uuidFromString(CharSequence) for backward conversion
+     */
+    public String uuidToString(@NonNull final UUID uuid) {
+        val chars = new char[UUID_STRING_LENGTH];
+        val mostSignificantBits = uuid.getMostSignificantBits();
+        val leastSignificantBits = uuid.getLeastSignificantBits();
+
+        writeHexDigits(mostSignificantBits >>> 32, chars, 0, 8);
+        chars[8] = '-';
+        writeHexDigits(mostSignificantBits >>> 16, chars, 9, 4);
+        chars[13] = '-';
+        writeHexDigits(mostSignificantBits, chars, 14, 4);
+        chars[18] = '-';
+        writeHexDigits(leastSignificantBits >>> 48, chars, 19, 4);
+        chars[23] = '-';
+        writeHexDigits(leastSignificantBits, chars, 24, 12);
+
+        return new String(chars);
+    }
+
+    /**
+     * Parses the canonical string form ({@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx} of hexadecimal digits)
+     * of a {@link UUID}.
+     * <p>
+     * Unlike {@link UUID#fromString(String)} this only accepts strings of exactly 36 characters.
+     *
+     * @param text canonical string form of a UUID
+     * @return parsed UUID
+     *
+     * @throws IllegalArgumentException if the text is not a canonical string form of a UUID
+     *
+     * @see #uuidToString(UUID) for backward conversion
+     */
+    public UUID uuidFromString(@NonNull final CharSequence text) {
+        checkArgument(text.length() == UUID_STRING_LENGTH, "UUID string should be 36 characters long");
+        checkArgument(
+                text.charAt(8) == '-' && text.charAt(13) == '-' && text.charAt(18) == '-' && text.charAt(23) == '-',
+                "UUID string should have dashes at positions 8, 13, 18 and 23"
+        );
+
+        return new UUID(
+                readHexDigits(text, 0, 8) << 32 | readHexDigits(text, 9, 4) << 16 | readHexDigits(text, 14, 4),
+                readHexDigits(text, 19, 4) << 48 | readHexDigits(text, 24, 12)
+        );
+    }
+
+    /**
+     * Writes the long into the array in big-endian byte order.
+     *
+     * @param value value to write
+     * @param target array to which the value should be written
+     * @param offset index of the array from which the value should be written
+     */
+    private void writeLong(final long value, @NonNull final byte[] target, final int offset) {
+        for (var i = 7; i >= 0; i--) target[offset + 7 - i] = (byte) (value >>> (i << 3));
+    }
+
+    /**
+     * Reads the long from the array in big-endian byte order.
+     *
+     * @param source array from which the value should be read
+     * @param offset index of the array from which the value should be read
+     * @return read value
+     */
+    private long readLong(@NonNull final byte[] source, final int offset) {
+        var value = 0L;
+        for (var i = 0; i < 8; i++) value = value << 8 | source[offset + i] & 0xFF;
+
+        return value;
+    }
+
+    /**
+     * Writes the lowest hexadecimal digits of the value into the array.
+     *
+     * @param value value whose digits should be written
+     * @param target array to which the digits should be written
+     * @param offset index of the array from which the digits should be written
+     * @param digits amount of digits to write
+     */
+    private void writeHexDigits(long value, @NonNull final char[] target, final int offset, final int digits) {
+        for (var i = offset + digits - 1; i >= offset; i--) {
+            target[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * Reads the hexadecimal digits from the text.
+     *
+     * @param text text from which the digits should be read
+     * @param offset index of the text from which the digits should be read
+     * @param digits amount of digits to read
+     * @return value of the read digits
+     *
+     * @throws IllegalArgumentException if any of the characters is not a hexadecimal digit
+     */
+    private long readHexDigits(@NonNull final CharSequence text, final int offset, final int digits) {
+        var value = 0L;
+        for (var i = offset; i < offset + digits; i++) {
+            val character = text.charAt(i);
+            val digit = character < HEX_DIGIT_VALUES.length ? HEX_DIGIT_VALUES[character] : -1;
+            checkArgument(digit >= 0, "Character at position %s is not a hexadecimal digit", i);
+
+            value = value << 4 | digit;
+        }
 
-        val buffer = ByteBuffer.wrap(bytes);
-        return new UUID(buffer.getLong(), buffer.getLong());
+        return value;
     }
 }
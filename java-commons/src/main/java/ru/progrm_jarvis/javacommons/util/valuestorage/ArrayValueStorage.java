@@ -0,0 +1,226 @@
+package ru.progrm_jarvis.javacommons.util.valuestorage;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free {@link ValueStorage value storage} using {@code int} indices of a growable array as its keys.
+ * <p>
+ * Keys of retrieved values get reused by later stored values
+ * so that the storage does not grow unless there are many values stored at the same time.
+ * Storing and retrieving values by primitive keys does not allocate any objects (except on growth of the storage).
+ *
+ * @param <V> type of values stored
+ *
+ * @apiNote as keys get reused, each key should be retrieved at most once
+ */
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ArrayValueStorage<V> implements ValueStorage<Integer, V> {
+
+    /**
+     * Binary logarithm of the size of the first chunk
+     */
+    private static final int FIRST_CHUNK_SIZE_SHIFT = 5;
+
+    /**
+     * Size of the first chunk, each next chunk is twice as large as the previous one
+     */
+    private static final int FIRST_CHUNK_SIZE = 1 << FIRST_CHUNK_SIZE_SHIFT;
+
+    /**
+     * Maximal amount of values stored at the same time
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - FIRST_CHUNK_SIZE + 1;
+
+    /**
+     * Key of the free slot indicating the end of the free list
+     */
+    private static final int NO_FREE_KEY = -1;
+
+    /**
+     * Chunks of slots which get allocated lazily and never get moved so that no writes get lost on growth
+     */
+    @ToString.Exclude @NonNull AtomicReferenceArray<Chunk<V>> chunks
+            = new AtomicReferenceArray<>(32 - FIRST_CHUNK_SIZE_SHIFT);
+
+    /**
+     * Amount of keys which have ever been used
+     */
+    @NonNull AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Head of the list of free keys whose lower 32 bits are the key
+     * and the upper 32 bits are the version preventing ABA problem
+     */
+    @ToString.Exclude @NonNull AtomicLong freeHead = new AtomicLong(NO_FREE_KEY & 0xFFFF_FFFFL);
+
+    /**
+     * Stores the given non-null value returning its unique key.
+     *
+     * @param value non-null value to store
+     * @return unique key by which the stored value may be retrieved
+     *
+     * @throws IllegalStateException if there are too many values stored at the same time
+     */
+    public int store(@NonNull final V value) {
+        val key = allocateKey();
+        chunk(key).values.set(chunkIndex(key), value);
+
+        return key;
+    }
+
+    /**
+     * Retrieves (gets and removes) the value stored by the given key.
+     *
+     * @param key unique key by which the value should be found
+     * @return value which was stored by the given key or {@code null} if there was no value stored
+     */
+    public @Nullable V retrieve(final int key) {
+        if (key < 0 || key >= size.get()) return null;
+
+        val chunk = chunks.get(chunkNumber(key));
+        if (chunk == null) return null;
+
+        val value = chunk.values.getAndSet(chunkIndex(key), null);
+        if (value != null) freeKey(chunk, key);
+
+        return value;
+    }
+
+    @Override
+    public Integer storeValue(@NonNull final V value) {
+        return store(value);
+    }
+
+    @Override
+    public V retrieveValue(final Integer key) {
+        return key == null ? null : retrieve(key);
+    }
+
+    /**
+     * Gets the number of the chunk containing the slot of the given key.
+     *
+     * @param key non-negative key
+     * @return number of the chunk
+     */
+    private static int chunkNumber(final int key) {
+        return 31 - Integer.numberOfLeadingZeros(key + FIRST_CHUNK_SIZE) - FIRST_CHUNK_SIZE_SHIFT;
+    }
+
+    /**
+     * Gets the index of the slot of the given key in its chunk.
+     *
+     * @param key non-negative key
+     * @return index of the slot in the chunk
+     */
+    private static int chunkIndex(final int key) {
+        return (key + FIRST_CHUNK_SIZE) - Integer.highestOneBit(key + FIRST_CHUNK_SIZE);
+    }
+
+    /**
+     * Gets the chunk containing the slot of the given key allocating it if needed.
+     *
+     * @param key non-negative key
+     * @return chunk containing the slot of the given key
+     */
+    private @NotNull Chunk<V> chunk(final int key) {
+        val chunkNumber = chunkNumber(key);
+
+        var chunk = chunks.get(chunkNumber);
+        if (chunk == null) {
+            val newChunk = new Chunk<V>(FIRST_CHUNK_SIZE << chunkNumber);
+            chunk = chunks.compareAndSet(chunkNumber, null, newChunk) ? newChunk : chunks.get(chunkNumber);
+        }
+
+        return chunk;
+    }
+
+    /**
+     * Takes a free key reusing the ones of the retrieved values if possible.
+     *
+     * @return free key
+     *
+     * @throws IllegalStateException if there are too many values stored at the same time
+     */
+    private int allocateKey() {
+        while (true) {
+            val head = freeHead.get();
+            val key = (int) head;
+            if (key == NO_FREE_KEY) break;
+
+            // the read may be stale in which case the version will have changed making the CAS fail
+            val nextKey = chunks.get(chunkNumber(key)).nextFreeKeys.get(chunkIndex(key));
+            if (freeHead.compareAndSet(head, nextVersion(head) | nextKey & 0xFFFF_FFFFL)) return key;
+        }
+
+        val key = size.getAndIncrement();
+        if (key < 0 || key >= MAX_CAPACITY) {
+            size.decrementAndGet();
+
+            throw new IllegalStateException("There are too many values stored");
+        }
+
+        return key;
+    }
+
+    /**
+     * Puts the given key to the list of free keys.
+     *
+     * @param chunk chunk containing the slot of the key
+     * @param key key to be reused
+     */
+    private void freeKey(@NotNull final Chunk<V> chunk, final int key) {
+        val chunkIndex = chunkIndex(key);
+        while (true) {
+            val head = freeHead.get();
+            chunk.nextFreeKeys.set(chunkIndex, (int) head);
+            if (freeHead.compareAndSet(head, nextVersion(head) | key & 0xFFFF_FFFFL)) return;
+        }
+    }
+
+    /**
+     * Gets the upper 32 bits of the free list's head following the given one.
+     *
+     * @param head current head of the free list
+     * @return version bits of the next head of the free list
+     */
+    private static long nextVersion(final long head) {
+        return (head & 0xFFFF_FFFF_0000_0000L) + (1L << 32);
+    }
+
+    /**
+     * Chunk of the slots of values.
+     *
+     * @param <V> type of values stored
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class Chunk<V> {
+
+        /**
+         * Values stored in the slots
+         */
+        @NonNull AtomicReferenceArray<V> values;
+
+        /**
+         * Keys following the ones of the slots in the list of free keys
+         */
+        @NonNull AtomicIntegerArray nextFreeKeys;
+
+        private Chunk(final int size) {
+            values = new AtomicReferenceArray<>(size);
+            nextFreeKeys = new AtomicIntegerArray(size);
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package ru.progrm_jarvis.javacommons.collection;
 
 import lombok.val;
+import lombok.var;
 import org.junit.jupiter.api.Test;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.lang.reflect.Array;
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -119,6 +119,58 @@ class CollectionFactoryTest {
                 .createImmutableEnumSet(TestEnum.BAR, TestEnum.FOO);
     }
 
+    @Test
+    void testImmutableEnumSetsBehaveAsHashSets() {
+        val random = ThreadLocalRandom.current();
+        for (var i = 0; i < 64; i++) {
+            checkImmutableEnumSet(randomSubset(TestEnum.values(), random));
+            checkImmutableEnumSet(randomSubset(LargeTestEnum.values(), random));
+        }
+    }
+
+    @Test
+    void testLargeImmutableEnumSetIsBitSet() {
+        val set = CollectionFactory.createImmutableEnumSet(LargeTestEnum.C69, LargeTestEnum.C0, LargeTestEnum.C64);
+
+        assertThat(set, instanceOf(ImmutableEnumBitSet.class));
+        assertThat(set, contains(LargeTestEnum.C0, LargeTestEnum.C64, LargeTestEnum.C69));
+        assertThat(set.contains(LargeTestEnum.C1), is(false));
+        assertThat(set.contains(TestEnum.FOO), is(false));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E[] randomSubset(final E[] constants, final ThreadLocalRandom random) {
+        val subset = new ArrayList<E>();
+        for (val constant : constants) if (random.nextBoolean()) subset.add(constant);
+        if (subset.isEmpty()) subset.add(constants[random.nextInt(constants.length)]);
+        Collections.shuffle(subset, random);
+
+        return subset.toArray((E[]) Array.newInstance(constants.getClass().getComponentType(), 0));
+    }
+
+    private static <E extends Enum<E>> void checkImmutableEnumSet(final E[] values) {
+        val set = CollectionFactory.createImmutableEnumSet(values);
+        val expected = EnumSet.copyOf(Arrays.asList(values));
+
+        assertThat(set, hasSize(expected.size()));
+        // iteration uses natural order
+        assertThat(new ArrayList<>(set), equalTo(new ArrayList<>(expected)));
+        for (val constant : values[0].getDeclaringClass().getEnumConstants()) assertThat(
+                set.contains(constant), is(expected.contains(constant))
+        );
+        assertThat(set.contains(null), is(false));
+        assertThat(set.contains(values[0].name()), is(false));
+        // test equality (both sides) and hash code
+        assertThat(set, equalTo(new HashSet<>(expected)));
+        assertThat(new HashSet<>(expected), equalTo(set));
+        assertThat(set.hashCode(), is(expected.hashCode()));
+
+        val iterator = set.iterator();
+        for (var i = 0; i < expected.size(); i++) iterator.next();
+        assertThat(iterator.hasNext(), is(false));
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
     public enum TestEnum {
         FOO, BAR,
         BAZ {
@@ -133,4 +185,12 @@ class CollectionFactoryTest {
             return 1;
         }
     }
-}
\ No newline at end of file
+
+    public enum LargeTestEnum { // more constants than fit into a single mask
+        C0, C1, C2, C3, C4, C5, C6, C7, C8, C9, C10, C11, C12, C13,
+        C14, C15, C16, C17, C18, C19, C20, C21, C22, C23, C24, C25, C26, C27,
+        C28, C29, C30, C31, C32, C33, C34, C35, C36, C37, C38, C39, C40, C41,
+        C42, C43, C44, C45, C46, C47, C48, C49, C50, C51, C52, C53, C54, C55,
+        C56, C57, C58, C59, C60, C61, C62, C63, C64, C65, C66, C67, C68, C69
+    }
+}
@@ -129,6 +129,13 @@ class InvokeUtilTest {
         assertThat(instance.privateIntField, equalTo(value));
     }
 
+    @Test
+    void testToSetterMethodHandleOfFinalField() throws NoSuchFieldException {
+        val field = TestClass.class.getDeclaredField("privateFinalIntField");
+        assertDoesNotThrow(() -> InvokeUtil.toSetterMethodHandle(field));
+        assertThat(field.isAccessible(), equalTo(false));
+    }
+
     @Test
     void testInvokeFactory() throws Throwable {
         assertThat(
@@ -152,6 +159,8 @@ class InvokeUtilTest {
 
         private int privateIntField = 1337;
 
+        private final int privateFinalIntField = 1337;
+
         private static void staticVoidMethod() {}
 
         private static String staticStringMethod() {
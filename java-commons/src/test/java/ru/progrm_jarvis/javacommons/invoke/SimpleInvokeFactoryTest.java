@@ -11,6 +11,8 @@ import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 class SimpleInvokeFactoryTest {
 
@@ -55,6 +57,47 @@ class SimpleInvokeFactoryTest {
         );
     }
 
+    @Test
+    void testImplementationClassIsReused() throws Throwable {
+        final Function<Integer, String> first = SimpleInvokeFactory
+                .<Function<Integer, String>, SociophobicClass>newInstance()
+                .using(SociophobicClass.LOOKUP_FACTORY)
+                .implementing(Function.class)
+                .via(SociophobicClass.class.getDeclaredMethod("foo", int.class))
+                .boundTo(new SociophobicClass())
+                .create();
+        final Function<Integer, String> second = SimpleInvokeFactory
+                .<Function<Integer, String>, SociophobicClass>newInstance()
+                .using(SociophobicClass.LOOKUP_FACTORY)
+                .implementing(Function.class)
+                .via(SociophobicClass.class.getDeclaredMethod("foo", int.class))
+                .boundTo(new SociophobicClass())
+                .create();
+
+        assertThat(first, not(sameInstance(second)));
+        assertThat(first.getClass(), sameInstance(second.getClass()));
+        assertThat(second.apply(789), equalTo("foo-789"));
+    }
+
+    @Test
+    void testImplementationsOfDifferentClassesAreDistinguished() throws Throwable {
+        final Function<Integer, String> first = SimpleInvokeFactory
+                .<Function<Integer, String>, SociophobicClass>newInstance()
+                .using(SociophobicClass.LOOKUP_FACTORY)
+                .implementing(Function.class)
+                .via(SociophobicClass.class.getDeclaredMethod("bar", int.class))
+                .create();
+        final Function<Integer, String> second = SimpleInvokeFactory
+                .<Function<Integer, String>, OtherSociophobicClass>newInstance()
+                .using(SociophobicClass.LOOKUP_FACTORY)
+                .implementing(Function.class)
+                .via(OtherSociophobicClass.class.getDeclaredMethod("bar", int.class))
+                .create();
+
+        assertThat(first.apply(1), equalTo("bar-1"));
+        assertThat(second.apply(2), equalTo("other-bar-2"));
+    }
+
     private static final class SociophobicClass {
 
         @NonNull private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
@@ -68,4 +111,11 @@ class SimpleInvokeFactoryTest {
             return "bar-" + number;
         }
     }
-}
\ No newline at end of file
+
+    private static final class OtherSociophobicClass {
+
+        public static String bar(int number) {
+            return "other-bar-" + number;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package ru.progrm_jarvis.javacommons.lazy;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyInitializerTest {
+
+    @Test
+    void testDependenciesAreInitializedFirst() {
+        val initialized = Collections.synchronizedList(new ArrayList<String>());
+        val config = Lazy.createThreadSafe(() -> {
+            initialized.add("config");
+            return "config";
+        });
+        val database = Lazy.createThreadSafe(() -> {
+            initialized.add("database");
+            return "database";
+        });
+        val cache = Lazy.createThreadSafe(() -> {
+            initialized.add("cache");
+            return "cache";
+        });
+        val service = Lazy.createThreadSafe(() -> {
+            initialized.add("service");
+            return "service";
+        });
+
+        val result = LazyInitializer.create()
+                .add(service, database, cache)
+                .add(database, config)
+                .add(cache, config)
+                .initialize();
+
+        assertThat(result.isSuccessful(), is(true));
+        assertThat(result.getInitializationTimes().size(), is(4));
+        assertThat(initialized, containsInAnyOrder("config", "database", "cache", "service"));
+        assertThat(initialized.get(0), equalTo("config"));
+        assertThat(initialized.get(3), equalTo("service"));
+        for (val lazy : new Lazy<?>[]{config, database, cache, service}) assertThat(lazy.isInitialized(), is(true));
+    }
+
+    @Test
+    void testFailures() {
+        val failing = Lazy.createThreadSafe(() -> {
+            throw new IllegalStateException("Failed");
+        });
+        val dependent = Lazy.createThreadSafe(() -> "dependent");
+        val independent = Lazy.createThreadSafe(() -> "independent");
+
+        val result = LazyInitializer.create()
+                .add(dependent, failing)
+                .add(independent)
+                .initialize();
+
+        assertThat(result.isSuccessful(), is(false));
+        assertThat(result.getFailures().get(failing), instanceOf(IllegalStateException.class));
+        assertThat(result.getFailures().get(dependent).getCause(), sameInstance(result.getFailures().get(failing)));
+        assertThat(result.getFailures().containsKey(independent), is(false));
+        assertThat(dependent.isInitialized(), is(false));
+        assertThat(independent.isInitialized(), is(true));
+    }
+
+    @Test
+    void testCycleDetection() {
+        val first = Lazy.createThreadSafe(() -> 1);
+        val second = Lazy.createThreadSafe(() -> 2);
+        val third = Lazy.createThreadSafe(() -> 3);
+
+        val initializer = LazyInitializer.create()
+                .add(first, second)
+                .add(second, third)
+                .add(third, first);
+
+        assertThrows(IllegalStateException.class, initializer::initialize);
+        assertThat(first.isInitialized(), is(false));
+    }
+}
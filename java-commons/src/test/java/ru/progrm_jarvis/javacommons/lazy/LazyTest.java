@@ -0,0 +1,267 @@
+package ru.progrm_jarvis.javacommons.lazy;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyTest {
+
+    private static void testConcurrentGet(final Function<Supplier<Object>, Lazy<Object>> lazyFactory,
+                                          final boolean exactlyOnce) throws Exception {
+        val threads = 8;
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (var iteration = 0; iteration < 64; iteration++) {
+                val calls = new AtomicInteger();
+                val lazy = lazyFactory.apply(() -> {
+                    calls.incrementAndGet();
+                    return new Object();
+                });
+                assertThat(lazy.isInitialized(), is(false));
+
+                val start = new CountDownLatch(1);
+                val results = new ArrayList<Future<Object>>(threads);
+                for (var thread = 0; thread < threads; thread++) results.add(executor.submit(() -> {
+                    start.await();
+                    return lazy.get();
+                }));
+                start.countDown();
+
+                val value = lazy.get();
+                for (val result : results) assertThat(result.get(), sameInstance(value));
+                assertThat(lazy.isInitialized(), is(true));
+                if (exactlyOnce) assertThat(calls.get(), is(1));
+                else assertThat(calls.get(), greaterThanOrEqualTo(1));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testRacyLazy() throws Exception {
+        testConcurrentGet(Lazy::createRacy, false);
+    }
+
+    @Test
+    void testLockFreeLazy() throws Exception {
+        testConcurrentGet(Lazy::createLockFree, true);
+    }
+
+    @Test
+    void testThreadSafeLazy() throws Exception {
+        testConcurrentGet(Lazy::createThreadSafe, true);
+    }
+
+    @Test
+    void testLockFreeLazyRetriesAfterFailure() {
+        val calls = new AtomicInteger();
+        val lazy = Lazy.createLockFree(() -> {
+            if (calls.incrementAndGet() == 1) throw new IllegalStateException("First call fails");
+            return "foo";
+        });
+
+        assertThrows(IllegalStateException.class, lazy::get);
+        assertThat(lazy.isInitialized(), is(false));
+        assertThat(lazy.get(), equalTo("foo"));
+        assertThat(lazy.isInitialized(), is(true));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void testNullValue() {
+        val calls = new AtomicInteger();
+        for (val lazy : new Lazy<?>[]{
+                Lazy.createRacy(() -> calls.incrementAndGet() == 0 ? "" : null),
+                Lazy.createLockFree(() -> calls.incrementAndGet() == 0 ? "" : null)
+        }) {
+            assertThat(lazy.get(), nullValue());
+            assertThat(lazy.isInitialized(), is(true));
+            assertThat(lazy.get(), nullValue());
+        }
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void testExpiringLazy() {
+        val time = new AtomicLong();
+        val calls = new AtomicInteger();
+        val lazy = new Lazy.RefreshingLazy<>(calls::incrementAndGet, 50, 50, null, time::get);
+        assertThat(lazy.isInitialized(), is(false));
+
+        assertThat(lazy.get(), is(1));
+        time.addAndGet(49);
+        assertThat(lazy.get(), is(1));
+        assertThat(lazy.isInitialized(), is(true));
+
+        time.addAndGet(1);
+        assertThat(lazy.isInitialized(), is(false));
+        assertThat(lazy.get(), is(2));
+
+        lazy.invalidate();
+        assertThat(lazy.isInitialized(), is(false));
+        assertThat(lazy.get(), is(3));
+        assertThat(calls.get(), is(3));
+    }
+
+    @Test
+    void testRefreshingLazy() {
+        val time = new AtomicLong();
+        val calls = new AtomicInteger();
+        val refreshes = new ArrayDeque<Runnable>();
+        val lazy = new Lazy.RefreshingLazy<>(calls::incrementAndGet, 100, 50, refreshes::add, time::get);
+
+        assertThat(lazy.get(), is(1));
+        time.addAndGet(50);
+        // the old value is returned while the refresh happens
+        assertThat(lazy.get(), is(1));
+        assertThat(lazy.get(), is(1));
+        assertThat(refreshes, hasSize(1)); // only one refresh is requested at a time
+        assertThat(calls.get(), is(1));
+
+        refreshes.remove().run();
+        assertThat(calls.get(), is(2));
+        assertThat(lazy.get(), is(2));
+
+        // the expired value is not returned even if it could be refreshed
+        time.addAndGet(100);
+        assertThat(lazy.get(), is(3));
+        assertThat(refreshes, empty());
+    }
+
+    @Test
+    void testExpiringLazyCoalescesMisses() throws Exception {
+        val calls = new AtomicInteger();
+        val release = new CountDownLatch(1);
+        val lazy = Lazy.createExpiring(() -> {
+            calls.incrementAndGet();
+            awaitUninterruptibly(release);
+
+            return new Object();
+        }, Duration.ofHours(1));
+
+        val threads = 8;
+        val results = new AtomicReferenceArray<Object>(threads);
+        val workers = new ArrayList<Thread>(threads);
+        for (var thread = 0; thread < threads; thread++) {
+            final int index = thread;
+            val worker = new Thread(() -> results.set(index, lazy.get()));
+            worker.start();
+            workers.add(worker);
+        }
+        // one thread calls the value supplier while all the other ones wait for it
+        for (val worker : workers) awaitWaiting(worker);
+        assertThat(calls.get(), is(1));
+
+        release.countDown();
+        for (val worker : workers) worker.join();
+
+        assertThat(calls.get(), is(1));
+        val value = lazy.get();
+        for (var thread = 0; thread < threads; thread++) assertThat(results.get(thread), sameInstance(value));
+    }
+
+    @Test
+    void testInvalidateDiscardsValueBeingComputed() throws Exception {
+        val calls = new AtomicInteger();
+        val computing = new CountDownLatch(1);
+        val release = new CountDownLatch(1);
+        val lazy = Lazy.createExpiring(() -> {
+            if (calls.incrementAndGet() == 1) {
+                computing.countDown();
+                awaitUninterruptibly(release);
+
+                return "stale";
+            }
+
+            return "fresh";
+        }, Duration.ofHours(1));
+
+        val staleResult = new AtomicReference<String>();
+        val staleLoader = new Thread(() -> staleResult.set(lazy.get()));
+        staleLoader.start();
+        computing.await();
+
+        lazy.invalidate();
+        // the request following the invalidation does not get the value being computed
+        val freshResult = new AtomicReference<String>();
+        val freshLoader = new Thread(() -> freshResult.set(lazy.get()));
+        freshLoader.start();
+        awaitWaiting(freshLoader);
+
+        release.countDown();
+        staleLoader.join();
+        freshLoader.join();
+
+        // the request concurrent with the invalidation may get the value being computed
+        assertThat(staleResult.get(), equalTo("stale"));
+        assertThat(freshResult.get(), equalTo("fresh"));
+        assertThat(lazy.get(), equalTo("fresh"));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    void testInvalidateDiscardsValueBeingRefreshed() {
+        val time = new AtomicLong();
+        val calls = new AtomicInteger();
+        val refreshes = new ArrayDeque<Runnable>();
+        val lazy = new Lazy.RefreshingLazy<>(calls::incrementAndGet, 100, 50, refreshes::add, time::get);
+
+        assertThat(lazy.get(), is(1));
+        time.addAndGet(50);
+        assertThat(lazy.get(), is(1));
+        assertThat(refreshes, hasSize(1));
+
+        lazy.invalidate();
+        refreshes.remove().run(); // the refresh requested before the invalidation completes after it
+        assertThat(calls.get(), is(2));
+        assertThat(lazy.isInitialized(), is(false));
+        assertThat(lazy.get(), is(3));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        while (true) try {
+            latch.await();
+
+            return;
+        } catch (final InterruptedException ignored) {}
+    }
+
+    private static void awaitWaiting(final Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.WAITING) {
+            assertThat(thread.isAlive(), is(true));
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void testSoftLazy() {
+        val calls = new AtomicInteger();
+        for (val lazy : new Lazy<?>[]{
+                Lazy.createSoft(() -> new int[calls.incrementAndGet()]),
+                Lazy.createSoftThreadSafe(() -> new int[calls.incrementAndGet()]),
+                Lazy.createSoftThreadSafe(() -> new int[calls.incrementAndGet()], () -> {})
+        }) {
+            assertThat(lazy.isInitialized(), is(false));
+            val value = lazy.get();
+            assertThat(lazy.isInitialized(), is(true));
+            assertThat(lazy.get(), sameInstance(value));
+        }
+        assertThat(calls.get(), is(3));
+    }
+}
@@ -5,11 +5,9 @@ import lombok.var;
 import org.junit.jupiter.api.Test;
 import ru.progrm_jarvis.javacommons.map.MapUtil;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -79,4 +77,81 @@ class RandomUtilTest {
 
         assertThrows(IllegalArgumentException.class, () -> RandomUtil.getRandom(new HashSet<>()));
     }
-}
\ No newline at end of file
+
+    private static List<Integer> range(final int size) {
+        val values = new ArrayList<Integer>(size);
+        for (var i = 0; i < size; i++) values.add(i);
+
+        return values;
+    }
+
+    @Test
+    void testSampleFromList() {
+        val values = range(1000);
+        for (val count : new int[]{0, 1, 10, 500, 1000}) {
+            for (val sampled : Arrays.asList(
+                    RandomUtil.sample(values, count), RandomUtil.sample(new LinkedList<>(values), count)
+            )) {
+                assertThat(sampled, hasSize(count));
+                assertThat(new HashSet<>(sampled), hasSize(count));
+                assertThat(values.containsAll(sampled), is(true));
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> RandomUtil.sample(values, 1001));
+        assertThrows(IllegalArgumentException.class, () -> RandomUtil.sample(values, -1));
+    }
+
+    @Test
+    void testSampleFromIterator() {
+        val values = range(1000);
+
+        var sampled = RandomUtil.sample(values.iterator(), 10);
+        assertThat(sampled, hasSize(10));
+        assertThat(new HashSet<>(sampled), hasSize(10));
+        assertThat(values.containsAll(sampled), is(true));
+
+        // there are less values than requested
+        sampled = RandomUtil.sample(range(5).iterator(), 10);
+        assertThat(sampled, containsInAnyOrder(0, 1, 2, 3, 4));
+    }
+
+    @Test
+    void testSampleFromIteratorIsUniform() {
+        val counts = new int[10];
+        val iterations = 20_000;
+        for (var i = 0; i < iterations; i++) for (val value : RandomUtil.sample(range(10).iterator(), 2)) {
+            counts[value]++;
+        }
+
+        // each value should be sampled with probability 1/5
+        for (val count : counts) assertThat(count / (double) iterations, closeTo(0.2, 0.02));
+    }
+
+    @Test
+    void testSampleFromStream() {
+        for (val stream : Arrays.asList(
+                IntStream.range(0, 10_000).boxed(), IntStream.range(0, 10_000).boxed().parallel()
+        )) {
+            val sampled = RandomUtil.sample(stream, 100);
+            assertThat(sampled, hasSize(100));
+            assertThat(new HashSet<>(sampled), hasSize(100));
+            assertThat(sampled, everyItem(both(greaterThanOrEqualTo(0)).and(lessThan(10_000))));
+        }
+    }
+
+    @Test
+    void testSampleParallel() {
+        val values = range(100_000);
+
+        val sampled = RandomUtil.sampleParallel(values, 100, new SplittableRandom(42));
+        assertThat(sampled, hasSize(100));
+        assertThat(new HashSet<>(sampled), hasSize(100));
+        assertThat(values.containsAll(sampled), is(true));
+
+        assertThat(
+                new HashSet<>(RandomUtil.sampleParallel(values, 100, new SplittableRandom(42))),
+                equalTo(new HashSet<>(sampled))
+        );
+    }
+}
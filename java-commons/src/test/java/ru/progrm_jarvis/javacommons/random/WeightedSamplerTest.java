@@ -0,0 +1,86 @@
+package ru.progrm_jarvis.javacommons.random;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.javacommons.map.MapUtil;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WeightedSamplerTest {
+
+    @Test
+    void testSingleValue() {
+        val sampler = WeightedSampler.create(MapUtil.fillMap(new HashMap<String, Integer>(), "Hi", 1));
+
+        assertThat(sampler.size(), is(1));
+        for (var i = 0; i < 64; i++) assertThat(sampler.sample(), equalTo("Hi"));
+        assertThat(sampler.sample(16), everyItem(equalTo("Hi")));
+    }
+
+    @Test
+    void testDistribution() {
+        val sampler = RandomUtil.createSampler(MapUtil.fillMap(
+                new HashMap<String, Integer>(), "One", 1, "Two", 2, "Three", 3, "Four", 4
+        ));
+        assertThat(sampler.size(), is(4));
+
+        val random = new Random(42);
+        val counts = new HashMap<String, Integer>();
+        val samples = 100_000;
+        for (var i = 0; i < samples; i++) counts.merge(sampler.sample(random), 1, Integer::sum);
+
+        // expected shares are 10%, 20%, 30% and 40%
+        assertThat(counts.get("One") / (double) samples, closeTo(0.1, 0.01));
+        assertThat(counts.get("Two") / (double) samples, closeTo(0.2, 0.01));
+        assertThat(counts.get("Three") / (double) samples, closeTo(0.3, 0.01));
+        assertThat(counts.get("Four") / (double) samples, closeTo(0.4, 0.01));
+    }
+
+    @Test
+    void testLargeWeights() {
+        // weights multiplied by the amount of values exceed the maximal double value
+        val sampler = WeightedSampler.create(MapUtil.fillMap(
+                new HashMap<String, Double>(),
+                "One", Double.MAX_VALUE / 10,
+                "Four", Double.MAX_VALUE / 10 * 4,
+                "Another four", Double.MAX_VALUE / 10 * 4
+        ));
+
+        val random = new Random(42);
+        val counts = new HashMap<String, Integer>();
+        val samples = 100_000;
+        for (var i = 0; i < samples; i++) counts.merge(sampler.sample(random), 1, Integer::sum);
+
+        // expected shares are 1/9, 4/9 and 4/9
+        assertThat(counts.get("One") / (double) samples, closeTo(1 / 9D, 0.01));
+        assertThat(counts.get("Four") / (double) samples, closeTo(4 / 9D, 0.01));
+        assertThat(counts.get("Another four") / (double) samples, closeTo(4 / 9D, 0.01));
+    }
+
+    @Test
+    void testBulkSample() {
+        val sampler = WeightedSampler.create(MapUtil.fillMap(new HashMap<String, Double>(), "One", 1.5, "Two", 0.5));
+
+        val samples = sampler.sample(256);
+        assertThat(samples, hasSize(256));
+        assertThat(samples, everyItem(isIn(new String[]{"One", "Two"})));
+        assertThat(sampler.sample(0), empty());
+    }
+
+    @Test
+    void testInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> WeightedSampler.create(new HashMap<String, Integer>()));
+        assertThrows(IllegalArgumentException.class, () -> WeightedSampler.create(
+                MapUtil.fillMap(new HashMap<String, Integer>(), "One", 1, "Two", 0)
+        ));
+        assertThrows(IllegalArgumentException.class, () -> WeightedSampler.create(
+                MapUtil.fillMap(new HashMap<String, Double>(), "One", 1D, "Two", Double.NaN)
+        ));
+    }
+}
@@ -4,10 +4,13 @@ import lombok.val;
 import lombok.var;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class NumberUtilTest {
 
@@ -61,4 +64,109 @@ class NumberUtilTest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testParseIntFromRanges() {
+        val random = ThreadLocalRandom.current();
+        for (var i = 0; i < 0xFFF; i++) {
+            val number = random.nextInt();
+            val radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - Character.MIN_RADIX);
+            val text = "~~" + Integer.toString(number, radix) + "~";
+            val toIndex = text.length() - 1;
+
+            assertThat(NumberUtil.parseInt(text, 2, toIndex, radix, 0), is(number));
+            assertThat(NumberUtil.parseInt(text.toCharArray(), 2, toIndex, radix, 0), is(number));
+            assertThat(NumberUtil.parseInt(
+                    ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), 2, toIndex, radix, 0
+            ), is(number));
+        }
+
+        assertThat(NumberUtil.parseInt("2147483648", 0, 10, 10, -1), is(-1));
+        assertThat(NumberUtil.parseInt("-2147483648", 0, 11, 10, -1), is(Integer.MIN_VALUE));
+        assertThat(NumberUtil.parseInt("12x", 0, 3, 10, -1), is(-1));
+        assertThat(NumberUtil.parseInt("12x", 0, 2, 10, -1), is(12));
+        assertThat(NumberUtil.parseInt("-", 0, 1, 10, -1), is(-1));
+        assertThat(NumberUtil.parseInt("1", 1, 1, 10, -1), is(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtil.parseInt("1", 0, 2, 10, -1));
+    }
+
+    @Test
+    void testParseLongFromRanges() {
+        val random = ThreadLocalRandom.current();
+        for (var i = 0; i < 0xFFF; i++) {
+            val number = random.nextLong();
+            val radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - Character.MIN_RADIX);
+            val text = "~" + Long.toString(number, radix) + "~~";
+            val toIndex = text.length() - 2;
+
+            assertThat(NumberUtil.parseLong(text, 1, toIndex, radix, 0), is(number));
+            assertThat(NumberUtil.parseLong(text.toCharArray(), 1, toIndex, radix, 0), is(number));
+            assertThat(NumberUtil.parseLong(
+                    ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), 1, toIndex, radix, 0
+            ), is(number));
+        }
+
+        assertThat(NumberUtil.parseLong("9223372036854775808", 0, 19, 10, -1), is(-1L));
+        assertThat(NumberUtil.parseLong("-9223372036854775808", 0, 20, 10, -1), is(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testParseDouble() {
+        val random = ThreadLocalRandom.current();
+        for (var i = 0; i < 0xFFF; i++) {
+            final double number;
+            switch (random.nextInt(3)) {
+                case 0: {
+                    number = random.nextInt(1_000_000) / 1000D;
+                    break;
+                }
+                case 1: {
+                    number = -random.nextDouble();
+                    break;
+                }
+                default: number = Double.longBitsToDouble(random.nextLong());
+            }
+            val text = Double.toString(number);
+
+            assertThat(NumberUtil.parseDouble(text, 0, text.length(), 0), is(Double.parseDouble(text)));
+            assertThat(
+                    NumberUtil.parseDouble(text.toCharArray(), 0, text.length(), 0), is(Double.parseDouble(text))
+            );
+            assertThat(NumberUtil.parseDouble(
+                    ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), 0, text.length(), 0
+            ), is(Double.parseDouble(text)));
+        }
+
+        for (val text : new String[]{
+                "0", "-0", "1.", ".5", "+1.25e3", "1E-5", "123456789012345678901234567890", "0.1", "1e308", "1e400",
+                "4.9e-324", "2.2250738585072014E-308", "Infinity", "-Infinity", "9007199254740992", "9007199254740993",
+                "9.007199254740993e-5"
+        }) assertThat(NumberUtil.parseDouble(text, 0, text.length(), 42), is(Double.parseDouble(text)));
+
+        assertThat(Double.isNaN(NumberUtil.parseDouble("NaN", 0, 3, 42)), is(true));
+        for (val text : new String[]{"", "+", ".", "e5", "1e", "1e+", "1.2.3", "1f", " 1", "0x1p1", "Infinityy"}) {
+            assertThat(NumberUtil.parseDouble(text, 0, text.length(), 42), is(42D));
+        }
+    }
+
+    @Test
+    void testParseFloat() {
+        val random = ThreadLocalRandom.current();
+        for (var i = 0; i < 0xFFF; i++) {
+            val number = random.nextBoolean()
+                    ? random.nextInt(100_000) / 100F
+                    : Float.intBitsToFloat(random.nextInt());
+            val text = Float.toString(number);
+
+            assertThat(NumberUtil.parseFloat(text, 0, text.length(), 0), is(Float.parseFloat(text)));
+            assertThat(NumberUtil.parseFloat(text.toCharArray(), 0, text.length(), 0), is(Float.parseFloat(text)));
+            assertThat(NumberUtil.parseFloat(
+                    ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII)), 0, text.length(), 0
+            ), is(Float.parseFloat(text)));
+        }
+
+        for (val text : new String[]{"0.1", "16777217", "1.00000017881393432617187499", "3.4028236e38", "1e-46"}) {
+            assertThat(NumberUtil.parseFloat(text, 0, text.length(), 42), is(Float.parseFloat(text)));
+        }
+    }
+}
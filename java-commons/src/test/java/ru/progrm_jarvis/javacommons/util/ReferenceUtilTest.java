@@ -0,0 +1,32 @@
+package ru.progrm_jarvis.javacommons.util;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ReferenceUtilTest {
+
+    @Test
+    void testStubs() {
+        assertThat(ReferenceUtil.weakReferenceStub().get(), nullValue());
+        assertThat(ReferenceUtil.softReferenceStub().get(), nullValue());
+    }
+
+    @Test
+    void testSoftReferenceCleanup() throws InterruptedException {
+        val cleanedUp = new CountDownLatch(1);
+        val value = new Object();
+        val reference = ReferenceUtil.softReference(value, cleanedUp::countDown);
+        assertThat(reference.get(), sameInstance(value));
+
+        // simulate the referent being garbage-collected
+        reference.clear();
+        assertThat(reference.enqueue(), is(true));
+        assertThat(cleanedUp.await(10, TimeUnit.SECONDS), is(true));
+    }
+}
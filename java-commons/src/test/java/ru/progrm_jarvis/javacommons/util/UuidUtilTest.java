@@ -4,11 +4,14 @@ import lombok.val;
 import lombok.var;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -50,4 +53,104 @@ class UuidUtilTest {
             assertArrayEquals(bytes, UuidUtil.uuidToBytes(UuidUtil.uuidFromBytes(bytes)));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUuidToBytesMatchesByteBuffer() {
+        val iterations = 32 + ThreadLocalRandom.current().nextInt(33);
+        for (int i = 0; i < iterations; i++) {
+            val uuid = UUID.randomUUID();
+            assertArrayEquals(
+                    ByteBuffer.allocate(16)
+                            .putLong(uuid.getMostSignificantBits())
+                            .putLong(uuid.getLeastSignificantBits())
+                            .array(),
+                    UuidUtil.uuidToBytes(uuid)
+            );
+        }
+    }
+
+    @Test
+    void testWriteAndReadUuidAtOffset() {
+        val random = ThreadLocalRandom.current();
+        val iterations = 32 + random.nextInt(33);
+        for (int i = 0; i < iterations; i++) {
+            val uuid = UUID.randomUUID();
+            val offset = random.nextInt(16);
+            val bytes = new byte[offset + 16 + random.nextInt(16)];
+
+            UuidUtil.writeUuid(uuid, bytes, offset);
+            assertThat(UuidUtil.readUuid(bytes, offset), equalTo(uuid));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> UuidUtil.writeUuid(UUID.randomUUID(), new byte[20], 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> UuidUtil.readUuid(new byte[20], -1));
+    }
+
+    @Test
+    void testWriteAndReadUuidInByteBuffer() {
+        for (val order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            val first = UUID.randomUUID();
+            val second = UUID.randomUUID();
+            val buffer = ByteBuffer.allocate(40).order(order);
+            buffer.put((byte) 1);
+
+            UuidUtil.writeUuid(first, buffer);
+            UuidUtil.writeUuid(second, buffer);
+            assertThat(buffer.position(), is(33));
+
+            // binary form does not depend on the order of the buffer
+            val bytes = new byte[16];
+            buffer.position(1);
+            buffer.get(bytes);
+            assertArrayEquals(UuidUtil.uuidToBytes(first), bytes);
+
+            buffer.position(1);
+            assertThat(UuidUtil.readUuid(buffer), equalTo(first));
+            assertThat(UuidUtil.readUuid(buffer, 17), equalTo(second));
+            assertThat(buffer.position(), is(17));
+            assertThrows(IndexOutOfBoundsException.class, () -> UuidUtil.readUuid(buffer, 25));
+        }
+    }
+
+    @Test
+    void testUuidsToBytesAndOpposite() {
+        val uuids = new UUID[ThreadLocalRandom.current().nextInt(32)];
+        for (var i = 0; i < uuids.length; i++) uuids[i] = UUID.randomUUID();
+
+        val bytes = UuidUtil.uuidsToBytes(uuids);
+        assertThat(bytes.length, is(uuids.length * 16));
+        assertArrayEquals(uuids, UuidUtil.uuidsFromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> UuidUtil.uuidsFromBytes(new byte[17]));
+    }
+
+    @Test
+    void testUuidToStringAndOpposite() {
+        val iterations = 32 + ThreadLocalRandom.current().nextInt(33);
+        for (int i = 0; i < iterations; i++) {
+            val uuid = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+            val string = uuid.toString();
+
+            assertThat(UuidUtil.uuidToString(uuid), equalTo(string));
+            assertThat(UuidUtil.uuidFromString(string), equalTo(uuid));
+            assertThat(UuidUtil.uuidFromString(string.toUpperCase()), equalTo(uuid));
+        }
+    }
+
+    @Test
+    void testUuidFromStringFailSafety() {
+        assertThrows(IllegalArgumentException.class, () -> UuidUtil.uuidFromString(""));
+        assertThrows(IllegalArgumentException.class, () -> UuidUtil.uuidFromString("1-2-3-4-5"));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> UuidUtil.uuidFromString("123e4567-e89b-12d3-a456-42661417400g")
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> UuidUtil.uuidFromString("123e4567+e89b-12d3-a456-426614174000")
+        );
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> UuidUtil.uuidFromString("123e4567-e89b-12d3-a456-42661417400\u0660")
+        );
+    }
+}
@@ -0,0 +1,89 @@
+package ru.progrm_jarvis.javacommons.util.valuestorage;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ArrayValueStorageTest {
+
+    @Test
+    void testStoreAndRetrieve() {
+        val storage = new ArrayValueStorage<String>();
+
+        val keys = new int[1000];
+        for (var i = 0; i < keys.length; i++) keys[i] = storage.store(Integer.toString(i));
+        val uniqueKeys = new HashSet<Integer>();
+        for (val key : keys) uniqueKeys.add(key);
+        assertThat(uniqueKeys, hasSize(keys.length));
+
+        for (var i = 0; i < keys.length; i++) {
+            assertThat(storage.retrieve(keys[i]), equalTo(Integer.toString(i)));
+            assertThat(storage.retrieve(keys[i]), nullValue());
+        }
+    }
+
+    @Test
+    void testRetrieveUnknownKey() {
+        val storage = new ArrayValueStorage<String>();
+        assertThat(storage.retrieve(0), nullValue());
+        assertThat(storage.retrieve(-1), nullValue());
+        assertThat(storage.retrieve(Integer.MAX_VALUE), nullValue());
+        assertThat(storage.retrieveValue(null), nullValue());
+
+        val key = storage.store("foo");
+        assertThat(storage.retrieve(key + 1), nullValue());
+        assertThat(storage.retrieveValue(key), equalTo("foo"));
+    }
+
+    @Test
+    void testKeysAreReused() {
+        val storage = new ArrayValueStorage<String>();
+
+        val first = storage.store("foo");
+        val second = storage.store("bar");
+        assertThat(storage.retrieve(first), equalTo("foo"));
+        assertThat(storage.store("baz"), is(first));
+        assertThat(storage.retrieve(second), equalTo("bar"));
+        assertThat(storage.retrieve(first), equalTo("baz"));
+    }
+
+    @Test
+    void testConcurrentStoreAndRetrieve() throws Exception {
+        val storage = new ArrayValueStorage<Integer>();
+        val threads = 4 + ThreadLocalRandom.current().nextInt(5);
+        val executor = Executors.newFixedThreadPool(threads);
+        try {
+            val tasks = new ArrayList<Callable<Void>>(threads);
+            for (var thread = 0; thread < threads; thread++) tasks.add(() -> {
+                val random = ThreadLocalRandom.current();
+                // pairs of keys and the values stored by them
+                val stored = new ArrayDeque<int[]>();
+                for (var i = 0; i < 100_000; i++) {
+                    if (stored.isEmpty() || stored.size() < 64 && random.nextBoolean()) stored.add(
+                            new int[]{storage.store(i), i}
+                    );
+                    else {
+                        val entry = stored.poll();
+                        assertThat(storage.retrieve(entry[0]), is(entry[1]));
+                    }
+                }
+
+                return null;
+            });
+
+            for (val future : executor.invokeAll(tasks)) future.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
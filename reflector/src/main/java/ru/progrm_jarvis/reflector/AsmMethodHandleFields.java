@@ -0,0 +1,163 @@
+package ru.progrm_jarvis.reflector;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import ru.progrm_jarvis.javacommons.annotation.Internal;
+import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
+import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
+import ru.progrm_jarvis.javacommons.classload.GcClassDefiners;
+import ru.progrm_jarvis.javacommons.util.valuestorage.ArrayValueStorage;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.*;
+import static ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil.*;
+
+/**
+ * Utility for generating classes which invoke {@link MethodHandle method handles}
+ * stored in their {@code static final} fields so that the JIT is free to inline them.
+ */
+@UtilityClass
+@UsesBytecodeModification(BytecodeLibrary.ASM)
+public class AsmMethodHandleFields {
+
+    /**
+     * Internal storage of method handles passed to {@code static final} fields of generated classes
+     */
+    private final ArrayValueStorage<MethodHandle[]> METHOD_HANDLES = new ArrayValueStorage<>();
+
+    /**
+     * Internal name of this class
+     */
+    private final String ASM_METHOD_HANDLE_FIELDS_INTERNAL_NAME = getInternalName(AsmMethodHandleFields.class),
+    /**
+     * Descriptor of {@link MethodHandle}
+     */
+    METHOD_HANDLE_DESCRIPTOR = getDescriptor(MethodHandle.class),
+    /**
+     * Name of {@link #internal$getMethodHandles(int)} method
+     */
+    INTERNAL_GET_METHOD_HANDLES_METHOD_NAME = "internal$getMethodHandles",
+    /**
+     * Descriptor of {@link #internal$getMethodHandles(int)} method
+     */
+    INTERNAL_GET_METHOD_HANDLES_METHOD_DESCRIPTOR = getMethodDescriptor(
+            getType(MethodHandle[].class), INT_TYPE
+    );
+
+    /**
+     * Retrieves (gets and removes) method handles stored in {@link #METHOD_HANDLES} by the given key.
+     *
+     * @param uniqueKey unique key by which the value should be retrieved
+     * @return method handles stored by the given unique key
+     *
+     * @deprecated this method is internal
+     */
+    @Deprecated
+    @Internal("This is expected to be invoked only by generated classes to initialize their fields")
+    public MethodHandle[] internal$getMethodHandles(final int uniqueKey) {
+        return METHOD_HANDLES.retrieve(uniqueKey);
+    }
+
+    /**
+     * Gets the name of the generated field storing the method handle by the given index.
+     *
+     * @param index index of the method handle
+     * @return name of the generated field storing the method handle
+     */
+    @NotNull public String methodHandleFieldName(final int index) {
+        return "methodHandle$" + index;
+    }
+
+    /**
+     * Adds {@code static final} fields storing the given method handles to the class.
+     *
+     * @param clazz class visitor used for generating the fields
+     * @param internalClassName internal name of the generated class
+     * @param methodHandles method handles to store
+     *
+     * @apiNote this adds the static initializer to the class
+     */
+    public void asm$addMethodHandleFields(@NonNull final ClassVisitor clazz,
+                                          @NonNull final String internalClassName,
+                                          @NonNull final MethodHandle[] methodHandles) {
+        val staticInitializer = visitStaticInitializer(clazz);
+        staticInitializer.visitCode();
+
+        // load the array of method handles to the local variable
+        pushInt(staticInitializer, METHOD_HANDLES.store(methodHandles));
+        staticInitializer.visitMethodInsn(
+                INVOKESTATIC, ASM_METHOD_HANDLE_FIELDS_INTERNAL_NAME,
+                INTERNAL_GET_METHOD_HANDLES_METHOD_NAME, INTERNAL_GET_METHOD_HANDLES_METHOD_DESCRIPTOR, false
+        );
+        staticInitializer.visitVarInsn(ASTORE, 0);
+
+        val length = methodHandles.length;
+        for (var i = 0; i < length; i++) {
+            val fieldName = methodHandleFieldName(i);
+            clazz.visitField(
+                    OPCODES_ACC_PUBLIC_STATIC_FINAL /* less access checks & possible JIT folding */,
+                    fieldName, METHOD_HANDLE_DESCRIPTOR, null, null /* no default value */
+            ).visitEnd();
+
+            staticInitializer.visitVarInsn(ALOAD, 0);
+            pushInt(staticInitializer, i);
+            staticInitializer.visitInsn(AALOAD);
+            staticInitializer.visitFieldInsn(PUTSTATIC, internalClassName, fieldName, METHOD_HANDLE_DESCRIPTOR);
+        }
+
+        staticInitializer.visitInsn(RETURN);
+        staticInitializer.visitMaxs(2 /* [array + index] */, 1 /* [array] */);
+        staticInitializer.visitEnd();
+    }
+
+    /**
+     * Pushes the method handle stored in the generated field onto the stack.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param internalClassName internal name of the generated class
+     * @param index index of the method handle
+     */
+    public void asm$pushMethodHandle(@NonNull final MethodVisitor method,
+                                     @NonNull final String internalClassName,
+                                     final int index) {
+        method.visitFieldInsn(GETSTATIC, internalClassName, methodHandleFieldName(index), METHOD_HANDLE_DESCRIPTOR);
+    }
+
+    /**
+     * Defines the generated class and instantiates it using its empty constructor.
+     *
+     * @param owner lookup of the class in whose package the class is defined
+     * @param className name of the generated class
+     * @param clazz class-writer used for generating the class
+     * @param <T> type of the instance
+     * @return created instance of the generated class
+     *
+     * @throws IllegalStateException if the class cannot be defined or instantiated
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <T> T defineAndInstantiate(@NonNull final MethodHandles.Lookup owner,
+                                               @NonNull final String className,
+                                               @NonNull final ClassWriter clazz) {
+        try {
+            val constructor = GcClassDefiners.getDefault()
+                    .orElseThrow(() -> new IllegalStateException("GC-ClassDefiner is unavailable"))
+                    .defineClass(owner, className, clazz.toByteArray()).getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return (T) constructor.newInstance();
+        } catch (final NoSuchMethodException | InstantiationException
+                | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not compile and instantiate " + className, e);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package ru.progrm_jarvis.reflector;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.*;
+import ru.progrm_jarvis.reflector.wrapper.invoke.*;
+
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Index of {@link ReflectorWrapper wrappers} of all the members declared by a class.
+ * <p>
+ * The class gets scanned only once (on the first call to {@link #of(Class)})
+ * so that its members are resolved by binary search over the arrays sorted by their names
+ * without copying reflection objects as {@link Class#getDeclaredField(String)}
+ * and {@link Class#getDeclaredMethod(String, Class[])} do.
+ * Thus the reflection objects returned by this index are shared and should not be modified.
+ * Wrappers are created lazily on the first lookup of the corresponding member.
+ *
+ * @param <T> type of the indexed class
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class ClassAccessorIndex<T> {
+
+    /**
+     * Indices associated with their classes
+     */
+    private static final ClassValue<ClassAccessorIndex<?>> INDICES = new ClassValue<ClassAccessorIndex<?>>() {
+        @Override
+        protected ClassAccessorIndex<?> computeValue(final Class<?> type) {
+            return new ClassAccessorIndex<>(type);
+        }
+    };
+
+    /**
+     * Indexed class
+     */
+    @Getter @ToString.Include @NonNull Class<T> type;
+
+    /**
+     * Names of the declared fields sorted in natural order
+     */
+    @NonNull String[] fieldNames;
+    /**
+     * Declared fields sorted by their names
+     */
+    @NonNull Field[] fields;
+    /**
+     * Wrappers of the declared fields created lazily
+     */
+    @NonNull FieldWrapper<T, ?>[] fieldWrappers;
+
+    /**
+     * Names of the declared methods sorted in natural order
+     */
+    @NonNull String[] methodNames;
+    /**
+     * Declared methods sorted by their names
+     */
+    @NonNull Method[] methods;
+    /**
+     * Parameter types of the declared methods
+     */
+    @NonNull Class<?>[][] methodParameterTypes;
+    /**
+     * Wrappers of the declared methods created lazily
+     */
+    @NonNull MethodWrapper<T, ?>[] methodWrappers;
+
+    /**
+     * Declared constructors
+     */
+    @NonNull Constructor<T>[] constructors;
+    /**
+     * Parameter types of the declared constructors
+     */
+    @NonNull Class<?>[][] constructorParameterTypes;
+    /**
+     * Wrappers of the declared constructors created lazily
+     */
+    @NonNull ConstructorWrapper<T>[] constructorWrappers;
+
+    /**
+     * Creates a new class accessor index scanning the given class.
+     *
+     * @param type class to index
+     */
+    @SuppressWarnings("unchecked")
+    private ClassAccessorIndex(@NonNull final Class<T> type) {
+        this.type = type;
+
+        {
+            val fields = type.getDeclaredFields();
+            Arrays.sort(fields, Comparator.comparing(Field::getName));
+
+            val length = fields.length;
+            val fieldNames = new String[length];
+            for (var i = 0; i < length; i++) fieldNames[i] = fields[i].getName();
+
+            this.fields = fields;
+            this.fieldNames = fieldNames;
+            fieldWrappers = new FieldWrapper[length];
+        }
+        {
+            val methods = type.getDeclaredMethods();
+            Arrays.sort(methods, Comparator.comparing(Method::getName));
+
+            val length = methods.length;
+            val methodNames = new String[length];
+            val methodParameterTypes = new Class<?>[length][];
+            for (var i = 0; i < length; i++) {
+                val method = methods[i];
+                methodNames[i] = method.getName();
+                methodParameterTypes[i] = method.getParameterTypes();
+            }
+
+            this.methods = methods;
+            this.methodNames = methodNames;
+            this.methodParameterTypes = methodParameterTypes;
+            methodWrappers = new MethodWrapper[length];
+        }
+        {
+            val constructors = (Constructor<T>[]) type.getDeclaredConstructors();
+
+            val length = constructors.length;
+            val constructorParameterTypes = new Class<?>[length][];
+            for (var i = 0; i < length; i++) constructorParameterTypes[i] = constructors[i].getParameterTypes();
+
+            this.constructors = constructors;
+            this.constructorParameterTypes = constructorParameterTypes;
+            constructorWrappers = new ConstructorWrapper[length];
+        }
+    }
+
+    /**
+     * Gets the cached index of the given class creating it if needed.
+     *
+     * @param type class whose index should be got
+     * @param <T> type of the class
+     * @return cached index of the class
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public static <T> ClassAccessorIndex<T> of(@NonNull final Class<T> type) {
+        return (ClassAccessorIndex<T>) INDICES.get(type);
+    }
+
+    /**
+     * Finds the index of the declared method with the given name and the given parameter types.
+     * <p>
+     * As {@link Class#getDeclaredMethod(String, Class[])} does, the method with the most specific return type
+     * is chosen if there are multiple ones so that bridge methods do not hide the ones they delegate to.
+     *
+     * @param name name of the method
+     * @param requiredParameterTypes parameter types of the method
+     * @return index of the method or {@code -1} if there is no such method
+     */
+    private int methodIndexOf(@NotNull final String name, @NotNull final Class<?>[] requiredParameterTypes) {
+        var index = Arrays.binarySearch(methodNames, name);
+        if (index < 0) return -1;
+
+        // overloads are adjacent as methods are sorted by their names
+        while (index > 0 && methodNames[index - 1].equals(name)) index--;
+
+        var found = -1;
+        for (; index < methodNames.length && methodNames[index].equals(name); index++) if (Arrays.equals(
+                methodParameterTypes[index], requiredParameterTypes
+        ) && (found == -1 || isMoreSpecific(methods[index], methods[found]))) found = index;
+
+        return found;
+    }
+
+    /**
+     * Checks whether the method should be preferred to the other one having the same name and parameter types.
+     *
+     * @param method method which may be preferred
+     * @param other method which was previously chosen
+     * @return {@code true} if the method's return type is more specific than the other one's
+     * or they are the same but only the other one is a bridge method and {@code false} otherwise
+     */
+    private static boolean isMoreSpecific(@NotNull final Method method, @NotNull final Method other) {
+        val returnType = method.getReturnType();
+        val otherReturnType = other.getReturnType();
+
+        return returnType == otherReturnType
+                ? other.isBridge() && !method.isBridge()
+                : otherReturnType.isAssignableFrom(returnType);
+    }
+
+    /**
+     * Finds the index of the member with the given parameter types.
+     *
+     * @param parameterTypes parameter types of the members
+     * @param requiredParameterTypes parameter types of the member
+     * @return index of the member or {@code -1} if there is no such member
+     */
+    private static int indexOf(@NotNull final Class<?>[][] parameterTypes,
+                               @NotNull final Class<?>[] requiredParameterTypes) {
+        for (var i = 0; i < parameterTypes.length; i++) if (Arrays.equals(
+                parameterTypes[i], requiredParameterTypes
+        )) return i;
+
+        return -1;
+    }
+
+    /**
+     * Gets the wrapper of the declared field at the given index creating it if needed.
+     *
+     * @param index index of the field
+     * @return wrapper of the field
+     */
+    @NotNull private FieldWrapper<T, ?> fieldWrapper(final int index) {
+        // racy initialization is fine as wrappers are immutable and are cached by their factories
+        var wrapper = fieldWrappers[index];
+        if (wrapper == null) {
+            val field = fields[index];
+            fieldWrappers[index] = wrapper = Modifier.isStatic(field.getModifiers())
+                    ? InvokeStaticFieldWrapper.<T, Object>from(field)
+                    : InvokeDynamicFieldWrapper.<T, Object>from(field);
+        }
+
+        return wrapper;
+    }
+
+    /**
+     * Gets the wrapper of the declared method at the given index creating it if needed.
+     *
+     * @param index index of the method
+     * @return wrapper of the method
+     */
+    @NotNull private MethodWrapper<T, ?> methodWrapper(final int index) {
+        // racy initialization is fine as wrappers are immutable and are cached by their factories
+        var wrapper = methodWrappers[index];
+        if (wrapper == null) {
+            val method = methods[index];
+            methodWrappers[index] = wrapper = Modifier.isStatic(method.getModifiers())
+                    ? InvokeStaticMethodWrapper.<T, Object>from(method)
+                    : InvokeDynamicMethodWrapper.<T, Object>from(method);
+        }
+
+        return wrapper;
+    }
+
+    /**
+     * Gets the wrapper of the declared constructor at the given index creating it if needed.
+     *
+     * @param index index of the constructor
+     * @return wrapper of the constructor
+     */
+    @NotNull private ConstructorWrapper<T> constructorWrapper(final int index) {
+        // racy initialization is fine as wrappers are immutable and are cached by their factories
+        var wrapper = constructorWrappers[index];
+        if (wrapper == null) constructorWrappers[index] = wrapper = InvokeConstructorWrapper.from(constructors[index]);
+
+        return wrapper;
+    }
+
+    /**
+     * Gets the amount of all the members declared by the indexed class.
+     *
+     * @return amount of the declared fields, methods and constructors
+     */
+    int memberCount() {
+        return fields.length + methods.length + constructors.length;
+    }
+
+    /**
+     * Gets the declared member at the given index among all the declared members
+     * which are ordered as fields, methods and then constructors.
+     *
+     * @param index index of the member among all the declared members
+     * @return declared member at the given index
+     */
+    @NotNull Member member(int index) {
+        if (index < fields.length) return fields[index];
+        if ((index -= fields.length) < methods.length) return methods[index];
+
+        return constructors[index - methods.length];
+    }
+
+    /**
+     * Creates the wrapper of the declared member at the given index among all the declared members
+     * unless it has already been created.
+     *
+     * @param index index of the member among all the declared members
+     *
+     * @see #member(int) order of the members
+     */
+    void createWrapper(int index) {
+        if (index < fields.length) fieldWrapper(index);
+        else if ((index -= fields.length) < methods.length) methodWrapper(index);
+        else constructorWrapper(index - methods.length);
+    }
+
+    /**
+     * Gets the declared field by its name.
+     *
+     * @param name name of the field
+     * @return optional containing the field if it was found or an empty one otherwise
+     *
+     * @apiNote the returned field is shared by all the callers of this index so it should not be modified
+     * (e.g. by {@link Field#setAccessible(boolean)}); use {@link Class#getDeclaredField(String)} to get a copy
+     */
+    @NotNull public Optional<Field> field(@NonNull final String name) {
+        val index = Arrays.binarySearch(fieldNames, name);
+
+        return index < 0 ? Optional.empty() : Optional.of(fields[index]);
+    }
+
+    /**
+     * Gets the wrapper of the declared non-static field by its name.
+     *
+     * @param name name of the field
+     * @param <V> type of the field's value
+     * @return optional containing the field wrapper if the non-static field was found or an empty one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <V> Optional<DynamicFieldWrapper<T, V>> dynamicField(@NonNull final String name) {
+        val index = Arrays.binarySearch(fieldNames, name);
+        if (index < 0 || Modifier.isStatic(fields[index].getModifiers())) return Optional.empty();
+
+        return Optional.of((DynamicFieldWrapper<T, V>) fieldWrapper(index));
+    }
+
+    /**
+     * Gets the wrapper of the declared static field by its name.
+     *
+     * @param name name of the field
+     * @param <V> type of the field's value
+     * @return optional containing the field wrapper if the static field was found or an empty one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <V> Optional<StaticFieldWrapper<T, V>> staticField(@NonNull final String name) {
+        val index = Arrays.binarySearch(fieldNames, name);
+        if (index < 0 || !Modifier.isStatic(fields[index].getModifiers())) return Optional.empty();
+
+        return Optional.of((StaticFieldWrapper<T, V>) fieldWrapper(index));
+    }
+
+    /**
+     * Gets the declared method by its name and parameter types.
+     *
+     * @param name name of the method
+     * @param parameterTypes parameter types of the method
+     * @return optional containing the method if it was found or an empty one otherwise
+     *
+     * @apiNote the returned method is shared by all the callers of this index so it should not be modified
+     * (e.g. by {@link Method#setAccessible(boolean)}); use {@link Class#getDeclaredMethod(String, Class[])}
+     * to get a copy
+     */
+    @NotNull public Optional<Method> method(@NonNull final String name, @NonNull final Class<?>... parameterTypes) {
+        val index = methodIndexOf(name, parameterTypes);
+
+        return index < 0 ? Optional.empty() : Optional.of(methods[index]);
+    }
+
+    /**
+     * Gets the wrapper of the declared non-static method by its name and parameter types.
+     *
+     * @param name name of the method
+     * @param parameterTypes parameter types of the method
+     * @param <R> type of the method's return-value
+     * @return optional containing the method wrapper if the non-static method was found or an empty one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <R> Optional<DynamicMethodWrapper<T, R>> dynamicMethod(@NonNull final String name,
+                                                                           @NonNull final Class<?>... parameterTypes) {
+        val index = methodIndexOf(name, parameterTypes);
+        if (index < 0 || Modifier.isStatic(methods[index].getModifiers())) return Optional.empty();
+
+        return Optional.of((DynamicMethodWrapper<T, R>) methodWrapper(index));
+    }
+
+    /**
+     * Gets the wrapper of the declared static method by its name and parameter types.
+     *
+     * @param name name of the method
+     * @param parameterTypes parameter types of the method
+     * @param <R> type of the method's return-value
+     * @return optional containing the method wrapper if the static method was found or an empty one otherwise
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <R> Optional<StaticMethodWrapper<T, R>> staticMethod(@NonNull final String name,
+                                                                         @NonNull final Class<?>... parameterTypes) {
+        val index = methodIndexOf(name, parameterTypes);
+        if (index < 0 || !Modifier.isStatic(methods[index].getModifiers())) return Optional.empty();
+
+        return Optional.of((StaticMethodWrapper<T, R>) methodWrapper(index));
+    }
+
+    /**
+     * Gets the wrapper of the declared constructor by its parameter types.
+     *
+     * @param parameterTypes parameter types of the constructor
+     * @return optional containing the constructor wrapper if the constructor was found or an empty one otherwise
+     */
+    @NotNull public Optional<ConstructorWrapper<T>> constructor(@NonNull final Class<?>... parameterTypes) {
+        val index = indexOf(constructorParameterTypes, parameterTypes);
+
+        return index < 0 ? Optional.empty() : Optional.of(constructorWrapper(index));
+    }
+}
@@ -0,0 +1,122 @@
+package ru.progrm_jarvis.reflector;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.AnnotatedElement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Utility for eager creation of {@link ru.progrm_jarvis.reflector.wrapper.ReflectorWrapper wrappers}
+ * of the members of classes so that their first use does not pay for their generation.
+ * <p>
+ * Created wrappers get cached by {@link ClassAccessorIndex class accessor indices}
+ * and the wrapper factories so that any later lookups of them are cheap.
+ */
+@UtilityClass
+public class WrapperWarmUp {
+
+    /**
+     * Eagerly creates wrappers of all the members declared by the given classes
+     * in parallel using {@link ForkJoinPool#commonPool() the common pool}.
+     *
+     * @param classes classes whose members' wrappers should be created
+     * @return result of the warm-up
+     */
+    @NotNull public Result warmUp(@NonNull final Class<?>... classes) {
+        return warmUp(ForkJoinPool.commonPool(), Arrays.asList(classes));
+    }
+
+    /**
+     * Eagerly creates wrappers of all the members declared by the given classes in parallel using the given pool.
+     * <p>
+     * Failure to create any wrapper does not stop the warm-up but is reported in its result instead
+     * unless it is an {@link Error error} other than a {@link LinkageError linkage error}.
+     *
+     * @param pool pool used for creating the wrappers
+     * @param classes classes whose members' wrappers should be created
+     * @return result of the warm-up
+     */
+    @NotNull public Result warmUp(@NonNull final ForkJoinPool pool, @NonNull final Collection<Class<?>> classes) {
+        val memberCount = new AtomicInteger();
+        final Map<AnnotatedElement, Throwable> failures = new ConcurrentHashMap<>();
+
+        val classTasks = new ArrayList<ForkJoinTask<?>>(classes.size());
+        for (val type : classes) classTasks.add(ForkJoinTask.adapt(() -> {
+            final ClassAccessorIndex<?> index;
+            try {
+                index = ClassAccessorIndex.of(type);
+            } catch (final Exception | LinkageError e) {
+                failures.put(type, e);
+                return;
+            }
+
+            val count = index.memberCount();
+            memberCount.addAndGet(count);
+
+            val memberTasks = new ArrayList<ForkJoinTask<?>>(count);
+            for (var i = 0; i < count; i++) {
+                val memberIndex = i;
+                memberTasks.add(ForkJoinTask.adapt(() -> {
+                    try {
+                        index.createWrapper(memberIndex);
+                    } catch (final Exception | LinkageError e) {
+                        failures.put((AnnotatedElement) index.member(memberIndex), e);
+                    }
+                }));
+            }
+            ForkJoinTask.invokeAll(memberTasks);
+        }));
+
+        val startTime = System.nanoTime();
+        pool.invoke(ForkJoinTask.adapt(() -> {
+            ForkJoinTask.invokeAll(classTasks);
+        }));
+        val duration = Duration.ofNanos(System.nanoTime() - startTime);
+
+        return new Result(duration, memberCount.get(), Collections.unmodifiableMap(new HashMap<>(failures)));
+    }
+
+    /**
+     * Result of the warm-up.
+     */
+    @Value
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class Result {
+
+        /**
+         * Time spent on the warm-up
+         */
+        @NonNull Duration duration;
+
+        /**
+         * Amount of the members whose wrappers were attempted to be created
+         */
+        int memberCount;
+
+        /**
+         * Errors which occurred while indexing classes or creating wrappers of members associated with them
+         */
+        @NonNull Map<AnnotatedElement, Throwable> failures;
+
+        /**
+         * Checks whether the warm-up has completed without any failures.
+         *
+         * @return {@code true} if no failures occurred and {@code false} otherwise
+         */
+        public boolean isSuccessful() {
+            return failures.isEmpty();
+        }
+    }
+}
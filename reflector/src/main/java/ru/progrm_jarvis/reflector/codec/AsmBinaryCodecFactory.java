@@ -0,0 +1,479 @@
+package ru.progrm_jarvis.reflector.codec;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.javacommons.annotation.Internal;
+import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
+import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+import ru.progrm_jarvis.javacommons.util.ClassNamingStrategy;
+import ru.progrm_jarvis.reflector.AsmMethodHandleFields;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.*;
+import static ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil.*;
+
+/**
+ * Factory of {@link BinaryCodec binary codecs} which uses runtime class generation.
+ * <p>
+ * Each generated codec reads and writes primitive values of the fields directly via {@link ByteBuffer}'s
+ * type-specific methods invoking {@link MethodHandle method handles} of the fields
+ * stored in its {@code static final} fields so that no values get boxed.
+ * Supported field types are primitives and {@link String strings} (encoded as length-prefixed UTF-8).
+ */
+@UtilityClass
+@UsesBytecodeModification(BytecodeLibrary.ASM)
+public class AsmBinaryCodecFactory {
+
+    /**
+     * Lookup of this class
+     */
+    private final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Class naming strategy used to allocate names for generated classes
+     */
+    private final ClassNamingStrategy CLASS_NAMING_STRATEGY = ClassNamingStrategy.createPaginated(
+            AsmBinaryCodecFactory.class.getName() + "$$Generated$$BinaryCodec$$"
+    );
+
+    /**
+     * Length of a {@code null} string written to the buffer
+     */
+    private final int NULL_STRING_LENGTH = -1;
+
+    /**
+     * ASM type of {@link ByteBuffer}
+     */
+    private final Type BYTE_BUFFER_TYPE = getType(ByteBuffer.class);
+
+    /**
+     * Internal name of {@link BinaryCodec}
+     */
+    private final String BINARY_CODEC_INTERNAL_NAME = getInternalName(BinaryCodec.class),
+    /**
+     * Internal name of this class
+     */
+    ASM_BINARY_CODEC_FACTORY_INTERNAL_NAME = getInternalName(AsmBinaryCodecFactory.class),
+    /**
+     * Internal name of {@link ByteBuffer}
+     */
+    BYTE_BUFFER_INTERNAL_NAME = BYTE_BUFFER_TYPE.getInternalName(),
+    /**
+     * Internal name of {@link MethodHandle}
+     */
+    METHOD_HANDLE_INTERNAL_NAME = getInternalName(MethodHandle.class),
+    /**
+     * Name of {@link #internal$putString(ByteBuffer, String)} method
+     */
+    INTERNAL_PUT_STRING_METHOD_NAME = "internal$putString",
+    /**
+     * Descriptor of {@link #internal$putString(ByteBuffer, String)} method
+     */
+    INTERNAL_PUT_STRING_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, BYTE_BUFFER_TYPE, STRING_TYPE),
+    /**
+     * Name of {@link #internal$getString(ByteBuffer)} method
+     */
+    INTERNAL_GET_STRING_METHOD_NAME = "internal$getString",
+    /**
+     * Descriptor of {@link #internal$getString(ByteBuffer)} method
+     */
+    INTERNAL_GET_STRING_METHOD_DESCRIPTOR = getMethodDescriptor(STRING_TYPE, BYTE_BUFFER_TYPE),
+    /**
+     * Descriptor of {@link BinaryCodec#encode(Object, ByteBuffer)} method
+     */
+    ENCODE_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, BYTE_BUFFER_TYPE),
+    /**
+     * Descriptor of {@link BinaryCodec#decode(ByteBuffer, Object)} method
+     */
+    DECODE_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, BYTE_BUFFER_TYPE, OBJECT_TYPE);
+
+    /**
+     * Array whose only value is {@link #BINARY_CODEC_INTERNAL_NAME}.
+     */
+    private final String[] BINARY_CODEC_INTERNAL_NAME_ARRAY = new String[]{BINARY_CODEC_INTERNAL_NAME};
+
+    /**
+     * Writes the given string to the buffer as its UTF-8 bytes prefixed with their amount.
+     *
+     * @param buffer buffer to which the string should be written
+     * @param value string to write
+     *
+     * @deprecated this method is internal
+     */
+    @Deprecated
+    @Internal("This is expected to be invoked only by generated BinaryCodecs to encode strings")
+    public void internal$putString(@NotNull final ByteBuffer buffer, @Nullable final String value) {
+        if (value == null) buffer.putInt(NULL_STRING_LENGTH);
+        else {
+            val bytes = value.getBytes(StandardCharsets.UTF_8);
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    /**
+     * Reads the string written by {@link #internal$putString(ByteBuffer, String)} from the buffer.
+     *
+     * @param buffer buffer from which the string should be read
+     * @return read string
+     *
+     * @throws BufferUnderflowException if there is not enough data in the buffer
+     * @throws IllegalArgumentException if the length of the string is negative
+     *
+     * @deprecated this method is internal
+     */
+    @Deprecated
+    @Internal("This is expected to be invoked only by generated BinaryCodecs to decode strings")
+    @Nullable public String internal$getString(@NotNull final ByteBuffer buffer) {
+        val length = buffer.getInt();
+        if (length == NULL_STRING_LENGTH) return null;
+
+        checkArgument(length >= 0, "string length should be non-negative but is %s", length);
+        if (length > buffer.remaining()) throw new BufferUnderflowException();
+
+        if (buffer.hasArray()) {
+            val position = buffer.position();
+            buffer.position(position + length);
+
+            return new String(buffer.array(), buffer.arrayOffset() + position, length, StandardCharsets.UTF_8);
+        }
+
+        val bytes = new byte[length];
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the {@link BinaryField binary fields} of the given class and its super-classes
+     * encoded in the given version of the format.
+     *
+     * @param type class whose binary fields should be got
+     * @param version version of the format
+     * @return binary fields of the class sorted by their order
+     *
+     * @throws IllegalArgumentException if any of the binary fields is static, is of unsupported type
+     * or has the same order as another one
+     */
+    @NotNull public List<Field> binaryFields(@NonNull final Class<?> type, final int version) {
+        val fields = new ArrayList<Field>();
+        for (Class<?> owner = type; owner != null; owner = owner.getSuperclass()) {
+            for (val field : owner.getDeclaredFields()) {
+                val binaryField = field.getAnnotation(BinaryField.class);
+                if (binaryField == null || binaryField.since() > version) continue;
+
+                checkArgument(!Modifier.isStatic(field.getModifiers()), "binary field %s should be non-static", field);
+                val fieldType = field.getType();
+                checkArgument(
+                        fieldType.isPrimitive() || fieldType == String.class,
+                        "binary field %s should be either primitive or String", field
+                );
+
+                fields.add(field);
+            }
+        }
+
+        fields.sort(Comparator.comparingInt(field -> field.getAnnotation(BinaryField.class).order()));
+        val size = fields.size();
+        for (var i = 1; i < size; i++) checkArgument(
+                fields.get(i - 1).getAnnotation(BinaryField.class).order()
+                        != fields.get(i).getAnnotation(BinaryField.class).order(),
+                "binary fields %s and %s have the same order", fields.get(i - 1), fields.get(i)
+        );
+
+        return fields;
+    }
+
+    /**
+     * Creates a new binary codec of the given class generating its class.
+     *
+     * @param type class whose objects should be encoded
+     * @param version version of the format, only fields whose {@link BinaryField#since()} is not greater
+     * than it are encoded
+     * @param <T> type of the encoded objects
+     * @return created binary codec
+     *
+     * @throws IllegalArgumentException if any of the binary fields is static, is of unsupported type
+     * or has the same order as another one
+     */
+    @NotNull public <T> BinaryCodec<T> create(@NonNull final Class<T> type, final int version) {
+        val fields = binaryFields(type, version);
+        val fieldCount = fields.size();
+
+        val methodHandles = new MethodHandle[fieldCount << 1];
+        val fieldTypes = new Type[fieldCount];
+        for (var i = 0; i < fieldCount; i++) {
+            val field = fields.get(i);
+            val fieldType = field.getType();
+            fieldTypes[i] = getType(fieldType);
+
+            methodHandles[i << 1] = InvokeUtil.toGetterMethodHandle(field)
+                    .asType(methodType(fieldType, Object.class));
+            methodHandles[(i << 1) + 1] = InvokeUtil.toSetterMethodHandle(field)
+                    .asType(methodType(void.class, Object.class, fieldType));
+        }
+
+        val clazz = new ClassWriter(0); // MAXs are computed manually
+
+        val className = CLASS_NAMING_STRATEGY.get();
+        val internalClassName = className.replace('.', '/');
+        clazz.visit(
+                V1_8 /* generate bytecode for JVM1.8 */, OPCODES_ACC_PUBLIC_FINAL_SUPER,
+                internalClassName, null, OBJECT_INTERNAL_NAME /* inherit Object */,
+                BINARY_CODEC_INTERNAL_NAME_ARRAY /* implement BinaryCodec interface */
+        );
+        addEmptyConstructor(clazz);
+
+        AsmMethodHandleFields.asm$addMethodHandleFields(clazz, internalClassName, methodHandles);
+        asm$implementGetVersionMethod(clazz, version);
+        asm$implementEncodeMethod(clazz, internalClassName, fieldTypes);
+        asm$implementDecodeMethod(clazz, internalClassName, fieldTypes);
+
+        clazz.visitEnd();
+
+        return AsmMethodHandleFields.defineAndInstantiate(LOOKUP, className, clazz);
+    }
+
+    /**
+     * Implements the {@link BinaryCodec#getVersion()} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param version version of the format
+     */
+    private void asm$implementGetVersionMethod(@NotNull final ClassWriter clazz, final int version) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "getVersion", INT_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        pushInt(method, version);
+        method.visitInsn(IRETURN);
+
+        method.visitMaxs(1, 1 /* [this] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Implements the {@link BinaryCodec#encode(Object, ByteBuffer)} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param internalClassName internal name of the generated class
+     * @param fieldTypes types of the encoded fields
+     */
+    private void asm$implementEncodeMethod(@NotNull final ClassWriter clazz,
+                                           @NotNull final String internalClassName,
+                                           @NotNull final Type[] fieldTypes) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "encode", ENCODE_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        val length = fieldTypes.length;
+        for (var i = 0; i < length; i++) {
+            val fieldType = fieldTypes[i];
+
+            // push the buffer
+            method.visitVarInsn(ALOAD, 2);
+            // get the value from the source
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, i << 1);
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    getMethodDescriptor(fieldType, OBJECT_TYPE), false
+            );
+            // write the value to the buffer
+            asm$invokeBufferPut(method, fieldType);
+        }
+        method.visitInsn(RETURN);
+
+        /*
+         * The maximal stack size is when it consists of:
+         * - the buffer
+         * - either the getter and the source or the value (which may be long or double)
+         */
+        method.visitMaxs(3, 3 /* [this + value + buffer] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Implements the {@link BinaryCodec#decode(ByteBuffer, Object)} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param internalClassName internal name of the generated class
+     * @param fieldTypes types of the decoded fields
+     */
+    private void asm$implementDecodeMethod(@NotNull final ClassWriter clazz,
+                                           @NotNull final String internalClassName,
+                                           @NotNull final Type[] fieldTypes) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "decode", DECODE_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        val length = fieldTypes.length;
+        for (var i = 0; i < length; i++) {
+            val fieldType = fieldTypes[i];
+
+            // push the setter and the target
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, (i << 1) + 1);
+            method.visitVarInsn(ALOAD, 2);
+            // read the value from the buffer
+            method.visitVarInsn(ALOAD, 1);
+            asm$invokeBufferGet(method, fieldType);
+            // set the value to the target
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, fieldType), false
+            );
+        }
+        method.visitInsn(RETURN);
+
+        /*
+         * The maximal stack size is when it consists of:
+         * - the setter and the target
+         * - the value (which may be long or double)
+         */
+        method.visitMaxs(4, 3 /* [this + buffer + target] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Adds code to the method which writes the value on top of the stack to the buffer under it.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param valueType type of the written value
+     */
+    private void asm$invokeBufferPut(@NotNull final MethodVisitor method, @NotNull final Type valueType) {
+        final String name, descriptor;
+        switch (valueType.getSort()) {
+            case Type.BOOLEAN: // written as a byte which is either 0 or 1
+            case Type.BYTE: {
+                name = "put";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, BYTE_TYPE);
+                break;
+            }
+            case Type.SHORT: {
+                name = "putShort";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, SHORT_TYPE);
+                break;
+            }
+            case Type.CHAR: {
+                name = "putChar";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, CHAR_TYPE);
+                break;
+            }
+            case Type.INT: {
+                name = "putInt";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, INT_TYPE);
+                break;
+            }
+            case Type.LONG: {
+                name = "putLong";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, LONG_TYPE);
+                break;
+            }
+            case Type.FLOAT: {
+                name = "putFloat";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, FLOAT_TYPE);
+                break;
+            }
+            case Type.DOUBLE: {
+                name = "putDouble";
+                descriptor = getMethodDescriptor(BYTE_BUFFER_TYPE, DOUBLE_TYPE);
+                break;
+            }
+            default: {
+                // strings are written via the helper method which returns nothing
+                method.visitMethodInsn(
+                        INVOKESTATIC, ASM_BINARY_CODEC_FACTORY_INTERNAL_NAME,
+                        INTERNAL_PUT_STRING_METHOD_NAME, INTERNAL_PUT_STRING_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+        }
+
+        method.visitMethodInsn(INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, name, descriptor, false);
+        // pop the buffer returned for chaining
+        method.visitInsn(POP);
+    }
+
+    /**
+     * Adds code to the method which reads the value of the given type from the buffer on top of the stack.
+     *
+     * @param method method visitor used for appending code to the method
+     * @param valueType type of the read value
+     */
+    private void asm$invokeBufferGet(@NotNull final MethodVisitor method, @NotNull final Type valueType) {
+        switch (valueType.getSort()) {
+            case Type.BOOLEAN: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "get", BYTE_METHOD_DESCRIPTOR, false
+                );
+                // normalize the byte to either 0 or 1
+                method.visitInsn(ICONST_1);
+                method.visitInsn(IAND);
+                return;
+            }
+            case Type.BYTE: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "get", BYTE_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.SHORT: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getShort", SHORT_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.CHAR: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getChar", CHAR_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.INT: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getInt", INT_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.LONG: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getLong", LONG_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.FLOAT: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getFloat", FLOAT_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            case Type.DOUBLE: {
+                method.visitMethodInsn(
+                        INVOKEVIRTUAL, BYTE_BUFFER_INTERNAL_NAME, "getDouble", DOUBLE_METHOD_DESCRIPTOR, false
+                );
+                return;
+            }
+            default: method.visitMethodInsn(
+                    INVOKESTATIC, ASM_BINARY_CODEC_FACTORY_INTERNAL_NAME,
+                    INTERNAL_GET_STRING_METHOD_NAME, INTERNAL_GET_STRING_METHOD_DESCRIPTOR, false
+            );
+        }
+    }
+}
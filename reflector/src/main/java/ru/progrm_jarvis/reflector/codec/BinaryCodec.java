@@ -0,0 +1,46 @@
+package ru.progrm_jarvis.reflector.codec;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec of objects' {@link BinaryField binary fields} to and from {@link ByteBuffer byte buffers}.
+ * <p>
+ * The values of the fields are written one after another (in the byte order of the buffer)
+ * in the {@link BinaryField#order() order of the fields} without any headers or delimiters.
+ *
+ * @param <T> type of the encoded objects
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * Gets the version of the format used by this codec.
+     *
+     * @return version of the format used by this codec
+     */
+    int getVersion();
+
+    /**
+     * Encodes the fields of the given object to the buffer.
+     *
+     * @param value object whose fields should be encoded
+     * @param buffer buffer to which the fields should be written
+     *
+     * @throws BufferOverflowException if there is not enough space in the buffer
+     */
+    void encode(@NotNull T value, @NotNull ByteBuffer buffer);
+
+    /**
+     * Decodes the fields from the buffer to the given object.
+     *
+     * @param buffer buffer from which the fields should be read
+     * @param target object to whose fields the values should be written
+     *
+     * @throws BufferUnderflowException if there is not enough data in the buffer
+     * @throws IllegalArgumentException if the data in the buffer is malformed
+     */
+    void decode(@NotNull ByteBuffer buffer, @NotNull T target);
+}
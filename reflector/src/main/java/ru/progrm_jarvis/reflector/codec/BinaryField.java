@@ -0,0 +1,26 @@
+package ru.progrm_jarvis.reflector.codec;
+
+import java.lang.annotation.*;
+
+/**
+ * Marker indicating that the annotated field is encoded by {@link BinaryCodec binary codecs} of its class.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BinaryField {
+
+    /**
+     * Gets the position of the field in the encoded data relative to the other fields of the class.
+     *
+     * @return order of the field which should be unique among the fields of the class
+     */
+    int order();
+
+    /**
+     * Gets the version of the format since which the field is encoded.
+     *
+     * @return version of the format since which the field is encoded
+     */
+    int since() default 0;
+}
@@ -0,0 +1,267 @@
+package ru.progrm_jarvis.reflector.copier;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Type;
+import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
+import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+import ru.progrm_jarvis.javacommons.util.ClassNamingStrategy;
+import ru.progrm_jarvis.reflector.AsmMethodHandleFields;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.objectweb.asm.Opcodes.*;
+import static org.objectweb.asm.Type.*;
+import static ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil.*;
+
+/**
+ * Factory of {@link FieldCopier field copiers} which uses runtime class generation.
+ * <p>
+ * Each generated copier performs all of its copy operations in single straight-line methods
+ * invoking {@link MethodHandle method handles} of the fields stored in its {@code static final} fields
+ * so that the JIT is free to inline them.
+ */
+@UtilityClass
+@UsesBytecodeModification(BytecodeLibrary.ASM)
+public class AsmFieldCopierFactory {
+
+    /**
+     * Lookup of this class
+     */
+    private final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * Class naming strategy used to allocate names for generated classes
+     */
+    private final ClassNamingStrategy CLASS_NAMING_STRATEGY = ClassNamingStrategy.createPaginated(
+            AsmFieldCopierFactory.class.getName() + "$$Generated$$FieldCopier$$"
+    );
+
+    /**
+     * Amount of method handles stored per copied field
+     */
+    private final int METHOD_HANDLES_PER_FIELD = 4;
+
+    /**
+     * Internal name of {@link FieldCopier}
+     */
+    private final String FIELD_COPIER_INTERNAL_NAME = getInternalName(FieldCopier.class),
+    /**
+     * Internal name of {@link MethodHandle}
+     */
+    METHOD_HANDLE_INTERNAL_NAME = getInternalName(MethodHandle.class),
+    /**
+     * Descriptor of {@link FieldCopier#copy(Object, Object)} method
+     */
+    COPY_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, OBJECT_TYPE),
+    /**
+     * Descriptor of {@link FieldCopier#copyToArray(Object, Object[], int)} method
+     */
+    COPY_TO_ARRAY_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, OBJECT_ARRAY_TYPE, INT_TYPE),
+    /**
+     * Descriptor of {@link FieldCopier#copyFromArray(Object[], int, Object)} method
+     */
+    COPY_FROM_ARRAY_METHOD_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, OBJECT_ARRAY_TYPE, INT_TYPE, OBJECT_TYPE),
+    /**
+     * Descriptor of {@link MethodHandle#invokeExact(Object...)} of generic getters
+     */
+    GENERIC_GETTER_DESCRIPTOR = getMethodDescriptor(OBJECT_TYPE, OBJECT_TYPE),
+    /**
+     * Descriptor of {@link MethodHandle#invokeExact(Object...)} of generic setters
+     */
+    GENERIC_SETTER_DESCRIPTOR = getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, OBJECT_TYPE);
+
+    /**
+     * Array whose only value is {@link #FIELD_COPIER_INTERNAL_NAME}.
+     */
+    private final String[] FIELD_COPIER_INTERNAL_NAME_ARRAY = new String[]{FIELD_COPIER_INTERNAL_NAME};
+
+    /**
+     * Creates a new field copier of the given fields generating its class.
+     *
+     * @param fields non-static fields to copy
+     * @param <T> type of the objects whose fields are copied
+     * @return created field copier
+     */
+    @NotNull public <T> FieldCopier<T> create(@NonNull final List<Field> fields) {
+        val fieldCount = fields.size();
+
+        val methodHandles = new MethodHandle[fieldCount * METHOD_HANDLES_PER_FIELD];
+        val fieldTypes = new Type[fieldCount];
+        for (var i = 0; i < fieldCount; i++) {
+            val field = fields.get(i);
+            val type = field.getType().isPrimitive() ? field.getType() : Object.class;
+            fieldTypes[i] = getType(type);
+
+            val getter = InvokeUtil.toGetterMethodHandle(field);
+            val setter = InvokeUtil.toSetterMethodHandle(field);
+            val index = i * METHOD_HANDLES_PER_FIELD;
+            methodHandles[index] = getter.asType(methodType(type, Object.class));
+            methodHandles[index + 1] = setter.asType(methodType(void.class, Object.class, type));
+            methodHandles[index + 2] = getter.asType(methodType(Object.class, Object.class));
+            methodHandles[index + 3] = setter.asType(methodType(void.class, Object.class, Object.class));
+        }
+
+        val clazz = new ClassWriter(0); // MAXs are computed manually
+
+        val className = CLASS_NAMING_STRATEGY.get();
+        val internalClassName = className.replace('.', '/');
+        clazz.visit(
+                V1_8 /* generate bytecode for JVM1.8 */, OPCODES_ACC_PUBLIC_FINAL_SUPER,
+                internalClassName, null, OBJECT_INTERNAL_NAME /* inherit Object */,
+                FIELD_COPIER_INTERNAL_NAME_ARRAY /* implement FieldCopier interface */
+        );
+        addEmptyConstructor(clazz);
+
+        AsmMethodHandleFields.asm$addMethodHandleFields(clazz, internalClassName, methodHandles);
+        asm$implementGetFieldCountMethod(clazz, fieldCount);
+        asm$implementCopyMethod(clazz, internalClassName, fieldTypes);
+        asm$implementCopyToArrayMethod(clazz, internalClassName, fieldCount);
+        asm$implementCopyFromArrayMethod(clazz, internalClassName, fieldCount);
+
+        clazz.visitEnd();
+
+        return AsmMethodHandleFields.defineAndInstantiate(LOOKUP, className, clazz);
+    }
+
+    /**
+     * Implements the {@link FieldCopier#getFieldCount()} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param fieldCount amount of the copied fields
+     */
+    private void asm$implementGetFieldCountMethod(@NotNull final ClassWriter clazz, final int fieldCount) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "getFieldCount", INT_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        pushInt(method, fieldCount);
+        method.visitInsn(IRETURN);
+
+        method.visitMaxs(1, 1 /* [this] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Implements the {@link FieldCopier#copy(Object, Object)} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param internalClassName internal name of the generated class
+     * @param fieldTypes types of the copied fields erased to {@link Object} unless they are primitive
+     */
+    private void asm$implementCopyMethod(@NotNull final ClassWriter clazz,
+                                         @NotNull final String internalClassName,
+                                         @NotNull final Type[] fieldTypes) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "copy", COPY_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        val length = fieldTypes.length;
+        for (var i = 0; i < length; i++) {
+            val index = i * METHOD_HANDLES_PER_FIELD;
+            val fieldType = fieldTypes[i];
+
+            // push setter and the target
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, index + 1);
+            method.visitVarInsn(ALOAD, 2);
+            // get the value from the source
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, index);
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    getMethodDescriptor(fieldType, OBJECT_TYPE), false
+            );
+            // set the value to the target
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact",
+                    getMethodDescriptor(VOID_TYPE, OBJECT_TYPE, fieldType), false
+            );
+        }
+        method.visitInsn(RETURN);
+
+        /*
+         * The maximal stack size is when it consists of:
+         * - the setter and the target
+         * - either the getter and the source or the value (which may be long or double)
+         */
+        method.visitMaxs(4, 3 /* [this + source + target] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Implements the {@link FieldCopier#copyToArray(Object, Object[], int)} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param internalClassName internal name of the generated class
+     * @param fieldCount amount of the copied fields
+     */
+    private void asm$implementCopyToArrayMethod(@NotNull final ClassWriter clazz,
+                                                @NotNull final String internalClassName,
+                                                final int fieldCount) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "copyToArray", COPY_TO_ARRAY_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        for (var i = 0; i < fieldCount; i++) {
+            // push the array and the index
+            method.visitVarInsn(ALOAD, 2);
+            method.visitVarInsn(ILOAD, 3);
+            pushInt(method, i);
+            method.visitInsn(IADD);
+            // get the boxed value from the source
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, i * METHOD_HANDLES_PER_FIELD + 2);
+            method.visitVarInsn(ALOAD, 1);
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact", GENERIC_GETTER_DESCRIPTOR, false
+            );
+            // store the value in the array
+            method.visitInsn(AASTORE);
+        }
+        method.visitInsn(RETURN);
+
+        // the maximal stack size is when it consists of the array, the index, the getter and the source
+        method.visitMaxs(4, 4 /* [this + source + target + offset] */);
+        method.visitEnd();
+    }
+
+    /**
+     * Implements the {@link FieldCopier#copyFromArray(Object[], int, Object)} method in the generated class.
+     *
+     * @param clazz class-writer used for generating the implementation
+     * @param internalClassName internal name of the generated class
+     * @param fieldCount amount of the copied fields
+     */
+    private void asm$implementCopyFromArrayMethod(@NotNull final ClassWriter clazz,
+                                                  @NotNull final String internalClassName,
+                                                  final int fieldCount) {
+        val method = clazz.visitMethod(ACC_PUBLIC, "copyFromArray", COPY_FROM_ARRAY_METHOD_DESCRIPTOR, null, null);
+        method.visitCode();
+
+        for (var i = 0; i < fieldCount; i++) {
+            // push the setter and the target
+            AsmMethodHandleFields.asm$pushMethodHandle(method, internalClassName, i * METHOD_HANDLES_PER_FIELD + 3);
+            method.visitVarInsn(ALOAD, 3);
+            // get the value from the array
+            method.visitVarInsn(ALOAD, 1);
+            method.visitVarInsn(ILOAD, 2);
+            pushInt(method, i);
+            method.visitInsn(IADD);
+            method.visitInsn(AALOAD);
+            // set the value to the target unboxing it if needed
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, METHOD_HANDLE_INTERNAL_NAME, "invokeExact", GENERIC_SETTER_DESCRIPTOR, false
+            );
+        }
+        method.visitInsn(RETURN);
+
+        // the maximal stack size is when it consists of the setter, the target, the array, the offset and the index
+        method.visitMaxs(5, 4 /* [this + source + offset + target] */);
+        method.visitEnd();
+    }
+}
@@ -0,0 +1,62 @@
+package ru.progrm_jarvis.reflector.copier;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Copier of the values of the selected non-static fields of objects.
+ *
+ * @param <T> type of the objects whose fields are copied
+ */
+public interface FieldCopier<T> {
+
+    /**
+     * Gets the amount of the fields copied by this copier.
+     *
+     * @return amount of the fields copied by this copier
+     */
+    int getFieldCount();
+
+    /**
+     * Copies the values of the fields from the source object to the target object.
+     *
+     * @param source object from which the values of the fields should be copied
+     * @param target object to which the values of the fields should be copied
+     */
+    void copy(@NotNull T source, @NotNull T target);
+
+    /**
+     * Copies the values of the fields from the source object to the target array.
+     *
+     * @param source object from which the values of the fields should be copied
+     * @param target array to which the values of the fields should be copied
+     * @param offset index in the array starting from which the values should be stored
+     *
+     * @throws ArrayIndexOutOfBoundsException if there is not enough space in the array for all of the values
+     */
+    void copyToArray(@NotNull T source, @NotNull Object[] target, int offset);
+
+    /**
+     * Copies the values of the fields from the source array to the target object.
+     *
+     * @param source array from which the values of the fields should be copied
+     * @param offset index in the array starting from which the values are stored
+     * @param target object to which the values of the fields should be copied
+     *
+     * @throws ArrayIndexOutOfBoundsException if there are not enough values in the array
+     */
+    void copyFromArray(@NotNull Object[] source, int offset, @NotNull T target);
+
+    /**
+     * Creates an array containing the values of the fields of the given object.
+     *
+     * @param source object whose values of the fields should be stored in the array
+     * @return created array containing the values of the fields of the given object
+     */
+    @NotNull default Object[] toArray(@NotNull final T source) {
+        val values = new Object[getFieldCount()];
+        copyToArray(source, values, 0);
+
+        return values;
+    }
+}
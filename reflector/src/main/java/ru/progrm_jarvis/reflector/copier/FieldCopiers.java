@@ -0,0 +1,105 @@
+package ru.progrm_jarvis.reflector.copier;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Utility for creating {@link FieldCopier field copiers} using the best implementation available.
+ */
+@UtilityClass
+public class FieldCopiers {
+
+    /**
+     * Copiers of all non-static fields associated with their classes
+     */
+    private final ClassValue<FieldCopier<?>> COPIERS = new ClassValue<FieldCopier<?>>() {
+        @Override
+        protected FieldCopier<?> computeValue(final Class<?> type) {
+            return create(type, field -> true);
+        }
+    };
+
+    /**
+     * Gets the cached field copier of all non-static fields of the given class and its super-classes.
+     *
+     * @param type class whose field copier should be got
+     * @param <T> type of the objects whose fields are copied
+     * @return cached field copier of all non-static fields of the class
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <T> FieldCopier<T> of(@NonNull final Class<T> type) {
+        return (FieldCopier<T>) COPIERS.get(type);
+    }
+
+    /**
+     * Creates a new field copier of the non-static fields of the given class and its super-classes
+     * matching the given filter.
+     *
+     * @param type class whose fields should be copied
+     * @param filter filter of the fields to copy
+     * @param <T> type of the objects whose fields are copied
+     * @return created field copier of the matching fields
+     */
+    @NotNull public <T> FieldCopier<T> create(@NonNull final Class<? extends T> type,
+                                              @NonNull final Predicate<? super Field> filter) {
+        val fields = new ArrayList<Field>();
+        for (Class<?> owner = type; owner != null; owner = owner.getSuperclass()) {
+            for (val field : owner.getDeclaredFields()) if (
+                    !Modifier.isStatic(field.getModifiers()) && filter.test(field)
+            ) fields.add(field);
+        }
+
+        return create(fields);
+    }
+
+    /**
+     * Creates a new field copier of the given non-static fields.
+     *
+     * @param fields non-static fields to copy
+     * @param <T> type of the objects whose fields are copied
+     * @return created field copier of the given fields
+     *
+     * @throws IllegalArgumentException if any of the fields is static
+     */
+    @NotNull public <T> FieldCopier<T> create(@NonNull final Field... fields) {
+        return create(Arrays.asList(fields));
+    }
+
+    /**
+     * Creates a new field copier of the given non-static fields.
+     * <p>
+     * A class is generated for the copier if ASM is available and the class can be defined
+     * and {@link WrapperFieldCopier} is used otherwise.
+     *
+     * @param fields non-static fields to copy
+     * @param <T> type of the objects whose fields are copied
+     * @return created field copier of the given fields
+     *
+     * @throws IllegalArgumentException if any of the fields is static
+     */
+    @NotNull public <T> FieldCopier<T> create(@NonNull final List<Field> fields) {
+        for (val field : fields) checkArgument(
+                !Modifier.isStatic(field.getModifiers()), "field %s should be non-static", field
+        );
+
+        if (BytecodeLibrary.ASM.isAvailable()) try {
+            return AsmFieldCopierFactory.create(fields);
+        } catch (final IllegalStateException ignored) {
+            // the class could not be defined or instantiated so the wrapper-based copier is used
+        }
+
+        return WrapperFieldCopier.create(fields);
+    }
+}
@@ -0,0 +1,78 @@
+package ru.progrm_jarvis.reflector.copier;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.DynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.invoke.InvokeDynamicFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * {@link FieldCopier} delegating to {@link DynamicFieldWrapper dynamic field wrappers} of the copied fields.
+ *
+ * @param <T> type of the objects whose fields are copied
+ */
+@ToString
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class WrapperFieldCopier<T> implements FieldCopier<T> {
+
+    /**
+     * Wrappers of the copied fields
+     */
+    @NonNull DynamicFieldWrapper<T, Object>[] wrappers;
+
+    /**
+     * Creates a new wrapper field copier.
+     *
+     * @param wrappers wrappers of the copied fields
+     */
+    protected WrapperFieldCopier(@NonNull final DynamicFieldWrapper<T, Object>[] wrappers) {
+        this.wrappers = wrappers;
+    }
+
+    /**
+     * Creates a new wrapper field copier of the given fields.
+     *
+     * @param fields non-static fields to copy
+     * @param <T> type of the objects whose fields are copied
+     * @return created wrapper field copier
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public static <T> WrapperFieldCopier<T> create(@NonNull final List<Field> fields) {
+        val size = fields.size();
+        final DynamicFieldWrapper<T, Object>[] wrappers = new DynamicFieldWrapper[size];
+        for (var i = 0; i < size; i++) wrappers[i] = InvokeDynamicFieldWrapper.from(fields.get(i));
+
+        return new WrapperFieldCopier<>(wrappers);
+    }
+
+    @Override
+    public int getFieldCount() {
+        return wrappers.length;
+    }
+
+    @Override
+    public void copy(@NotNull final T source, @NotNull final T target) {
+        for (val wrapper : wrappers) wrapper.set(target, wrapper.get(source));
+    }
+
+    @Override
+    public void copyToArray(@NotNull final T source, @NotNull final Object[] target, final int offset) {
+        val wrappers = this.wrappers;
+        val length = wrappers.length;
+        for (var i = 0; i < length; i++) target[offset + i] = wrappers[i].get(source);
+    }
+
+    @Override
+    public void copyFromArray(@NotNull final Object[] source, final int offset, @NotNull final T target) {
+        val wrappers = this.wrappers;
+        val length = wrappers.length;
+        for (var i = 0; i < length; i++) wrappers[i].set(target, source[offset + i]);
+    }
+}
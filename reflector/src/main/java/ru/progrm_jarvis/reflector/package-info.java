@@ -0,0 +1,4 @@
+/**
+ * Utilities for runtime access to class elements
+ */
+package ru.progrm_jarvis.reflector;
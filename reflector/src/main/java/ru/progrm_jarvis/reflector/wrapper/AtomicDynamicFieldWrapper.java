@@ -0,0 +1,130 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * {@link DynamicFieldWrapper} providing atomic operations and memory ordering guarantees.
+ * <p>
+ * Comparison performed by {@link #compareAndSet(Object, Object, Object)} is value-based for primitive fields
+ * and identity-based for reference fields.
+ *
+ * @param <T> type of the object containing the wrapped method
+ * @param <V> type of the field's value
+ */
+public interface AtomicDynamicFieldWrapper<T, V> extends DynamicFieldWrapper<T, V> {
+
+    /**
+     * Gets the field's value with volatile memory semantics.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     */
+    V getVolatile(@NotNull T instance);
+
+    /**
+     * Sets the field's value with volatile memory semantics.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    void setVolatile(@NotNull T instance, V value);
+
+    /**
+     * Gets the field's value with acquire memory semantics.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     */
+    V getAcquire(@NotNull T instance);
+
+    /**
+     * Sets the field's value with release memory semantics.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    void setRelease(@NotNull T instance, V value);
+
+    /**
+     * Atomically sets the field's value to the new one if its current value is the expected one.
+     *
+     * @param instance instance whose field it is
+     * @param expectedValue expected value of the field
+     * @param newValue new value of the field
+     * @return {@code true} if the value was set and {@code false} if the current value was not the expected one
+     */
+    boolean compareAndSet(@NotNull T instance, V expectedValue, V newValue);
+
+    /**
+     * Atomically gets the field's value and sets it to the new one.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     * @return old value of the field
+     */
+    @Override
+    V getAndSet(@NotNull T instance, V value);
+
+    /**
+     * Atomically adds the given value to the field's value.
+     *
+     * @param instance instance whose field it is
+     * @param delta value to add
+     * @return old value of the field
+     *
+     * @throws UnsupportedOperationException if the field is not numeric
+     */
+    V getAndAdd(@NotNull T instance, V delta);
+
+    /**
+     * Atomically adds the given value to the {@code int} field's value.
+     *
+     * @param instance instance whose field it is
+     * @param delta value to add
+     * @return old value of the field
+     *
+     * @throws UnsupportedOperationException if the field is not of type {@code int}
+     */
+    int getAndAddInt(@NotNull T instance, int delta);
+
+    /**
+     * Atomically adds the given value to the {@code long} field's value.
+     *
+     * @param instance instance whose field it is
+     * @param delta value to add
+     * @return old value of the field
+     *
+     * @throws UnsupportedOperationException if the field is not of type {@code long}
+     */
+    long getAndAddLong(@NotNull T instance, long delta);
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is set atomically, the operator may be called multiple times on contention.
+     */
+    @Override
+    default V getAndUpdate(@NotNull T instance, @NotNull UnaryOperator<V> operator) {
+        while (true) {
+            val previousValue = getVolatile(instance);
+            if (compareAndSet(instance, previousValue, operator.apply(previousValue))) return previousValue;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The value is set atomically, the operator may be called multiple times on contention.
+     */
+    @Override
+    default V updateAndGet(@NotNull T instance, @NotNull UnaryOperator<V> operator) {
+        while (true) {
+            val previousValue = getVolatile(instance);
+            val newValue = operator.apply(previousValue);
+            if (compareAndSet(instance, previousValue, newValue)) return newValue;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import lombok.var;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Member;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * Cache of {@link ReflectorWrapper wrappers} of class members bound to target objects.
+ * <p>
+ * Per-member tables of wrappers are stored in small per-class tables associated with the members' declaring classes
+ * via {@link ClassValue} so that no pair of member and target has to be allocated on lookup.
+ * Wrappers are weakly referenced as they may strongly reference their targets.
+ *
+ * @param <M> type of wrapped members
+ * @param <W> type of wrappers
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class BoundMemberWrapperCache<M extends Member, W> {
+
+    /**
+     * Tables of per-member tables of wrappers associated with their classes
+     */
+    @NonNull ClassValue<ConcurrentMap<M, ConcurrentMap<Object, W>>> tables;
+
+    /**
+     * Concurrency level of per-member tables
+     */
+    int concurrencyLevel;
+
+    /**
+     * Creates a new bound member wrapper cache.
+     *
+     * @param concurrencyLevel concurrency level of per-member tables
+     * @param <M> type of wrapped members
+     * @param <W> type of wrappers
+     * @return created bound member wrapper cache
+     */
+    @NotNull public static <M extends Member, W> BoundMemberWrapperCache<M, W> create(final int concurrencyLevel) {
+        return new BoundMemberWrapperCache<>(new ClassValue<ConcurrentMap<M, ConcurrentMap<Object, W>>>() {
+            @Override
+            protected ConcurrentMap<M, ConcurrentMap<Object, W>> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>(4);
+            }
+        }, Math.max(1, concurrencyLevel));
+    }
+
+    /**
+     * Gets the cached wrapper of the given member bound to the given target creating it if needed.
+     *
+     * @param member member whose wrapper should be got
+     * @param target target to which the wrapper is bound
+     * @param factory function used to create the wrapper of the member bound to the target if it is not cached,
+     * it should not capture any values so that no allocations happen on lookup
+     * @param <T> type of the target
+     * @return cached wrapper of the member bound to the target
+     */
+    @NotNull public <T> W get(@NonNull final M member, @NonNull final T target,
+                              @NonNull final BiFunction<? super M, ? super T, ? extends W> factory) {
+        val table = tables.get(member.getDeclaringClass());
+
+        var targetTable = table.get(member);
+        if (targetTable == null) targetTable = table.computeIfAbsent(member, boundMember -> CacheBuilder.newBuilder()
+                .weakValues()
+                .concurrencyLevel(concurrencyLevel)
+                .<Object, W>build()
+                .asMap()
+        );
+
+        val wrapper = targetTable.get(target);
+        if (wrapper != null) return wrapper;
+
+        return targetTable.computeIfAbsent(target, boundTarget -> factory.apply(member, target));
+    }
+}
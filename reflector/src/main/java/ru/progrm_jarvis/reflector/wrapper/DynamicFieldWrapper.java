@@ -29,6 +29,93 @@ public interface DynamicFieldWrapper<T, V> extends FieldWrapper<T, V> {
      */
     void set(@NotNull T instance, V value);
 
+    /**
+     * Gets the field's value converted to {@code int}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code int}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code int} without narrowing
+     */
+    default int getInt(@NotNull T instance) {
+        return PrimitiveWidening.toInt(get(instance));
+    }
+
+    /**
+     * Sets the field's value to the given {@code int}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code int} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setInt(@NotNull T instance, int value) {
+        set(instance, (V) (Integer) value);
+    }
+
+    /**
+     * Gets the field's value converted to {@code long}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code long}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code long} without narrowing
+     */
+    default long getLong(@NotNull T instance) {
+        return PrimitiveWidening.toLong(get(instance));
+    }
+
+    /**
+     * Sets the field's value to the given {@code long}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code long} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setLong(@NotNull T instance, long value) {
+        set(instance, (V) (Long) value);
+    }
+
+    /**
+     * Gets the field's value converted to {@code double}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code double}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @param instance instance whose field it is
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code double} without narrowing
+     */
+    default double getDouble(@NotNull T instance) {
+        return PrimitiveWidening.toDouble(get(instance));
+    }
+
+    /**
+     * Sets the field's value to the given {@code double}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code double} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param instance instance whose field it is
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setDouble(@NotNull T instance, double value) {
+        set(instance, (V) (Double) value);
+    }
+
     /**
      * Gets the field's value and sets it to the new one.
      *
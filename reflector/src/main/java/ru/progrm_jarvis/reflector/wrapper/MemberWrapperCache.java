@@ -0,0 +1,78 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Member;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Cache of {@link ReflectorWrapper wrappers} of class members.
+ * <p>
+ * Wrappers are stored in small per-class tables associated with the members' declaring classes
+ * via {@link ClassValue} so that lookups are lock-free and allocation-free.
+ * Wrappers are weakly referenced so that the ones which are no longer used (along with the classes
+ * and class loaders referenced by them) may be garbage-collected.
+ *
+ * @param <M> type of wrapped members
+ * @param <W> type of wrappers
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public final class MemberWrapperCache<M extends Member, W> {
+
+    /**
+     * Tables of wrappers associated with their classes
+     */
+    @NonNull ClassValue<ConcurrentMap<M, W>> tables;
+
+    /**
+     * Creates a new member wrapper cache.
+     *
+     * @param concurrencyLevel concurrency level of per-class tables
+     * @param <M> type of wrapped members
+     * @param <W> type of wrappers
+     * @return created member wrapper cache
+     */
+    @NotNull public static <M extends Member, W> MemberWrapperCache<M, W> create(final int concurrencyLevel) {
+        val tableConcurrencyLevel = Math.max(1, concurrencyLevel);
+
+        return new MemberWrapperCache<>(new ClassValue<ConcurrentMap<M, W>>() {
+            @Override
+            protected ConcurrentMap<M, W> computeValue(final Class<?> type) {
+                return CacheBuilder.newBuilder()
+                        .initialCapacity(4)
+                        .concurrencyLevel(tableConcurrencyLevel)
+                        .weakValues()
+                        .<M, W>build()
+                        .asMap();
+            }
+        });
+    }
+
+    /**
+     * Gets the cached wrapper of the given member creating it if needed.
+     *
+     * @param member member whose wrapper should be got
+     * @param factory function used to create the wrapper of the member if it is not cached,
+     * it should not capture any values so that no allocations happen on lookup
+     * @return cached wrapper of the member
+     */
+    @NotNull public W get(@NonNull final M member, @NonNull final Function<? super M, ? extends W> factory) {
+        val table = tables.get(member.getDeclaringClass());
+
+        // explicit get is done to avoid locking which happens in computeIfAbsent(..)
+        val wrapper = table.get(member);
+        if (wrapper != null) return wrapper;
+
+        return table.computeIfAbsent(member, factory);
+    }
+}
@@ -0,0 +1,66 @@
+package ru.progrm_jarvis.reflector.wrapper;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility for unboxing values of fields applying only widening primitive conversions to them.
+ */
+@UtilityClass
+class PrimitiveWidening {
+
+    /**
+     * Unboxes the given value to {@code int}.
+     *
+     * @param value boxed value of a type convertible to {@code int} without narrowing
+     * @return unboxed value
+     *
+     * @throws ClassCastException if the value's type is not convertible to {@code int} without narrowing
+     */
+    int toInt(@NonNull final Object value) {
+        if (value instanceof Integer) return (Integer) value;
+        if (value instanceof Short) return (Short) value;
+        if (value instanceof Byte) return (Byte) value;
+        if (value instanceof Character) return (Character) value;
+
+        throw new ClassCastException(value.getClass().getName() + " cannot be converted to int without narrowing");
+    }
+
+    /**
+     * Unboxes the given value to {@code long}.
+     *
+     * @param value boxed value of a type convertible to {@code long} without narrowing
+     * @return unboxed value
+     *
+     * @throws ClassCastException if the value's type is not convertible to {@code long} without narrowing
+     */
+    long toLong(@NonNull final Object value) {
+        if (value instanceof Long) return (Long) value;
+        if (value instanceof Integer) return (Integer) value;
+        if (value instanceof Short) return (Short) value;
+        if (value instanceof Byte) return (Byte) value;
+        if (value instanceof Character) return (Character) value;
+
+        throw new ClassCastException(value.getClass().getName() + " cannot be converted to long without narrowing");
+    }
+
+    /**
+     * Unboxes the given value to {@code double}.
+     *
+     * @param value boxed value of a type convertible to {@code double} without narrowing
+     * @return unboxed value
+     *
+     * @throws ClassCastException if the value's type is not convertible to {@code double} without narrowing
+     */
+    double toDouble(@NonNull final Object value) {
+        if (value instanceof Double) return (Double) value;
+        if (value instanceof Float) return (Float) value;
+        if (value instanceof Long) return (Long) value;
+        if (value instanceof Integer) return (Integer) value;
+        if (value instanceof Short) return (Short) value;
+        if (value instanceof Byte) return (Byte) value;
+        if (value instanceof Character) return (Character) value;
+
+        throw new ClassCastException(value.getClass().getName() + " cannot be converted to double without narrowing");
+    }
+}
@@ -27,6 +27,87 @@ public interface StaticFieldWrapper<T, V> extends FieldWrapper<T, V> {
      */
     void set(V value);
 
+    /**
+     * Gets the field's value converted to {@code int}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code int}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code int} without narrowing
+     */
+    default int getInt() {
+        return PrimitiveWidening.toInt(get());
+    }
+
+    /**
+     * Sets the field's value to the given {@code int}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code int} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setInt(int value) {
+        set((V) (Integer) value);
+    }
+
+    /**
+     * Gets the field's value converted to {@code long}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code long}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code long} without narrowing
+     */
+    default long getLong() {
+        return PrimitiveWidening.toLong(get());
+    }
+
+    /**
+     * Sets the field's value to the given {@code long}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code long} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setLong(long value) {
+        set((V) (Long) value);
+    }
+
+    /**
+     * Gets the field's value converted to {@code double}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type convertible to {@code double}.
+     * Narrowing conversions are not performed so getting the value of a wider type field fails.
+     *
+     * @return value of the field
+     *
+     * @throws ClassCastException if the field's value is not convertible to {@code double} without narrowing
+     */
+    default double getDouble() {
+        return PrimitiveWidening.toDouble(get());
+    }
+
+    /**
+     * Sets the field's value to the given {@code double}.
+     * <p>
+     * Implementations should not box the value if the field is of a primitive type {@code double} is convertible to.
+     * Narrowing conversions are not performed so setting the value of a narrower type field fails.
+     *
+     * @param value new value of the field
+     */
+    @SuppressWarnings("unchecked")
+    default void setDouble(double value) {
+        set((V) (Double) value);
+    }
+
     /**
      * Gets the field's value and sets it to the new one.
      *
@@ -0,0 +1,33 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.reflector.wrapper.AtomicDynamicFieldWrapper;
+
+import java.lang.reflect.Field;
+
+/**
+ * Utility for creating {@link AtomicDynamicFieldWrapper atomic field wrappers}
+ * using the best implementation available in the current runtime.
+ */
+@UtilityClass
+public class AtomicFieldWrappers {
+
+    /**
+     * Creates a cached atomic dynamic field wrapper for the given non-static field.
+     * <p>
+     * {@link VarHandleDynamicFieldWrapper} is used if VarHandle API is available (Java 9+)
+     * and {@link LockingDynamicFieldWrapper} is used otherwise.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached atomic dynamic field wrapper for the given field
+     */
+    @NotNull public <T, V> AtomicDynamicFieldWrapper<T, V> dynamic(@NonNull final Field field) {
+        if (VarHandleDynamicFieldWrapper.isAvailable()) return VarHandleDynamicFieldWrapper.from(field);
+
+        return LockingDynamicFieldWrapper.from(field);
+    }
+}
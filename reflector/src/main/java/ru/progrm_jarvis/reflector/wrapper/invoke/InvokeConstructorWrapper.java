@@ -1,16 +1,14 @@
 package ru.progrm_jarvis.reflector.wrapper.invoke;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 import ru.progrm_jarvis.javacommons.util.function.ThrowingFunction;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.reflector.wrapper.AbstractConstructorWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
 
 import java.lang.reflect.Constructor;
-import java.util.concurrent.ExecutionException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -30,13 +28,12 @@ public class InvokeConstructorWrapper<T> extends AbstractConstructorWrapper<T> {
     @NonNull public static final String WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
             = InvokeConstructorWrapper.class.getCanonicalName() + ".wrapper-cache-concurrency-level";
     /**
-     * Weak cache of allocated instance of this constructor wrapper
+     * Cache of allocated constructor wrappers weakly referencing them
      */
-    protected static final Cache<Constructor<?>, InvokeConstructorWrapper<?>> WRAPPER_CACHE
-            = CacheBuilder.newBuilder()
-            .weakValues()
-            .concurrencyLevel(Math.max(1, Integer.getInteger(WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)))
-            .build();
+    protected static final MemberWrapperCache<Constructor<?>, InvokeConstructorWrapper<?>> WRAPPER_CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
 
     /**
      * Function performing the constructor invocation
@@ -70,83 +67,107 @@ public class InvokeConstructorWrapper<T> extends AbstractConstructorWrapper<T> {
      * @return cached constructor wrapper for the given constructor
      */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(ExecutionException.class)
     public static <T> InvokeConstructorWrapper<T> from(@NonNull final Constructor<? extends T> constructor) {
-        return (InvokeConstructorWrapper<T>) WRAPPER_CACHE.get(constructor, () -> {
-            switch (constructor.getParameterCount()) {
-                case 0: {
-                    final Supplier<T> supplier;
-                    try {
-                        supplier = InvokeUtil.<Supplier<T>, Object>invokeFactory()
-                                .implementing(Supplier.class)
-                                .via(constructor)
-                                .create();
-                    } catch (final Throwable x) {
-                        throw new RuntimeException("Unable to create a Supplier from constructor " + constructor, x);
-                    }
-
-                    return new InvokeConstructorWrapper<>(
-                            constructor.getDeclaringClass(), constructor,
-                            parameters -> {
-                                if (parameters.length != 0) throw new IllegalArgumentException(
-                                        "This constructor requires no parameters"
-                                );
+        return (InvokeConstructorWrapper<T>) WRAPPER_CACHE.get(constructor, InvokeConstructorWrapper::create);
+    }
 
-                                return supplier.get();
-                            });
+    /**
+     * Creates a new constructor wrapper for the given constructor.
+     *
+     * @param constructor constructor to wrap
+     * @param <T> type of the object instantiated by the constructor
+     * @return created constructor wrapper for the given constructor
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> InvokeConstructorWrapper<?> create(@NotNull final Constructor<? extends T> constructor) {
+        switch (constructor.getParameterCount()) {
+            case 0: {
+                final Supplier<T> supplier;
+                try {
+                    supplier = InvokeUtil.<Supplier<T>, Object>invokeFactory()
+                            .implementing(Supplier.class)
+                            .via(constructor)
+                            .create();
+                } catch (final Throwable x) {
+                    throw new RuntimeException("Unable to create a Supplier from constructor " + constructor, x);
                 }
-                case 1: {
-                    final Function<Object, T> function;
-                    try {
-                        function = InvokeUtil.<Function<Object, T>, Object>invokeFactory()
-                                .implementing(Function.class)
-                                .via(constructor)
-                                .create();
-                    } catch (final Throwable x) {
-                        throw new RuntimeException("Unable to create a Function from constructor " + constructor, x);
-                    }
 
-                    return new InvokeConstructorWrapper<>(
-                            constructor.getDeclaringClass(), constructor,
-                            parameters -> {
-                                if (parameters.length != 1) throw new IllegalArgumentException(
-                                        "This constructor requires 1 parameter"
-                                );
+                return new InvokeConstructorWrapper<>(
+                        constructor.getDeclaringClass(), constructor,
+                        parameters -> {
+                            if (parameters.length != 0) throw new IllegalArgumentException(
+                                    "This constructor requires no parameters"
+                            );
 
-                                return function.apply(parameters[0]);
-                            });
+                            return supplier.get();
+                        });
+            }
+            case 1: {
+                final Function<Object, T> function;
+                try {
+                    function = InvokeUtil.<Function<Object, T>, Object>invokeFactory()
+                            .implementing(Function.class)
+                            .via(constructor)
+                            .create();
+                } catch (final Throwable x) {
+                    throw new RuntimeException("Unable to create a Function from constructor " + constructor, x);
                 }
-                case 2: {
-                    final BiFunction<Object, Object, T> function;
-                    try {
-                        function = InvokeUtil.<BiFunction<Object, Object, T>, Object>invokeFactory()
-                                .implementing(BiFunction.class)
-                                .via(constructor)
-                                .create();
-                    } catch (final Throwable x) {
-                        throw new RuntimeException("Unable to create a BiFunction from constructor " + constructor, x);
-                    }
 
-                    return new InvokeConstructorWrapper<>(
-                            constructor.getDeclaringClass(), constructor,
-                            parameters -> {
-                                if (parameters.length != 2) throw new IllegalArgumentException(
-                                        "This constructor requires 2 parameter"
-                                );
+                return new InvokeConstructorWrapper<>(
+                        constructor.getDeclaringClass(), constructor,
+                        parameters -> {
+                            if (parameters.length != 1) throw new IllegalArgumentException(
+                                    "This constructor requires 1 parameter"
+                            );
 
-                                return function.apply(parameters[0], parameters[1]);
-                            });
+                            return function.apply(parameters[0]);
+                        });
+            }
+            case 2: {
+                final BiFunction<Object, Object, T> function;
+                try {
+                    function = InvokeUtil.<BiFunction<Object, Object, T>, Object>invokeFactory()
+                            .implementing(BiFunction.class)
+                            .via(constructor)
+                            .create();
+                } catch (final Throwable x) {
+                    throw new RuntimeException("Unable to create a BiFunction from constructor " + constructor, x);
                 }
-                default: {
-                    val declaringClass = constructor.getDeclaringClass();
-                    // initialized here not to do it inside lambda body
-                    val methodHandle = InvokeUtil.lookup(declaringClass).unreflectConstructor(constructor);
+
+                return new InvokeConstructorWrapper<>(
+                        constructor.getDeclaringClass(), constructor,
+                        parameters -> {
+                            if (parameters.length != 2) throw new IllegalArgumentException(
+                                    "This constructor requires 2 parameter"
+                            );
+
+                            return function.apply(parameters[0], parameters[1]);
+                        });
+            }
+            default: {
+                if (constructor.isVarArgs()) {
+                    // only invokeWithArguments(..) supports variable-arity invocation
+                    val methodHandle = InvokeUtil.toMethodHandle(constructor);
                     return new InvokeConstructorWrapper<>(
                             constructor.getDeclaringClass(), constructor,
-                            (ThrowingFunction) parameters -> (T) methodHandle.invokeWithArguments((Object[]) parameters)
+                            (ThrowingFunction<Object[], T, Throwable>) parameters -> (T) methodHandle
+                                    .invokeWithArguments(parameters)
                     );
                 }
+
+                val parameterCount = constructor.getParameterCount();
+                // initialized here not to do it inside lambda body
+                val spreader = InvokeUtil.toGenericSpreader(InvokeUtil.toMethodHandle(constructor));
+                return new InvokeConstructorWrapper<>(
+                        constructor.getDeclaringClass(), constructor,
+                        (ThrowingFunction<Object[], T, Throwable>) parameters -> {
+                            if (parameters.length != parameterCount) throw new IllegalArgumentException(
+                                    "This constructor requires " + parameterCount + " parameters"
+                            );
+
+                            return (T) (Object) spreader.invokeExact(parameters);
+                        });
             }
-        });
+        }
     }
 }
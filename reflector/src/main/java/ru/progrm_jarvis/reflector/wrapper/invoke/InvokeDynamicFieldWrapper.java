@@ -1,7 +1,5 @@
 package ru.progrm_jarvis.reflector.wrapper.invoke;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -11,10 +9,11 @@ import org.jetbrains.annotations.NotNull;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
 import ru.progrm_jarvis.reflector.wrapper.DynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.concurrent.ExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -36,13 +35,12 @@ public class InvokeDynamicFieldWrapper<T, V> extends AbstractFieldWrapper<T, V>
     @NonNull public static final String CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
             = InvokeDynamicFieldWrapper.class.getCanonicalName() + ".cache-concurrency-level";
     /**
-     * Weak cache of allocated instance of this dynamic field wrapper
+     * Cache of allocated dynamic field wrappers weakly referencing them
      */
-    protected static final Cache<Field, InvokeDynamicFieldWrapper<?, ?>> CACHE
-            = CacheBuilder.newBuilder()
-            .weakValues()
-            .concurrencyLevel(Math.max(1, Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)))
-            .build();
+    protected static final MemberWrapperCache<Field, InvokeDynamicFieldWrapper<?, ?>> CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
 
     /**
      * Function performing the field get operation
@@ -52,6 +50,10 @@ public class InvokeDynamicFieldWrapper<T, V> extends AbstractFieldWrapper<T, V>
      * Bi-consumer performing the field set operation
      */
     @NonNull BiConsumer<T, V> setter;
+    /**
+     * Accessors performing the field get and set operations on primitive values without boxing
+     */
+    @NonNull private PrimitiveFieldAccessors primitiveAccessors;
 
     /**
      * Creates a new dynamic field wrapper.
@@ -64,9 +66,26 @@ public class InvokeDynamicFieldWrapper<T, V> extends AbstractFieldWrapper<T, V>
     protected InvokeDynamicFieldWrapper(@NonNull final Class<? extends T> containingClass,
                                         @NonNull final Field wrapped,
                                         @NonNull Function<T, V> getter, @NonNull BiConsumer<T, V> setter) {
+        this(containingClass, wrapped, getter, setter, PrimitiveFieldAccessors.NONE);
+    }
+
+    /**
+     * Creates a new dynamic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter function performing the field get operation
+     * @param setter bi-consumer performing the field set operation
+     * @param primitiveAccessors accessors performing the field get and set operations on primitive values
+     */
+    InvokeDynamicFieldWrapper(@NonNull final Class<? extends T> containingClass,
+                              @NonNull final Field wrapped,
+                              @NonNull final Function<T, V> getter, @NonNull final BiConsumer<T, V> setter,
+                              @NonNull final PrimitiveFieldAccessors primitiveAccessors) {
         super(containingClass, wrapped);
         this.getter = getter;
         this.setter = setter;
+        this.primitiveAccessors = primitiveAccessors;
     }
 
     @Override
@@ -79,6 +98,57 @@ public class InvokeDynamicFieldWrapper<T, V> extends AbstractFieldWrapper<T, V>
         setter.accept(instance, value);
     }
 
+    @Override
+    @SneakyThrows
+    public int getInt(@NotNull final T instance) {
+        final MethodHandle primitiveGetter = primitiveAccessors.intGetter;
+        if (primitiveGetter == null) return DynamicFieldWrapper.super.getInt(instance);
+
+        return (int) primitiveGetter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setInt(@NotNull final T instance, final int value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.intSetter;
+        if (primitiveSetter == null) DynamicFieldWrapper.super.setInt(instance, value);
+        else primitiveSetter.invokeExact((Object) instance, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public long getLong(@NotNull final T instance) {
+        final MethodHandle primitiveGetter = primitiveAccessors.longGetter;
+        if (primitiveGetter == null) return DynamicFieldWrapper.super.getLong(instance);
+
+        return (long) primitiveGetter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setLong(@NotNull final T instance, final long value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.longSetter;
+        if (primitiveSetter == null) DynamicFieldWrapper.super.setLong(instance, value);
+        else primitiveSetter.invokeExact((Object) instance, value);
+    }
+
+    @Override
+    @SneakyThrows
+    public double getDouble(@NotNull final T instance) {
+        final MethodHandle primitiveGetter = primitiveAccessors.doubleGetter;
+        if (primitiveGetter == null) return DynamicFieldWrapper.super.getDouble(instance);
+
+        return (double) primitiveGetter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDouble(@NotNull final T instance, final double value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.doubleSetter;
+        if (primitiveSetter == null) DynamicFieldWrapper.super.setDouble(instance, value);
+        else primitiveSetter.invokeExact((Object) instance, value);
+    }
+
     /**
      * Creates a new cached dynamic field wrapper for the given non-static field.
      *
@@ -88,15 +158,28 @@ public class InvokeDynamicFieldWrapper<T, V> extends AbstractFieldWrapper<T, V>
      * @return cached dynamic field wrapper for the given constructor
      */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(ExecutionException.class)
     public static <T, V> InvokeDynamicFieldWrapper<T, V> from(@NonNull final Field field) {
-        return (InvokeDynamicFieldWrapper<T, V>) CACHE.get(field, () -> {
-            checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+        return (InvokeDynamicFieldWrapper<T, V>) CACHE.get(field, InvokeDynamicFieldWrapper::create);
+    }
 
-            return new InvokeDynamicFieldWrapper<>(
-                    (Class<? extends T>) field.getDeclaringClass(), field,
-                    InvokeUtil.toGetterFunction(field), InvokeUtil.toSetterBiConsumer(field)
-            );
-        });
+    /**
+     * Creates a new dynamic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return created dynamic field wrapper for the given constructor
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, V> InvokeDynamicFieldWrapper<?, ?> create(@NotNull final Field field) {
+        checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+
+        return new InvokeDynamicFieldWrapper<>(
+                (Class<? extends T>) field.getDeclaringClass(), field,
+                InvokeUtil.toGetterFunction(field), InvokeUtil.toSetterBiConsumer(field),
+                PrimitiveFieldAccessors.create(
+                        InvokeUtil.toGetterMethodHandle(field), InvokeUtil.toSetterMethodHandle(field)
+                )
+        );
     }
 }
@@ -1,7 +1,5 @@
 package ru.progrm_jarvis.reflector.wrapper.invoke;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
@@ -9,10 +7,10 @@ import ru.progrm_jarvis.javacommons.util.function.ThrowingBiFunction;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.reflector.wrapper.AbstractMethodWrapper;
 import ru.progrm_jarvis.reflector.wrapper.DynamicMethodWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.concurrent.ExecutionException;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -37,13 +35,12 @@ public class InvokeDynamicMethodWrapper<T, R>
     @NonNull protected static final String CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
             = InvokeDynamicMethodWrapper.class.getCanonicalName() + ".cache-concurrency-level";
     /**
-     * Weak cache of allocated instance of this constructor wrapper
+     * Cache of allocated dynamic method wrappers weakly referencing them
      */
-    private static final Cache<Method, InvokeDynamicMethodWrapper<?, ?>> CACHE
-            = CacheBuilder.newBuilder()
-            .weakValues()
-            .concurrencyLevel(Math.max(1, Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)))
-            .build();
+    private static final MemberWrapperCache<Method, InvokeDynamicMethodWrapper<?, ?>> CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
 
     /**
      * Bi-function performing the method invocation
@@ -78,65 +75,60 @@ public class InvokeDynamicMethodWrapper<T, R>
      * @return cached dynamic method wrapper for the given constructor
      */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(ExecutionException.class)
     public static <T, R> InvokeDynamicMethodWrapper<T, R> from(@NonNull final Method method) {
-        return (InvokeDynamicMethodWrapper<T, R>) CACHE.get(method, () -> {
-            checkArgument(!Modifier.isStatic(method.getModifiers()), "method should be non-static");
-
-            switch (method.getParameterCount()) {
-                case 0: {
-                    // handle void specifically as it can't be cast to Object
-                    if (method.getReturnType() == void.class) {
-                        val consumer = InvokeUtil.<Consumer<Object>, T>invokeFactory()
-                                .implementing(Consumer.class)
-                                .via(method)
-                                .createUnsafely();
-
-                        return new InvokeDynamicMethodWrapper<>(
-                                method.getDeclaringClass(), method, (target, parameters) -> {
-                            if (parameters.length != 0) throw new IllegalArgumentException(
-                                    "This method requires no parameters"
-                            );
-                            consumer.accept(target);
-
-                            return null;
-                        });
-                    }
+        return (InvokeDynamicMethodWrapper<T, R>) CACHE.get(method, InvokeDynamicMethodWrapper::create);
+    }
 
-                    val function = InvokeUtil.<Function<Object, R>, T>invokeFactory()
-                            .implementing(Function.class)
+    /**
+     * Creates a new dynamic method wrapper for the given non-static method.
+     *
+     * @param method method to wrap
+     * @param <T> type of the object containing the method
+     * @param <R> type of the method's return-value
+     * @return created dynamic method wrapper for the given constructor
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> InvokeDynamicMethodWrapper<?, ?> create(@NotNull final Method method) {
+        checkArgument(!Modifier.isStatic(method.getModifiers()), "method should be non-static");
+
+        switch (method.getParameterCount()) {
+            case 0: {
+                // handle void specifically as it can't be cast to Object
+                if (method.getReturnType() == void.class) {
+                    val consumer = InvokeUtil.<Consumer<Object>, T>invokeFactory()
+                            .implementing(Consumer.class)
                             .via(method)
                             .createUnsafely();
 
                     return new InvokeDynamicMethodWrapper<>(
-                            (Class<T>) method.getDeclaringClass(), method, (target, parameters) -> {
+                            method.getDeclaringClass(), method, (target, parameters) -> {
                         if (parameters.length != 0) throw new IllegalArgumentException(
                                 "This method requires no parameters"
                         );
-                        return function.apply(target);
+                        consumer.accept(target);
+
+                        return null;
                     });
                 }
-                case 1: {
-                    // handle void specifically as it can't be cast to Object
-                    if (method.getReturnType() == void.class) {
-                        val consumer = InvokeUtil.<BiConsumer<Object, Object>, T>invokeFactory()
-                                .implementing(BiConsumer.class)
-                                .via(method)
-                                .createUnsafely();
-
-                        return new InvokeDynamicMethodWrapper<>(
-                                method.getDeclaringClass(), method, (target, parameters) -> {
-                            if (parameters.length != 1) throw new IllegalArgumentException(
-                                    "This method requires 1 parameter"
-                            );
-                            consumer.accept(target, parameters[0]);
 
-                            return null;
-                        });
-                    }
+                val function = InvokeUtil.<Function<Object, R>, T>invokeFactory()
+                        .implementing(Function.class)
+                        .via(method)
+                        .createUnsafely();
 
-                    val biFunction = InvokeUtil.<BiFunction<Object, Object, R>, T>invokeFactory()
-                            .implementing(BiFunction.class)
+                return new InvokeDynamicMethodWrapper<>(
+                        (Class<T>) method.getDeclaringClass(), method, (target, parameters) -> {
+                    if (parameters.length != 0) throw new IllegalArgumentException(
+                            "This method requires no parameters"
+                    );
+                    return function.apply(target);
+                });
+            }
+            case 1: {
+                // handle void specifically as it can't be cast to Object
+                if (method.getReturnType() == void.class) {
+                    val consumer = InvokeUtil.<BiConsumer<Object, Object>, T>invokeFactory()
+                            .implementing(BiConsumer.class)
                             .via(method)
                             .createUnsafely();
 
@@ -145,14 +137,30 @@ public class InvokeDynamicMethodWrapper<T, R>
                         if (parameters.length != 1) throw new IllegalArgumentException(
                                 "This method requires 1 parameter"
                         );
+                        consumer.accept(target, parameters[0]);
 
-                        return biFunction.apply(target, parameters[0]);
+                        return null;
                     });
                 }
-                default: {
-                    // initialized here not to do it inside lambda body
-                    val methodHandle = InvokeUtil.lookup(method.getDeclaringClass()).unreflect(method);
 
+                val biFunction = InvokeUtil.<BiFunction<Object, Object, R>, T>invokeFactory()
+                        .implementing(BiFunction.class)
+                        .via(method)
+                        .createUnsafely();
+
+                return new InvokeDynamicMethodWrapper<>(
+                        method.getDeclaringClass(), method, (target, parameters) -> {
+                    if (parameters.length != 1) throw new IllegalArgumentException(
+                            "This method requires 1 parameter"
+                    );
+
+                    return biFunction.apply(target, parameters[0]);
+                });
+            }
+            default: {
+                if (method.isVarArgs()) {
+                    // only invokeWithArguments(..) supports variable-arity invocation
+                    val methodHandle = InvokeUtil.toMethodHandle(method);
                     return new InvokeDynamicMethodWrapper<>(
                             (Class<T>) method.getDeclaringClass(), method,
                             (ThrowingBiFunction<T, Object[], R, Throwable>) (target, parameters) -> {
@@ -160,11 +168,27 @@ public class InvokeDynamicMethodWrapper<T, R>
                                 val arguments = new Object[length + 1];
                                 arguments[0] = target;
                                 System.arraycopy(parameters, 0, arguments, 1, length);
+
                                 return (R) methodHandle.invokeWithArguments(arguments);
                             }
                     );
                 }
+
+                val parameterCount = method.getParameterCount();
+                // initialized here not to do it inside lambda body
+                val spreader = InvokeUtil.toGenericSpreader(InvokeUtil.toMethodHandle(method), 1);
+
+                return new InvokeDynamicMethodWrapper<>(
+                        (Class<T>) method.getDeclaringClass(), method,
+                        (ThrowingBiFunction<T, Object[], R, Throwable>) (target, parameters) -> {
+                            if (parameters.length != parameterCount) throw new IllegalArgumentException(
+                                    "This method requires " + parameterCount + " parameters"
+                            );
+
+                            return (R) (Object) spreader.invokeExact((Object) target, parameters);
+                        }
+                );
             }
-        });
+        }
     }
 }
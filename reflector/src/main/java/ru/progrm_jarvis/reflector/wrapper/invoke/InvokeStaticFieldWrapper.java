@@ -1,21 +1,20 @@
 package ru.progrm_jarvis.reflector.wrapper.invoke;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
-import ru.progrm_jarvis.javacommons.pair.Pair;
-import ru.progrm_jarvis.javacommons.pair.SimplePair;
+import org.jetbrains.annotations.NotNull;
 import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
 import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.BoundMemberWrapperCache;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
 import ru.progrm_jarvis.reflector.wrapper.StaticFieldWrapper;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
-import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -42,25 +41,19 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
     BOUND_WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
             = InvokeStaticFieldWrapper.class.getCanonicalName() + ".bound-wrapper-cache-concurrency-level";
     /**
-     * Weak cache of allocated instance of this static field wrappers of static fields
+     * Cache of allocated static field wrappers of static fields weakly referencing them
      */
-    protected static final Cache<Field, InvokeStaticFieldWrapper<?, ?>> STATIC_WRAPPER_CACHE
-            = CacheBuilder.newBuilder()
-            .weakValues()
-            .concurrencyLevel(
-                    Math.max(1, Integer.getInteger(STATIC_WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4))
-            )
-            .build();
+    protected static final MemberWrapperCache<Field, InvokeStaticFieldWrapper<?, ?>> STATIC_WRAPPER_CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(STATIC_WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
     /**
-     * Weak cache of allocated instance of this static field wrappers of non-static bound fields
+     * Cache of allocated static field wrappers of non-static bound fields weakly referencing them
      */
-    protected static final Cache<Pair<Field, ?>, InvokeStaticFieldWrapper<?, ?>> BOUND_WRAPPER_CACHE
-            = CacheBuilder.newBuilder()
-            .weakValues()
-            .concurrencyLevel(
-                    Math.max(1, Integer.getInteger(BOUND_WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4))
-            )
-            .build();
+    protected static final BoundMemberWrapperCache<Field, InvokeStaticFieldWrapper<?, ?>> BOUND_WRAPPER_CACHE
+            = BoundMemberWrapperCache.create(
+                    Integer.getInteger(BOUND_WRAPPER_CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
     /**
      * Supplier performing the field get operation
      */
@@ -69,6 +62,10 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
      * Consumer performing the field set operation
      */
     @NonNull Consumer<V> setter;
+    /**
+     * Accessors performing the field get and set operations on primitive values without boxing
+     */
+    @NonNull private PrimitiveFieldAccessors primitiveAccessors;
 
     /**
      * Creates a new static field wrapper.
@@ -81,9 +78,26 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
     protected InvokeStaticFieldWrapper(@NonNull final Class<? extends T> containingClass,
                                        @NonNull final Field wrapped,
                                        @NonNull Supplier<V> getter, @NonNull Consumer<V> setter) {
+        this(containingClass, wrapped, getter, setter, PrimitiveFieldAccessors.NONE);
+    }
+
+    /**
+     * Creates a new static field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter supplier performing the field get operation
+     * @param setter consumer performing the field set operation
+     * @param primitiveAccessors accessors performing the field get and set operations on primitive values
+     */
+    InvokeStaticFieldWrapper(@NonNull final Class<? extends T> containingClass,
+                             @NonNull final Field wrapped,
+                             @NonNull final Supplier<V> getter, @NonNull final Consumer<V> setter,
+                             @NonNull final PrimitiveFieldAccessors primitiveAccessors) {
         super(containingClass, wrapped);
         this.getter = getter;
         this.setter = setter;
+        this.primitiveAccessors = primitiveAccessors;
     }
 
     @Override
@@ -96,6 +110,57 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
         setter.accept(value);
     }
 
+    @Override
+    @SneakyThrows
+    public int getInt() {
+        final MethodHandle primitiveGetter = primitiveAccessors.intGetter;
+        if (primitiveGetter == null) return StaticFieldWrapper.super.getInt();
+
+        return (int) primitiveGetter.invokeExact();
+    }
+
+    @Override
+    @SneakyThrows
+    public void setInt(final int value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.intSetter;
+        if (primitiveSetter == null) StaticFieldWrapper.super.setInt(value);
+        else primitiveSetter.invokeExact(value);
+    }
+
+    @Override
+    @SneakyThrows
+    public long getLong() {
+        final MethodHandle primitiveGetter = primitiveAccessors.longGetter;
+        if (primitiveGetter == null) return StaticFieldWrapper.super.getLong();
+
+        return (long) primitiveGetter.invokeExact();
+    }
+
+    @Override
+    @SneakyThrows
+    public void setLong(final long value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.longSetter;
+        if (primitiveSetter == null) StaticFieldWrapper.super.setLong(value);
+        else primitiveSetter.invokeExact(value);
+    }
+
+    @Override
+    @SneakyThrows
+    public double getDouble() {
+        final MethodHandle primitiveGetter = primitiveAccessors.doubleGetter;
+        if (primitiveGetter == null) return StaticFieldWrapper.super.getDouble();
+
+        return (double) primitiveGetter.invokeExact();
+    }
+
+    @Override
+    @SneakyThrows
+    public void setDouble(final double value) {
+        final MethodHandle primitiveSetter = primitiveAccessors.doubleSetter;
+        if (primitiveSetter == null) StaticFieldWrapper.super.setDouble(value);
+        else primitiveSetter.invokeExact(value);
+    }
+
     /**
      * Creates a new cached static field wrapper for the given static field.
      *
@@ -105,16 +170,28 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
      * @return cached field wrapper for the given constructor
      */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(ExecutionException.class)
     public static <T, V> InvokeStaticFieldWrapper<T, V> from(@NonNull final Field field) {
-        return (InvokeStaticFieldWrapper<T, V>) STATIC_WRAPPER_CACHE.get(field, () -> {
-            checkArgument(Modifier.isStatic(field.getModifiers()), "field should be static");
+        return (InvokeStaticFieldWrapper<T, V>) STATIC_WRAPPER_CACHE.get(field, InvokeStaticFieldWrapper::create);
+    }
 
-            return new InvokeStaticFieldWrapper<>(
-                    field.getDeclaringClass(), field,
-                    InvokeUtil.toStaticGetterSupplier(field), InvokeUtil.toStaticSetterConsumer(field)
-            );
-        });
+    /**
+     * Creates a new static field wrapper for the given static field.
+     *
+     * @param field static field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return created field wrapper for the given constructor
+     */
+    private static <T, V> InvokeStaticFieldWrapper<?, ?> create(@NotNull final Field field) {
+        checkArgument(Modifier.isStatic(field.getModifiers()), "field should be static");
+
+        return new InvokeStaticFieldWrapper<>(
+                field.getDeclaringClass(), field,
+                InvokeUtil.toStaticGetterSupplier(field), InvokeUtil.toStaticSetterConsumer(field),
+                PrimitiveFieldAccessors.create(
+                        InvokeUtil.toGetterMethodHandle(field), InvokeUtil.toSetterMethodHandle(field)
+                )
+        );
     }
 
     /**
@@ -127,17 +204,34 @@ public class InvokeStaticFieldWrapper<T, V> extends AbstractFieldWrapper<T, V> i
      * @return cached static field wrapper for the given constructor
      */
     @SuppressWarnings("unchecked")
-    @SneakyThrows(ExecutionException.class)
     public static <T, V> InvokeStaticFieldWrapper<T, V> from(@NonNull final Field field,
                                                              @NonNull final T target) {
-        return (InvokeStaticFieldWrapper<T, V>) BOUND_WRAPPER_CACHE.get(SimplePair.of(field, target), () -> {
-            checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+        return (InvokeStaticFieldWrapper<T, V>) BOUND_WRAPPER_CACHE.get(
+                field, target, InvokeStaticFieldWrapper::createBound
+        );
+    }
 
-            return new InvokeStaticFieldWrapper<>(
-                    field.getDeclaringClass(), field,
-                    InvokeUtil.toBoundGetterSupplier(field, target),
-                    InvokeUtil.toBoundSetterConsumer(field, target)
-            );
-        });
+    /**
+     * Creates a new static field wrapper for the given non-static field bound to the object.
+     *
+     * @param field static field to wrap
+     * @param target target object to whom the wrapper should be bound
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return created static field wrapper for the given constructor
+     */
+    private static <T, V> InvokeStaticFieldWrapper<?, ?> createBound(@NotNull final Field field,
+                                                                     @NotNull final T target) {
+        checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+
+        return new InvokeStaticFieldWrapper<>(
+                field.getDeclaringClass(), field,
+                InvokeUtil.toBoundGetterSupplier(field, target),
+                InvokeUtil.toBoundSetterConsumer(field, target),
+                PrimitiveFieldAccessors.create(
+                        InvokeUtil.toGetterMethodHandle(field).bindTo(target),
+                        InvokeUtil.toSetterMethodHandle(field).bindTo(target)
+                )
+        );
     }
 }
@@ -0,0 +1,259 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicDynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link AtomicDynamicFieldWrapper} guarding its atomic operations by striped locks
+ * associated with the identities of the instances.
+ * <p>
+ * This is the fallback used when {@link VarHandleDynamicFieldWrapper VarHandle API} is unavailable,
+ * its operations are only atomic relatively to the other atomic operations of wrappers of this type.
+ *
+ * @param <T> type of the object containing the wrapped method
+ * @param <V> type of the field's value
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public class LockingDynamicFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements AtomicDynamicFieldWrapper<T, V> {
+
+    /**
+     * Name of the property responsible for concurrency level of {@link #CACHE}
+     */
+    @NonNull public static final String CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
+            = LockingDynamicFieldWrapper.class.getCanonicalName() + ".cache-concurrency-level",
+    /**
+     * Name of the property responsible for the amount of {@link #LOCKS locks}
+     */
+    LOCK_STRIPES_SYSTEM_PROPERTY_NAME = LockingDynamicFieldWrapper.class.getCanonicalName() + ".lock-stripes";
+    /**
+     * Cache of allocated dynamic field wrappers weakly referencing them
+     */
+    protected static final MemberWrapperCache<Field, LockingDynamicFieldWrapper<?, ?>> CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
+
+    /**
+     * Locks shared by all instances of this wrapper
+     */
+    private static final Object[] LOCKS;
+
+    static {
+        val locks = new Object[Math.max(1, Integer.getInteger(LOCK_STRIPES_SYSTEM_PROPERTY_NAME, 64))];
+        for (var i = 0; i < locks.length; i++) locks[i] = new Object();
+
+        LOCKS = locks;
+    }
+
+    /**
+     * Function performing the field get operation
+     */
+    @NonNull Function<T, V> getter;
+    /**
+     * Bi-consumer performing the field set operation
+     */
+    @NonNull BiConsumer<T, V> setter;
+    /**
+     * Operator summing the values of the field's type or {@code null} if the field is not numeric
+     */
+    @Nullable BinaryOperator<V> adder;
+    /**
+     * Marker indicating whether the field is primitive so that its values should be compared by value
+     */
+    boolean primitive;
+
+    /**
+     * Creates a new locking dynamic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param getter function performing the field get operation
+     * @param setter bi-consumer performing the field set operation
+     */
+    protected LockingDynamicFieldWrapper(@NonNull final Class<? extends T> containingClass,
+                                         @NonNull final Field wrapped,
+                                         @NonNull final Function<T, V> getter,
+                                         @NonNull final BiConsumer<T, V> setter) {
+        super(containingClass, wrapped);
+        this.getter = getter;
+        this.setter = setter;
+
+        val type = wrapped.getType();
+        adder = adder(type);
+        primitive = type.isPrimitive();
+    }
+
+    /**
+     * Creates a new cached locking dynamic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached locking dynamic field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> LockingDynamicFieldWrapper<T, V> from(@NonNull final Field field) {
+        return (LockingDynamicFieldWrapper<T, V>) CACHE.get(field, LockingDynamicFieldWrapper::create);
+    }
+
+    /**
+     * Creates a new locking dynamic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return created locking dynamic field wrapper for the given field
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, V> LockingDynamicFieldWrapper<?, ?> create(@NotNull final Field field) {
+        checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+
+        return new LockingDynamicFieldWrapper<>(
+                (Class<? extends T>) field.getDeclaringClass(), field,
+                InvokeUtil.toGetterFunction(field), InvokeUtil.toSetterBiConsumer(field)
+        );
+    }
+
+    /**
+     * Gets the lock associated with the given instance.
+     *
+     * @param instance instance for which to get the lock
+     * @return lock associated with the instance
+     */
+    @NotNull protected static Object lock(@NotNull final Object instance) {
+        return LOCKS[(System.identityHashCode(instance) & Integer.MAX_VALUE) % LOCKS.length];
+    }
+
+    /**
+     * Creates an operator summing the values of the given primitive type.
+     *
+     * @param type type of the values
+     * @param <V> type of the values
+     * @return operator summing the values of the given type or {@code null} if the type is not numeric primitive
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable protected static <V> BinaryOperator<V> adder(@NotNull final Class<?> type) {
+        final BinaryOperator<?> adder;
+        if (type == int.class) adder = (BinaryOperator<Integer>) Integer::sum;
+        else if (type == long.class) adder = (BinaryOperator<Long>) Long::sum;
+        else if (type == double.class) adder = (BinaryOperator<Double>) Double::sum;
+        else if (type == float.class) adder = (BinaryOperator<Float>) Float::sum;
+        else if (type == short.class) adder = (BinaryOperator<Short>) (left, right) -> (short) (left + right);
+        else if (type == byte.class) adder = (BinaryOperator<Byte>) (left, right) -> (byte) (left + right);
+        else if (type == char.class) adder = (BinaryOperator<Character>) (left, right) -> (char) (left + right);
+        else adder = null;
+
+        return (BinaryOperator<V>) adder;
+    }
+
+    @Override
+    public V get(@NotNull final T instance) {
+        return getter.apply(instance);
+    }
+
+    @Override
+    public void set(@NotNull final T instance, final V value) {
+        setter.accept(instance, value);
+    }
+
+    @Override
+    public V getVolatile(@NotNull final T instance) {
+        synchronized (lock(instance)) {
+            return getter.apply(instance);
+        }
+    }
+
+    @Override
+    public void setVolatile(@NotNull final T instance, final V value) {
+        synchronized (lock(instance)) {
+            setter.accept(instance, value);
+        }
+    }
+
+    @Override
+    public V getAcquire(@NotNull final T instance) {
+        return getVolatile(instance);
+    }
+
+    @Override
+    public void setRelease(@NotNull final T instance, final V value) {
+        setVolatile(instance, value);
+    }
+
+    @Override
+    public boolean compareAndSet(@NotNull final T instance, final V expectedValue, final V newValue) {
+        synchronized (lock(instance)) {
+            val currentValue = getter.apply(instance);
+            if (primitive ? !Objects.equals(currentValue, expectedValue) : currentValue != expectedValue) return false;
+
+            setter.accept(instance, newValue);
+            return true;
+        }
+    }
+
+    @Override
+    public V getAndSet(@NotNull final T instance, final V value) {
+        synchronized (lock(instance)) {
+            val previousValue = getter.apply(instance);
+            setter.accept(instance, value);
+
+            return previousValue;
+        }
+    }
+
+    @Override
+    public V getAndAdd(@NotNull final T instance, final V delta) {
+        val adder = this.adder;
+        if (adder == null) throw new UnsupportedOperationException("Field is not numeric");
+
+        synchronized (lock(instance)) {
+            val previousValue = getter.apply(instance);
+            setter.accept(instance, adder.apply(previousValue, delta));
+
+            return previousValue;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int getAndAddInt(@NotNull final T instance, final int delta) {
+        if (getWrapped().getType() != int.class) throw new UnsupportedOperationException("Field is not of type int");
+
+        synchronized (lock(instance)) {
+            val previousValue = (int) (Integer) getter.apply(instance);
+            setter.accept(instance, (V) (Integer) (previousValue + delta));
+
+            return previousValue;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long getAndAddLong(@NotNull final T instance, final long delta) {
+        if (getWrapped().getType() != long.class) throw new UnsupportedOperationException("Field is not of type long");
+
+        synchronized (lock(instance)) {
+            val previousValue = (long) (Long) getter.apply(instance);
+            setter.accept(instance, (V) (Long) (previousValue + delta));
+
+            return previousValue;
+        }
+    }
+}
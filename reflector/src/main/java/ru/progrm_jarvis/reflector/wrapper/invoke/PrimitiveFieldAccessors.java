@@ -0,0 +1,111 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.WrongMethodTypeException;
+
+/**
+ * Exact-typed {@link MethodHandle method handles} used by field wrappers to access primitive fields without boxing.
+ * <p>
+ * Getters are of type {@code (Object...)P} and setters are of type {@code (Object..., P)void}
+ * where {@code P} is the primitive type and {@code Object...} are the leading parameters of the original handles
+ * (target instance for non-static fields, none for static or bound ones).
+ * A handle is {@code null} if the field's type is not convertible to (or from) the corresponding primitive type.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(level = AccessLevel.PACKAGE, makeFinal = true)
+final class PrimitiveFieldAccessors {
+
+    /**
+     * Accessors of non-primitive fields
+     */
+    static final PrimitiveFieldAccessors NONE = new PrimitiveFieldAccessors(
+            null, null, null, null, null, null
+    );
+
+    /**
+     * Exact-typed getter of {@code int} value
+     */
+    @Nullable MethodHandle intGetter,
+    /**
+     * Exact-typed getter of {@code long} value
+     */
+    longGetter,
+    /**
+     * Exact-typed getter of {@code double} value
+     */
+    doubleGetter,
+    /**
+     * Exact-typed setter of {@code int} value
+     */
+    intSetter,
+    /**
+     * Exact-typed setter of {@code long} value
+     */
+    longSetter,
+    /**
+     * Exact-typed setter of {@code double} value
+     */
+    doubleSetter;
+
+    /**
+     * Creates primitive field accessors from the given field's getter and setter.
+     *
+     * @param getter method handle of the field's getter
+     * @param setter method handle of the field's setter
+     * @return primitive accessors of the field
+     */
+    static @NotNull PrimitiveFieldAccessors create(@NonNull final MethodHandle getter,
+                                                   @NonNull final MethodHandle setter) {
+        if (!getter.type().returnType().isPrimitive()) return NONE;
+
+        return new PrimitiveFieldAccessors(
+                adaptGetter(getter, int.class), adaptGetter(getter, long.class), adaptGetter(getter, double.class),
+                adaptSetter(setter, int.class), adaptSetter(setter, long.class), adaptSetter(setter, double.class)
+        );
+    }
+
+    /**
+     * Adapts the getter to return the given primitive type accepting generic leading parameters.
+     *
+     * @param getter getter to adapt
+     * @param type primitive type to which the getter should be adapted
+     * @return adapted getter or {@code null} if the field's type is not convertible to the given one
+     */
+    private static @Nullable MethodHandle adaptGetter(@NotNull final MethodHandle getter,
+                                                      @NotNull final Class<?> type) {
+        try {
+            return getter.asType(getter.type().generic().changeReturnType(type));
+        } catch (final WrongMethodTypeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adapts the setter to accept the given primitive type and generic leading parameters.
+     *
+     * @param setter setter to adapt
+     * @param type primitive type to which the setter should be adapted
+     * @return adapted setter or {@code null} if the given type is not convertible to the field's one
+     */
+    private static @Nullable MethodHandle adaptSetter(@NotNull final MethodHandle setter,
+                                                      @NotNull final Class<?> type) {
+        val setterType = setter.type();
+        val valueIndex = setterType.parameterCount() - 1;
+
+        try {
+            return setter.asType(
+                    setterType.generic().changeReturnType(void.class).changeParameterType(valueIndex, type)
+            );
+        } catch (final WrongMethodTypeException e) {
+            return null;
+        }
+    }
+}
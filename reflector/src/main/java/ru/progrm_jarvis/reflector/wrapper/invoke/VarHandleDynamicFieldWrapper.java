@@ -0,0 +1,349 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.javacommons.invoke.InvokeUtil;
+import ru.progrm_jarvis.javacommons.lazy.Lazy;
+import ru.progrm_jarvis.reflector.wrapper.AbstractFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.AtomicDynamicFieldWrapper;
+import ru.progrm_jarvis.reflector.wrapper.MemberWrapperCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * {@link AtomicDynamicFieldWrapper} based on {@code java.lang.invoke.VarHandle} available since Java 9.
+ * <p>
+ * As this library targets Java 8, VarHandle API is accessed reflectively
+ * and all of the operations are performed via exact {@link MethodHandle method handles} of its access modes.
+ * Use {@link #isAvailable()} to check if this implementation can be used
+ * or {@link AtomicFieldWrappers#dynamic(Field)} to fall back to the supported implementation.
+ * <p>
+ * Note that VarHandles of final fields are read-only so any write operation on them fails.
+ *
+ * @param <T> type of the object containing the wrapped method
+ * @param <V> type of the field's value
+ */
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = true)
+public class VarHandleDynamicFieldWrapper<T, V>
+        extends AbstractFieldWrapper<T, V> implements AtomicDynamicFieldWrapper<T, V> {
+
+    /**
+     * Name of the property responsible for concurrency level of {@link #CACHE}
+     */
+    @NonNull public static final String CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME
+            = VarHandleDynamicFieldWrapper.class.getCanonicalName() + ".cache-concurrency-level";
+    /**
+     * Cache of allocated dynamic field wrappers weakly referencing them
+     */
+    protected static final MemberWrapperCache<Field, VarHandleDynamicFieldWrapper<?, ?>> CACHE
+            = MemberWrapperCache.create(
+                    Integer.getInteger(CACHE_CONCURRENCY_LEVEL_SYSTEM_PROPERTY_NAME, 4)
+            );
+
+    /**
+     * Bridge to VarHandle API, {@code null} if it is unavailable
+     */
+    private static final Lazy<@Nullable VarHandleBridge> BRIDGE = Lazy.createThreadSafe(() -> {
+        try {
+            return new VarHandleBridge();
+        } catch (final Throwable x) {
+            return null;
+        }
+    });
+
+    /**
+     * Method handle of type {@code (Object)Object} performing plain get operation
+     */
+    @NonNull MethodHandle getter,
+    /**
+     * Method handle of type {@code (Object, Object)void} performing plain set operation
+     */
+    setter,
+    /**
+     * Method handle of type {@code (Object)Object} performing volatile get operation
+     */
+    volatileGetter,
+    /**
+     * Method handle of type {@code (Object, Object)void} performing volatile set operation
+     */
+    volatileSetter,
+    /**
+     * Method handle of type {@code (Object)Object} performing acquiring get operation
+     */
+    acquiringGetter,
+    /**
+     * Method handle of type {@code (Object, Object)void} performing releasing set operation
+     */
+    releasingSetter,
+    /**
+     * Method handle of type {@code (Object, Object, Object)boolean} performing compare-and-set operation
+     */
+    compareAndSetter,
+    /**
+     * Method handle of type {@code (Object, Object)Object} performing get-and-set operation
+     */
+    getterAndSetter,
+    /**
+     * Method handle of type {@code (Object, Object)Object} performing get-and-add operation
+     */
+    getterAndAdder;
+    /**
+     * Method handle of type {@code (Object, int)int} performing get-and-add operation
+     * or {@code null} if the field is not of type {@code int}
+     */
+    @Nullable MethodHandle intGetterAndAdder,
+    /**
+     * Method handle of type {@code (Object, long)long} performing get-and-add operation
+     * or {@code null} if the field is not of type {@code long}
+     */
+    longGetterAndAdder;
+
+    /**
+     * Creates a new VarHandle-based dynamic field wrapper.
+     *
+     * @param containingClass class containing the wrapped object
+     * @param wrapped wrapped object
+     * @param bridge bridge to VarHandle API
+     * @param varHandle VarHandle of the field
+     */
+    protected VarHandleDynamicFieldWrapper(@NonNull final Class<? extends T> containingClass,
+                                           @NonNull final Field wrapped,
+                                           @NonNull final VarHandleBridge bridge,
+                                           @NonNull final Object varHandle) {
+        super(containingClass, wrapped);
+
+        val getterType = methodType(Object.class, Object.class);
+        val setterType = methodType(void.class, Object.class, Object.class);
+
+        getter = bridge.accessor(varHandle, "GET", getterType);
+        setter = bridge.accessor(varHandle, "SET", setterType);
+        volatileGetter = bridge.accessor(varHandle, "GET_VOLATILE", getterType);
+        volatileSetter = bridge.accessor(varHandle, "SET_VOLATILE", setterType);
+        acquiringGetter = bridge.accessor(varHandle, "GET_ACQUIRE", getterType);
+        releasingSetter = bridge.accessor(varHandle, "SET_RELEASE", setterType);
+        compareAndSetter = bridge.accessor(
+                varHandle, "COMPARE_AND_SET", methodType(boolean.class, Object.class, Object.class, Object.class)
+        );
+        val getterAndModifierType = methodType(Object.class, Object.class, Object.class);
+        getterAndSetter = bridge.accessor(varHandle, "GET_AND_SET", getterAndModifierType);
+        getterAndAdder = bridge.accessor(varHandle, "GET_AND_ADD", getterAndModifierType);
+
+        val type = wrapped.getType();
+        intGetterAndAdder = type == int.class ? bridge.accessor(
+                varHandle, "GET_AND_ADD", methodType(int.class, Object.class, int.class)
+        ) : null;
+        longGetterAndAdder = type == long.class ? bridge.accessor(
+                varHandle, "GET_AND_ADD", methodType(long.class, Object.class, long.class)
+        ) : null;
+    }
+
+    /**
+     * Checks whether VarHandle API is available in the current runtime.
+     *
+     * @return {@code true} if VarHandle API is available and {@code false} otherwise
+     */
+    public static boolean isAvailable() {
+        return BRIDGE.get() != null;
+    }
+
+    /**
+     * Creates a new cached VarHandle-based dynamic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return cached VarHandle-based dynamic field wrapper for the given field
+     *
+     * @throws IllegalArgumentException if the field is static
+     * @throws UnsupportedOperationException if VarHandle API is unavailable
+     * @see #isAvailable() check for VarHandle API availability
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, V> VarHandleDynamicFieldWrapper<T, V> from(@NonNull final Field field) {
+        if (!isAvailable()) throw new UnsupportedOperationException("VarHandle API is unavailable");
+
+        return (VarHandleDynamicFieldWrapper<T, V>) CACHE.get(field, VarHandleDynamicFieldWrapper::create);
+    }
+
+    /**
+     * Creates a new VarHandle-based dynamic field wrapper for the given non-static field.
+     *
+     * @param field field to wrap
+     * @param <T> type of the object containing the field
+     * @param <V> type of the field's value
+     * @return created VarHandle-based dynamic field wrapper for the given field
+     *
+     * @throws IllegalArgumentException if the field is static
+     * @throws UnsupportedOperationException if VarHandle API is unavailable
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, V> VarHandleDynamicFieldWrapper<?, ?> create(@NotNull final Field field) {
+        checkArgument(!Modifier.isStatic(field.getModifiers()), "field should be non-static");
+
+        val bridge = BRIDGE.get();
+        if (bridge == null) throw new UnsupportedOperationException("VarHandle API is unavailable");
+
+        return new VarHandleDynamicFieldWrapper<>(
+                (Class<? extends T>) field.getDeclaringClass(), field, bridge, bridge.findVarHandle(field)
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V get(@NotNull final T instance) {
+        return (V) getter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void set(@NotNull final T instance, final V value) {
+        setter.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getVolatile(@NotNull final T instance) {
+        return (V) volatileGetter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setVolatile(@NotNull final T instance, final V value) {
+        volatileSetter.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAcquire(@NotNull final T instance) {
+        return (V) acquiringGetter.invokeExact((Object) instance);
+    }
+
+    @Override
+    @SneakyThrows
+    public void setRelease(@NotNull final T instance, final V value) {
+        releasingSetter.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean compareAndSet(@NotNull final T instance, final V expectedValue, final V newValue) {
+        return (boolean) compareAndSetter.invokeExact((Object) instance, (Object) expectedValue, (Object) newValue);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndSet(@NotNull final T instance, final V value) {
+        return (V) getterAndSetter.invokeExact((Object) instance, (Object) value);
+    }
+
+    @Override
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public V getAndAdd(@NotNull final T instance, final V delta) {
+        return (V) getterAndAdder.invokeExact((Object) instance, (Object) delta);
+    }
+
+    @Override
+    @SneakyThrows
+    public int getAndAddInt(@NotNull final T instance, final int delta) {
+        val intGetterAndAdder = this.intGetterAndAdder;
+        if (intGetterAndAdder == null) throw new UnsupportedOperationException("Field is not of type int");
+
+        return (int) intGetterAndAdder.invokeExact((Object) instance, delta);
+    }
+
+    @Override
+    @SneakyThrows
+    public long getAndAddLong(@NotNull final T instance, final long delta) {
+        val longGetterAndAdder = this.longGetterAndAdder;
+        if (longGetterAndAdder == null) throw new UnsupportedOperationException("Field is not of type long");
+
+        return (long) longGetterAndAdder.invokeExact((Object) instance, delta);
+    }
+
+    /**
+     * Bridge to VarHandle API accessed via {@link MethodHandle method handles}.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    protected static final class VarHandleBridge {
+
+        /**
+         * Class of {@code java.lang.invoke.VarHandle.AccessMode}
+         */
+        @NonNull Class<?> accessModeClass;
+
+        /**
+         * Method handle of type {@code (Lookup, Class, String, Class)Object}
+         * referencing {@code java.lang.invoke.MethodHandles.Lookup#findVarHandle(Class, String, Class)}
+         */
+        @NonNull MethodHandle varHandleFinder,
+        /**
+         * Method handle of type {@code (Object, Object)MethodHandle}
+         * referencing {@code java.lang.invoke.VarHandle#toMethodHandle(AccessMode)}
+         */
+        methodHandleConverter;
+
+        private VarHandleBridge() throws Throwable {
+            val varHandleClass = Class.forName("java.lang.invoke.VarHandle");
+            accessModeClass = Class.forName("java.lang.invoke.VarHandle$AccessMode");
+
+            val lookup = MethodHandles.publicLookup();
+            varHandleFinder = lookup.findVirtual(
+                    Lookup.class, "findVarHandle", methodType(varHandleClass, Class.class, String.class, Class.class)
+            ).asType(methodType(Object.class, Lookup.class, Class.class, String.class, Class.class));
+            methodHandleConverter = lookup.findVirtual(
+                    varHandleClass, "toMethodHandle", methodType(MethodHandle.class, accessModeClass)
+            ).asType(methodType(MethodHandle.class, Object.class, Object.class));
+        }
+
+        /**
+         * Finds the VarHandle of the given non-static field.
+         *
+         * @param field field whose VarHandle should be found
+         * @return VarHandle of the given field
+         */
+        @SneakyThrows
+        @NotNull private Object findVarHandle(@NotNull final Field field) {
+            val declaringClass = field.getDeclaringClass();
+
+            return (Object) varHandleFinder.invokeExact(
+                    InvokeUtil.lookup(declaringClass), (Class<?>) declaringClass, field.getName(), field.getType()
+            );
+        }
+
+        /**
+         * Gets the method handle of the given VarHandle's access mode adapted to the given type.
+         *
+         * @param varHandle VarHandle whose access mode should be used
+         * @param accessModeName name of the access mode constant
+         * @param type type to which the method handle should be adapted
+         * @return method handle of the given VarHandle's access mode
+         * @throws WrongMethodTypeException if the access mode's method handle cannot be adapted to the given type
+         */
+        @SneakyThrows
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @NotNull private MethodHandle accessor(@NotNull final Object varHandle,
+                                               @NotNull final String accessModeName,
+                                               @NotNull final MethodType type) {
+            return ((MethodHandle) methodHandleConverter.invokeExact(
+                    varHandle, (Object) Enum.valueOf((Class) accessModeClass, accessModeName)
+            )).asType(type);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ru.progrm_jarvis.reflector;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class ClassAccessorIndexTest {
+
+    @Test
+    void testIndexIsCached() {
+        assertThat(ClassAccessorIndex.of(Plugin.class), sameInstance(ClassAccessorIndex.of(Plugin.class)));
+        assertThat(ClassAccessorIndex.of(Plugin.class).getType(), equalTo(Plugin.class));
+    }
+
+    @Test
+    void testFields() {
+        val index = ClassAccessorIndex.of(Plugin.class);
+        val plugin = new Plugin("Foo");
+
+        val name = index.<String>dynamicField("name").orElseThrow(AssertionError::new);
+        assertThat(name.get(plugin), equalTo("Foo"));
+        name.set(plugin, "Bar");
+        assertThat(plugin.name, equalTo("Bar"));
+        assertThat(index.dynamicField("name"), equalTo(index.dynamicField("name")));
+
+        val loaded = index.<Integer>staticField("loaded").orElseThrow(AssertionError::new);
+        loaded.set(12);
+        assertThat(Plugin.loaded, is(12));
+
+        assertThat(index.field("name").isPresent(), is(true));
+        assertThat(index.dynamicField("loaded").isPresent(), is(false));
+        assertThat(index.staticField("name").isPresent(), is(false));
+        assertThat(index.dynamicField("version").isPresent(), is(false));
+    }
+
+    @Test
+    void testMethods() {
+        val index = ClassAccessorIndex.of(Plugin.class);
+        val plugin = new Plugin("Foo");
+
+        assertThat(
+                index.<String>dynamicMethod("greet").orElseThrow(AssertionError::new).invoke(plugin),
+                equalTo("Hi from Foo")
+        );
+        assertThat(
+                index.<String>dynamicMethod("greet", String.class).orElseThrow(AssertionError::new)
+                        .invoke(plugin, "Bar"),
+                equalTo("Hi Bar from Foo")
+        );
+        assertThat(
+                index.<String>dynamicMethod("greet", String.class, int.class).orElseThrow(AssertionError::new)
+                        .invoke(plugin, "Bar", 2),
+                equalTo("Hi Bar from Foo x2")
+        );
+        assertThat(
+                index.<Integer>staticMethod("sum", int.class, int.class).orElseThrow(AssertionError::new)
+                        .invoke(1, 2),
+                is(3)
+        );
+
+        assertThat(index.method("greet", long.class).isPresent(), is(false));
+        assertThat(index.staticMethod("greet").isPresent(), is(false));
+        assertThat(index.dynamicMethod("sum", int.class, int.class).isPresent(), is(false));
+        assertThat(index.dynamicMethod("stop").isPresent(), is(false));
+    }
+
+    @Test
+    void testConstructors() {
+        val index = ClassAccessorIndex.of(Plugin.class);
+
+        assertThat(index.constructor().orElseThrow(AssertionError::new).invoke().name, equalTo("Unnamed"));
+        assertThat(
+                index.constructor(String.class).orElseThrow(AssertionError::new).invoke("Baz").name,
+                equalTo("Baz")
+        );
+        assertThat(index.constructor(int.class).isPresent(), is(false));
+    }
+
+    @Test
+    void testBridgeMethodsAreNotChosen() throws NoSuchMethodException {
+        val index = ClassAccessorIndex.of(NameSupplier.class);
+
+        val method = index.method("get").orElseThrow(AssertionError::new);
+        assertThat(method.isBridge(), is(false));
+        assertThat(method.getReturnType(), equalTo(String.class));
+        assertThat(method, equalTo(NameSupplier.class.getDeclaredMethod("get")));
+        assertThat(
+                index.<String>dynamicMethod("get").orElseThrow(AssertionError::new).invoke(new NameSupplier()),
+                equalTo("Supplied")
+        );
+    }
+
+    private static final class Plugin {
+
+        private static int loaded;
+
+        private String name;
+
+        private Plugin() {
+            this("Unnamed");
+        }
+
+        private Plugin(final String name) {
+            this.name = name;
+        }
+
+        private String greet() {
+            return "Hi from " + name;
+        }
+
+        private String greet(final String whom) {
+            return "Hi " + whom + " from " + name;
+        }
+
+        private String greet(final String whom, final int times) {
+            return "Hi " + whom + " from " + name + " x" + times;
+        }
+
+        private static int sum(final int left, final int right) {
+            return left + right;
+        }
+    }
+
+    private static final class NameSupplier implements Supplier<String> {
+
+        @Override
+        public String get() {
+            return "Supplied";
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.progrm_jarvis.reflector;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class WrapperWarmUpTest {
+
+    @Test
+    void testWarmUp() {
+        val result = WrapperWarmUp.warmUp(Service.class, Repository.class);
+
+        assertThat(result.isSuccessful(), is(true));
+        assertThat(result.getFailures().entrySet(), empty());
+        assertThat(result.getMemberCount(), is(
+                ClassAccessorIndex.of(Service.class).memberCount()
+                        + ClassAccessorIndex.of(Repository.class).memberCount()
+        ));
+        assertThat(result.getDuration().isNegative(), is(false));
+
+        val service = new Service();
+        assertThat(ClassAccessorIndex.of(Service.class).<Integer>dynamicMethod("sum", int.class, int.class)
+                .orElseThrow(AssertionError::new).invoke(service, 1, 2), is(3));
+    }
+
+    @Test
+    void testWarmUpOnCustomPool() {
+        val pool = new ForkJoinPool(2);
+        try {
+            val result = WrapperWarmUp.warmUp(pool, Arrays.asList(Service.class, Repository.class));
+
+            assertThat(result.isSuccessful(), is(true));
+            assertThat(result.getMemberCount(), greaterThan(0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static final class Service {
+        private int calls;
+
+        private int sum(final int first, final int second) {
+            calls++;
+            return first + second;
+        }
+
+        private static String name() {
+            return "service";
+        }
+    }
+
+    private static final class Repository {
+        private static final String TABLE = "entities";
+        private final String name;
+
+        private Repository(final String name) {
+            this.name = name;
+        }
+
+        private String find(final long id) {
+            return name + '#' + id;
+        }
+    }
+}
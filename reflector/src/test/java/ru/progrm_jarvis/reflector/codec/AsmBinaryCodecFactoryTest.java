@@ -0,0 +1,141 @@
+package ru.progrm_jarvis.reflector.codec;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsmBinaryCodecFactoryTest {
+
+    @Test
+    void testRoundTrip() {
+        val codec = AsmBinaryCodecFactory.create(Entity.class, 1);
+        assertThat(codec.getVersion(), is(1));
+
+        val source = new Entity();
+        source.id = 7;
+        source.createdAt = 1L << 40;
+        source.flags = (byte) 0xF0;
+        source.port = (short) -2;
+        source.tag = 'x';
+        source.active = true;
+        source.ratio = 0.25F;
+        source.weight = 0.5;
+        source.name = "F\u00f6\u00f6";
+        source.description = "Bar";
+        source.transientValue = 13;
+
+        val buffer = ByteBuffer.allocate(128);
+        codec.encode(source, buffer);
+        buffer.flip();
+
+        val target = new Entity();
+        codec.decode(buffer, target);
+        assertThat(buffer.hasRemaining(), is(false));
+        assertThat(target.id, is(7));
+        assertThat(target.createdAt, is(1L << 40));
+        assertThat(target.flags, is((byte) 0xF0));
+        assertThat(target.port, is((short) -2));
+        assertThat(target.tag, is('x'));
+        assertThat(target.active, is(true));
+        assertThat(target.ratio, is(0.25F));
+        assertThat(target.weight, is(0.5));
+        assertThat(target.name, equalTo("F\u00f6\u00f6"));
+        assertThat(target.description, equalTo("Bar"));
+        assertThat(target.transientValue, is(0)); // not a binary field
+    }
+
+    @Test
+    void testNullString() {
+        val codec = AsmBinaryCodecFactory.create(Entity.class, 1);
+
+        val buffer = ByteBuffer.allocateDirect(128);
+        codec.encode(new Entity(), buffer);
+        buffer.flip();
+
+        val target = new Entity();
+        target.name = "Foo";
+        codec.decode(buffer, target);
+        assertThat(target.name, nullValue());
+    }
+
+    @Test
+    void testVersioning() {
+        val oldCodec = AsmBinaryCodecFactory.create(Entity.class, 0);
+        val newCodec = AsmBinaryCodecFactory.create(Entity.class, 1);
+
+        val source = new Entity();
+        source.id = 7;
+        source.description = "Bar";
+
+        val oldBuffer = ByteBuffer.allocate(128);
+        oldCodec.encode(source, oldBuffer);
+        val newBuffer = ByteBuffer.allocate(128);
+        newCodec.encode(source, newBuffer);
+        assertThat(oldBuffer.position(), lessThan(newBuffer.position()));
+
+        oldBuffer.flip();
+        val target = new Entity();
+        oldCodec.decode(oldBuffer, target);
+        assertThat(target.id, is(7));
+        assertThat(target.description, nullValue());
+    }
+
+    @Test
+    void testInvalidFields() {
+        assertThrows(IllegalArgumentException.class, () -> AsmBinaryCodecFactory.create(DuplicateOrder.class, 0));
+        assertThrows(IllegalArgumentException.class, () -> AsmBinaryCodecFactory.create(UnsupportedType.class, 0));
+    }
+
+    @Test
+    void testMalformedString() {
+        val codec = AsmBinaryCodecFactory.create(Named.class, 0);
+
+        val truncatedHeapBuffer = ByteBuffer.allocate(8).putInt(5).put((byte) 'F').put((byte) 'o');
+        truncatedHeapBuffer.flip();
+        assertThrows(BufferUnderflowException.class, () -> codec.decode(truncatedHeapBuffer, new Named()));
+
+        val truncatedDirectBuffer = ByteBuffer.allocateDirect(8).putInt(5).put((byte) 'F').put((byte) 'o');
+        truncatedDirectBuffer.flip();
+        assertThrows(BufferUnderflowException.class, () -> codec.decode(truncatedDirectBuffer, new Named()));
+
+        val negativeLengthBuffer = ByteBuffer.allocate(8).putInt(-2);
+        negativeLengthBuffer.flip();
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(negativeLengthBuffer, new Named()));
+    }
+
+    private static class BaseEntity {
+        @BinaryField(order = 0) int id;
+        @BinaryField(order = 1) long createdAt;
+    }
+
+    private static final class Entity extends BaseEntity {
+        @BinaryField(order = 2) private byte flags;
+        @BinaryField(order = 3) private short port;
+        @BinaryField(order = 4) private char tag;
+        @BinaryField(order = 5) private boolean active;
+        @BinaryField(order = 6) private float ratio;
+        @BinaryField(order = 7) private double weight;
+        @BinaryField(order = 8) private String name;
+        @BinaryField(order = 9, since = 1) private String description;
+        private int transientValue;
+    }
+
+    private static final class DuplicateOrder {
+        @BinaryField(order = 0) private int first;
+        @BinaryField(order = 0) private int second;
+    }
+
+    private static final class UnsupportedType {
+        @BinaryField(order = 0) private int[] values;
+    }
+
+    private static final class Named {
+        @BinaryField(order = 0) private String name;
+    }
+}
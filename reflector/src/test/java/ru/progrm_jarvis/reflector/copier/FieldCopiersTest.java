@@ -0,0 +1,116 @@
+package ru.progrm_jarvis.reflector.copier;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FieldCopiersTest {
+
+    private static List<Field> fields() {
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> type = Entity.class; type != Object.class; type = type.getSuperclass()) {
+            for (val field : type.getDeclaredFields()) if (!Modifier.isStatic(field.getModifiers())) fields.add(field);
+        }
+
+        return fields;
+    }
+
+    private static List<FieldCopier<Entity>> copiers() {
+        final List<FieldCopier<Entity>> copiers = new ArrayList<>();
+        copiers.add(FieldCopiers.of(Entity.class));
+        copiers.add(AsmFieldCopierFactory.create(fields()));
+        copiers.add(WrapperFieldCopier.create(fields()));
+
+        return copiers;
+    }
+
+    @Test
+    void testCopy() {
+        for (val copier : copiers()) {
+            val source = new Entity(7, 1L << 40, 0.5, true, 'x', "Foo", new int[]{1, 2});
+            val target = new Entity();
+
+            copier.copy(source, target);
+            assertThat(copier.getFieldCount(), is(7));
+            assertThat(target.id, is(7));
+            assertThat(target.createdAt, is(1L << 40));
+            assertThat(target.weight, is(0.5));
+            assertThat(target.active, is(true));
+            assertThat(target.tag, is('x'));
+            assertThat(target.name, equalTo("Foo"));
+            assertThat(target.values, sameInstance(source.values)); // copies are shallow
+        }
+    }
+
+    @Test
+    void testArrayCopy() {
+        for (val copier : copiers()) {
+            val source = new Entity(7, 1L << 40, 0.5, true, 'x', "Foo", new int[]{1, 2});
+
+            val values = new Object[copier.getFieldCount() + 1];
+            copier.copyToArray(source, values, 1);
+            assertThat(values[0], nullValue());
+            assertThat(Arrays.asList(values).subList(1, values.length), containsInAnyOrder(
+                    7, 1L << 40, 0.5, true, 'x', "Foo", source.values
+            ));
+
+            val target = new Entity();
+            copier.copyFromArray(values, 1, target);
+            assertThat(target.id, is(7));
+            assertThat(target.createdAt, is(1L << 40));
+            assertThat(target.name, equalTo("Foo"));
+
+            assertThat(copier.toArray(target), equalTo(copier.toArray(source)));
+        }
+    }
+
+    @Test
+    void testSelectedFields() {
+        val copier = FieldCopiers.<Entity>create(Entity.class, field -> field.getType() == String.class);
+        val source = new Entity(7, 1L << 40, 0.5, true, 'x', "Foo", new int[]{1, 2});
+        val target = new Entity();
+
+        copier.copy(source, target);
+        assertThat(copier.getFieldCount(), is(1));
+        assertThat(target.name, equalTo("Foo"));
+        assertThat(target.id, is(0));
+    }
+
+    private static class BaseEntity {
+        int id;
+        long createdAt;
+    }
+
+    private static final class Entity extends BaseEntity {
+        private static int instances;
+
+        private double weight;
+        private boolean active;
+        private char tag;
+        private final String name;
+        private int[] values;
+
+        private Entity() {
+            name = null;
+        }
+
+        private Entity(final int id, final long createdAt, final double weight, final boolean active,
+                       final char tag, final String name, final int[] values) {
+            this.id = id;
+            this.createdAt = createdAt;
+            this.weight = weight;
+            this.active = active;
+            this.tag = tag;
+            this.name = name;
+            this.values = values;
+        }
+    }
+}
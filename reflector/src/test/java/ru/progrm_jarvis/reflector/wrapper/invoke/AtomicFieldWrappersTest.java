@@ -0,0 +1,112 @@
+package ru.progrm_jarvis.reflector.wrapper.invoke;
+
+import lombok.val;
+import lombok.var;
+import org.junit.jupiter.api.Test;
+import ru.progrm_jarvis.reflector.wrapper.AtomicDynamicFieldWrapper;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtomicFieldWrappersTest {
+
+    private static List<WrapperFactory> factories() {
+        final List<WrapperFactory> factories = new ArrayList<>();
+        factories.add(LockingDynamicFieldWrapper::from);
+        if (VarHandleDynamicFieldWrapper.isAvailable()) factories.add(VarHandleDynamicFieldWrapper::from);
+
+        return factories;
+    }
+
+    @Test
+    void testDefaultImplementation() throws NoSuchFieldException {
+        assertThat(
+                AtomicFieldWrappers.dynamic(Counter.class.getDeclaredField("count")),
+                instanceOf(VarHandleDynamicFieldWrapper.isAvailable()
+                        ? VarHandleDynamicFieldWrapper.class : LockingDynamicFieldWrapper.class)
+        );
+    }
+
+    @Test
+    void testAtomicOperations() throws NoSuchFieldException {
+        for (val factory : factories()) {
+            val count = factory.<Integer>create(Counter.class.getDeclaredField("count"));
+            val total = factory.<Long>create(Counter.class.getDeclaredField("total"));
+            val name = factory.<String>create(Counter.class.getDeclaredField("name"));
+            val counter = new Counter();
+
+            assertThat(count.getAndAddInt(counter, 5), is(0));
+            assertThat(count.getAndAdd(counter, 2), is(5));
+            assertThat(count.getVolatile(counter), is(7));
+            assertThat(count.compareAndSet(counter, 6, 10), is(false));
+            assertThat(count.compareAndSet(counter, 7, 10), is(true));
+            assertThat(count.getAcquire(counter), is(10));
+            assertThat(count.getAndSet(counter, 1), is(10));
+            assertThat(count.updateAndGet(counter, value -> value * 3), is(3));
+            assertThat(count.getAndUpdate(counter, value -> value + 1), is(3));
+            assertThat(counter.count, is(4));
+
+            total.setRelease(counter, 1L << 40);
+            assertThat(total.getAndAddLong(counter, 1), is(1L << 40));
+            assertThat(counter.total, is((1L << 40) + 1));
+
+            val initialName = counter.name;
+            assertThat(name.compareAndSet(counter, new String(initialName), "Bar"), is(false)); // identity is used
+            assertThat(name.compareAndSet(counter, initialName, "Bar"), is(true));
+            assertThat(counter.name, equalTo("Bar"));
+
+            assertThrows(UnsupportedOperationException.class, () -> name.getAndAddInt(counter, 1));
+            assertThrows(UnsupportedOperationException.class, () -> count.getAndAddLong(counter, 1));
+        }
+    }
+
+    @Test
+    void testConcurrentIncrements() throws Exception {
+        val threads = 4;
+        val increments = 10_000;
+
+        for (val factory : factories()) {
+            val count = factory.<Integer>create(Counter.class.getDeclaredField("count"));
+            val counter = new Counter();
+
+            val executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<?>> futures = new ArrayList<>(threads);
+                for (var thread = 0; thread < threads; thread++) futures.add(executor.submit(() -> {
+                    for (var i = 0; i < increments; i++) count.getAndAddInt(counter, 1);
+                }));
+                for (val future : futures) future.get(1, TimeUnit.MINUTES);
+            } finally {
+                shutdown(executor);
+            }
+
+            assertThat(count.getVolatile(counter), is(threads * increments));
+        }
+    }
+
+    private static void shutdown(final ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    @FunctionalInterface
+    private interface WrapperFactory {
+
+        <V> AtomicDynamicFieldWrapper<Counter, V> create(Field field);
+    }
+
+    private static final class Counter {
+        private int count;
+        private long total;
+        private String name = "Foo";
+    }
+}
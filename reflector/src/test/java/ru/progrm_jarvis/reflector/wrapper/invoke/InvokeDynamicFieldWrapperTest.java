@@ -11,6 +11,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class InvokeDynamicFieldWrapperTest {
 
@@ -82,6 +83,37 @@ class InvokeDynamicFieldWrapperTest {
         assertThat(field.get(instance), /*allOf(*/equalTo(newName)/*, equalTo(instance.name))*/);
     }
 
+    @Test
+    void testPrimitiveAccessors() throws NoSuchFieldException {
+        val instance = new Stats();
+        val level = InvokeDynamicFieldWrapper.<Stats, Short>from(Stats.class.getDeclaredField("level"));
+        val experience = InvokeDynamicFieldWrapper.<Stats, Long>from(Stats.class.getDeclaredField("experience"));
+        val rating = InvokeDynamicFieldWrapper.<Stats, Double>from(Stats.class.getDeclaredField("rating"));
+
+        // widening getters
+        assertThat(level.getInt(instance), equalTo(12));
+        assertThat(level.getLong(instance), equalTo(12L));
+        assertThat(level.getDouble(instance), equalTo(12.0));
+        assertThat(experience.getLong(instance), equalTo(1L << 40));
+        assertThat(experience.getDouble(instance), equalTo((double) (1L << 40)));
+        assertThat(rating.getDouble(instance), equalTo(4.5));
+
+        // widening setters
+        experience.setInt(instance, 1337);
+        assertThat(instance.experience, equalTo(1337L));
+        experience.setLong(instance, Long.MAX_VALUE);
+        assertThat(instance.experience, equalTo(Long.MAX_VALUE));
+        rating.setInt(instance, 3);
+        assertThat(instance.rating, equalTo(3.0));
+        rating.setDouble(instance, 2.25);
+        assertThat(instance.rating, equalTo(2.25));
+
+        // narrowing is performed neither by getters nor by setters
+        assertThrows(ClassCastException.class, () -> experience.getInt(instance));
+        assertThrows(ClassCastException.class, () -> rating.getLong(instance));
+        assertThrows(RuntimeException.class, () -> level.setInt(instance, 13));
+    }
+
     @AllArgsConstructor
     private static final class Areg {
         private int icq;
@@ -89,4 +121,10 @@ class InvokeDynamicFieldWrapperTest {
         private final int id = 127;
         private final String name = "Mr Areshek";
     }
-}
\ No newline at end of file
+
+    private static final class Stats {
+        private short level = 12;
+        private long experience = 1L << 40;
+        private double rating = 4.5;
+    }
+}
@@ -9,6 +9,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class InvokeDynamicMethodWrapperTest {
 
@@ -146,4 +147,82 @@ class InvokeDynamicMethodWrapperTest {
                 .invoke(instance, val1, val2), equalTo(result)
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void testVoid3Args() {
+        final int val1, val2, val3;
+        {
+            val random = ThreadLocalRandom.current();
+            val1 = random.nextInt();
+            val2 = random.nextInt();
+            val3 = random.nextInt();
+        }
+
+        final class Petya {
+            private boolean called;
+            private void call(final int arg1, final int arg2, final int arg3) {
+                assertThat(arg1, is(val1));
+                assertThat(arg2, is(val2));
+                assertThat(arg3, is(val3));
+
+                called = true;
+            }
+        }
+        val instance = new Petya();
+
+        assertDoesNotThrow(() -> InvokeDynamicMethodWrapper
+                .from(Petya.class.getDeclaredMethod("call", int.class, int.class, int.class))
+                .invoke(instance, val1, val2, val3)
+        );
+        assertThat(instance.called, is(true));
+    }
+
+    @Test
+    void testObject4Args() throws NoSuchMethodException {
+        final int val1, val3;
+        final long val2;
+        final String val4, result;
+        {
+            val random = ThreadLocalRandom.current();
+            val1 = random.nextInt();
+            val2 = random.nextLong();
+            val3 = random.nextInt();
+            val4 = "Arg4_" + random.nextInt();
+            result = "Res4_" + random.nextInt();
+        }
+
+        class Petya {
+            private String call(final int arg1, final long arg2, final Integer arg3, final String arg4) {
+                assertThat(arg1, is(val1));
+                assertThat(arg2, is(val2));
+                assertThat(arg3, is(val3));
+                assertThat(arg4, is(val4));
+
+                return result;
+            }
+        }
+        val instance = new Petya();
+        val wrapper = InvokeDynamicMethodWrapper.<Petya, String>from(
+                Petya.class.getDeclaredMethod("call", int.class, long.class, Integer.class, String.class)
+        );
+
+        assertThat(wrapper.invoke(instance, val1, val2, val3, val4), equalTo(result));
+        assertThrows(IllegalArgumentException.class, () -> wrapper.invoke(instance, val1, val2, val3));
+    }
+
+    @Test
+    void testVariableArity() throws NoSuchMethodException {
+        class Petya {
+            private String call(final String arg1, final String arg2, final String... rest) {
+                return arg1 + arg2 + String.join("", rest);
+            }
+        }
+        val instance = new Petya();
+        val wrapper = InvokeDynamicMethodWrapper.<Petya, String>from(
+                Petya.class.getDeclaredMethod("call", String.class, String.class, String[].class)
+        );
+
+        assertThat(wrapper.invoke(instance, "a", "b", "c", "d"), equalTo("abcd"));
+        assertThat(wrapper.invoke(instance, "a", "b"), equalTo("ab"));
+    }
+}
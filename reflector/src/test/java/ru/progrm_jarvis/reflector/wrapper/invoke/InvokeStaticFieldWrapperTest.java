@@ -149,6 +149,27 @@ class InvokeStaticFieldWrapperTest {
         assertThat(field.get(), /*allOf(*/equalTo(newName)/*, equalTo(StaticAreg.name))*/);
     }
 
+    @Test
+    void testPrimitiveAccessors() throws NoSuchFieldException {
+        val random = ThreadLocalRandom.current();
+
+        val icq = random.nextInt();
+        val instance = new Areg(icq, "Oreshek");
+        val boundField = InvokeStaticFieldWrapper.<Areg, Integer>from(Areg.class.getDeclaredField("icq"), instance);
+
+        assertThat(boundField.getInt(), equalTo(icq));
+        assertThat(boundField.getLong(), equalTo((long) icq));
+        assertThat(boundField.getDouble(), equalTo((double) icq));
+        val newIcq = random.nextInt();
+        boundField.setInt(newIcq);
+        assertThat(instance.icq, equalTo(newIcq));
+
+        val staticField = InvokeStaticFieldWrapper.<Areg, Integer>from(StaticAreg.class.getDeclaredField("icq"));
+        val newStaticIcq = random.nextInt();
+        staticField.setInt(newStaticIcq);
+        assertThat(staticField.getInt(), allOf(equalTo(newStaticIcq), equalTo(StaticAreg.icq)));
+    }
+
     @AllArgsConstructor
     private static final class Areg {
         private int icq;
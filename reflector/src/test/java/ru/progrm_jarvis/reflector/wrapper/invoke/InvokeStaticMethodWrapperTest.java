@@ -7,8 +7,7 @@ import org.junit.jupiter.api.Test;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class InvokeStaticMethodWrapperTest {
@@ -320,6 +319,31 @@ class InvokeStaticMethodWrapperTest {
         );
     }
 
+    @Test
+    void testCaching() throws NoSuchMethodException {
+        final class Petya {
+            private String call() {
+                return "Foo";
+            }
+        }
+        val staticMethod = Object3StaticPetya.class.getDeclaredMethod("call", int.class, int.class, int.class);
+        val boundMethod = Petya.class.getDeclaredMethod("call");
+        val instance = new Petya();
+
+        assertThat(
+                InvokeStaticMethodWrapper.from(staticMethod),
+                sameInstance(InvokeStaticMethodWrapper.from(staticMethod))
+        );
+        assertThat(
+                InvokeStaticMethodWrapper.from(boundMethod, instance),
+                sameInstance(InvokeStaticMethodWrapper.from(boundMethod, instance))
+        );
+        assertThat(
+                InvokeStaticMethodWrapper.from(boundMethod, instance),
+                not(sameInstance(InvokeStaticMethodWrapper.from(boundMethod, new Petya())))
+        );
+    }
+
     @UtilityClass // static (everything) + final (class) + no constructor
     private class Void0StaticPetya {
 
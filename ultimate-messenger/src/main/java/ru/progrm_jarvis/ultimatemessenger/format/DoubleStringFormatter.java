@@ -0,0 +1,44 @@
+package ru.progrm_jarvis.ultimatemessenger.format;
+
+import lombok.NonNull;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link StringFormatter String formatter} whose result is a {@code double} value.
+ * <p>
+ * Consumers aware of this type (such as placeholders and text models created from them)
+ * may write the value directly without boxing it and creating an intermediate {@link String string}.
+ *
+ * @param <T> type of the object according to which the string should be formatted
+ */
+@FunctionalInterface
+public interface DoubleStringFormatter<T> extends StringFormatter<T> {
+
+    /**
+     * Formats the given {@link String string} specifically for the given target as {@code double} value.
+     *
+     * @param source source {@link String string} which should be formatted
+     * @param target target for which the formatting should happen
+     * @return value whose text is the result of formatting
+     */
+    double formatAsDouble(@NotNull String source, T target);
+
+    @Override
+    default @NotNull String format(@NotNull final String source, final T target) {
+        return Double.toString(formatAsDouble(source, target));
+    }
+
+    /**
+     * Creates a new {@link DoubleStringFormatter double string formatter} ignoring the source
+     * and using the value computed only from the target.
+     *
+     * @param valueFunction function computing the value from the target
+     * @param <T> type of the object according to which the string should be formatted
+     * @return created double string formatter
+     */
+    static <T> @NotNull DoubleStringFormatter<T> of(@NonNull final ToDoubleFunction<T> valueFunction) {
+        return (source, target) -> valueFunction.applyAsDouble(target);
+    }
+}
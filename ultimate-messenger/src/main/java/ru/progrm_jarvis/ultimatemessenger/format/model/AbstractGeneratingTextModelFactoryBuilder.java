@@ -4,6 +4,7 @@ import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.ArrayList;
@@ -19,7 +20,6 @@ import java.util.List;
  * @param <DN> type of {@link DynamicNode dynamic nodes} used for this builder's backend
  */
 @ToString
-@RequiredArgsConstructor
 @EqualsAndHashCode(callSuper = true) // because why not? (also allows caching)
 @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
 public abstract class AbstractGeneratingTextModelFactoryBuilder<T,
@@ -35,11 +35,47 @@ public abstract class AbstractGeneratingTextModelFactoryBuilder<T,
         this(new ArrayList<>());
     }
 
+    /**
+     * Instantiates new {@link AbstractGeneratingTextModelFactoryBuilder} using {@link ArrayList} for its backend.
+     *
+     * @param staticTextPool pool of static texts used by this builder, may be {@code null}
+     */
+    protected AbstractGeneratingTextModelFactoryBuilder(@Nullable final StaticTextPool staticTextPool) {
+        this(new ArrayList<>(), staticTextPool);
+    }
+
+    /**
+     * Instantiates new {@link AbstractGeneratingTextModelFactoryBuilder} using the given list for its backend.
+     *
+     * @param nodes list used to store the nodes
+     */
+    public AbstractGeneratingTextModelFactoryBuilder(final List<N> nodes) {
+        this(nodes, null);
+    }
+
+    /**
+     * Instantiates new {@link AbstractGeneratingTextModelFactoryBuilder} using the given list for its backend.
+     *
+     * @param nodes list used to store the nodes
+     * @param staticTextPool pool of static texts used by this builder, may be {@code null}
+     */
+    public AbstractGeneratingTextModelFactoryBuilder(final List<N> nodes,
+                                                     @Nullable final StaticTextPool staticTextPool) {
+        this.nodes = nodes;
+        this.staticTextPool = staticTextPool;
+    }
+
     /**
      * Nodes of the text model
      */
     List<N> nodes;
 
+    /**
+     * Pool of static texts used for the created {@link StaticTextModel static text models},
+     * {@code null} if they should not be pooled
+     */
+    @Nullable StaticTextPool staticTextPool;
+
     /**
      * Amount of dynamic nodes
      */
@@ -93,6 +129,17 @@ public abstract class AbstractGeneratingTextModelFactoryBuilder<T,
         }
     }
 
+    /**
+     * Creates a new {@link TextModel static text model} of the given text
+     * using the {@link #staticTextPool static text pool} if it is present.
+     *
+     * @param text text of the static text model
+     * @return static text model of the given text
+     */
+    @NotNull protected TextModel<T> newStaticTextModel(@NotNull final String text) {
+        return staticTextPool == null ? StaticTextModel.of(text) : staticTextPool.staticTextModel(text);
+    }
+
     /**
      * Creates a new static node to be used for creation of the {@link TextModel text model}.
      *
@@ -188,7 +235,7 @@ public abstract class AbstractGeneratingTextModelFactoryBuilder<T,
             val tail = lastNode;
             // this should never happen actually, but it might be an error marker for broken implementations
             assert tail != null;
-            return StaticTextModel.of(tail.asStatic().getText());
+            return newStaticTextModel(tail.asStatic().getText());
         }
         if (staticLength == 0 && dynamicNodeCount == 1) { // only 1 dynamic element without static ones
             val tail = lastNode;
@@ -18,13 +18,13 @@ import ru.progrm_jarvis.javacommons.bytecode.asm.AsmUtil;
 import ru.progrm_jarvis.javacommons.classload.GcClassDefiners;
 import ru.progrm_jarvis.javacommons.lazy.Lazy;
 import ru.progrm_jarvis.javacommons.util.ClassNamingStrategy;
-import ru.progrm_jarvis.javacommons.util.valuestorage.SimpleValueStorage;
-import ru.progrm_jarvis.javacommons.util.valuestorage.ValueStorage;
+import ru.progrm_jarvis.javacommons.util.valuestorage.ArrayValueStorage;
 
 import javax.annotation.Nonnegative;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.logging.Level;
 
@@ -52,7 +52,7 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
     /**
      * Internal storage of {@link TextModel dynamic text models} passed to {@code static final} fields.
      */
-    protected static final ValueStorage<String, TextModel<?>> DYNAMIC_MODELS = new SimpleValueStorage<>();
+    protected static final ArrayValueStorage<TextModel<?>> DYNAMIC_MODELS = new ArrayValueStorage<>();
 
     /**
      * Flag indicating the availability of {@code java.lang.invoke.StringConcatFactory}
@@ -136,7 +136,6 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
      * @param <T> type of object according to which the created text models are formatted
      */
     @ToString
-    @RequiredArgsConstructor
     @EqualsAndHashCode(callSuper = true) // simply, why not? :) (this will also allow caching of instances)
     @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
     protected static class TextModelBuilder<T> extends AbstractGeneratingTextModelFactoryBuilder
@@ -185,7 +184,15 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
         /**
          * ASM type of {@link TextModel}
          */
-        TEXT_MODEL_TYPE = getType(TextModel.class);
+        TEXT_MODEL_TYPE = getType(TextModel.class),
+        /**
+         * ASM type of {@link ChoiceTextModel}
+         */
+        CHOICE_TEXT_MODEL_TYPE = getType(ChoiceTextModel.class),
+        /**
+         * ASM type of {@link List}
+         */
+        LIST_TYPE = getType(List.class);
         ///////////////////////////////////////////////////////////////////////////
         // Strings
         ///////////////////////////////////////////////////////////////////////////
@@ -208,9 +215,21 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          */
         APPEND_METHOD_NAME = "append",
         /**
-         * Name of {@link TextModelBuilder#internal$getDynamicTextModel(String)} method
+         * Name of {@link TextModelBuilder#internal$getDynamicTextModel(int)} method
          */
         INTERNAL_GET_DYNAMIC_TEXT_MODEL_METHOD_NAME = "internal$getDynamicTextModel",
+        /**
+         * Name of {@link ChoiceTextModel#choose(Object)} method
+         */
+        CHOOSE_METHOD_NAME = "choose",
+        /**
+         * Name of {@link ChoiceTextModel#getOptions()} method
+         */
+        GET_OPTIONS_METHOD_NAME = "getOptions",
+        /**
+         * Name of {@link List#get(int)} method
+         */
+        GET_METHOD_NAME = "get",
         /* ********************************************* Internal names ********************************************* */
         /**
          * Internal name of {@link TextModel}
@@ -224,6 +243,14 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          * Internal name of {@link TextModel}
          */
         TEXT_MODEL_INTERNAL_NAME = TEXT_MODEL_TYPE.getInternalName(),
+        /**
+         * Internal name of {@link ChoiceTextModel}
+         */
+        CHOICE_TEXT_MODEL_INTERNAL_NAME = CHOICE_TEXT_MODEL_TYPE.getInternalName(),
+        /**
+         * Internal name of {@link List}
+         */
+        LIST_INTERNAL_NAME = LIST_TYPE.getInternalName(),
         /* ********************************************** Descriptors ********************************************** */
         /**
          * Descriptor of {@link TextModel}
@@ -237,11 +264,27 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          * Descriptor of {@link TextModel}
          */
         TEXT_MODEL_DESCRIPTOR = TEXT_MODEL_TYPE.getDescriptor(),
+        /**
+         * Descriptor of {@link ChoiceTextModel}
+         */
+        CHOICE_TEXT_MODEL_DESCRIPTOR = CHOICE_TEXT_MODEL_TYPE.getDescriptor(),
         /* ********************************** Method descriptors (aka signatures) ********************************** */
         /**
          * Signature of {@code TextModel(Object)} method
          */
         STRING_OBJECT_METHOD_DESCRIPTOR = getMethodDescriptor(STRING_TYPE, OBJECT_TYPE),
+        /**
+         * Signature of {@code int(Object)} method
+         */
+        INT_OBJECT_METHOD_DESCRIPTOR = getMethodDescriptor(INT_TYPE, OBJECT_TYPE),
+        /**
+         * Signature of {@code Object(int)} method
+         */
+        OBJECT_INT_METHOD_DESCRIPTOR = getMethodDescriptor(OBJECT_TYPE, INT_TYPE),
+        /**
+         * Signature of {@code List()} method
+         */
+        LIST_METHOD_DESCRIPTOR = getMethodDescriptor(LIST_TYPE),
         /**
          * Signature of {@code void(int)} method
          */
@@ -259,9 +302,9 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          */
         STRING_BUILDER_STRING_METHOD_SIGNATURE = getMethodDescriptor(STRING_BUILDER_TYPE, STRING_TYPE),
         /**
-         * Signature of {@code TextModel(String)} method
+         * Signature of {@code TextModel(int)} method
          */
-        TEXT_MODEL_STRING_METHOD_SIGNATURE = getMethodDescriptor(TEXT_MODEL_TYPE, STRING_TYPE),
+        TEXT_MODEL_INT_METHOD_SIGNATURE = getMethodDescriptor(TEXT_MODEL_TYPE, INT_TYPE),
         /**
          * Signature of {@code StringBuilder(char)} method
          */
@@ -275,6 +318,10 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          * Generic descriptor of {@link TextModel}
          */
         TEXT_MODEL_SIGNATURE = 'L' + TEXT_MODEL_INTERNAL_NAME + '<' + PARENT_T_GENERIC_DESCRIPTOR + ">;",
+        /**
+         * Generic descriptor of {@link ChoiceTextModel}
+         */
+        CHOICE_TEXT_MODEL_SIGNATURE = 'L' + CHOICE_TEXT_MODEL_INTERNAL_NAME + '<' + PARENT_T_GENERIC_DESCRIPTOR + ">;",
         /**
          * Generic signature of the generated class
          *
@@ -384,11 +431,111 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
 
         //</editor-fold>
 
+        /**
+         * Type of the value produced by a {@link Node.DynamicNode dynamic node}'s {@link TextModel text model}
+         * in generated code.
+         */
+        @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+        protected enum DynamicValueType {
+            /**
+             * {@link String} got via {@link TextModel#getText(Object)}
+             */
+            STRING(TEXT_MODEL_TYPE, GET_TEXT_METHOD_NAME, STRING_TYPE),
+            /**
+             * {@code int} got via {@link IntTextModel#getInt(Object)}
+             */
+            INT(getType(IntTextModel.class), "getInt", INT_TYPE),
+            /**
+             * {@code long} got via {@link LongTextModel#getLong(Object)}
+             */
+            LONG(getType(LongTextModel.class), "getLong", LONG_TYPE),
+            /**
+             * {@code double} got via {@link DoubleTextModel#getDouble(Object)}
+             */
+            DOUBLE(getType(DoubleTextModel.class), "getDouble", DOUBLE_TYPE);
+
+            /**
+             * Internal name of the text model type
+             */
+            @NonNull String textModelInternalName,
+            /**
+             * Descriptor of the text model type
+             */
+            textModelDescriptor,
+            /**
+             * Generic descriptor of the text model type
+             */
+            textModelSignature,
+            /**
+             * Name of the text model's method used to get the value
+             */
+            getterMethodName,
+            /**
+             * Descriptor of the text model's method used to get the value
+             */
+            getterMethodDescriptor,
+            /**
+             * Descriptor of {@link StringBuilder}{@code .append(}<i>?</i>{@code )} method accepting the value
+             */
+            stringBuilderAppendMethodDescriptor;
+
+            /**
+             * ASM type of the value
+             */
+            @NonNull Type valueType;
+
+            DynamicValueType(@NotNull final Type textModelType, @NotNull final String getterMethodName,
+                             @NotNull final Type valueType) {
+                textModelInternalName = textModelType.getInternalName();
+                textModelDescriptor = textModelType.getDescriptor();
+                textModelSignature = 'L' + textModelInternalName + '<' + PARENT_T_GENERIC_DESCRIPTOR + ">;";
+                this.getterMethodName = getterMethodName;
+                getterMethodDescriptor = getMethodDescriptor(valueType, OBJECT_TYPE);
+                stringBuilderAppendMethodDescriptor = getMethodDescriptor(STRING_BUILDER_TYPE, valueType);
+                this.valueType = valueType;
+            }
+
+            /**
+             * Checks whether the value of this type occupies two slots of the stack.
+             *
+             * @return {@code true} if the value of this type is {@code long} or {@code double}
+             * and {@code false} otherwise
+             */
+            public boolean isWide() {
+                return valueType.getSize() == 2;
+            }
+
+            /**
+             * Gets the type of the value which should be used for the given text model.
+             *
+             * @param textModel text model whose value type should be got
+             * @return type of the value which should be used for the given text model
+             */
+            @NotNull public static DynamicValueType of(@NotNull final TextModel<?> textModel) {
+                if (textModel instanceof IntTextModel) return INT;
+                if (textModel instanceof LongTextModel) return LONG;
+                if (textModel instanceof DoubleTextModel) return DOUBLE;
+
+                return STRING;
+            }
+        }
+
         /**
          * Configuration of the parent {@link AsmTextModelFactory text model factory}
          */
         @NonNull Configuration configuration;
 
+        /**
+         * Instantiates a new text model builder using the given configuration.
+         *
+         * @param configuration configuration of the parent {@link AsmTextModelFactory text model factory}
+         */
+        public TextModelBuilder(@NonNull final Configuration configuration) {
+            super(configuration.staticTextPool());
+
+            this.configuration = configuration;
+        }
+
         /**
          * Amount of {@link Node.StaticNode static nodes} whose text should be treated by {@code
          * java.lang.invoke.StringConcatFactory} as the one passed to bootstrap arguments
@@ -402,7 +549,19 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          *
          * @see Node.StaticNode#isTreatAsDynamicValueInStringConcatFactory()
          */
-        staticSpecialNodeLength;
+        staticSpecialNodeLength,
+        /**
+         * Amount of {@link Node.DynamicNode dynamic nodes} whose value is primitive
+         *
+         * @see Node.DynamicNode#getValueType()
+         */
+        primitiveDynamicNodeCount,
+        /**
+         * Amount of {@link Node.DynamicNode dynamic nodes} whose value occupies two stack slots
+         *
+         * @see DynamicValueType#isWide()
+         */
+        wideDynamicNodeCount;
 
         /**
          * JIT-friendly (folded static final constant allows the JIT to use the fast approach here) checks if {@code
@@ -428,6 +587,25 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
             }
         }
 
+        @Override
+        protected void endModification(@NotNull final Node.DynamicNode<T> dynamicNode) {
+            super.endModification(dynamicNode);
+
+            val valueType = dynamicNode.getValueType();
+            if (valueType != DynamicValueType.STRING) {
+                primitiveDynamicNodeCount++;
+                if (valueType.isWide()) wideDynamicNodeCount++;
+            }
+        }
+
+        @Override
+        @NotNull public TextModelFactory.TextModelBuilder<T> clear() {
+            staticNodeHandledAsDynamicCount = staticSpecialNodeLength
+                    = primitiveDynamicNodeCount = wideDynamicNodeCount = 0;
+
+            return super.clear();
+        }
+
         @Override
         @NotNull
         protected Node<T> newStaticNode(@NotNull final String text) {
@@ -451,8 +629,24 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          */
         @Deprecated
         @Internal("This is expected to be invoked only by generated TextModels to initialize their fields")
-        public static TextModel<?> internal$getDynamicTextModel(@NotNull final String uniqueKey) {
-            return DYNAMIC_MODELS.retrieveValue(uniqueKey);
+        public static TextModel<?> internal$getDynamicTextModel(final int uniqueKey) {
+            return DYNAMIC_MODELS.retrieve(uniqueKey);
+        }
+
+        /**
+         * Creates a descriptor for a method accepting the values of all {@link Node.DynamicNode dynamic nodes} which
+         * returns a {@link String string}.
+         *
+         * @return descriptor of the method accepting the values of all dynamic nodes
+         */
+        protected String dynamicValuesToStringDescriptor() {
+            if (primitiveDynamicNodeCount == 0) return stringsToStringDescriptor(dynamicNodeCount);
+
+            val result = new StringBuilder(STRING_DESCRIPTOR_LENGTH * (dynamicNodeCount + 1) + 2).append('(');
+            for (val node : nodes) if (node.isDynamic()) result.append(node.asDynamic().getValueType().valueType
+                    .getDescriptor());
+
+            return result.append(')').append(STRING_DESCRIPTOR).toString();
         }
 
         /**
@@ -540,41 +734,63 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                 val staticLength = this.staticLength;
                 if (staticLength == 0) { // there are no static nodes (and at least 2 dynamic)
                     /* ************************ Invoke `StringBuilder(int)` constructor ************************ */
+                    val iterator = nodes.iterator();
                     String fieldName = GENERATED_FIELD_NAME_PREFIX + 0;
-                    // Specify first `StringBuilder` node
-                    asm$pushStaticTextModelFieldGetTextInvocationResult(method, internalClassName, fieldName);
-                    // allocate new `StringBuilder`
-                    method.visitTypeInsn(NEW, STRING_BUILDER_INTERNAL_NAME);
-                    // duplicate `StringBuilder` having the last one pushed to the end of stack
-                    method.visitInsn(DUP_X1);
-                    // swap the first two stack nodes so that the `StringBuilder`'s constructor
-                    // gets invoked with the needed parameter { SB = `StringBuilder`}:
-                    // { StringBuilder, Parameter, StringBuilder } --> { StringBuilder, StringBuilder, Parameter }
-                    // this tricks allows the max stack size be the same as if it was a call to #append(String)
-                    // not having it increased by one for (bad case) { StringBuilder, StringBuilder, T, TextModel }
-                    method.visitInsn(SWAP);
-                    // Call constructor `StringBuilder(int)`
-                    method.visitMethodInsn(
-                            INVOKESPECIAL, STRING_BUILDER_INTERNAL_NAME,
-                            CONSTRUCTOR_METHOD_NAME, VOID_STRING_METHOD_DESCRIPTOR, false
-                    );
+                    {
+                        val firstNode = iterator.next().asDynamic();
+                        val valueType = firstNode.getValueType();
+                        if (valueType == DynamicValueType.STRING) {
+                            // Specify first `StringBuilder` node
+                            asm$addDynamicValue(
+                                    clazz, internalClassName, staticInitializer,
+                                    method, fieldName, firstNode.getContent(), valueType
+                            );
+                            // allocate new `StringBuilder`
+                            method.visitTypeInsn(NEW, STRING_BUILDER_INTERNAL_NAME);
+                            // duplicate `StringBuilder` having the last one pushed to the end of stack
+                            method.visitInsn(DUP_X1);
+                            // swap the first two stack nodes so that the `StringBuilder`'s constructor
+                            // gets invoked with the needed parameter { SB = `StringBuilder`}:
+                            // { StringBuilder, Parameter, StringBuilder }
+                            //     --> { StringBuilder, StringBuilder, Parameter }
+                            // this tricks allows the max stack size be the same as if it was a call to #append(String)
+                            // not having it increased by one for (bad case)
+                            // { StringBuilder, StringBuilder, T, TextModel }
+                            method.visitInsn(SWAP);
+                            // Call constructor `StringBuilder(String)`
+                            method.visitMethodInsn(
+                                    INVOKESPECIAL, STRING_BUILDER_INTERNAL_NAME,
+                                    CONSTRUCTOR_METHOD_NAME, VOID_STRING_METHOD_DESCRIPTOR, false
+                            );
+                        } else {
+                            // primitive value cannot be passed to the constructor so it gets appended
+                            method.visitTypeInsn(NEW, STRING_BUILDER_INTERNAL_NAME);
+                            method.visitInsn(DUP);
+                            // Call constructor `StringBuilder()`
+                            method.visitMethodInsn(
+                                    INVOKESPECIAL, STRING_BUILDER_INTERNAL_NAME,
+                                    CONSTRUCTOR_METHOD_NAME, VOID_METHOD_DESCRIPTOR, false
+                            );
+                            asm$addDynamicValue(
+                                    clazz, internalClassName, staticInitializer,
+                                    method, fieldName, firstNode.getContent(), valueType
+                            );
+                            asm$invokeStringBuilderAppend(method, valueType);
+                        }
+                    }
 
-                    val iterator = nodes.iterator();
-                    asm$addStaticFieldWithInitializer(
-                            clazz, internalClassName, staticInitializer,
-                            fieldName, iterator.next().asDynamic().getContent()
-                    );
                     // dynamic nodes count is at least 2
                     var dynamicIndex = 0;
                     while (iterator.hasNext()) {
                         fieldName = (GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex));
 
-                        asm$addStaticFieldWithInitializer(
+                        val node = iterator.next().asDynamic();
+                        val valueType = node.getValueType();
+                        asm$addDynamicValue(
                                 clazz, internalClassName, staticInitializer,
-                                fieldName, iterator.next().asDynamic().getContent()
+                                method, fieldName, node.getContent(), valueType
                         );
-                        asm$pushStaticTextModelFieldGetTextInvocationResult(method, internalClassName, fieldName);
-                        asm$invokeStringBuilderAppendString(method);
+                        asm$invokeStringBuilderAppend(method, valueType);
                     }
 
 
@@ -583,6 +799,7 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                      * - the StringBuilder instance
                      * - the `TextModel` whose `getText` is being invoked
                      * - the parameter passed to `getText`
+                     * (wide primitive value is also at most 2 slots after the `StringBuilder`)
                      */
                     method.visitMaxs(3, 2 /* [this + local variable] */);
                 } else { // there are static nodes
@@ -603,14 +820,13 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                         // Load static text value from dynamic constant
                         if (node.isDynamic()) {
                             val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                            asm$addStaticFieldWithInitializer(
+                            val dynamicNode = node.asDynamic();
+                            val valueType = dynamicNode.getValueType();
+                            asm$addDynamicValue(
                                     clazz, internalClassName, staticInitializer,
-                                    fieldName, node.asDynamic().getContent()
+                                    method, fieldName, dynamicNode.getContent(), valueType
                             );
-                            asm$pushStaticTextModelFieldGetTextInvocationResult(
-                                    method, internalClassName, fieldName
-                            );
-                            asm$invokeStringBuilderAppendString(method);
+                            asm$invokeStringBuilderAppend(method, valueType);
                         } else {
                             val staticText = node.asStatic().getText();
                             if (staticText.length() == 1) {
@@ -677,6 +893,12 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                 if (dynamicNodeCount <= STRING_CONCAT_FACTORY_MAX_DYNAMIC_ARGUMENTS) {
                     // The amount of dynamic nodes does not exceed the maximal amount of those
                     // passed into the `StringConcatFactory`'s `makeConcat` methods
+                    // Primitive values are passed as they are (letting the concatenation format them in place)
+                    // unless `long` and `double` ones (occupying 2 slots each) make the slots exceed the limit
+                    val primitiveValues
+                            = dynamicNodes + wideDynamicNodeCount <= STRING_CONCAT_FACTORY_MAX_DYNAMIC_ARGUMENTS;
+                    val concatDescriptor = primitiveValues
+                            ? dynamicValuesToStringDescriptor() : stringsToStringDescriptor(dynamicNodes);
                     //<editor-fold desc="Fast implementation" defaultstate="collapsed">
                     val staticLength = this.staticLength;
                     if (staticLength == 0) { // there only are dynamic nodes
@@ -685,15 +907,14 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                         // add fields containing dynamic nodes and their invocation
                         for (val node : nodes) {
                             val fieldName = (GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex));
-                            asm$addStaticFieldWithInitializer(
+                            asm$addDynamicNodeValue(
                                     clazz, internalClassName, staticInitializer,
-                                    fieldName, node.asDynamic().getContent()
+                                    method, fieldName, node.asDynamic(), primitiveValues
                             );
-                            asm$pushStaticTextModelFieldGetTextInvocationResult(method, internalClassName, fieldName);
                         }
 
                         method.visitInvokeDynamicInsn(
-                                MAKE_CONCAT_METHOD_NAME, stringsToStringDescriptor(dynamicNodes),
+                                MAKE_CONCAT_METHOD_NAME, concatDescriptor,
                                 MAKE_CONCAT_HANDLE /* no bootstrap arguments */
                         );
                     } else {// there are static nodes
@@ -705,13 +926,10 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                             for (val node : nodes) {
                                 if (node.isDynamic()) {
                                     val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                                    // push String (got from dynamic TextModel's `getText(T)` invocation) ...
-                                    asm$addStaticFieldWithInitializer(
+                                    // push the value (got from dynamic TextModel's invocation) ...
+                                    asm$addDynamicNodeValue(
                                             clazz, internalClassName, staticInitializer,
-                                            fieldName, node.asDynamic().getContent()
-                                    );
-                                    asm$pushStaticTextModelFieldGetTextInvocationResult(
-                                            method, internalClassName, fieldName
+                                            method, fieldName, node.asDynamic(), primitiveValues
                                     );
                                     // ... which is referenced in the recipe as a dynamic one (it may differ from
                                     // call to call)
@@ -720,7 +938,7 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                             }
 
                             method.visitInvokeDynamicInsn(
-                                    MAKE_CONCAT_WITH_CONSTANTS_METHOD_NAME, stringsToStringDescriptor(dynamicNodes),
+                                    MAKE_CONCAT_WITH_CONSTANTS_METHOD_NAME, concatDescriptor,
                                     MAKE_CONCAT_WITH_CONSTANTS_HANDLE, recipe.toString() /* bootstrap argument */
                             );
                         } else {
@@ -735,13 +953,10 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                             for (val node : nodes) {
                                 if (node.isDynamic()) {
                                     val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                                    // push String (got from dynamic TextModel's `getText(T)` invocation) ...
-                                    asm$addStaticFieldWithInitializer(
+                                    // push the value (got from dynamic TextModel's invocation) ...
+                                    asm$addDynamicNodeValue(
                                             clazz, internalClassName, staticInitializer,
-                                            fieldName, node.asDynamic().getContent()
-                                    );
-                                    asm$pushStaticTextModelFieldGetTextInvocationResult(
-                                            method, internalClassName, fieldName
+                                            method, fieldName, node.asDynamic(), primitiveValues
                                     );
                                     // ... which is referenced in the recipe as a dynamic one (it may differ from
                                     // call to call)
@@ -766,7 +981,7 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
 
                             bootstrapArguments[0] = recipe.toString();
                             method.visitInvokeDynamicInsn(
-                                    MAKE_CONCAT_WITH_CONSTANTS_METHOD_NAME, stringsToStringDescriptor(dynamicNodeCount),
+                                    MAKE_CONCAT_WITH_CONSTANTS_METHOD_NAME, concatDescriptor,
                                     MAKE_CONCAT_WITH_CONSTANTS_HANDLE, bootstrapArguments
                             );
                         }
@@ -781,11 +996,15 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                      * StringConcatFactory happen and as those get passed to thus (except fot the first one) the
                      * worst case
                      */
-                    method.visitMaxs(dynamicNodeCount + 1, 2 /* [this + local variable] */);
+                    method.visitMaxs(
+                            (primitiveValues ? dynamicNodes + wideDynamicNodeCount : dynamicNodes) + 1,
+                            2 /* [this + local variable] */
+                    );
                     //</editor-fold>
                 } else {
                     // The amount of dynamic nodes exceeds the maximal amount of those
                     // passed into the `StringConcatFactory`'s `makeConcat` methods
+                    // so all values (including primitive ones) are passed as strings occupying a single slot each
                     //<editor-fold desc="Not as fast implementation" defaultstate="collapsed">
                     /*
                         case TREE: {
@@ -835,12 +1054,9 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                             val node = nodes.next();
                             if (node.isDynamic()) {
                                 val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                                asm$addStaticFieldWithInitializer(
-                                        clazz, internalClassName, staticInitializer,
-                                        fieldName, node.asDynamic().getContent()
-                                );
-                                asm$pushStaticTextModelFieldGetTextInvocationResult(
-                                        method, internalClassName, fieldName
+                                asm$addDynamicValue(
+                                        clazz, internalClassName, staticInitializer, method,
+                                        fieldName, node.asDynamic().getContent(), DynamicValueType.STRING
                                 );
                                 recipe.append('\1');
 
@@ -898,12 +1114,9 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                                 val node = nodes.next();
                                 if (node.isDynamic()) {
                                     val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                                    asm$addStaticFieldWithInitializer(
-                                            clazz, internalClassName, staticInitializer,
-                                            fieldName, node.asDynamic().getContent()
-                                    );
-                                    asm$pushStaticTextModelFieldGetTextInvocationResult(
-                                            method, internalClassName, fieldName
+                                    asm$addDynamicValue(
+                                            clazz, internalClassName, staticInitializer, method,
+                                            fieldName, node.asDynamic().getContent(), DynamicValueType.STRING
                                     );
                                     recipe.append('\1');
 
@@ -998,15 +1211,194 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                 @NotNull final MethodVisitor method,
                 @NotNull final String internalClassName,
                 @NotNull final String fieldName) {
+            asm$pushStaticTextModelFieldGetTextInvocationResult(
+                    method, internalClassName, fieldName, DynamicValueType.STRING
+            );
+        }
+
+        /**
+         * Adds code to the method so that it invokes the text model's method getting the value of the given type
+         * taking object for it from the field.
+         *
+         * @param method method visitor through which the code should be updated
+         * @param internalClassName internal name of this class
+         * @param fieldName name of the field of the text model type corresponding to the value type
+         * @param valueType type of the value which should be pushed
+         */
+        protected static void asm$pushStaticTextModelFieldGetTextInvocationResult(
+                @NotNull final MethodVisitor method,
+                @NotNull final String internalClassName,
+                @NotNull final String fieldName,
+                @NotNull final DynamicValueType valueType) {
             // Get value of field storing dynamic value
-            method.visitFieldInsn(GETSTATIC, internalClassName, fieldName, TEXT_MODEL_DESCRIPTOR);
+            method.visitFieldInsn(GETSTATIC, internalClassName, fieldName, valueType.textModelDescriptor);
             // Push target
             method.visitVarInsn(ALOAD, 1);
-            // Invoke `TextModel.getText(T)` on field's value
+            // Invoke `TextModel.getText(T)` (or its primitive specialization) on field's value
+            method.visitMethodInsn(
+                    INVOKEINTERFACE, valueType.textModelInternalName, valueType.getterMethodName,
+                    valueType.getterMethodDescriptor, true
+            );
+        }
+
+        /**
+         * Adds a field storing the dynamic node's text model and adds code to the method so that it pushes its value.
+         *
+         * @param clazz class to which the field should be added
+         * @param internalClassName internal name of this class
+         * @param staticInitializer static initializer block
+         * @param method method visitor through which the code should be updated
+         * @param fieldName name of the field to store the text model
+         * @param node dynamic node whose value should be pushed
+         * @param primitiveValueAllowed {@code true} if the value may be pushed as a primitive
+         * and {@code false} if it should always be pushed as a {@link String string}
+         */
+        protected static void asm$addDynamicNodeValue(@NotNull final ClassVisitor clazz,
+                                                      @NotNull final String internalClassName,
+                                                      @NotNull final MethodVisitor staticInitializer,
+                                                      @NotNull final MethodVisitor method,
+                                                      @NotNull final String fieldName,
+                                                      @NotNull final Node.DynamicNode<?> node,
+                                                      final boolean primitiveValueAllowed) {
+            asm$addDynamicValue(
+                    clazz, internalClassName, staticInitializer, method, fieldName, node.getContent(),
+                    primitiveValueAllowed ? node.getValueType() : DynamicValueType.STRING
+            );
+        }
+
+        /**
+         * Adds a field storing the text model and adds code to the method so that it pushes its value.
+         * {@link ChoiceTextModel Choice text models} whose value is {@link DynamicValueType#STRING a string}
+         * get compiled into a separate method (see {@link #asm$addChoiceMethod(ClassVisitor, String, MethodVisitor,
+         * String, ChoiceTextModel)}) which gets invoked instead.
+         *
+         * @param clazz class to which the field should be added
+         * @param internalClassName internal name of this class
+         * @param staticInitializer static initializer block
+         * @param method method visitor through which the code should be updated
+         * @param fieldName name of the field to store the text model
+         * @param content text model whose value should be pushed
+         * @param valueType type of the value which should be pushed
+         */
+        protected static void asm$addDynamicValue(@NotNull final ClassVisitor clazz,
+                                                  @NotNull final String internalClassName,
+                                                  @NotNull final MethodVisitor staticInitializer,
+                                                  @NotNull final MethodVisitor method,
+                                                  @NotNull final String fieldName,
+                                                  @NotNull final TextModel<?> content,
+                                                  @NotNull final DynamicValueType valueType) {
+            if (valueType == DynamicValueType.STRING && content instanceof ChoiceTextModel) {
+                asm$addChoiceMethod(
+                        clazz, internalClassName, staticInitializer, fieldName, (ChoiceTextModel<?>) content
+                );
+                // Push target
+                method.visitVarInsn(ALOAD, 1);
+                // Invoke the generated method (named the same as the field)
+                method.visitMethodInsn(
+                        INVOKESTATIC, internalClassName, fieldName, STRING_OBJECT_METHOD_DESCRIPTOR, false
+                );
+            } else {
+                asm$addStaticFieldWithInitializer(
+                        clazz, internalClassName, staticInitializer, fieldName, content, valueType
+                );
+                asm$pushStaticTextModelFieldGetTextInvocationResult(method, internalClassName, fieldName, valueType);
+            }
+        }
+
+        /**
+         * Adds a field storing the {@link ChoiceTextModel choice text model} and a {@code private static} method
+         * of the same name accepting the target and returning the text of the option chosen for it.
+         * <p>
+         * The generated method is a {@code tableswitch} on the result of {@link ChoiceTextModel#choose(Object)}
+         * whose branches return the texts of static options as constants and invoke {@link TextModel#getText(Object)}
+         * of dynamic options stored in their own fields ({@code <fieldName>_<optionIndex>}).
+         * Indices out of bounds are handled by the list of the choice text model's options.
+         *
+         * @param clazz class to which the field and the method should be added
+         * @param internalClassName internal name of this class
+         * @param staticInitializer static initializer block
+         * @param fieldName name of the field to store the choice text model and of the generated method
+         * @param choice choice text model which should be compiled
+         */
+        protected static void asm$addChoiceMethod(@NotNull final ClassVisitor clazz,
+                                                  @NotNull final String internalClassName,
+                                                  @NotNull final MethodVisitor staticInitializer,
+                                                  @NotNull final String fieldName,
+                                                  @NotNull final ChoiceTextModel<?> choice) {
+            asm$addStaticFieldWithInitializer(
+                    clazz, internalClassName, staticInitializer, fieldName, choice,
+                    CHOICE_TEXT_MODEL_INTERNAL_NAME, CHOICE_TEXT_MODEL_DESCRIPTOR, CHOICE_TEXT_MODEL_SIGNATURE
+            );
+
+            val method = clazz.visitMethod(
+                    ACC_PRIVATE | ACC_STATIC, fieldName, STRING_OBJECT_METHOD_DESCRIPTOR, null, null
+            );
+            method.visitCode();
+
+            // Choose the option
+            method.visitFieldInsn(GETSTATIC, internalClassName, fieldName, CHOICE_TEXT_MODEL_DESCRIPTOR);
+            method.visitVarInsn(ALOAD, 0);
+            method.visitMethodInsn(
+                    INVOKEINTERFACE, CHOICE_TEXT_MODEL_INTERNAL_NAME, CHOOSE_METHOD_NAME,
+                    INT_OBJECT_METHOD_DESCRIPTOR, true
+            );
+
+            // the index is stored so that the default branch does not choose the option again
+            method.visitInsn(DUP);
+            method.visitVarInsn(ISTORE, 1);
+
+            final List<? extends TextModel<?>> options = choice.getOptions();
+            val optionCount = options.size();
+            val optionLabels = new Label[optionCount];
+            for (var i = 0; i < optionCount; i++) optionLabels[i] = new Label();
+            val defaultLabel = new Label();
+            method.visitTableSwitchInsn(0, optionCount - 1, defaultLabel, optionLabels);
+
+            for (var i = 0; i < optionCount; i++) {
+                method.visitLabel(optionLabels[i]);
+                // each branch starts with the locals of the method [target + index] and an empty stack
+                if (i == 0) method.visitFrame(F_APPEND, 1, new Object[]{INTEGER}, 0, null);
+                else method.visitFrame(F_SAME, 0, null, 0, null);
+
+                val option = options.get(i);
+                if (option.isDynamic()) {
+                    val optionFieldName = fieldName + '_' + i;
+                    asm$addStaticFieldWithInitializer(
+                            clazz, internalClassName, staticInitializer, optionFieldName, option
+                    );
+                    method.visitFieldInsn(GETSTATIC, internalClassName, optionFieldName, TEXT_MODEL_DESCRIPTOR);
+                    method.visitVarInsn(ALOAD, 0);
+                    method.visitMethodInsn(
+                            INVOKEINTERFACE, TEXT_MODEL_INTERNAL_NAME, GET_TEXT_METHOD_NAME,
+                            STRING_OBJECT_METHOD_DESCRIPTOR, true
+                    );
+                } else method.visitLdcInsn(option.getText(null)); // inline static text
+
+                method.visitInsn(ARETURN);
+            }
+
+            // let the options of the choice text model handle unexpected index themselves
+            method.visitLabel(defaultLabel);
+            method.visitFrame(F_SAME, 0, null, 0, null);
+            method.visitFieldInsn(GETSTATIC, internalClassName, fieldName, CHOICE_TEXT_MODEL_DESCRIPTOR);
+            method.visitMethodInsn(
+                    INVOKEINTERFACE, CHOICE_TEXT_MODEL_INTERNAL_NAME, GET_OPTIONS_METHOD_NAME,
+                    LIST_METHOD_DESCRIPTOR, true
+            );
+            method.visitVarInsn(ILOAD, 1);
+            method.visitMethodInsn(
+                    INVOKEINTERFACE, LIST_INTERNAL_NAME, GET_METHOD_NAME, OBJECT_INT_METHOD_DESCRIPTOR, true
+            );
+            method.visitTypeInsn(CHECKCAST, TEXT_MODEL_INTERNAL_NAME);
+            method.visitVarInsn(ALOAD, 0);
             method.visitMethodInsn(
                     INVOKEINTERFACE, TEXT_MODEL_INTERNAL_NAME, GET_TEXT_METHOD_NAME,
                     STRING_OBJECT_METHOD_DESCRIPTOR, true
             );
+            method.visitInsn(ARETURN);
+
+            method.visitMaxs(2, 2 /* [target + index] */);
+            method.visitEnd();
         }
 
         /**
@@ -1023,7 +1415,23 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
         }
 
         /**
-         * Adds code to the method so that it invokes {@link StringBuilder#append(String)}.
+         * Adds code to the method so that it invokes {@link StringBuilder}{@code .append(}<i>?</i>{@code )}
+         * corresponding to the given value type.
+         *
+         * @param method method visitor through which the code should be updated
+         * @param valueType type of the value on the top of the stack
+         */
+        protected static void asm$invokeStringBuilderAppend(@NotNull final MethodVisitor method,
+                                                            @NotNull final DynamicValueType valueType) {
+            // Invoke `StringBuilder.append(?)`
+            method.visitMethodInsn(
+                    INVOKEVIRTUAL, STRING_BUILDER_INTERNAL_NAME,
+                    APPEND_METHOD_NAME, valueType.stringBuilderAppendMethodDescriptor, false
+            );
+        }
+
+        /**
+         * Adds code to the method so that it invokes {@link StringBuilder#append(char)}.
          *
          * @param method method visitor through which the code should be updated
          */
@@ -1037,7 +1445,7 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
 
         /**
          * Adds a {@code static final} field of type {@link TextModel} initialized via static-initializer block invoking
-         * {@link #internal$getDynamicTextModel(String)} to the class.
+         * {@link #internal$getDynamicTextModel(int)} to the class.
          *
          * @param clazz class to which the field should be added
          * @param internalClassName internal name of this class
@@ -1050,23 +1458,77 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                                                                 @NotNull final MethodVisitor staticInitializer,
                                                                 @NotNull final String fieldName,
                                                                 @NotNull final TextModel value) {
+            asm$addStaticFieldWithInitializer(
+                    clazz, internalClassName, staticInitializer, fieldName, value, DynamicValueType.STRING
+            );
+        }
+
+        /**
+         * Adds a {@code static final} field of the text model type corresponding to the given value type
+         * initialized via static-initializer block invoking {@link #internal$getDynamicTextModel(int)}
+         * to the class.
+         *
+         * @param clazz class to which the field should be added
+         * @param internalClassName internal name of this class
+         * @param staticInitializer static initializer block
+         * @param fieldName name of the field to store value
+         * @param value value of the field (dynamic text model)
+         * @param valueType type of the value provided by the text model
+         */
+        protected static void asm$addStaticFieldWithInitializer(@NotNull final ClassVisitor clazz,
+                                                                @NotNull final String internalClassName,
+                                                                @NotNull final MethodVisitor staticInitializer,
+                                                                @NotNull final String fieldName,
+                                                                @NotNull final TextModel value,
+                                                                @NotNull final DynamicValueType valueType) {
+            asm$addStaticFieldWithInitializer(
+                    clazz, internalClassName, staticInitializer, fieldName, value,
+                    valueType.textModelInternalName, valueType.textModelDescriptor, valueType.textModelSignature
+            );
+        }
+
+        /**
+         * Adds a {@code static final} field of the given text model type
+         * initialized via static-initializer block invoking {@link #internal$getDynamicTextModel(int)}
+         * to the class.
+         *
+         * @param clazz class to which the field should be added
+         * @param internalClassName internal name of this class
+         * @param staticInitializer static initializer block
+         * @param fieldName name of the field to store value
+         * @param value value of the field (dynamic text model)
+         * @param fieldTypeInternalName internal name of the field's type
+         * @param fieldDescriptor descriptor of the field's type
+         * @param fieldSignature generic signature of the field's type
+         */
+        protected static void asm$addStaticFieldWithInitializer(@NotNull final ClassVisitor clazz,
+                                                                @NotNull final String internalClassName,
+                                                                @NotNull final MethodVisitor staticInitializer,
+                                                                @NotNull final String fieldName,
+                                                                @NotNull final TextModel value,
+                                                                @NotNull final String fieldTypeInternalName,
+                                                                @NotNull final String fieldDescriptor,
+                                                                @NotNull final String fieldSignature) {
             // add field
             clazz.visitField(
                     OPCODES_ACC_PUBLIC_STATIC_FINAL /* less access checks & possible JIT folding */,
-                    fieldName, TEXT_MODEL_DESCRIPTOR /* field type is TextModel<T> */,
-                    TEXT_MODEL_SIGNATURE, null /* no default value [*] */
+                    fieldName, fieldDescriptor /* field type is TextModel<T> or its specialization */,
+                    fieldSignature, null /* no default value [*] */
             ).visitEnd();
 
             // push unique key
-            staticInitializer.visitLdcInsn(DYNAMIC_MODELS.storeValue(value));
-            // invoke `TextModel internal$getDynamicTextModel(String)`
+            pushInt(staticInitializer, DYNAMIC_MODELS.store(value));
+            // invoke `TextModel internal$getDynamicTextModel(int)`
             staticInitializer.visitMethodInsn(
                     INVOKESTATIC, TEXT_MODEL_BUILDER_INTERNAL_NAME,
-                    INTERNAL_GET_DYNAMIC_TEXT_MODEL_METHOD_NAME, TEXT_MODEL_STRING_METHOD_SIGNATURE, false
+                    INTERNAL_GET_DYNAMIC_TEXT_MODEL_METHOD_NAME, TEXT_MODEL_INT_METHOD_SIGNATURE, false
             );
+            // make the value of the specialized type
+            if (!fieldTypeInternalName.equals(TEXT_MODEL_INTERNAL_NAME)) staticInitializer
+                    .visitTypeInsn(CHECKCAST, fieldTypeInternalName);
 
             // set the field to the computed value
-            staticInitializer.visitFieldInsn(PUTSTATIC, internalClassName, fieldName, TEXT_MODEL_DESCRIPTOR);
+            staticInitializer.visitFieldInsn(PUTSTATIC, internalClassName, fieldName, fieldDescriptor);
         }
 
         /**
@@ -1154,6 +1616,17 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
                  */
                 @NotNull final TextModel<T> content;
 
+                /**
+                 * Type of the value provided by this node's content
+                 */
+                @NotNull final DynamicValueType valueType;
+
+                public DynamicNode(@NonNull final TextModel<T> content) {
+                    this.content = content;
+
+                    valueType = DynamicValueType.of(content);
+                }
+
                 @Override
                 public boolean isDynamic() {
                     return true;
@@ -1191,6 +1664,17 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
         @Contract(pure = true)
         StringConcatFactoryAlgorithm stringConcatFactoryAlgorithm();
 
+        /**
+         * Gets the pool of static texts used by the configured {@link TextModelBuilder text model builder}.
+         * By default, static texts are not pooled.
+         *
+         * @return pool of static texts or {@code null} if static texts should not be pooled
+         */
+        @Contract(pure = true)
+        @Nullable default StaticTextPool staticTextPool() {
+            return null;
+        }
+
         enum StringConcatFactoryAlgorithm {
             //TREE,
             VECTOR
@@ -1245,5 +1729,10 @@ public class AsmTextModelFactory<T, C extends AsmTextModelFactory.Configuration>
          */
         @Builder.Default StringConcatFactoryAlgorithm stringConcatFactoryAlgorithm
                 = StringConcatFactoryAlgorithm.VECTOR;
+
+        /**
+         * Pool of static texts, {@code null} if static texts should not be pooled
+         */
+        @Nullable StaticTextPool staticTextPool;
     }
 }
@@ -0,0 +1,170 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link TextModel Text model} decorator memoizing the texts of the wrapped text model per target.
+ * <p>
+ * This is useful for dynamic text models which are expensive to compute but rarely change for the same target
+ * (such as permission-derived prefixes or formatted names). As this is a text model itself
+ * it may be appended to any {@link TextModelFactory.TextModelBuilder text model builder}.
+ * <p>
+ * Targets are held weakly and compared by identity ({@code ==}) so that cached texts do not prevent targets
+ * from being garbage-collected. Texts for {@code null} targets are never cached.
+ *
+ * @param <T> type of object according to which the text model is formatted
+ *
+ * @see Decorator decorator creating instances of this class
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class CachingTextModel<T> implements TextModel<T> {
+
+    /**
+     * Text model whose texts get cached
+     */
+    @Getter @NonNull TextModel<T> textModel;
+
+    /**
+     * Cache of texts by their targets
+     */
+    @ToString.Exclude @NonNull Cache<T, String> cache;
+
+    /**
+     * Creates a new {@link Decorator decorator} creating caching text models.
+     *
+     * @return new decorator with no eviction configured and statistics recording enabled
+     */
+    @NotNull public static Decorator decorator() {
+        return Decorator.builder().build();
+    }
+
+    @Override
+    @NotNull public String getText(final T target) {
+        if (target == null) return textModel.getText(null);
+
+        try {
+            return cache.get(target, () -> textModel.getText(target));
+        } catch (final ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            // rethrow the exception thrown by the text model itself
+            val cause = e.getCause();
+            Throwables.throwIfUnchecked(cause);
+            throw new IllegalStateException("Text model has thrown an unexpected exception", cause);
+        }
+    }
+
+    @Override
+    @Contract(pure = true)
+    public boolean isDynamic() {
+        return textModel.isDynamic();
+    }
+
+    @Override
+    @NotNull public OptionalInt getMinLength() {
+        return textModel.getMinLength();
+    }
+
+    @Override
+    @NotNull public OptionalInt getMaxLength() {
+        return textModel.getMaxLength();
+    }
+
+    /**
+     * Invalidates the text cached for the given target so that it will be recomputed on next access.
+     *
+     * @param target target whose cached text should be invalidated
+     */
+    public void invalidate(@NonNull final T target) {
+        cache.invalidate(target);
+    }
+
+    /**
+     * Invalidates all cached texts so that they will be recomputed on next access.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Gets the approximate amount of currently cached texts.
+     *
+     * @return approximate amount of cached texts
+     */
+    public long cachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Gets the statistics of this text model's cache.
+     *
+     * @return snapshot of the cache statistics, all of its values are {@code 0}
+     * if {@link Decorator#recordStats statistics recording} is disabled
+     */
+    @NotNull public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Gets the ratio of cache hits to all calls to {@link #getText(Object)} with non-null targets.
+     *
+     * @return hit rate of this text model's cache being {@code 1.0} if there were no such calls
+     */
+    public double hitRate() {
+        return cache.stats().hitRate();
+    }
+
+    /**
+     * Decorator creating {@link CachingTextModel caching text models} with the same cache configuration.
+     */
+    @Value
+    @Builder
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Decorator {
+
+        /**
+         * Duration after which the cached text expires since it was computed, {@code null} if it should not expire
+         */
+        @Nullable Duration expireAfterWrite;
+
+        /**
+         * Maximal amount of texts cached by a single text model, negative if it is unlimited
+         */
+        @Builder.Default long maximumSize = -1;
+
+        /**
+         * Marker indicating whether the created text models should record their cache statistics
+         */
+        @Builder.Default boolean recordStats = true;
+
+        /**
+         * Decorates the given text model making it cache its texts per target.
+         *
+         * @param textModel text model to decorate
+         * @param <T> type of object according to which the text model is formatted
+         * @return caching text model delegating to the given one
+         */
+        @NotNull public <T> CachingTextModel<T> decorate(@NonNull final TextModel<T> textModel) {
+            val cacheBuilder = CacheBuilder.newBuilder().weakKeys();
+            if (expireAfterWrite != null) cacheBuilder.expireAfterWrite(expireAfterWrite);
+            if (maximumSize >= 0) cacheBuilder.maximumSize(maximumSize);
+            if (recordStats) cacheBuilder.recordStats();
+
+            return new CachingTextModel<>(textModel, cacheBuilder.<T, String>build());
+        }
+    }
+}
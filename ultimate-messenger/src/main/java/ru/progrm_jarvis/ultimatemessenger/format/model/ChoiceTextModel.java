@@ -0,0 +1,178 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import lombok.val;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * {@link TextModel Text model} whose text is the text of one of its options chosen for the target.
+ * <p>
+ * Generating {@link TextModelFactory text model factories} recognize this type and compile the choice into branches
+ * having the texts of static options inlined so that no option's {@link TextModel text model} gets invoked for those.
+ *
+ * @param <T> type of object according to which the text model is formatted
+ */
+public interface ChoiceTextModel<T> extends TextModel<T> {
+
+    /**
+     * Chooses the option which should be used for the given target.
+     *
+     * @param target object according to which the option is chosen
+     * @return index of the chosen option in {@link #getOptions() options}
+     */
+    int choose(T target);
+
+    /**
+     * Gets the options of this text model.
+     *
+     * @return non-empty unmodifiable list of options of this text model
+     */
+    @NotNull List<TextModel<T>> getOptions();
+
+    @Override
+    @NotNull default String getText(final T target) {
+        return getOptions().get(choose(target)).getText(target);
+    }
+
+    /**
+     * Creates a new choice text model.
+     *
+     * @param chooser function choosing the index of the option for the target
+     * @param options options of the text model
+     * @param <T> type of object according to which the text model is formatted
+     * @return created choice text model
+     *
+     * @throws IllegalArgumentException if there are no options
+     */
+    @NotNull static <T> ChoiceTextModel<T> of(@NonNull final ToIntFunction<T> chooser,
+                                              @NonNull final List<TextModel<T>> options) {
+        checkArgument(!options.isEmpty(), "There should be at least one option");
+
+        return new SimpleChoiceTextModel<>(chooser, Collections.unmodifiableList(new ArrayList<>(options)));
+    }
+
+    /**
+     * Creates a new choice text model between two options depending on the condition.
+     *
+     * @param condition condition tested on the target
+     * @param whenTrue option used when the condition is met
+     * @param whenFalse option used when the condition is not met
+     * @param <T> type of object according to which the text model is formatted
+     * @return created choice text model
+     */
+    @SuppressWarnings("unchecked") // generic varargs
+    @NotNull static <T> ChoiceTextModel<T> conditional(@NonNull final Predicate<T> condition,
+                                                       @NonNull final TextModel<T> whenTrue,
+                                                       @NonNull final TextModel<T> whenFalse) {
+        return of(target -> condition.test(target) ? 0 : 1, Arrays.asList(whenTrue, whenFalse));
+    }
+
+    /**
+     * Creates a new choice text model between the plural forms depending on the number.
+     *
+     * @param number function computing the number from the target
+     * @param rule plural rule used to choose the form
+     * @param forms plural forms in order of the rule's forms
+     * @param <T> type of object according to which the text model is formatted
+     * @return created choice text model
+     *
+     * @throws IllegalArgumentException if the amount of forms differs from the amount of the rule's forms
+     */
+    @NotNull static <T> ChoiceTextModel<T> plural(@NonNull final ToLongFunction<T> number,
+                                                  @NonNull final PluralRule rule,
+                                                  @NonNull final List<TextModel<T>> forms) {
+        checkArgument(
+                forms.size() == rule.getFormCount(),
+                "Plural rule %s requires %s forms but %s were given", rule, rule.getFormCount(), forms.size()
+        );
+
+        return of(target -> rule.getForm(number.applyAsLong(target)), forms);
+    }
+
+    /**
+     * Simple implementation of {@link ChoiceTextModel}.
+     *
+     * @param <T> type of object according to which the text model is formatted
+     */
+    @ToString
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    final class SimpleChoiceTextModel<T> implements ChoiceTextModel<T> {
+
+        /**
+         * Function choosing the index of the option for the target
+         */
+        @NonNull ToIntFunction<T> chooser;
+
+        /**
+         * Options of this text model
+         */
+        @NonNull List<TextModel<T>> options;
+
+        /**
+         * Minimal length of this text model's text (minimal among options)
+         */
+        @ToString.Exclude @SuppressWarnings("OptionalUsedAsFieldOrParameterType") @NonNull OptionalInt minLength,
+        /**
+         * Maximal length of this text model's text (maximal among options)
+         */
+        maxLength;
+
+        private SimpleChoiceTextModel(@NotNull final ToIntFunction<T> chooser,
+                                      @NotNull final List<TextModel<T>> options) {
+            this.chooser = chooser;
+            this.options = options;
+
+            int minLength = Integer.MAX_VALUE, maxLength = 0;
+            boolean minLengthKnown = true, maxLengthKnown = true;
+            for (val option : options) {
+                val optionMinLength = option.getMinLength();
+                if (optionMinLength.isPresent()) minLength = Math.min(minLength, optionMinLength.getAsInt());
+                else minLengthKnown = false;
+
+                val optionMaxLength = option.getMaxLength();
+                if (optionMaxLength.isPresent()) maxLength = Math.max(maxLength, optionMaxLength.getAsInt());
+                else maxLengthKnown = false;
+            }
+            this.minLength = minLengthKnown ? OptionalInt.of(minLength) : OptionalInt.empty();
+            this.maxLength = maxLengthKnown ? OptionalInt.of(maxLength) : OptionalInt.empty();
+        }
+
+        @Override
+        public int choose(final T target) {
+            return chooser.applyAsInt(target);
+        }
+
+        @Override
+        @Contract(pure = true)
+        @NotNull public List<TextModel<T>> getOptions() {
+            return options;
+        }
+
+        @Override
+        @Contract(pure = true)
+        @NotNull public OptionalInt getMinLength() {
+            return minLength;
+        }
+
+        @Override
+        @Contract(pure = true)
+        @NotNull public OptionalInt getMaxLength() {
+            return maxLength;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalInt;
+
+/**
+ * {@link TextModel Text model} whose text is a {@code double} value computed for the target.
+ * <p>
+ * Generating {@link TextModelFactory text model factories} recognize this type and write the value
+ * straight into the resulting text without boxing it and creating an intermediate {@link String string}.
+ *
+ * @param <T> type of object according to which the text model is formatted
+ */
+@FunctionalInterface
+public interface DoubleTextModel<T> extends TextModel<T> {
+
+    /**
+     * Minimal length of {@code double} value's text (such as {@code "0.0"})
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType") OptionalInt DOUBLE_MIN_LENGTH = OptionalInt.of(3);
+
+    /**
+     * Gets the {@code double} value formatted for the given target.
+     *
+     * @param target object according to which the value is computed
+     * @return value whose text is the text of this text model for the given target
+     */
+    double getDouble(T target);
+
+    @Override
+    @NotNull default String getText(final T target) {
+        return Double.toString(getDouble(target));
+    }
+
+    @Override
+    @Contract(pure = true)
+    @NotNull default OptionalInt getMinLength() {
+        return DOUBLE_MIN_LENGTH;
+    }
+}
@@ -0,0 +1,52 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalInt;
+
+/**
+ * {@link TextModel Text model} whose text is a {@code int} value computed for the target.
+ * <p>
+ * Generating {@link TextModelFactory text model factories} recognize this type and write the value
+ * straight into the resulting text without boxing it and creating an intermediate {@link String string}.
+ *
+ * @param <T> type of object according to which the text model is formatted
+ */
+@FunctionalInterface
+public interface IntTextModel<T> extends TextModel<T> {
+
+    /**
+     * Minimal length of {@code int} value's text (single digit)
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType") OptionalInt INT_MIN_LENGTH = OptionalInt.of(1),
+    /**
+     * Maximal length of {@code int} value's text (of {@link Integer#MIN_VALUE})
+     */
+    INT_MAX_LENGTH = OptionalInt.of(11);
+
+    /**
+     * Gets the {@code int} value formatted for the given target.
+     *
+     * @param target object according to which the value is computed
+     * @return value whose text is the text of this text model for the given target
+     */
+    int getInt(T target);
+
+    @Override
+    @NotNull default String getText(final T target) {
+        return Integer.toString(getInt(target));
+    }
+
+    @Override
+    @Contract(pure = true)
+    @NotNull default OptionalInt getMinLength() {
+        return INT_MIN_LENGTH;
+    }
+
+    @Override
+    @Contract(pure = true)
+    @NotNull default OptionalInt getMaxLength() {
+        return INT_MAX_LENGTH;
+    }
+}
@@ -4,6 +4,7 @@ import javassist.*;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.javacommons.annotation.Internal;
 import ru.progrm_jarvis.javacommons.bytecode.BytecodeLibrary;
 import ru.progrm_jarvis.javacommons.bytecode.annotation.UsesBytecodeModification;
@@ -21,11 +22,14 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
+import java.util.List;
 
 /**
  * Implementation of {@link TextModelFactory text model factory} which uses runtime class generation.
  */
+@ToString
 @UsesBytecodeModification(BytecodeLibrary.JAVASSIST)
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
 public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
 
     /**
@@ -45,9 +49,31 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
         return (JavassistTextModelFactory<T>) INSTANCE.get();
     }
 
+    /**
+     * Pool of static texts used by created text model builders, {@code null} if static texts should not be pooled
+     */
+    @Nullable StaticTextPool staticTextPool;
+
+    /**
+     * Instantiates a new Javassist-based text model factory not pooling static texts.
+     */
+    public JavassistTextModelFactory() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new Javassist-based text model factory.
+     *
+     * @param staticTextPool pool of static texts used by created text model builders,
+     * {@code null} if static texts should not be pooled
+     */
+    public JavassistTextModelFactory(@Nullable final StaticTextPool staticTextPool) {
+        this.staticTextPool = staticTextPool;
+    }
+
     @Override
     public TextModelFactory.TextModelBuilder<T> newBuilder() {
-        return new TextModelBuilder<>();
+        return new TextModelBuilder<>(staticTextPool);
     }
 
     /**
@@ -69,6 +95,15 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
          */
         protected static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
+        /**
+         * Instantiates a new text model builder.
+         *
+         * @param staticTextPool pool of static texts used by this builder, may be {@code null}
+         */
+        protected TextModelBuilder(@Nullable final StaticTextPool staticTextPool) {
+            super(staticTextPool);
+        }
+
         @Override
         @NotNull protected Node<T, StaticNode<T>, DynamicNode<T>> newStaticNode(@NotNull final String text) {
             return new SimpleStaticNode<>(text);
@@ -111,6 +146,25 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
             }
         });
 
+        /**
+         * Lazily initialized {@link CtClass compile-time class} of {@link IntTextModel int text model}
+         */
+        private static Lazy<CtClass> INT_TEXT_MODEL_CT_CLASS = Lazy.createThreadSafe(
+                () -> javassist$getCtClass(IntTextModel.class)
+        ),
+        /**
+         * Lazily initialized {@link CtClass compile-time class} of {@link LongTextModel long text model}
+         */
+        LONG_TEXT_MODEL_CT_CLASS = Lazy.createThreadSafe(() -> javassist$getCtClass(LongTextModel.class)),
+        /**
+         * Lazily initialized {@link CtClass compile-time class} of {@link DoubleTextModel double text model}
+         */
+        DOUBLE_TEXT_MODEL_CT_CLASS = Lazy.createThreadSafe(() -> javassist$getCtClass(DoubleTextModel.class)),
+        /**
+         * Lazily initialized {@link CtClass compile-time class} of {@link ChoiceTextModel choice text model}
+         */
+        CHOICE_TEXT_MODEL_CT_CLASS = Lazy.createThreadSafe(() -> javassist$getCtClass(ChoiceTextModel.class));
+
         /**
          * Result of {@link Modifier#PUBLIC}, {@link Modifier#STATIC} and {@link Modifier#FINAL} flags disjunction
          */
@@ -138,6 +192,56 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
             return DYNAMIC_MODELS.retrieveValue(uniqueKey);
         }
 
+        /**
+         * Gets the {@link CtClass compile-time class} of the given class.
+         *
+         * @param clazz class whose compile-time class should be got
+         * @return compile-time class of the given class
+         *
+         * @throws IllegalStateException if the compile-time class cannot be found
+         */
+        private static CtClass javassist$getCtClass(@NotNull final Class<?> clazz) {
+            val className = clazz.getCanonicalName();
+            try {
+                return CLASS_POOL.get().getCtClass(className);
+            } catch (final NotFoundException e) {
+                throw new IllegalStateException("Unable to get CtClass by name " + className);
+            }
+        }
+
+        /**
+         * Gets the {@link CtClass compile-time class} of the most specific type of the text model
+         * known to this text model builder.
+         *
+         * @param textModel text model whose compile-time type should be got
+         * @return compile-time type of the given text model
+         */
+        private static CtClass javassist$getTextModelCtClass(@NotNull final TextModel<?> textModel) {
+            if (textModel instanceof IntTextModel) return INT_TEXT_MODEL_CT_CLASS.get();
+            if (textModel instanceof LongTextModel) return LONG_TEXT_MODEL_CT_CLASS.get();
+            if (textModel instanceof DoubleTextModel) return DOUBLE_TEXT_MODEL_CT_CLASS.get();
+            if (textModel instanceof ChoiceTextModel) return CHOICE_TEXT_MODEL_CT_CLASS.get();
+
+            return TEXT_MODEL_CT_CLASS.get();
+        }
+
+        /**
+         * Gets the name of the text model's method which should be used to get its value.
+         *
+         * @param textModel text model whose method should be got
+         * @return name of the method which should be invoked on the text model to get its value
+         *
+         * @implNote primitive values are appended via corresponding {@link StringBuilder} methods
+         * so that no intermediate {@link String string} gets created
+         */
+        private static String javassist$getValueMethodName(@NotNull final TextModel<?> textModel) {
+            if (textModel instanceof IntTextModel) return "getInt";
+            if (textModel instanceof LongTextModel) return "getLong";
+            if (textModel instanceof DoubleTextModel) return "getDouble";
+
+            return "getText";
+        }
+
         @Override
         @NotNull public TextModel<T> performTextModelBuild(final boolean release) {
             val clazz = CLASS_POOL.get().makeClass(CLASS_NAMING_STRATEGY.get());
@@ -157,33 +261,32 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
                 val staticLength = this.staticLength;
                 if (staticLength == 0) { // constructor StringBuilder from the first object
                     // only dynamic elements (yet, there are multiple of those)
-                    String fieldName = GENERATED_FIELD_NAME_PREFIX + 0;
-                    src = new StringBuilder("public String getText(Object t){return new StringBuilder(")
-                            .append(fieldName).append(".getText(t))");
-
                     val iterator = nodes.iterator();
 
-                    javassist$addStaticFieldWithInitializer(clazz, fieldName, iterator.next().asDynamic().getContent());
+                    src = new StringBuilder("public String getText(Object t){return new StringBuilder(")
+                            .append(javassist$addDynamicValue( // value of the first node should be a String
+                                    clazz, GENERATED_FIELD_NAME_PREFIX + 0,
+                                    iterator.next().asDynamic().getContent(), false
+                            )).append(')');
+
                     // dynamic elements count is at least 2
                     var index = 0;
-                    while (iterator.hasNext()) {
-                        fieldName = GENERATED_FIELD_NAME_PREFIX + (++index);
-                        javassist$addStaticFieldWithInitializer(
-                                clazz, fieldName, iterator.next().asDynamic().getContent()
-                        );
-                        src.append(".append(").append(fieldName).append(".getText(t))"); // .append(d#.getText(t))
-                    }
+                    while (iterator.hasNext()) src.append(".append(").append(javassist$addDynamicValue(
+                            clazz, GENERATED_FIELD_NAME_PREFIX + (++index),
+                            iterator.next().asDynamic().getContent(), true
+                    )).append(')'); // .append(d#.get?(t))
                 } else {
                     src = new StringBuilder(
                             "public String getText(Object t){return new StringBuilder("
                     ).append(staticLength + minDynamicLength).append(')');
                     // there are static elements
                     int dynamicIndex = -1;
-                    for (val element : nodes) if (element.isDynamic()) {
-                        val fieldName = GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex);
-                        javassist$addStaticFieldWithInitializer(clazz, fieldName, element.asDynamic().getContent());
-                        src.append(".append(").append(fieldName).append(".getText(t))"); // .append(d#.getText(t))
-                    } else {
+                    for (val element : nodes) if (element.isDynamic()) src.append(".append(")
+                            .append(javassist$addDynamicValue(
+                                    clazz, GENERATED_FIELD_NAME_PREFIX + (++dynamicIndex),
+                                    element.asDynamic().getContent(), true
+                            )).append(')'); // .append(d#.get?(t))
+                    else {
                         val staticText = element.asStatic().getText();
                         if (staticText.length() == 1) { // handle single char String as a char
                             val character = staticText.charAt(0);
@@ -219,8 +322,79 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
         }
 
         /**
-         * Adds a {@code static final} field of type {@link TextModel} initialized via static-initializer block
-         * invoking {@link #internal$getDynamicTextModel(String)} to the class.
+         * Adds a {@code static final} field storing the text model and creates an expression computing its value.
+         * {@link ChoiceTextModel Choice text models} get compiled into a separate method (see {@link
+         * #javassist$addChoiceMethod(CtClass, String, ChoiceTextModel)}) which gets invoked instead.
+         *
+         * @param clazz class to which the field should be added
+         * @param fieldName name of the field to store the text model
+         * @param content text model whose value should be computed by the expression
+         * @param primitiveValueAllowed {@code true} if the value may be primitive
+         * and {@code false} if it should always be a {@link String string}
+         * @return expression computing the value of the text model for the target {@code t}
+         */
+        protected static String javassist$addDynamicValue(@NotNull final CtClass clazz,
+                                                          @NotNull final String fieldName,
+                                                          @NotNull final TextModel<?> content,
+                                                          final boolean primitiveValueAllowed) {
+            javassist$addStaticFieldWithInitializer(clazz, fieldName, content);
+
+            // primitive specializations take precedence over the choice
+            if (javassist$getTextModelCtClass(content) == CHOICE_TEXT_MODEL_CT_CLASS.get()) {
+                javassist$addChoiceMethod(clazz, fieldName, (ChoiceTextModel<?>) content);
+
+                return fieldName + "(t)"; // d#(t)
+            }
+
+            return fieldName + '.' + (primitiveValueAllowed ? javassist$getValueMethodName(content) : "getText")
+                    + "(t)"; // d#.get?(t)
+        }
+
+        /**
+         * Adds a {@code private static} method of the given name accepting the target
+         * and returning the text of the {@link ChoiceTextModel choice text model's} option chosen for it.
+         * Texts of static options are inlined as constants while dynamic options are stored
+         * in their own fields ({@code <fieldName>_<optionIndex>}).
+         * Indices out of bounds are handled by the list of the choice text model's options.
+         *
+         * @param clazz class to which the method should be added
+         * @param fieldName name of the field storing the choice text model and of the generated method
+         * @param choice choice text model which should be compiled
+         */
+        protected static void javassist$addChoiceMethod(@NotNull final CtClass clazz,
+                                                        @NotNull final String fieldName,
+                                                        @NotNull final ChoiceTextModel<?> choice) {
+            val src = new StringBuilder("private static String ").append(fieldName)
+                    .append("(Object t){int i=").append(fieldName).append(".choose(t);");
+
+            final List<? extends TextModel<?>> options = choice.getOptions();
+            val optionCount = options.size();
+            for (var i = 0; i < optionCount; i++) {
+                src.append("if(i==").append(i).append(")return ");
+
+                val option = options.get(i);
+                if (option.isDynamic()) {
+                    val optionFieldName = fieldName + '_' + i;
+                    javassist$addStaticFieldWithInitializer(clazz, optionFieldName, option);
+                    src.append(optionFieldName).append(".getText(t);");
+                } else src.append('"')
+                        .append(StringMicroOptimizationUtil.escapeJavaStringLiteral(option.getText(null)))
+                        .append("\";");
+            }
+
+            try {
+                // reuse the chosen index instead of choosing the option again
+                clazz.addMethod(CtMethod.make(src.append("return ((").append(TextModel.class.getName()).append(')')
+                        .append(fieldName).append(".getOptions().get(i)).getText(t);}").toString(), clazz));
+            } catch (final CannotCompileException e) {
+                throw new IllegalStateException("Could not add choice method to generated TextModel");
+            }
+        }
+
+        /**
+         * Adds a {@code static final} field of type {@link TextModel} (or its primitive specialization)
+         * initialized via static-initializer block invoking {@link #internal$getDynamicTextModel(String)}
+         * to the class.
          *
          * @param clazz class to which the field should be added
          * @param fieldName name of the field to store value
@@ -230,11 +404,13 @@ public class JavassistTextModelFactory<T> implements TextModelFactory<T> {
                                                                       @NotNull final String fieldName,
                                                                       @NotNull final TextModel value) {
             try {
-                val field = new CtField(TEXT_MODEL_CT_CLASS.get(), fieldName, clazz);
+                val fieldType = javassist$getTextModelCtClass(value);
+                val field = new CtField(fieldType, fieldName, clazz);
                 field.setModifiers(PUBLIC_STATIC_FINAL_MODIFIERS);
                 clazz.addField(
                         field,
-                        INTERNAL_GET_DYNAMIC_TEXT_MODEL_METHOD_FULL_NAME + "(\""
+                        '(' + fieldType.getName() + ')' // cast to the specialized type (no-op for TextModel)
+                                + INTERNAL_GET_DYNAMIC_TEXT_MODEL_METHOD_FULL_NAME + "(\""
                                 + StringMicroOptimizationUtil.escapeJavaStringLiteral(DYNAMIC_MODELS.storeValue(value))
                                 + "\")"
                 );
@@ -0,0 +1,52 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.OptionalInt;
+
+/**
+ * {@link TextModel Text model} whose text is a {@code long} value computed for the target.
+ * <p>
+ * Generating {@link TextModelFactory text model factories} recognize this type and write the value
+ * straight into the resulting text without boxing it and creating an intermediate {@link String string}.
+ *
+ * @param <T> type of object according to which the text model is formatted
+ */
+@FunctionalInterface
+public interface LongTextModel<T> extends TextModel<T> {
+
+    /**
+     * Minimal length of {@code long} value's text (single digit)
+     */
+    @SuppressWarnings("OptionalUsedAsFieldOrParameterType") OptionalInt LONG_MIN_LENGTH = OptionalInt.of(1),
+    /**
+     * Maximal length of {@code long} value's text (of {@link Long#MIN_VALUE})
+     */
+    LONG_MAX_LENGTH = OptionalInt.of(20);
+
+    /**
+     * Gets the {@code long} value formatted for the given target.
+     *
+     * @param target object according to which the value is computed
+     * @return value whose text is the text of this text model for the given target
+     */
+    long getLong(T target);
+
+    @Override
+    @NotNull default String getText(final T target) {
+        return Long.toString(getLong(target));
+    }
+
+    @Override
+    @Contract(pure = true)
+    @NotNull default OptionalInt getMinLength() {
+        return LONG_MIN_LENGTH;
+    }
+
+    @Override
+    @Contract(pure = true)
+    @NotNull default OptionalInt getMaxLength() {
+        return LONG_MAX_LENGTH;
+    }
+}
@@ -0,0 +1,102 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Rule selecting the plural form of a word depending on the number it describes.
+ */
+public interface PluralRule {
+
+    /**
+     * Gets the amount of plural forms distinguished by this rule.
+     *
+     * @return amount of plural forms distinguished by this rule
+     */
+    @Nonnegative int getFormCount();
+
+    /**
+     * Gets the index of the plural form which should be used for the given number.
+     *
+     * @param number number for which the plural form should be chosen
+     * @return index of the plural form, non-negative and less than {@link #getFormCount() the amount of forms}
+     */
+    @Nonnegative int getForm(long number);
+
+    /**
+     * Standard plural rules of the commonly used languages.
+     */
+    @RequiredArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    enum Standard implements PluralRule {
+
+        /**
+         * Single form used for all numbers (Chinese, Japanese, Korean, Turkish...)
+         */
+        INVARIANT(1) {
+            @Override
+            @Contract(pure = true)
+            public int getForm(final long number) {
+                return 0;
+            }
+        },
+        /**
+         * Forms <i>one</i> (for {@code 1}) and <i>other</i> (English, German, Spanish, Italian...)
+         */
+        ONE_OTHER(2) {
+            @Override
+            @Contract(pure = true)
+            public int getForm(final long number) {
+                return number == 1 || number == -1 ? 0 : 1;
+            }
+        },
+        /**
+         * Forms <i>one</i> (for {@code 0} and {@code 1}) and <i>other</i> (French, Portuguese of Brazil...)
+         */
+        ZERO_ONE_OTHER(2) {
+            @Override
+            @Contract(pure = true)
+            public int getForm(final long number) {
+                return number >= -1 && number <= 1 ? 0 : 1;
+            }
+        },
+        /**
+         * Forms <i>one</i> (for {@code 1, 21, 31...}), <i>few</i> (for {@code 2-4, 22-24...})
+         * and <i>many</i> (for others) of East Slavic languages (Russian, Ukrainian, Belarusian)
+         */
+        EAST_SLAVIC(3) {
+            @Override
+            @Contract(pure = true)
+            public int getForm(final long number) {
+                final int lastTwoDigits = (int) Math.abs(number % 100), lastDigit = lastTwoDigits % 10;
+
+                if (lastDigit == 1 && lastTwoDigits != 11) return 0;
+                return lastDigit >= 2 && lastDigit <= 4 && (lastTwoDigits < 12 || lastTwoDigits > 14) ? 1 : 2;
+            }
+        },
+        /**
+         * Forms <i>one</i> (for {@code 1}), <i>few</i> (for {@code 2-4, 22-24...})
+         * and <i>many</i> (for others) of Polish language
+         */
+        POLISH(3) {
+            @Override
+            @Contract(pure = true)
+            public int getForm(final long number) {
+                if (number == 1 || number == -1) return 0;
+
+                final int lastTwoDigits = (int) Math.abs(number % 100), lastDigit = lastTwoDigits % 10;
+                return lastDigit >= 2 && lastDigit <= 4 && (lastTwoDigits < 12 || lastTwoDigits > 14) ? 1 : 2;
+            }
+        };
+
+        /**
+         * Amount of plural forms distinguished by this rule
+         */
+        @Getter int formCount;
+    }
+}
@@ -1,12 +1,10 @@
 package ru.progrm_jarvis.ultimatemessenger.format.model;
 
-import lombok.AccessLevel;
-import lombok.EqualsAndHashCode;
-import lombok.NonNull;
-import lombok.ToString;
+import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.experimental.NonFinal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import ru.progrm_jarvis.javacommons.lazy.Lazy;
 
 import java.util.ArrayList;
@@ -15,6 +13,8 @@ import java.util.List;
 /**
  * Simple implementation of {@link TextModelFactory text model factory}.
  */
+@ToString
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
 public class SimpleTextModelFactory<T> implements TextModelFactory<T> {
 
     /**
@@ -34,9 +34,31 @@ public class SimpleTextModelFactory<T> implements TextModelFactory<T> {
         return (SimpleTextModelFactory<T>) INSTANCE.get();
     }
 
+    /**
+     * Pool of static texts used by created text model builders, {@code null} if static texts should not be pooled
+     */
+    @Nullable StaticTextPool staticTextPool;
+
+    /**
+     * Instantiates a new simple text model factory not pooling static texts.
+     */
+    public SimpleTextModelFactory() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new simple text model factory.
+     *
+     * @param staticTextPool pool of static texts used by created text model builders,
+     * {@code null} if static texts should not be pooled
+     */
+    public SimpleTextModelFactory(@Nullable final StaticTextPool staticTextPool) {
+        this.staticTextPool = staticTextPool;
+    }
+
     @Override
     @NotNull public TextModelFactory.TextModelBuilder<T> newBuilder() {
-        return new TextModelBuilder<>();
+        return new TextModelBuilder<>(staticTextPool);
     }
 
     /**
@@ -47,10 +69,17 @@ public class SimpleTextModelFactory<T> implements TextModelFactory<T> {
      * @param <T> type of object according to which the created text models are formatted
      */
     @ToString
+    @RequiredArgsConstructor
     @EqualsAndHashCode(callSuper = true) // simply, why not? :) (this also allows instance caching)
     @FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
     protected static class TextModelBuilder<T> extends AbstractCachingTextModelFactoryBuilder<T> {
 
+        /**
+         * Pool of static texts used for the created {@link StaticTextModel static text models},
+         * {@code null} if they should not be pooled
+         */
+        @Nullable StaticTextPool staticTextPool;
+
         @NonNull List<TextModel<T>> elements = new ArrayList<>();
 
         @NonFinal transient String lastStaticText;
@@ -91,7 +120,16 @@ public class SimpleTextModelFactory<T> implements TextModelFactory<T> {
 
         @Override
         @NotNull protected TextModel<T> buildTextModel(final boolean release) {
-            return elements.isEmpty() ? TextModel.empty() : DelegatingNestingTextModel.fromCopyOf(elements);
+            if (elements.isEmpty()) return TextModel.empty();
+            if (staticTextPool == null) return DelegatingNestingTextModel.fromCopyOf(elements);
+
+            // static elements are pooled only now as the last one may have been joined with the following ones
+            final List<TextModel<T>> pooledElements = new ArrayList<>(elements.size());
+            for (val element : elements) pooledElements.add(
+                    element.isDynamic() ? element : staticTextPool.staticTextModel(element.getText(null))
+            );
+
+            return DelegatingNestingTextModel.from(pooledElements);
         }
     }
 }
@@ -0,0 +1,80 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.jetbrains.annotations.NotNull;
+import ru.progrm_jarvis.javacommons.lazy.Lazy;
+
+/**
+ * Interning pool of static text segments allowing equal segments of different {@link TextModel text models}
+ * to share the same instances.
+ * <p>
+ * Pooled values are weakly referenced so that they get garbage-collected once they are no longer used.
+ */
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+@FieldDefaults(level = AccessLevel.PROTECTED, makeFinal = true)
+public class StaticTextPool {
+
+    /**
+     * Lazy shared instance of this pool
+     */
+    private static final Lazy<StaticTextPool> SHARED = Lazy.createThreadSafe(StaticTextPool::create);
+
+    /**
+     * Interner of pooled texts
+     */
+    @NonNull Interner<String> texts;
+
+    /**
+     * Interner of pooled {@link StaticTextModel static text models}
+     */
+    @NonNull Interner<StaticTextModel<?>> textModels;
+
+    /**
+     * Creates a new static text pool.
+     *
+     * @return created static text pool
+     */
+    @NotNull public static StaticTextPool create() {
+        return new StaticTextPool(Interners.newWeakInterner(), Interners.newWeakInterner());
+    }
+
+    /**
+     * Gets the shared static text pool.
+     *
+     * @return shared instance of static text pool
+     */
+    @NotNull public static StaticTextPool shared() {
+        return SHARED.get();
+    }
+
+    /**
+     * Gets the pooled instance of the given text.
+     *
+     * @param text text to intern
+     * @return pooled text equal to the given one
+     */
+    @NotNull public String intern(@NonNull final String text) {
+        return text.isEmpty() ? "" : texts.intern(text);
+    }
+
+    /**
+     * Gets the pooled {@link TextModel static text model} of the given text.
+     *
+     * @param text text of the static text model
+     * @param <T> type of object according to which the text model is formatted (actually, not used)
+     * @return pooled static text model of the given text
+     */
+    @SuppressWarnings("unchecked")
+    @NotNull public <T> TextModel<T> staticTextModel(@NonNull final String text) {
+        return text.isEmpty()
+                ? TextModel.empty()
+                : (TextModel<T>) textModels.intern(new StaticTextModel<>(intern(text)));
+    }
+}
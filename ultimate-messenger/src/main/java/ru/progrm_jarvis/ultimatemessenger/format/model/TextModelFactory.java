@@ -1,8 +1,13 @@
 package ru.progrm_jarvis.ultimatemessenger.format.model;
 
 import lombok.NonNull;
+import lombok.val;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
 /**
  * Object used to create {@link TextModel text models}.
  * <p>
@@ -61,6 +66,54 @@ public interface TextModelFactory<T> {
          */
         @NotNull TextModelBuilder<T> append(@NonNull TextModel<T> dynamicText);
 
+        /**
+         * Appends a {@link ChoiceTextModel choice} between two {@link TextModel text models}
+         * depending on the condition.
+         *
+         * @param condition condition tested on the target
+         * @param whenTrue text model used when the condition is met
+         * @param whenFalse text model used when the condition is not met
+         * @return this text model builder
+         */
+        @NotNull default TextModelBuilder<T> appendConditional(@NonNull final Predicate<T> condition,
+                                                               @NonNull final TextModel<T> whenTrue,
+                                                               @NonNull final TextModel<T> whenFalse) {
+            return append(ChoiceTextModel.conditional(condition, whenTrue, whenFalse));
+        }
+
+        /**
+         * Appends a {@link ChoiceTextModel choice} between two blocks of static text depending on the condition.
+         *
+         * @param condition condition tested on the target
+         * @param whenTrue static text used when the condition is met
+         * @param whenFalse static text used when the condition is not met
+         * @return this text model builder
+         */
+        @NotNull default TextModelBuilder<T> appendConditional(@NonNull final Predicate<T> condition,
+                                                               @NonNull final String whenTrue,
+                                                               @NonNull final String whenFalse) {
+            return appendConditional(condition, StaticTextModel.of(whenTrue), StaticTextModel.of(whenFalse));
+        }
+
+        /**
+         * Appends a {@link ChoiceTextModel choice} between static plural forms depending on the number.
+         *
+         * @param number function computing the number from the target
+         * @param rule plural rule used to choose the form
+         * @param forms static plural forms in order of the rule's forms
+         * @return this text model builder
+         *
+         * @throws IllegalArgumentException if the amount of forms differs from the amount of the rule's forms
+         */
+        @NotNull default TextModelBuilder<T> appendPlural(@NonNull final ToLongFunction<T> number,
+                                                          @NonNull final PluralRule rule,
+                                                          @NonNull final String... forms) {
+            val options = new ArrayList<TextModel<T>>(forms.length);
+            for (val form : forms) options.add(StaticTextModel.of(form));
+
+            return append(ChoiceTextModel.plural(number, rule, options));
+        }
+
         /**
          * Clears this text model builder allowing its reuse.
          *
@@ -4,11 +4,13 @@ import lombok.*;
 import lombok.experimental.FieldDefaults;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import ru.progrm_jarvis.ultimatemessenger.format.DoubleStringFormatter;
+import ru.progrm_jarvis.ultimatemessenger.format.IntStringFormatter;
+import ru.progrm_jarvis.ultimatemessenger.format.LongStringFormatter;
 import ru.progrm_jarvis.ultimatemessenger.format.StringFormatter;
 import ru.progrm_jarvis.ultimatemessenger.format.model.TextModel;
 import ru.progrm_jarvis.ultimatemessenger.format.model.TextModelFactory;
 import ru.progrm_jarvis.ultimatemessenger.format.model.TextModelParser;
-import ru.progrm_jarvis.ultimatemessenger.format.util.StringMicroOptimizationUtil;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,6 +21,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 /**
  * {@link Placeholders} implementation which recognized placeholders by the given prefix and suffix
  * and allows usage of escape character in order to allow raw usage of those.
+ * <p>
+ * Formatters producing primitive values ({@link IntStringFormatter}, {@link LongStringFormatter}
+ * and {@link DoubleStringFormatter}) have their values written directly to the result.
+ * Such formatters are also bound to {@link TextModel text models} {@link #parse(TextModelFactory, String) parsed}
+ * while they are registered so that generating text model factories may avoid intermediate strings,
+ * while other placeholders are looked up whenever the text model gets formatted.
  *
  * @param <T> type of the object according to which the string should be formatted
  */
@@ -72,108 +80,60 @@ public class SimplePlaceholders<T> implements Placeholders<T>, TextModelParser<T
     @Builder.Default @NonNull String unknownPlaceholderReplacement = "???";
 
     @Override
-    public @NotNull String format(@NotNull String source, final T target) {
+    public @NotNull String format(@NotNull final String source, final T target) {
         if (source.isEmpty()) return source;
 
         @Nullable StringBuilder result = null;
-        val characters = StringMicroOptimizationUtil.getStringChars(source);
         {
-            @Nullable StringBuilder unescapedPlaceholder;
+            val length = source.length();
             // micro-optimization: out-of-loop dynamic variable
             @Nullable String placeholder /* also reused as its key */, value;
             @Nullable StringFormatter<T> formatter;
-            boolean inPlaceholder = false, escaping = false;
-            char character;
-            int lastWriteIndex = -1 /* always in length bounds when result != null */,
-                    placeholderStartIndex = -1, delimiterIndex, escapeCount = 0;
-            for (var index = 0; index < characters.length; index++) {
-                character = characters[index];
-
-                // ... if the current character is an escape one, switch to escape mode
-                if (inPlaceholder) { // handle placeholder logic
-                    // ... for escape character increment the amount of escape characters in the placeholder ...
-                    // ... also toggling the escape mode (to use it for making sure the next token isn't a suffix)
-                    if (escaping) escaping = false;
-                    else if (character == suffix) { // handle end of placeholder
-                        format:
-                        {
-                            if (index == placeholderStartIndex + 1) break format; // handle "PrefSuf"
-                            if (index == placeholderStartIndex + 2) { // handle "PrefCharSuf"
-                                // rare case
-                                val singleChar = source.charAt(index - 1);
-                                if (singleChar == delimiter) break format; // "PrefDelSuf"
-
-                                value = "";
-                                placeholder = Character.toString(singleChar);
-                            } else { // handle "PrefPlaceholderSuf"
-                                placeholder = source.substring(placeholderStartIndex + 1, index);
-                                if (escapeCount > 0) {
-                                    unescapedPlaceholder = new StringBuilder(placeholder.length() - escapeCount);
-                                    for (val placeholderChar : placeholder.toCharArray())
-                                        if (placeholderChar
-                                                != escapeCharacter) unescapedPlaceholder.append(placeholderChar);
-                                    placeholder = unescapedPlaceholder.toString();
-                                }
-                                // find index of delimiter
-                                if ((delimiterIndex = placeholder.indexOf(delimiter)) == 0) break format; // ...
-                                // ... it was "PrefDel...Suf" (no placeholder)
-
-                                if (delimiterIndex == -1) value = ""; // "PrefKeySuf"
-                                else { // PrefKeyDelValSuf
-                                    value = placeholder.substring(delimiterIndex + 1);
-                                    placeholder = placeholder.substring(0, delimiterIndex); // placeholder <~ key
-                                }
-                            }
-
-                            // apply formatter if it is present
-                            formatter = handlers.get(placeholder);
-
-                            /*
-                             * Finally update the result
-                             * Note: all source updates happen here so that upper `break format;`s work
-                             */
-                            (result == null
-                                    // "no placeholders {placeholder}"
-                                    ? result = new StringBuilder(source.substring(0, placeholderStartIndex))
-                                    // "some placeholders {placeholder}"
-                                    : result.append(source, lastWriteIndex + 1, placeholderStartIndex))
-                                    .append(formatter == null
-                                            ? unknownPlaceholderReplacement : formatter.format(value, target)
-                                    );
-
-                            lastWriteIndex = index; // mark placeholder end as the index of last written character
+            int index = 0, // index from which the next special character is looked up
+                    lastWriteIndex = -1, // always in length bounds when result != null
+                    // candidate positions are only updated once they are passed so that text is not rescanned
+                    prefixIndex = source.indexOf(prefix), escapeIndex = source.indexOf(escapeCharacter),
+                    suffixIndex, delimiterIndex;
+            while (true) {
+                if (prefixIndex != -1 && prefixIndex < index) prefixIndex = source.indexOf(prefix, index);
+                if (escapeIndex != -1 && escapeIndex < index) escapeIndex = source.indexOf(escapeCharacter, index);
+
+                if (prefixIndex != -1 && (escapeIndex == -1 || prefixIndex <= escapeIndex)) { // handle placeholder
+                    // the rest of the text is raw if the placeholder is not closed
+                    if ((suffixIndex = placeholderSuffixIndex(source, prefixIndex)) == -1) break;
+
+                    index = suffixIndex + 1;
+                    if ((placeholder = placeholderContents(source, prefixIndex, suffixIndex)) != null) {
+                        if ((delimiterIndex = placeholder.indexOf(delimiter)) == -1) value = ""; // "PrefKeySuf"
+                        else { // "PrefKeyDelValSuf"
+                            value = placeholder.substring(delimiterIndex + 1);
+                            placeholder = placeholder.substring(0, delimiterIndex); // placeholder <~ key
                         }
 
-                        inPlaceholder = false;
-                        // placeholderStart has no need to be reset as it updates with inPlaceholder
-                    } else if (escaping = character == escapeCharacter) escapeCount++; // ...
-                } else if (escaping) { // handle escaping if in escape mode and not inside of placeholder
-                    // reset escape state
-                    escaping = false;
-
-                    // convert the current character to a special character if needed
-                    if (character == tabCharacter) character = '\t';
-                    else if (character == backspaceCharacter) character = '\b';
-                    else if (character == newLineCharacter) character = '\n';
-                    else if (character == carriageReturnCharacter) character = '\r';
-                    else if (character == formFeedCharacter) character = '\f';
-
-                    // update the result with the given text
-                    (result == null                                 /* not include current char & escape char */
-                            ? result = new StringBuilder(source.substring(0, (lastWriteIndex = index) - 1))
-                            : result.append(source, lastWriteIndex + 1, (lastWriteIndex = index) - 1))
-                            .append(character);
-                } else if (character == prefix) { // enable placeholder mode thanks to prefix
-                    inPlaceholder = true;
-                    // reset escape count
-                    escapeCount = 0;
-                    // mark the start index of the placeholder to the current position
-                    placeholderStartIndex = index;
-                } else escaping = character == escapeCharacter; // otherwise, ...
+                        // apply formatter if it is present
+                        formatter = handlers.get(placeholder);
+
+                        (result == null ? result = new StringBuilder(length) : result)
+                                .append(source, lastWriteIndex + 1, prefixIndex);
+                        if (formatter == null) result.append(unknownPlaceholderReplacement);
+                        else appendFormatted(result, formatter, value, target);
+
+                        lastWriteIndex = suffixIndex; // mark placeholder end as the index of last written character
+                    }
+                } else if (escapeIndex != -1) { // handle escaping
+                    // trailing escape character is left as is
+                    if ((index = escapeIndex + 1) == length) break;
+
+                    (result == null ? result = new StringBuilder(length) : result)
+                            .append(source, lastWriteIndex + 1, escapeIndex) /* not include escape char */
+                            .append(unescapeCharacter(source.charAt(index)));
+
+                    lastWriteIndex = index++;
+                } else break; // there are no special characters left
             }
 
             // add missing string part (from index of last written character) if the result was initialized
-            if (result != null && lastWriteIndex != -1) result.append(source.substring(lastWriteIndex + 1));
+            if (result != null) result.append(source, lastWriteIndex + 1, length);
         }
 
         return result == null ? source : result.toString();
@@ -185,119 +145,175 @@ public class SimplePlaceholders<T> implements Placeholders<T>, TextModelParser<T
 
         val builder = factory.newBuilder();
         {
-            val characters = StringMicroOptimizationUtil.getStringChars(text);
-            boolean escaping = false, inPlaceholder = false;
-            @Nullable StringBuilder lastRawText = null, unescapedPlaceholder; // currently read text or
+            val length = text.length();
+            @Nullable StringBuilder lastRawText = null; // currently read text containing unescaped characters
             @Nullable String placeholder /* also reused as placeholder key */, value;
-            int lastFlushIndex = -1, // index of the last flushed (written) character
-                    placeholderStartIndex = -1, // index at which the currently scanned placeholder starts
-                    delimiterIndex, // index of the delimiter contextually
-                    escapeCount = 0; // amount of escapes inside the placeholder
-            val length = characters.length;
-            char character;
-            for (var index = 0; index < length; index++) {
-                character = characters[index];
-                if (inPlaceholder) {
-                    if (escaping) escaping = false;
-                    else {
-                        if (character == suffix) {
-                            format:
-                            {
-                                // make sure this is a placeholder
-                                if (index == placeholderStartIndex + 1) break format; // it was not a placeholder ...
-                                // ... but just a sequence "PrefSuf"
-                                if (index == placeholderStartIndex + 2) {
-                                    // rare case
-                                    val singleChar = text.charAt(index - 1);
-                                    if (singleChar == delimiter) break format; // "PrefDelSuf"
-
-                                    value = "";
-                                    placeholder = Character.toString(singleChar);
-                                } else {
-                                    placeholder = text.substring(placeholderStartIndex + 1, index);
-                                    if (escapeCount > 0) {
-                                        unescapedPlaceholder = new StringBuilder(placeholder.length() + escapeCount);
-                                        for (val placeholderChar : placeholder.toCharArray()) if (placeholderChar
-                                                != escapeCharacter) unescapedPlaceholder.append(placeholderChar);
-                                        placeholder = unescapedPlaceholder.toString();
-                                    }
-                                    if ((delimiterIndex = placeholder.indexOf(delimiter)) == 0) break format; // ...
-                                    // ... it was not a placeholder but just a sequence "PrefDel...Suf"
-                                    if (delimiterIndex == -1) value = ""; // "PrefKeySuf"
-                                    else {
-                                        value = placeholder.substring(delimiterIndex + 1);
-                                        placeholder = placeholder.substring(0, delimiterIndex);
-                                    }
-
-
-                                }
-                                // close the placeholder:
-                                // 1.) as it was an actual placeholder, close the previous text element (if it hasn't
-                                // been yet)
-                                if (lastRawText == null) {
-                                    if (lastFlushIndex != placeholderStartIndex - 1) builder
-                                            .append(text.substring(lastFlushIndex + 1, placeholderStartIndex));
-                                } else {
-                                    builder.append(
-                                            lastRawText.append(text, lastFlushIndex + 1, placeholderStartIndex)
-                                                    .toString()
-                                    );
-                                    // reset `lastRawText` so that it is reused effectively
-                                    lastRawText.delete(0, lastRawText.length());
-                                }
-
-                                // 2.) mark last flushed index at the position of the placeholder end
-                                lastFlushIndex = index;
-                                // add the very element
-                                {
-                                    val finalKey = placeholder;
-                                    val finalValue = value;
-                                    builder.append(target -> {
-                                        val formatter = handlers.get(finalKey);
-
-                                        return formatter == null
-                                                ? unknownPlaceholderReplacement // replacement for unknown placeholder
-                                                : formatter.format(finalValue, target); // normal placeholder handling
-                                    });
-                                }
-                            }
-
-                            inPlaceholder = false;
-                        } else if (escaping = character == escapeCharacter) escapeCount++;
-                    }
-                } else if (escaping) {
-                    // reset escape state
-                    escaping = false;
+            int index = 0, // index from which the next special character is looked up
+                    lastFlushIndex = -1, // index of the last flushed (written) character
+                    // candidate positions are only updated once they are passed so that text is not rescanned
+                    prefixIndex = text.indexOf(prefix), escapeIndex = text.indexOf(escapeCharacter),
+                    suffixIndex, delimiterIndex;
+            while (true) {
+                if (prefixIndex != -1 && prefixIndex < index) prefixIndex = text.indexOf(prefix, index);
+                if (escapeIndex != -1 && escapeIndex < index) escapeIndex = text.indexOf(escapeCharacter, index);
+
+                if (prefixIndex != -1 && (escapeIndex == -1 || prefixIndex <= escapeIndex)) { // handle placeholder
+                    // the rest of the text is raw if the placeholder is not closed
+                    if ((suffixIndex = placeholderSuffixIndex(text, prefixIndex)) == -1) break;
+
+                    index = suffixIndex + 1;
+                    if ((placeholder = placeholderContents(text, prefixIndex, suffixIndex)) != null) {
+                        if ((delimiterIndex = placeholder.indexOf(delimiter)) == -1) value = ""; // "PrefKeySuf"
+                        else { // "PrefKeyDelValSuf"
+                            value = placeholder.substring(delimiterIndex + 1);
+                            placeholder = placeholder.substring(0, delimiterIndex);
+                        }
 
-                    // convert the current character to a special character if needed
-                    if (character == tabCharacter) character = '\t';
-                    else if (character == backspaceCharacter) character = '\b';
-                    else if (character == newLineCharacter) character = '\n';
-                    else if (character == carriageReturnCharacter) character = '\r';
+                        // close the placeholder:
+                        // 1.) as it was an actual placeholder, close the previous text element (if it hasn't been yet)
+                        if (lastRawText == null) {
+                            if (lastFlushIndex != prefixIndex - 1) builder
+                                    .append(text.substring(lastFlushIndex + 1, prefixIndex));
+                        } else {
+                            builder.append(lastRawText.append(text, lastFlushIndex + 1, prefixIndex).toString());
+                            // reset `lastRawText` so that it is reused effectively
+                            lastRawText.setLength(0);
+                        }
+
+                        // 2.) mark last flushed index at the position of the placeholder end
+                        lastFlushIndex = suffixIndex;
+                        // add the very element
+                        builder.append(placeholderTextModel(placeholder, value));
+                    }
+                } else if (escapeIndex != -1) { // handle escaping
+                    // trailing escape character is left as is
+                    if ((index = escapeIndex + 1) == length) break;
 
                     // update text according to escaping
-                    (lastRawText == null
-                            ? lastRawText = new StringBuilder(
-                            text.substring(lastFlushIndex + 1, (lastFlushIndex = index) - 1))
-                            : lastRawText.append(text, lastFlushIndex + 1, (lastFlushIndex = index) - 1))
-                            .append(character);
-                } else if (character == prefix) { // handle start of placeholder
-                    inPlaceholder = true;
-                    escapeCount = 0;
-                    // mark the start index of the placeholder to the current position
-                    placeholderStartIndex = index;
-                } else escaping = character == escapeCharacter;
+                    (lastRawText == null ? lastRawText = new StringBuilder() : lastRawText)
+                            .append(text, lastFlushIndex + 1, escapeIndex) /* not include escape char */
+                            .append(unescapeCharacter(text.charAt(index)));
+
+                    lastFlushIndex = index++;
+                } else break; // there are no special characters left
             }
 
-            // add the end og the text if it was not
+            // add the end of the text if it was not
             if (lastRawText == null) {
-                if (lastFlushIndex != length) builder.append(text.substring(lastFlushIndex + 1));
-            } else builder.append(lastRawText.append(text.substring(lastFlushIndex + 1)).toString());
+                if (lastFlushIndex != length - 1) builder.append(text.substring(lastFlushIndex + 1));
+            } else builder.append(lastRawText.append(text, lastFlushIndex + 1, length).toString());
         }
 
         return builder.buildAndRelease();
     }
 
+    /**
+     * Appends the result of formatting to the given {@link StringBuilder}
+     * writing primitive values directly (without creating intermediate {@link String strings}).
+     *
+     * @param result string builder to which the result of formatting should be appended
+     * @param formatter formatter used to format the value
+     * @param value value of the placeholder
+     * @param target target for which the formatting should happen
+     * @param <T> type of the object according to which the string should be formatted
+     */
+    private static <T> void appendFormatted(@NotNull final StringBuilder result,
+                                            @NotNull final StringFormatter<T> formatter,
+                                            @NotNull final String value, final T target) {
+        if (formatter instanceof IntStringFormatter) result
+                .append(((IntStringFormatter<T>) formatter).formatAsInt(value, target));
+        else if (formatter instanceof LongStringFormatter) result
+                .append(((LongStringFormatter<T>) formatter).formatAsLong(value, target));
+        else if (formatter instanceof DoubleStringFormatter) result
+                .append(((DoubleStringFormatter<T>) formatter).formatAsDouble(value, target));
+        else result.append(formatter.format(value, target));
+    }
+
+    /**
+     * Creates a {@link TextModel text model} of the placeholder.
+     *
+     * @param key key of the placeholder
+     * @param value value of the placeholder
+     * @return text model formatting the placeholder
+     *
+     * @implNote the formatter is looked up on each formatting
+     * so that the text model reflects the changes of the handlers
+     */
+    private @NotNull TextModel<T> placeholderTextModel(@NotNull final String key, @NotNull final String value) {
+        return target -> {
+            val formatter = handlers.get(key);
+
+            return formatter == null
+                    ? unknownPlaceholderReplacement // replacement for unknown placeholder
+                    : formatter.format(value, target); // normal placeholder handling
+        };
+    }
+
+    /**
+     * Finds the index of the suffix closing the placeholder started at the given index.
+     *
+     * @param source source text
+     * @param prefixIndex index of the prefix of the placeholder
+     * @return index of the suffix closing the placeholder or {@code -1} if the placeholder is not closed
+     */
+    private int placeholderSuffixIndex(@NotNull final String source, final int prefixIndex) {
+        val length = source.length();
+        var index = prefixIndex + 1;
+        char character;
+        while (index < length) {
+            if ((character = source.charAt(index)) == suffix) return index;
+            // escaped character can't be a suffix so it is simply skipped
+            index += character == escapeCharacter ? 2 : 1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the contents of the placeholder located between the given prefix and suffix.
+     *
+     * @param source source text
+     * @param prefixIndex index of the prefix of the placeholder
+     * @param suffixIndex index of the suffix of the placeholder
+     * @return contents of the placeholder with all escape characters removed
+     * or {@code null} if this is not an actual placeholder (i.e. it is empty or has no key)
+     */
+    private @Nullable String placeholderContents(@NotNull final String source,
+                                                 final int prefixIndex, final int suffixIndex) {
+        if (suffixIndex == prefixIndex + 1) return null; // "PrefSuf"
+
+        val contents = source.substring(prefixIndex + 1, suffixIndex);
+        var escapeIndex = contents.indexOf(escapeCharacter);
+        if (escapeIndex == -1) return contents.charAt(0) == delimiter ? null : contents; // "PrefDel...Suf" has no key
+
+        val unescapedContents = new StringBuilder(contents.length() - 1);
+        var lastWriteIndex = -1;
+        do {
+            unescapedContents.append(contents, lastWriteIndex + 1, escapeIndex);
+            lastWriteIndex = escapeIndex;
+        } while ((escapeIndex = contents.indexOf(escapeCharacter, escapeIndex + 1)) != -1);
+        unescapedContents.append(contents, lastWriteIndex + 1, contents.length());
+
+        return unescapedContents.length() != 0 && unescapedContents.charAt(0) == delimiter
+                ? null : unescapedContents.toString();
+    }
+
+    /**
+     * Converts the character following the escape character to the one it represents.
+     *
+     * @param character escaped character
+     * @return special character represented by the given one or the given one itself if it is not special
+     */
+    private char unescapeCharacter(final char character) {
+        if (character == tabCharacter) return '\t';
+        if (character == backspaceCharacter) return '\b';
+        if (character == newLineCharacter) return '\n';
+        if (character == carriageReturnCharacter) return '\r';
+        if (character == formFeedCharacter) return '\f';
+
+        return character;
+    }
+
     @Override
     public void add(@NonNull final String name, @NonNull final StringFormatter<T> formatter) {
         checkArgument(
@@ -7,10 +7,13 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 abstract class AbstractTextModelFactoryTest {
 
@@ -190,6 +193,129 @@ abstract class AbstractTextModelFactoryTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("provideTestSubjects")
+    void testPrimitiveDynamicBuilder(@NotNull final TextModelFactory<User> factory) {
+        val text = factory.newBuilder()
+                .append("Age of ")
+                .append(User::getName)
+                .append(" is ")
+                .append((IntTextModel<User>) User::getAge)
+                .append(", in months: ")
+                .append((LongTextModel<User>) user -> user.getAge() * 12L)
+                .append(", in centuries: ")
+                .append((DoubleTextModel<User>) user -> user.getAge() / 100.0)
+                .buildAndRelease();
+        assertThat(text.getText(new User("John", 25)), equalTo("Age of John is 25, in months: 300, in centuries: 0.25"));
+        assertThat(text.getText(new User("Jack", -1)), equalTo("Age of Jack is -1, in months: -12, in centuries: -0.01"));
+
+        assertThat(
+                factory.newBuilder()
+                        .append((IntTextModel<User>) User::getAge)
+                        .append((LongTextModel<User>) user -> Long.MIN_VALUE)
+                        .append((DoubleTextModel<User>) user -> 1.5)
+                        .append(User::getName)
+                        .buildAndRelease()
+                        .getText(new User("Petro", Integer.MAX_VALUE)),
+                equalTo(Integer.MAX_VALUE + "" + Long.MIN_VALUE + "1.5Petro")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestSubjects")
+    void testBigPrimitiveTextModels(@NotNull final TextModelFactory<User> factory) {
+        // `long` values occupy 2 slots of `StringConcatFactory#makeConcat[..]` dynamic arguments
+
+        val user = new User("Japris", 8);
+
+        for (val dynamicElementsCount : new int[]{99, 100, 101, 199, 200, 201, 401}) {
+            val textModelBuilder = factory.newBuilder();
+
+            val expectedString = new StringBuilder();
+            for (var i = 0; i < dynamicElementsCount; i++) {
+                final long value = (long) i * Integer.MAX_VALUE;
+                expectedString.append(value).append('_');
+                if ((i & 1) == 0) expectedString.append(user.getAge());
+
+                textModelBuilder.append((LongTextModel<User>) target -> value).append("_");
+                if ((i & 1) == 0) textModelBuilder.append((IntTextModel<User>) User::getAge);
+            }
+
+            assertThat(textModelBuilder.buildAndRelease().getText(user), equalTo(expectedString.toString()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestSubjects")
+    void testChoiceBuilder(@NotNull final TextModelFactory<User> factory) {
+        val text = factory.newBuilder()
+                .append(User::getName)
+                .appendConditional(user -> user.getAge() >= 18, " is an adult", " is a child")
+                .append(" of ")
+                .append((IntTextModel<User>) User::getAge)
+                .append(" ")
+                .appendPlural(User::getAge, PluralRule.Standard.ONE_OTHER, "year", "years")
+                .buildAndRelease();
+        assertThat(text.getText(new User("John", 25)), equalTo("John is an adult of 25 years"));
+        assertThat(text.getText(new User("Kid", 1)), equalTo("Kid is a child of 1 year"));
+        assertThat(text.getText(new User("Baby", 0)), equalTo("Baby is a child of 0 years"));
+
+        val onlyDynamicText = factory.newBuilder()
+                .append((IntTextModel<User>) User::getAge)
+                .appendPlural(User::getAge, PluralRule.Standard.EAST_SLAVIC, " год", " года", " лет")
+                .appendConditional(
+                        user -> user.getName().isEmpty(), StaticTextModel.of(""), user -> ", " + user.getName()
+                )
+                .buildAndRelease();
+        assertThat(onlyDynamicText.getText(new User("Вася", 21)), equalTo("21 год, Вася"));
+        assertThat(onlyDynamicText.getText(new User("Петя", 22)), equalTo("22 года, Петя"));
+        assertThat(onlyDynamicText.getText(new User("", 11)), equalTo("11 лет"));
+        assertThat(onlyDynamicText.getText(new User("", 105)), equalTo("105 лет"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestSubjects")
+    void testChoiceIsMadeOnce(@NotNull final TextModelFactory<User> factory) {
+        val choices = new AtomicInteger();
+        val text = factory.newBuilder()
+                .append(User::getName)
+                .append(ChoiceTextModel.<User>of(user -> {
+                    choices.incrementAndGet();
+                    return user.getAge();
+                }, Arrays.asList(StaticTextModel.of(" zero"), user -> " one")))
+                .buildAndRelease();
+
+        assertThat(text.getText(new User("Tom", 0)), equalTo("Tom zero"));
+        assertThat(choices.get(), equalTo(1));
+        assertThat(text.getText(new User("Tom", 1)), equalTo("Tom one"));
+        assertThat(choices.get(), equalTo(2));
+        // unexpected index is handled by the options
+        assertThrows(IndexOutOfBoundsException.class, () -> text.getText(new User("Tom", 2)));
+        assertThat(choices.get(), equalTo(3));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideTestSubjects")
+    void testBigChoiceTextModels(@NotNull final TextModelFactory<User> factory) {
+        val user = new User("Japris", 8);
+
+        for (val dynamicElementsCount : new int[]{199, 200, 201, 401}) {
+            val textModelBuilder = factory.newBuilder();
+
+            val expectedString = new StringBuilder();
+            for (var i = 0; i < dynamicElementsCount; i++) {
+                final int threshold = i;
+                expectedString.append(user.getAge() > threshold ? "+" : "-\1").append(i);
+
+                textModelBuilder
+                        .appendConditional(target -> target.getAge() > threshold, "+", "-\1")
+                        .append(Integer.toString(i));
+            }
+
+            assertThat(textModelBuilder.buildAndRelease().getText(user), equalTo(expectedString.toString()));
+        }
+    }
+
     @Value
     @FieldDefaults(level = AccessLevel.PRIVATE)
     static class User {
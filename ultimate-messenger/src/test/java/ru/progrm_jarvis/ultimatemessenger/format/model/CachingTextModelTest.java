@@ -0,0 +1,117 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingTextModelTest {
+
+    @Test
+    void testTextIsCachedPerTarget() {
+        val computations = new AtomicInteger();
+        val textModel = CachingTextModel.decorator().<StringBuilder>decorate(
+                target -> target.toString() + '#' + computations.incrementAndGet()
+        );
+
+        val foo = new StringBuilder("foo");
+        val bar = new StringBuilder("bar");
+
+        assertThat(textModel.getText(foo), equalTo("foo#1"));
+        assertThat(textModel.getText(foo), equalTo("foo#1"));
+        assertThat(textModel.getText(bar), equalTo("bar#2"));
+        assertThat(textModel.getText(foo), equalTo("foo#1"));
+        assertThat(textModel.getText(new StringBuilder("foo")), equalTo("foo#3")); // identity is used
+
+        assertThat(textModel.stats().hitCount(), is(2L));
+        assertThat(textModel.stats().missCount(), is(3L));
+        assertThat(textModel.hitRate(), closeTo(0.4, 1e-9));
+    }
+
+    @Test
+    void testInvalidation() {
+        val computations = new AtomicInteger();
+        val textModel = CachingTextModel.decorator().<Object>decorate(
+                target -> Integer.toString(computations.incrementAndGet())
+        );
+
+        val first = new Object();
+        val second = new Object();
+
+        assertThat(textModel.getText(first), equalTo("1"));
+        assertThat(textModel.getText(second), equalTo("2"));
+
+        textModel.invalidate(first);
+        assertThat(textModel.getText(first), equalTo("3"));
+        assertThat(textModel.getText(second), equalTo("2"));
+
+        textModel.invalidateAll();
+        assertThat(textModel.getText(first), equalTo("4"));
+        assertThat(textModel.getText(second), equalTo("5"));
+    }
+
+    @Test
+    void testEviction() {
+        val computations = new AtomicInteger();
+        val textModel = CachingTextModel.Decorator.builder()
+                .maximumSize(0)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build()
+                .<Object>decorate(target -> Integer.toString(computations.incrementAndGet()));
+
+        val target = new Object();
+        assertThat(textModel.getText(target), equalTo("1"));
+        assertThat(textModel.getText(target), equalTo("2"));
+        assertThat(textModel.cachedCount(), is(0L));
+    }
+
+    @Test
+    void testNullTargetIsNotCached() {
+        val computations = new AtomicInteger();
+        val textModel = CachingTextModel.decorator().<Object>decorate(
+                target -> Integer.toString(computations.incrementAndGet())
+        );
+
+        assertThat(textModel.getText(null), equalTo("1"));
+        assertThat(textModel.getText(null), equalTo("2"));
+        assertThat(textModel.cachedCount(), is(0L));
+    }
+
+    @Test
+    void testExceptionIsRethrown() {
+        val textModel = CachingTextModel.decorator().<Object>decorate(target -> {
+            throw new UnsupportedOperationException("No text for you");
+        });
+
+        assertThrows(UnsupportedOperationException.class, () -> textModel.getText(new Object()));
+    }
+
+    @Test
+    void testUsageAsNode() {
+        for (val factory : new TextModelFactory[]{
+                SimpleTextModelFactory.get(), AsmTextModelFactory.get(), JavassistTextModelFactory.get()
+        }) {
+            @SuppressWarnings("unchecked") final TextModelFactory<StringBuilder> typedFactory = factory;
+            val computations = new AtomicInteger();
+            val cachingTextModel = CachingTextModel.decorator().<StringBuilder>decorate(
+                    target -> target.toString() + computations.incrementAndGet()
+            );
+            val textModel = typedFactory.newBuilder()
+                    .append("Hello, ")
+                    .append(cachingTextModel)
+                    .append("!")
+                    .buildAndRelease();
+
+            val target = new StringBuilder("Steve");
+            assertThat(textModel.getText(target), equalTo("Hello, Steve1!"));
+            assertThat(textModel.getText(target), equalTo("Hello, Steve1!"));
+            cachingTextModel.invalidate(target);
+            assertThat(textModel.getText(target), equalTo("Hello, Steve2!"));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static ru.progrm_jarvis.ultimatemessenger.format.model.PluralRule.Standard.*;
+
+class PluralRuleTest {
+
+    static Stream<Arguments> provideForms() {
+        return Stream.of(
+                arguments(INVARIANT, 0L, 0), arguments(INVARIANT, 1L, 0), arguments(INVARIANT, 100L, 0),
+                arguments(ONE_OTHER, 0L, 1), arguments(ONE_OTHER, 1L, 0), arguments(ONE_OTHER, -1L, 0),
+                arguments(ONE_OTHER, 2L, 1), arguments(ONE_OTHER, 11L, 1), arguments(ONE_OTHER, 21L, 1),
+                arguments(ZERO_ONE_OTHER, 0L, 0), arguments(ZERO_ONE_OTHER, 1L, 0), arguments(ZERO_ONE_OTHER, 2L, 1),
+                arguments(EAST_SLAVIC, 0L, 2), arguments(EAST_SLAVIC, 1L, 0), arguments(EAST_SLAVIC, 2L, 1),
+                arguments(EAST_SLAVIC, 4L, 1), arguments(EAST_SLAVIC, 5L, 2), arguments(EAST_SLAVIC, 11L, 2),
+                arguments(EAST_SLAVIC, 12L, 2), arguments(EAST_SLAVIC, 14L, 2), arguments(EAST_SLAVIC, 21L, 0),
+                arguments(EAST_SLAVIC, 22L, 1), arguments(EAST_SLAVIC, 111L, 2), arguments(EAST_SLAVIC, -21L, 0),
+                arguments(EAST_SLAVIC, Long.MIN_VALUE, 2), // ...08
+                arguments(POLISH, 0L, 2), arguments(POLISH, 1L, 0), arguments(POLISH, 2L, 1), arguments(POLISH, 5L, 2),
+                arguments(POLISH, 12L, 2), arguments(POLISH, 21L, 2), arguments(POLISH, 22L, 1), arguments(POLISH, 24L, 1)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideForms")
+    void testForm(@NotNull final PluralRule rule, final long number, final int form) {
+        assertThat(rule.getForm(number), is(form));
+    }
+}
@@ -0,0 +1,58 @@
+package ru.progrm_jarvis.ultimatemessenger.format.model;
+
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class StaticTextPoolTest {
+
+    @Test
+    void testTextsArePooled() {
+        val pool = StaticTextPool.create();
+
+        val text = pool.intern(new StringBuilder("Hello").toString());
+        assertThat(text, equalTo("Hello"));
+        assertThat(pool.intern(new StringBuilder("Hello").toString()), sameInstance(text));
+
+        val textModel = pool.staticTextModel(new StringBuilder("Hello").toString());
+        assertThat(textModel.getText(null), sameInstance(text));
+        assertThat(pool.staticTextModel(new StringBuilder("Hello").toString()), sameInstance(textModel));
+        assertThat(pool.staticTextModel("World"), not(sameInstance(textModel)));
+
+        assertThat(pool.staticTextModel(""), sameInstance(TextModel.empty()));
+    }
+
+    @Test
+    void testSimpleTextModelFactoryPoolsStaticTexts() {
+        val pool = StaticTextPool.create();
+        final TextModelFactory<String> factory = new SimpleTextModelFactory<>(pool);
+
+        val first = (DelegatingNestingTextModel<String>) factory.newBuilder()
+                .append("[").append("Admin").append("] ")
+                .append(target -> target)
+                .buildAndRelease();
+        val second = (DelegatingNestingTextModel<String>) factory.newBuilder()
+                .append("[Admin] ")
+                .append(target -> target)
+                .append("!")
+                .buildAndRelease();
+
+        assertThat(first.getText("Steve"), equalTo("[Admin] Steve"));
+        assertThat(second.getText("Alex"), equalTo("[Admin] Alex!"));
+        assertThat(first.get(0), sameInstance(second.get(0)));
+    }
+
+    @Test
+    void testGeneratingTextModelFactoriesPoolStaticTexts() {
+        val pool = StaticTextPool.create();
+        for (final TextModelFactory<Object> factory : new TextModelFactory[]{
+                AsmTextModelFactory.create(AsmTextModelFactory.configuration().staticTextPool(pool).build()),
+                new JavassistTextModelFactory<>(pool)
+        }) assertThat(
+                factory.newBuilder().append("Hello").append(" world").buildAndRelease(),
+                sameInstance(factory.newBuilder().append("Hello world").buildAndRelease())
+        );
+    }
+}
@@ -4,11 +4,15 @@ import lombok.AccessLevel;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.val;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import ru.progrm_jarvis.ultimatemessenger.format.DoubleStringFormatter;
+import ru.progrm_jarvis.ultimatemessenger.format.IntStringFormatter;
+import ru.progrm_jarvis.ultimatemessenger.format.LongStringFormatter;
 import ru.progrm_jarvis.ultimatemessenger.format.model.SimpleTextModelFactory;
 import ru.progrm_jarvis.ultimatemessenger.format.model.TextModelFactory;
 
@@ -196,7 +200,8 @@ class SimplePlaceholdersTest {
                         arguments(target, "Foo\\nBar\\n", "Foo\nBar\n"),
                         arguments(target, "\\nFoo\\nBar", "\nFoo\nBar"),
                         arguments(target, "\\nFoo\\nBar\\n", "\nFoo\nBar\n"),
-                        arguments(target, "\\n\\nFoo\\n\\nBar\\n\\n", "\n\nFoo\n\nBar\n\n")
+                        arguments(target, "\\n\\nFoo\\n\\nBar\\n\\n", "\n\nFoo\n\nBar\n\n"),
+                        arguments(target, "Foo\\tBar\\bBaz\\rQux\\f", "Foo\tBar\bBaz\rQux\f")
                 ));
     }
 
@@ -362,6 +367,53 @@ class SimplePlaceholdersTest {
         assertEquals(formatted, placeholders.parse(modelFactory, raw).getText(target));
     }
 
+    protected static Stream<Arguments> provideWithPrimitivePlaceholders() {
+        return Arrays.stream(Target.values())
+                .flatMap(target -> Stream.of(
+                        arguments(target, "{int}", Integer.toString(target.ordinal())),
+                        arguments(target, "{long} and {int}", (target.ordinal() * 10_000_000_000L) + " and "
+                                + target.ordinal()),
+                        arguments(target, "Half is {double:half}!", "Half is " + (target.ordinal() / 2.0) + '!'),
+                        arguments(target, "{double}{int}", (double) target.ordinal() + "" + target.ordinal())
+                ));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideWithPrimitivePlaceholders")
+    void testFormatWithPrimitivePlaceholders(@NotNull final Target target,
+                                             @NotNull final String raw,
+                                             @NotNull final String formatted) {
+        addPrimitivePlaceholders();
+        assertEquals(formatted, placeholders.format(raw, target));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideWithPrimitivePlaceholders")
+    void testFactoryParseWithPrimitivePlaceholders(@NotNull final Target target,
+                                                   @NotNull final String raw,
+                                                   @NotNull final String formatted) {
+        addPrimitivePlaceholders();
+        assertEquals(formatted, placeholders.parse(modelFactory, raw).getText(target));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideWithPrimitivePlaceholders")
+    void testFactoryParseWithPrimitivePlaceholdersAddedAfterParsing(@NotNull final Target target,
+                                                                    @NotNull final String raw,
+                                                                    @NotNull final String formatted) {
+        val textModel = placeholders.parse(modelFactory, raw);
+        addPrimitivePlaceholders();
+        assertEquals(formatted, textModel.getText(target));
+    }
+
+    private void addPrimitivePlaceholders() {
+        placeholders.add("int", IntStringFormatter.of(Target::ordinal));
+        placeholders.add("long", LongStringFormatter.of(target -> target.ordinal() * 10_000_000_000L));
+        placeholders.add("double", (DoubleStringFormatter<Target>) (value, target) -> value.equals("half")
+                ? target.ordinal() / 2.0 : target.ordinal()
+        );
+    }
+
     @RequiredArgsConstructor
     @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
     enum Target {